@@ -0,0 +1,249 @@
+package com.singtel.network.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.singtel.network.NetworkOnDemandApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-loop HTTP load test of the order and catalog list endpoints, comparing the default
+ * Tomcat platform thread pool with virtual-thread request handling. Boots the application on a
+ * random port against an embedded Postgres migrated by Flyway, once per mode, and reports
+ * throughput and latency percentiles per endpoint:
+ * <pre>
+ * mvn -Pbenchmark,java21 test-compile exec:exec@loadtest -Dloadtest.args="--concurrency 400 --duration 60"
+ * </pre>
+ * The virtual mode needs a Java 21 runtime and is skipped on older ones. Options (defaults):
+ * --concurrency 256, --warmup 10, --duration 30 (seconds), --order-copies 20,
+ * --endpoints /orders,/services, --modes platform,virtual.
+ */
+public class EndpointLoadTest {
+
+    private static final String USERNAME = "john.doe";
+    private static final String PASSWORD = "password123";
+
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int orderCopies;
+    private final List<String> endpoints;
+    private final List<String> modes;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    EndpointLoadTest(Map<String, String> options) {
+        this.concurrency = Integer.parseInt(options.getOrDefault("concurrency", "256"));
+        this.warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        this.duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        this.orderCopies = Integer.parseInt(options.getOrDefault("order-copies", "20"));
+        this.endpoints = List.of(options.getOrDefault("endpoints", "/orders,/services").split(","));
+        this.modes = List.of(options.getOrDefault("modes", "platform,virtual").split(","));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected --option value but got: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        new EndpointLoadTest(options).run();
+        System.exit(0);
+    }
+
+    void run() throws Exception {
+        List<Result> results = new ArrayList<>();
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+            boolean seeded = false;
+            for (String mode : modes) {
+                boolean virtual = "virtual".equals(mode);
+                if (virtual && Runtime.version().feature() < 21) {
+                    System.out.printf("Skipping virtual mode: Java %d has no virtual threads, run with -Pjava21 on a Java 21 JDK%n",
+                                      Runtime.version().feature());
+                    continue;
+                }
+
+                try (ConfigurableApplicationContext context = start(postgres, virtual)) {
+                    if (!seeded) {
+                        seedOrders(context.getBean(JdbcTemplate.class));
+                        seeded = true;
+                    }
+                    String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api";
+                    String token = login(baseUrl);
+                    for (String endpoint : endpoints) {
+                        URI uri = URI.create(baseUrl + endpoint);
+                        drive(uri, token, warmup);
+                        results.add(new Result(mode, endpoint, drive(uri, token, duration), duration));
+                    }
+                }
+            }
+        }
+        print(results);
+    }
+
+    private ConfigurableApplicationContext start(EmbeddedPostgres postgres, boolean virtual) {
+        return new SpringApplicationBuilder(NetworkOnDemandApplication.class)
+                .run("--server.port=0",
+                     "--spring.threads.virtual.enabled=" + virtual,
+                     "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                     "--spring.datasource.username=postgres",
+                     "--spring.datasource.password=",
+                     "--spring.jpa.show-sql=false",
+                     "--logging.level.root=WARN",
+                     "--logging.level.com.singtel.network=WARN",
+                     "--logging.level.org.springframework.web=WARN");
+    }
+
+    /**
+     * Give the load test user's company a realistically sized order list
+     */
+    private void seedOrders(JdbcTemplate jdbc) {
+        UUID companyId = jdbc.queryForObject("SELECT company_id FROM singtel_app.users WHERE username = ?", UUID.class, USERNAME);
+        jdbc.update("INSERT INTO singtel_app.orders (company_id, user_id, service_id, service_instance_id, order_number, " +
+                    "order_type, requested_bandwidth_mbps, installation_address, postal_code, contact_person, " +
+                    "contact_phone, contact_email, requested_date, status, total_cost, notes) " +
+                    "SELECT o.company_id, o.user_id, o.service_id, NULL, 'LOAD-' || g || '-' || o.order_number, " +
+                    "o.order_type, o.requested_bandwidth_mbps, o.installation_address, o.postal_code, o.contact_person, " +
+                    "o.contact_phone, o.contact_email, o.requested_date, o.status, o.total_cost, o.notes " +
+                    "FROM singtel_app.orders o CROSS JOIN generate_series(1, ?) g WHERE o.company_id = ?",
+                    orderCopies, companyId);
+    }
+
+    private String login(String baseUrl) throws IOException, InterruptedException {
+        String body = objectMapper.writeValueAsString(Map.of("usernameOrEmail", USERNAME, "password", PASSWORD));
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with status " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body()).get("accessToken").asText();
+    }
+
+    /**
+     * Keep concurrency requests in flight against uri for the given time and collect their latencies
+     */
+    private Sample drive(URI uri, String token, Duration time) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + time.toNanos();
+
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<Sample>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(clients.submit(() -> {
+                    Sample sample = new Sample();
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        boolean ok;
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            ok = response.statusCode() == 200;
+                        } catch (IOException e) {
+                            ok = false;
+                        }
+                        sample.record(System.nanoTime() - start, ok);
+                    }
+                    return sample;
+                }));
+            }
+
+            Sample total = new Sample();
+            for (Future<Sample> future : futures) {
+                total.merge(future.get());
+            }
+            return total;
+        } finally {
+            clients.shutdownNow();
+            clients.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private void print(List<Result> results) {
+        System.out.printf("%nConcurrency %d, %ds measured after %ds warmup%n", concurrency, duration.toSeconds(), warmup.toSeconds());
+        System.out.printf("%-9s %-12s %10s %8s %10s %9s %9s %9s %9s%n",
+                          "mode", "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (Result result : results) {
+            Sample sample = result.sample;
+            System.out.printf("%-9s %-12s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                              result.mode, result.endpoint, sample.count, sample.errors,
+                              sample.count / (double) result.duration.toSeconds(),
+                              sample.percentileMillis(50), sample.percentileMillis(90),
+                              sample.percentileMillis(99), sample.percentileMillis(100));
+        }
+    }
+
+    private record Result(String mode, String endpoint, Sample sample, Duration duration) {
+    }
+
+    /**
+     * Latencies recorded by one client, merged and sorted for percentiles at the end
+     */
+    private static final class Sample {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+        private boolean sorted;
+
+        void record(long nanos, boolean ok) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+            sorted = false;
+        }
+
+        void merge(Sample other) {
+            latencies = Arrays.copyOf(latencies, Math.max(latencies.length, count + other.count));
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+            sorted = false;
+        }
+
+        double percentileMillis(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            if (!sorted) {
+                Arrays.sort(latencies, 0, count);
+                sorted = true;
+            }
+            int index = (int) Math.ceil(percentile / 100 * count) - 1;
+            return latencies[Math.max(0, Math.min(count - 1, index))] / 1_000_000.0;
+        }
+    }
+}
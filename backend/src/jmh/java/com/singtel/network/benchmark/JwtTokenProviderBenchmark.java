@@ -0,0 +1,79 @@
+package com.singtel.network.benchmark;
+
+import com.singtel.network.entity.Company;
+import com.singtel.network.entity.User;
+import com.singtel.network.security.JwtClaims;
+import com.singtel.network.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of JWT verification in the authentication filter.
+ * <ul>
+ *   <li>legacyRequestPath: validateToken followed by getUsernameFromToken, each verifying the signature</li>
+ *   <li>singleParse: one verification per request without the claims cache</li>
+ *   <li>cachedParseAndValidate: a token already seen by the provider, served from the claims cache</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET =
+            "benchmark-secret-key-for-hs512-signing-that-is-long-enough-to-satisfy-the-minimum-key-length-requirement";
+
+    private JwtTokenProvider tokenProvider;
+    private JwtParser parser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 3600000, 86400000, 10000);
+        parser = Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes())).build();
+
+        Company company = new Company();
+        company.setId(UUID.randomUUID());
+        company.setStatus(Company.CompanyStatus.ACTIVE);
+
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername("benchmark-user");
+        user.setRole(User.UserRole.USER);
+        user.setStatus(User.UserStatus.ACTIVE);
+        user.setCompany(company);
+
+        token = tokenProvider.generateTokenFromUser(user);
+        tokenProvider.parseAndValidate(token);
+    }
+
+    @Benchmark
+    public String legacyRequestPath() {
+        parser.parseClaimsJws(token);
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        return claims.getSubject();
+    }
+
+    @Benchmark
+    public JwtClaims singleParse() {
+        return JwtClaims.from(parser.parseClaimsJws(token).getBody());
+    }
+
+    @Benchmark
+    public Optional<JwtClaims> cachedParseAndValidate() {
+        return tokenProvider.parseAndValidate(token);
+    }
+}
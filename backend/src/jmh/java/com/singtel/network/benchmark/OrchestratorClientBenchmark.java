@@ -0,0 +1,115 @@
+package com.singtel.network.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.singtel.network.config.OrchestratorProperties;
+import com.singtel.network.dto.orchestrator.OrderWorkflowRequest;
+import com.singtel.network.dto.orchestrator.WorkflowType;
+import com.singtel.network.service.OrchestratorClient;
+import com.singtel.network.service.StubOrchestratorServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to start a batch of order workflows against a stub orchestrator with a fixed response latency.
+ * <ul>
+ *   <li>blockingSequential: one synchronous request after another, as a single scheduler thread would</li>
+ *   <li>pooledAsync: the OrchestratorClient with the given bulkhead size over pooled keep-alive connections</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrchestratorClientBenchmark {
+
+    private static final int BATCH = 64;
+
+    @Param({"4", "16", "64"})
+    public int bulkhead;
+
+    @Param({"5"})
+    public int latencyMillis;
+
+    private StubOrchestratorServer orchestrator;
+    private OrchestratorClient orchestratorClient;
+    private HttpClient blockingClient;
+    private ObjectMapper objectMapper;
+    private List<OrderWorkflowRequest> orders;
+
+    @Setup
+    public void setUp() throws IOException {
+        orchestrator = StubOrchestratorServer.start();
+        orchestrator.setLatency(Duration.ofMillis(latencyMillis));
+
+        OrchestratorProperties properties = new OrchestratorProperties();
+        properties.setBaseUrl(orchestrator.getBaseUrl());
+        properties.getBulkheads().put(WorkflowType.ORDER.getEndpoint(), bulkhead);
+        properties.setBulkheadQueue(BATCH);
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+
+        orchestratorClient = new OrchestratorClient();
+        ReflectionTestUtils.setField(orchestratorClient, "orchestratorProperties", properties);
+        ReflectionTestUtils.setField(orchestratorClient, "objectMapper", objectMapper);
+        orchestratorClient.init();
+
+        blockingClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        orders = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            orders.add(new OrderWorkflowRequest(UUID.randomUUID(), String.format("ORD-2026-%06d", i), "NEW_SERVICE",
+                    UUID.randomUUID(), UUID.randomUUID(), null, 500, LocalDate.of(2026, 11, 1)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        orchestratorClient.stop();
+        orchestrator.close();
+    }
+
+    @Benchmark
+    public int blockingSequential() throws IOException, InterruptedException {
+        int started = 0;
+        for (OrderWorkflowRequest order : orders) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(orchestrator.getBaseUrl() + WorkflowType.ORDER.getPath()))
+                    .header("Content-Type", "application/json")
+                    .header("Idempotency-Key", order.getOrderId().toString())
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(order)))
+                    .build();
+            if (blockingClient.send(request, HttpResponse.BodyHandlers.ofString()).statusCode() == 201) {
+                started++;
+            }
+        }
+        return started;
+    }
+
+    @Benchmark
+    public int pooledAsync() {
+        List<CompletableFuture<String>> calls = new ArrayList<>(BATCH);
+        for (OrderWorkflowRequest order : orders) {
+            calls.add(orchestratorClient.startWorkflow(WorkflowType.ORDER, order.getOrderId(), order));
+        }
+        CompletableFuture.allOf(calls.toArray(new CompletableFuture[0])).join();
+        return calls.size();
+    }
+}
@@ -0,0 +1,166 @@
+package com.singtel.network.benchmark;
+
+import com.singtel.network.NetworkOnDemandApplication;
+import com.singtel.network.dto.order.OrderResponse;
+import com.singtel.network.dto.service.ServiceCategoryResponse;
+import com.singtel.network.dto.service.ServiceSummaryResponse;
+import com.singtel.network.repository.OrderRepository;
+import com.singtel.network.repository.ServiceCategoryRepository;
+import com.singtel.network.repository.ServiceRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Per-request cost of the order and catalog list endpoints, entity mapping versus column projections.
+ * Boots the application against an embedded Postgres migrated by Flyway, so both paths run real SQL.
+ * Heap allocation per request is the gc.alloc.rate.norm column of the GC profiler:
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="ReadModelBenchmark -f 1 -wi 3 -i 5 -prof gc"
+ * </pre>
+ * <ul>
+ *   <li>*Entities: the previous read path, loading managed entities and mapping them to responses</li>
+ *   <li>*Projection: JPQL constructor expressions selecting only the listed columns</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadModelBenchmark {
+
+    /**
+     * How many copies of the seeded orders to add to the busiest company
+     */
+    @Param({"20"})
+    public int orderCopies;
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnly;
+    private OrderRepository orderRepository;
+    private ServiceRepository serviceRepository;
+    private ServiceCategoryRepository serviceCategoryRepository;
+    private UUID companyId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+        context = new SpringApplicationBuilder(NetworkOnDemandApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                     "--spring.datasource.username=postgres",
+                     "--spring.datasource.password=",
+                     "--spring.jpa.show-sql=false",
+                     "--app.cache.warm-catalog-on-startup=false",
+                     "--logging.level.root=WARN",
+                     "--logging.level.com.singtel.network=WARN",
+                     "--logging.level.org.springframework.web=WARN");
+
+        orderRepository = context.getBean(OrderRepository.class);
+        serviceRepository = context.getBean(ServiceRepository.class);
+        serviceCategoryRepository = context.getBean(ServiceCategoryRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        companyId = jdbc.queryForObject(
+                "SELECT company_id FROM singtel_app.orders GROUP BY company_id ORDER BY COUNT(*) DESC LIMIT 1",
+                UUID.class);
+        jdbc.update("INSERT INTO singtel_app.orders (company_id, user_id, service_id, service_instance_id, order_number, " +
+                    "order_type, requested_bandwidth_mbps, installation_address, postal_code, contact_person, " +
+                    "contact_phone, contact_email, requested_date, status, total_cost, notes) " +
+                    "SELECT o.company_id, o.user_id, o.service_id, NULL, 'BENCH-' || g || '-' || o.order_number, " +
+                    "o.order_type, o.requested_bandwidth_mbps, o.installation_address, o.postal_code, o.contact_person, " +
+                    "o.contact_phone, o.contact_email, o.requested_date, o.status, o.total_cost, o.notes " +
+                    "FROM singtel_app.orders o CROSS JOIN generate_series(1, ?) g WHERE o.company_id = ?",
+                    orderCopies, companyId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        context.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public List<OrderResponse> companyOrdersEntities() {
+        return readOnly.execute(status -> orderRepository.findByCompanyId(companyId).stream()
+                .map(OrderResponse::new)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<OrderResponse> companyOrdersProjection() {
+        return readOnly.execute(status -> orderRepository.findOrderResponsesByCompanyId(companyId));
+    }
+
+    @Benchmark
+    public List<OrderResponse> recentOrdersEntities() {
+        return readOnly.execute(status -> orderRepository.findRecentOrdersByCompany(companyId, PageRequest.of(0, 10)).stream()
+                .map(OrderResponse::new)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<OrderResponse> recentOrdersProjection() {
+        return readOnly.execute(status -> orderRepository.findRecentOrderResponsesByCompany(companyId, PageRequest.of(0, 10)));
+    }
+
+    @Benchmark
+    public List<ServiceSummaryResponse> availableServicesEntities() {
+        return readOnly.execute(status -> serviceRepository.findAvailableServices().stream()
+                .map(ServiceSummaryResponse::new)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<ServiceSummaryResponse> availableServicesProjection() {
+        return readOnly.execute(status -> serviceRepository.findAvailableServiceSummaries());
+    }
+
+    @Benchmark
+    public List<ServiceCategoryResponse> activeCategoriesEntities() {
+        return readOnly.execute(status -> serviceCategoryRepository.findActiveCategories().stream()
+                .map(category -> new ServiceCategoryResponse(category, true))
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<ServiceCategoryResponse> activeCategoriesProjection() {
+        return readOnly.execute(status -> {
+            List<ServiceCategoryResponse> categories = serviceCategoryRepository.findActiveCategorySummaries();
+            List<ServiceSummaryResponse> services = serviceRepository.findAvailableServiceSummaries();
+            for (ServiceCategoryResponse category : categories) {
+                List<ServiceSummaryResponse> own = new ArrayList<>();
+                for (ServiceSummaryResponse service : services) {
+                    if (category.getId().equals(service.getCategoryId())) {
+                        own.add(service);
+                    }
+                }
+                category.setServices(own);
+            }
+            return categories;
+        });
+    }
+}
@@ -0,0 +1,94 @@
+package com.singtel.network.api;
+
+import com.singtel.network.dto.metric.MetricBatchRequest;
+import com.singtel.network.dto.metric.MetricIngestResponse;
+import com.singtel.network.dto.metric.MetricRollupSeriesResponse;
+import com.singtel.network.dto.metric.MetricSeriesFormat;
+import com.singtel.network.entity.ServiceMetric;
+import com.singtel.network.service.MetricQueryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * API interface for service monitoring data.
+ */
+@Tag(name = "Monitoring", description = "Service instance metrics ingestion and series")
+@SecurityRequirement(name = "bearerAuth")
+@PreAuthorize("hasRole('USER') or hasRole('ADMIN') or hasRole('VIEWER')")
+public interface MonitoringApi {
+
+    /**
+     * Ingest a batch of metric samples
+     */
+    @PostMapping("/metrics")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Push metric samples",
+               description = "Submit up to " + MetricBatchRequest.MAX_SAMPLES + " BANDWIDTH_UTILIZATION, LATENCY, PACKET_LOSS or UPTIME samples. Samples are buffered and written asynchronously. When the buffer is full the whole batch is rejected with 503 and a Retry-After header.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Samples buffered for writing",
+                    content = @Content(schema = @Schema(implementation = MetricIngestResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid sample or unknown service instance"),
+        @ApiResponse(responseCode = "401", description = "User not authenticated"),
+        @ApiResponse(responseCode = "403", description = "Caller is not an administrator"),
+        @ApiResponse(responseCode = "503", description = "Ingest buffer full; retry after the indicated delay",
+                    content = @Content(schema = @Schema(implementation = MetricIngestResponse.class)))
+    })
+    ResponseEntity<MetricIngestResponse> ingestMetrics(@Valid @RequestBody MetricBatchRequest request);
+
+    /**
+     * Get an aggregated metric series
+     */
+    @GetMapping("/service-instances/{serviceInstanceId}/metrics/{metricType}/rollups")
+    @Operation(summary = "Get aggregated metric series",
+               description = "Return min/max/avg/p95/count buckets for the range. The finest of the 1m, 1h and 1d resolutions that covers the range within maxPoints buckets is used. Buckets at or after rolledUpUntil are not aggregated yet.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Series retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid range or service instance not accessible"),
+        @ApiResponse(responseCode = "401", description = "User not authenticated")
+    })
+    ResponseEntity<MetricRollupSeriesResponse> getRollupSeries(
+            @Parameter(description = "Service instance ID") @PathVariable UUID serviceInstanceId,
+            @Parameter(description = "Metric type", example = "LATENCY") @PathVariable ServiceMetric.MetricType metricType,
+            @Parameter(description = "Range start (inclusive)", example = "2024-06-01T00:00:00") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Range end (exclusive)", example = "2024-06-30T00:00:00") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Point budget (max " + MetricQueryService.MAX_POINTS + ")") @RequestParam(defaultValue = "" + MetricQueryService.DEFAULT_MAX_POINTS) int maxPoints);
+
+    /**
+     * Stream a downsampled raw metric series
+     */
+    @GetMapping(value = "/service-instances/{serviceInstanceId}/metrics/{metricType}",
+                produces = {"application/json", "text/csv"})
+    @Operation(summary = "Stream raw metric series",
+               description = "Stream raw samples in the range, reduced on the server to at most points time buckets (average, min, max and count per bucket). The body is written while rows are read, so any range can be requested. Use format=CSV for a compact text form.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Series streamed"),
+        @ApiResponse(responseCode = "400", description = "Invalid range or service instance not accessible"),
+        @ApiResponse(responseCode = "401", description = "User not authenticated")
+    })
+    ResponseEntity<StreamingResponseBody> getMetricSeries(
+            @Parameter(description = "Service instance ID") @PathVariable UUID serviceInstanceId,
+            @Parameter(description = "Metric type", example = "LATENCY") @PathVariable ServiceMetric.MetricType metricType,
+            @Parameter(description = "Range start (inclusive)", example = "2024-06-01T00:00:00") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Range end (exclusive)", example = "2024-06-02T00:00:00") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Maximum number of points (max " + MetricQueryService.MAX_POINTS + ")") @RequestParam(defaultValue = "" + MetricQueryService.DEFAULT_MAX_POINTS) int points,
+            @Parameter(description = "Response format") @RequestParam(defaultValue = "JSON") MetricSeriesFormat format);
+}
@@ -1,7 +1,11 @@
 package com.singtel.network.api;
 
+import com.singtel.network.dto.common.CursorPage;
+import com.singtel.network.dto.order.BatchOrderRequest;
+import com.singtel.network.dto.order.BatchOrderResponse;
 import com.singtel.network.dto.order.CreateOrderRequest;
 import com.singtel.network.dto.order.OrderResponse;
+import com.singtel.network.dto.order.OrderSubmissionResponse;
 import com.singtel.network.entity.Order;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -157,6 +161,54 @@ public interface OrderApi {
             )
         ) CreateOrderRequest request);
 
+    /**
+     * Create a batch of orders
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "Create orders in bulk",
+               description = "Place up to " + BatchOrderRequest.MAX_ORDERS + " orders in one transaction. Each order is validated on its own; results are returned per item in request order and invalid items are reported without rejecting the rest.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "All orders created",
+                    content = @Content(schema = @Schema(implementation = BatchOrderResponse.class))),
+        @ApiResponse(responseCode = "207", description = "Some orders failed validation; see the per-item results",
+                    content = @Content(schema = @Schema(implementation = BatchOrderResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Empty or oversized batch"),
+        @ApiResponse(responseCode = "401", description = "User not authenticated")
+    })
+    ResponseEntity<BatchOrderResponse> createOrders(@Valid @RequestBody BatchOrderRequest request);
+
+    /**
+     * Submit an order for asynchronous processing
+     */
+    @PostMapping("/submissions")
+    @Operation(summary = "Submit an order asynchronously",
+               description = "Record the order request and return at once. The order is priced and created by a background worker; poll the submission at the Location header for its status and, once COMPLETED, the created order.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Order request accepted for processing",
+                    content = @Content(schema = @Schema(implementation = OrderSubmissionResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid order data"),
+        @ApiResponse(responseCode = "401", description = "User not authenticated"),
+        @ApiResponse(responseCode = "403", description = "User not authorized")
+    })
+    ResponseEntity<OrderSubmissionResponse> createOrderSubmission(@Valid @RequestBody CreateOrderRequest request);
+
+    /**
+     * Get the status of an order submission
+     */
+    @GetMapping("/submissions/{submissionId}")
+    @Operation(summary = "Get order submission status",
+               description = "Retrieve the status of an asynchronous order submission, with the created order once it has completed or the reason it failed")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Submission retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = OrderSubmissionResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Submission not found"),
+        @ApiResponse(responseCode = "401", description = "User not authenticated"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN') or hasRole('VIEWER')")
+    ResponseEntity<OrderSubmissionResponse> getOrderSubmission(
+            @Parameter(description = "Submission ID", example = "bb0e8400-e29b-41d4-a716-446655440001") @PathVariable UUID submissionId);
+
     /**
      * Get order by ID
      */
@@ -297,6 +349,29 @@ public interface OrderApi {
             @Parameter(description = "Maximum cost") @RequestParam(required = false) BigDecimal maxCost,
             @PageableDefault(size = 20) Pageable pageable);
 
+    /**
+     * Search orders with cursor pagination
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "Search orders by cursor",
+               description = "Search orders newest first using keyset pagination. Pass nextCursor from the previous response to fetch the next slice; no total count is computed.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Orders retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
+        @ApiResponse(responseCode = "401", description = "User not authenticated")
+    })
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN') or hasRole('VIEWER')")
+    ResponseEntity<CursorPage<OrderResponse>> searchOrdersByCursor(
+            @Parameter(description = "Order status", example = "COMPLETED") @RequestParam(required = false) Order.OrderStatus status,
+            @Parameter(description = "Order type", example = "NEW_SERVICE") @RequestParam(required = false) Order.OrderType orderType,
+            @Parameter(description = "Service ID") @RequestParam(required = false) UUID serviceId,
+            @Parameter(description = "Start date (YYYY-MM-DD)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Minimum cost") @RequestParam(required = false) BigDecimal minCost,
+            @Parameter(description = "Maximum cost") @RequestParam(required = false) BigDecimal maxCost,
+            @Parameter(description = "Continuation token from the previous response") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size);
+
     /**
      * Cancel order
      */
@@ -0,0 +1,61 @@
+package com.singtel.network.api;
+
+import com.singtel.network.dto.common.CursorPage;
+import com.singtel.network.dto.instance.BandwidthChangeResponse;
+import com.singtel.network.dto.instance.ServiceInstanceResponse;
+import com.singtel.network.entity.BandwidthChange;
+import com.singtel.network.entity.ServiceInstance;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.UUID;
+
+/**
+ * API interface for service instance listings.
+ */
+@Tag(name = "Service Instances", description = "Provisioned service instances and their bandwidth changes")
+@SecurityRequirement(name = "bearerAuth")
+@PreAuthorize("hasRole('USER') or hasRole('ADMIN') or hasRole('VIEWER')")
+public interface ServiceInstanceApi {
+
+    /**
+     * Get service instances with cursor pagination
+     */
+    @GetMapping
+    @Operation(summary = "Get company service instances",
+               description = "List the company's service instances newest first using keyset pagination. Pass nextCursor from the previous response to fetch the next slice.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Service instances retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
+        @ApiResponse(responseCode = "401", description = "User not authenticated")
+    })
+    ResponseEntity<CursorPage<ServiceInstanceResponse>> getServiceInstances(
+            @Parameter(description = "Instance status", example = "ACTIVE") @RequestParam(required = false) ServiceInstance.ServiceInstanceStatus status,
+            @Parameter(description = "Continuation token from the previous response") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size);
+
+    /**
+     * Get bandwidth changes with cursor pagination
+     */
+    @GetMapping("/bandwidth-changes")
+    @Operation(summary = "Get company bandwidth changes",
+               description = "List bandwidth changes newest first using keyset pagination, optionally for a single service instance.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Bandwidth changes retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
+        @ApiResponse(responseCode = "401", description = "User not authenticated")
+    })
+    ResponseEntity<CursorPage<BandwidthChangeResponse>> getBandwidthChanges(
+            @Parameter(description = "Service instance ID") @RequestParam(required = false) UUID serviceInstanceId,
+            @Parameter(description = "Change status", example = "APPLIED") @RequestParam(required = false) BandwidthChange.BandwidthChangeStatus status,
+            @Parameter(description = "Continuation token from the previous response") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size);
+}
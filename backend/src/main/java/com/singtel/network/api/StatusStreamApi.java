@@ -0,0 +1,35 @@
+package com.singtel.network.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * API interface for live status streams.
+ */
+@Tag(name = "Status Stream", description = "Live order and service instance status changes")
+@SecurityRequirement(name = "bearerAuth")
+@PreAuthorize("hasRole('USER') or hasRole('ADMIN') or hasRole('VIEWER')")
+public interface StatusStreamApi {
+
+    /**
+     * Stream status changes of the company's orders and service instances
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream status changes",
+               description = "Open a Server-Sent Events stream of the company's order and service instance status changes as they are committed. " +
+                             "Events are named ORDER or SERVICE_INSTANCE and carry resourceId, reference, previousStatus, status, bandwidthMbps and occurredAt. " +
+                             "A client that falls behind is disconnected; on reconnect it should reload its view, as missed events are not replayed.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Stream opened"),
+        @ApiResponse(responseCode = "401", description = "User not authenticated")
+    })
+    ResponseEntity<SseEmitter> streamStatusChanges();
+}
@@ -0,0 +1,85 @@
+package com.singtel.network.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for in-process caches.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.cache")
+public class AppCacheProperties {
+
+    private CacheSpec userPrincipal = new CacheSpec(Duration.ofMinutes(10), 10_000);
+    private CacheSpec tokenState = new CacheSpec(Duration.ofSeconds(30), 10_000);
+    private CacheSpec catalog = new CacheSpec(Duration.ofHours(1), 1_000);
+    private boolean warmCatalogOnStartup = true;
+
+    // Getters and Setters
+    public CacheSpec getUserPrincipal() {
+        return userPrincipal;
+    }
+
+    public void setUserPrincipal(CacheSpec userPrincipal) {
+        this.userPrincipal = userPrincipal;
+    }
+
+    public CacheSpec getTokenState() {
+        return tokenState;
+    }
+
+    public void setTokenState(CacheSpec tokenState) {
+        this.tokenState = tokenState;
+    }
+
+    public CacheSpec getCatalog() {
+        return catalog;
+    }
+
+    public void setCatalog(CacheSpec catalog) {
+        this.catalog = catalog;
+    }
+
+    public boolean isWarmCatalogOnStartup() {
+        return warmCatalogOnStartup;
+    }
+
+    public void setWarmCatalogOnStartup(boolean warmCatalogOnStartup) {
+        this.warmCatalogOnStartup = warmCatalogOnStartup;
+    }
+
+    /**
+     * Time-to-live and size bound of a single cache
+     */
+    public static class CacheSpec {
+
+        private Duration ttl;
+        private long maxSize;
+
+        public CacheSpec() {
+        }
+
+        public CacheSpec(Duration ttl, long maxSize) {
+            this.ttl = ttl;
+            this.maxSize = maxSize;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public long getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(long maxSize) {
+            this.maxSize = maxSize;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.singtel.network.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for executing scheduled bandwidth changes.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.bandwidth-changes")
+public class BandwidthChangeProperties {
+
+    private boolean enabled = true;
+    private Duration lookahead = Duration.ofMinutes(2);
+    private int maxWakeups = 10000;
+    private int batchSize = 50;
+    private Duration wakeupJitter = Duration.ofMillis(500);
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getLookahead() {
+        return lookahead;
+    }
+
+    public void setLookahead(Duration lookahead) {
+        this.lookahead = lookahead;
+    }
+
+    public int getMaxWakeups() {
+        return maxWakeups;
+    }
+
+    public void setMaxWakeups(int maxWakeups) {
+        this.maxWakeups = maxWakeups;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getWakeupJitter() {
+        return wakeupJitter;
+    }
+
+    public void setWakeupJitter(Duration wakeupJitter) {
+        this.wakeupJitter = wakeupJitter;
+    }
+}
@@ -0,0 +1,43 @@
+package com.singtel.network.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Spring Cache configuration backed by in-process Caffeine caches.
+ * Every cache records statistics, which Actuator binds to Micrometer per cache name.
+ */
+@Configuration
+public class CacheConfig {
+
+    public static final String CATALOG_CATEGORIES = "catalogCategories";
+    public static final String CATALOG_SERVICES = "catalogServices";
+    public static final String CATALOG_SERVICE_TYPES = "catalogServiceTypes";
+    public static final String CATALOG_SERVICE_DETAILS = "catalogServiceDetails";
+
+    public static final List<String> CATALOG_CACHES = List.of(
+            CATALOG_CATEGORIES, CATALOG_SERVICES, CATALOG_SERVICE_TYPES, CATALOG_SERVICE_DETAILS);
+
+    @Bean
+    public CacheManager cacheManager(AppCacheProperties cacheProperties) {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(CATALOG_CACHES.stream()
+                .map(name -> buildCache(name, cacheProperties.getCatalog()))
+                .toList());
+        return cacheManager;
+    }
+
+    private CaffeineCache buildCache(String name, AppCacheProperties.CacheSpec spec) {
+        return new CaffeineCache(name, Caffeine.newBuilder()
+                .expireAfterWrite(spec.getTtl())
+                .maximumSize(spec.getMaxSize())
+                .recordStats()
+                .build());
+    }
+}
@@ -0,0 +1,19 @@
+package com.singtel.network.config;
+
+import com.singtel.network.service.MetricSampleBuffer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Wiring for service metric ingestion. Scheduling drives the background flush of buffered samples.
+ */
+@Configuration
+@EnableScheduling
+public class MetricsConfig {
+
+    @Bean
+    public MetricSampleBuffer metricSampleBuffer(MetricsProperties metricsProperties) {
+        return new MetricSampleBuffer(metricsProperties.getIngest().getBufferCapacity());
+    }
+}
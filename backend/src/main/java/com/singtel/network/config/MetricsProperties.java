@@ -0,0 +1,259 @@
+package com.singtel.network.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for service metric ingestion and storage.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.metrics")
+public class MetricsProperties {
+
+    private Ingest ingest = new Ingest();
+    private Partitions partitions = new Partitions();
+    private Rollup rollup = new Rollup();
+    private Sla sla = new Sla();
+    private Alerts alerts = new Alerts();
+
+    // Getters and Setters
+    public Ingest getIngest() {
+        return ingest;
+    }
+
+    public void setIngest(Ingest ingest) {
+        this.ingest = ingest;
+    }
+
+    public Partitions getPartitions() {
+        return partitions;
+    }
+
+    public void setPartitions(Partitions partitions) {
+        this.partitions = partitions;
+    }
+
+    public Rollup getRollup() {
+        return rollup;
+    }
+
+    public void setRollup(Rollup rollup) {
+        this.rollup = rollup;
+    }
+
+    public Sla getSla() {
+        return sla;
+    }
+
+    public void setSla(Sla sla) {
+        this.sla = sla;
+    }
+
+    public Alerts getAlerts() {
+        return alerts;
+    }
+
+    public void setAlerts(Alerts alerts) {
+        this.alerts = alerts;
+    }
+
+    /**
+     * Buffering and write-behind settings for pushed samples
+     */
+    public static class Ingest {
+
+        private int bufferCapacity = 100_000;
+        private int batchSize = 1_000;
+        private Duration retryAfter = Duration.ofSeconds(1);
+
+        public int getBufferCapacity() {
+            return bufferCapacity;
+        }
+
+        public void setBufferCapacity(int bufferCapacity) {
+            this.bufferCapacity = bufferCapacity;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public Duration getRetryAfter() {
+            return retryAfter;
+        }
+
+        public void setRetryAfter(Duration retryAfter) {
+            this.retryAfter = retryAfter;
+        }
+    }
+
+    /**
+     * Daily partition window of service_metrics
+     */
+    public static class Partitions {
+
+        private boolean enabled = true;
+        private int lookaheadDays = 7;
+        private int retentionDays = 90;
+        private RetentionAction retentionAction = RetentionAction.DROP;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getLookaheadDays() {
+            return lookaheadDays;
+        }
+
+        public void setLookaheadDays(int lookaheadDays) {
+            this.lookaheadDays = lookaheadDays;
+        }
+
+        public int getRetentionDays() {
+            return retentionDays;
+        }
+
+        public void setRetentionDays(int retentionDays) {
+            this.retentionDays = retentionDays;
+        }
+
+        public RetentionAction getRetentionAction() {
+            return retentionAction;
+        }
+
+        public void setRetentionAction(RetentionAction retentionAction) {
+            this.retentionAction = retentionAction;
+        }
+    }
+
+    /**
+     * Incremental aggregation of raw samples into 1m, 1h and 1d rollups
+     */
+    public static class Rollup {
+
+        private boolean enabled = true;
+        private Duration allowedLateness = Duration.ofMinutes(2);
+        private int minuteRetentionDays = 30;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getAllowedLateness() {
+            return allowedLateness;
+        }
+
+        public void setAllowedLateness(Duration allowedLateness) {
+            this.allowedLateness = allowedLateness;
+        }
+
+        public int getMinuteRetentionDays() {
+            return minuteRetentionDays;
+        }
+
+        public void setMinuteRetentionDays(int minuteRetentionDays) {
+            this.minuteRetentionDays = minuteRetentionDays;
+        }
+    }
+
+    /**
+     * Incremental calculation of service_sla_metrics from rollups and status events
+     */
+    public static class Sla {
+
+        private boolean enabled = true;
+        private int parallelism = 4;
+        private int chunkSize = 200;
+        private Duration changeOverlap = Duration.ofMinutes(5);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public Duration getChangeOverlap() {
+            return changeOverlap;
+        }
+
+        public void setChangeOverlap(Duration changeOverlap) {
+            this.changeOverlap = changeOverlap;
+        }
+    }
+
+    /**
+     * Threshold evaluation of ingested samples against service_alerts
+     */
+    public static class Alerts {
+
+        private boolean enabled = true;
+        private int queueCapacity = 10_000;
+        private int batchSize = 500;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+    }
+
+    /**
+     * What happens to partitions that fall out of retention
+     */
+    public enum RetentionAction {
+        /** Detach and keep the table, e.g. for archiving */
+        DETACH,
+        /** Drop the partition and its rows */
+        DROP
+    }
+}
@@ -0,0 +1,124 @@
+package com.singtel.network.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for dispatching alert notifications.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.notifications")
+public class NotificationProperties {
+
+    private boolean enabled = true;
+    private int batchSize = 100;
+    private int maxBatchesPerRun = 20;
+    private int concurrency = 32;
+    private Duration lease = Duration.ofMinutes(2);
+    private int maxAttempts = 6;
+    private Duration initialBackoff = Duration.ofSeconds(30);
+    private Duration maxBackoff = Duration.ofHours(1);
+    private int ratePerMinute = 60;
+    private int burst = 10;
+    private Duration requestTimeout = Duration.ofSeconds(10);
+    private String emailGatewayUrl;
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxBatchesPerRun() {
+        return maxBatchesPerRun;
+    }
+
+    public void setMaxBatchesPerRun(int maxBatchesPerRun) {
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public Duration getLease() {
+        return lease;
+    }
+
+    public void setLease(Duration lease) {
+        this.lease = lease;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public void setInitialBackoff(Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public void setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+
+    public int getRatePerMinute() {
+        return ratePerMinute;
+    }
+
+    public void setRatePerMinute(int ratePerMinute) {
+        this.ratePerMinute = ratePerMinute;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    public void setRequestTimeout(Duration requestTimeout) {
+        this.requestTimeout = requestTimeout;
+    }
+
+    public String getEmailGatewayUrl() {
+        return emailGatewayUrl;
+    }
+
+    public void setEmailGatewayUrl(String emailGatewayUrl) {
+        this.emailGatewayUrl = emailGatewayUrl;
+    }
+}
@@ -0,0 +1,230 @@
+package com.singtel.network.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for the Service Orchestrator client and workflow submission.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.service-orchestrator")
+public class OrchestratorProperties {
+
+    private boolean enabled = false;
+    private String baseUrl = "http://localhost:9090";
+    private Duration timeout = Duration.ofSeconds(30);
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    private int retryAttempts = 3;
+    private Duration initialBackoff = Duration.ofMillis(200);
+    private Duration maxBackoff = Duration.ofSeconds(5);
+    private Map<String, Integer> bulkheads = new HashMap<>();
+    private int defaultBulkhead = 16;
+    private int bulkheadQueue = 1000;
+    private int callbackThreads = 4;
+    private Breaker circuitBreaker = new Breaker();
+    private int submitBatchSize = 200;
+    private Duration submitInitialBackoff = Duration.ofSeconds(30);
+    private Duration submitMaxBackoff = Duration.ofHours(1);
+    private int writeBatchSize = 100;
+    private int writeQueueCapacity = 10_000;
+
+    /**
+     * Maximum requests in flight to one endpoint, keyed like the bulkheads map
+     */
+    public int getBulkhead(String endpoint) {
+        return bulkheads.getOrDefault(endpoint, defaultBulkhead);
+    }
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public void setBaseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public int getRetryAttempts() {
+        return retryAttempts;
+    }
+
+    public void setRetryAttempts(int retryAttempts) {
+        this.retryAttempts = retryAttempts;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public void setInitialBackoff(Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public void setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+
+    public Map<String, Integer> getBulkheads() {
+        return bulkheads;
+    }
+
+    public void setBulkheads(Map<String, Integer> bulkheads) {
+        this.bulkheads = bulkheads;
+    }
+
+    public int getDefaultBulkhead() {
+        return defaultBulkhead;
+    }
+
+    public void setDefaultBulkhead(int defaultBulkhead) {
+        this.defaultBulkhead = defaultBulkhead;
+    }
+
+    public int getBulkheadQueue() {
+        return bulkheadQueue;
+    }
+
+    public void setBulkheadQueue(int bulkheadQueue) {
+        this.bulkheadQueue = bulkheadQueue;
+    }
+
+    public int getCallbackThreads() {
+        return callbackThreads;
+    }
+
+    public void setCallbackThreads(int callbackThreads) {
+        this.callbackThreads = callbackThreads;
+    }
+
+    public Breaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public void setCircuitBreaker(Breaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public int getSubmitBatchSize() {
+        return submitBatchSize;
+    }
+
+    public void setSubmitBatchSize(int submitBatchSize) {
+        this.submitBatchSize = submitBatchSize;
+    }
+
+    public Duration getSubmitInitialBackoff() {
+        return submitInitialBackoff;
+    }
+
+    public void setSubmitInitialBackoff(Duration submitInitialBackoff) {
+        this.submitInitialBackoff = submitInitialBackoff;
+    }
+
+    public Duration getSubmitMaxBackoff() {
+        return submitMaxBackoff;
+    }
+
+    public void setSubmitMaxBackoff(Duration submitMaxBackoff) {
+        this.submitMaxBackoff = submitMaxBackoff;
+    }
+
+    public int getWriteBatchSize() {
+        return writeBatchSize;
+    }
+
+    public void setWriteBatchSize(int writeBatchSize) {
+        this.writeBatchSize = writeBatchSize;
+    }
+
+    public int getWriteQueueCapacity() {
+        return writeQueueCapacity;
+    }
+
+    public void setWriteQueueCapacity(int writeQueueCapacity) {
+        this.writeQueueCapacity = writeQueueCapacity;
+    }
+
+    /**
+     * Count-based circuit breaker applied per endpoint
+     */
+    public static class Breaker {
+
+        private int windowSize = 50;
+        private int minimumCalls = 20;
+        private int failureRateThreshold = 50;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenCalls = 3;
+
+        public int getWindowSize() {
+            return windowSize;
+        }
+
+        public void setWindowSize(int windowSize) {
+            this.windowSize = windowSize;
+        }
+
+        public int getMinimumCalls() {
+            return minimumCalls;
+        }
+
+        public void setMinimumCalls(int minimumCalls) {
+            this.minimumCalls = minimumCalls;
+        }
+
+        public int getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        public void setFailureRateThreshold(int failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        public Duration getOpenDuration() {
+            return openDuration;
+        }
+
+        public void setOpenDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+        }
+
+        public int getHalfOpenCalls() {
+            return halfOpenCalls;
+        }
+
+        public void setHalfOpenCalls(int halfOpenCalls) {
+            this.halfOpenCalls = halfOpenCalls;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.singtel.network.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for asynchronous order submission.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.order-intake")
+public class OrderIntakeProperties {
+
+    private int workers = 8;
+    private int queueCapacity = 1000;
+    private Duration sweepDelay = Duration.ofSeconds(10);
+    private int sweepBatchSize = 200;
+    private Duration lease = Duration.ofMinutes(2);
+    private int maxAttempts = 5;
+    private Duration retryBackoff = Duration.ofSeconds(15);
+    private Duration maxRetryBackoff = Duration.ofMinutes(5);
+
+    // Getters and Setters
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getSweepDelay() {
+        return sweepDelay;
+    }
+
+    public void setSweepDelay(Duration sweepDelay) {
+        this.sweepDelay = sweepDelay;
+    }
+
+    public int getSweepBatchSize() {
+        return sweepBatchSize;
+    }
+
+    public void setSweepBatchSize(int sweepBatchSize) {
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    public Duration getLease() {
+        return lease;
+    }
+
+    public void setLease(Duration lease) {
+        this.lease = lease;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getRetryBackoff() {
+        return retryBackoff;
+    }
+
+    public void setRetryBackoff(Duration retryBackoff) {
+        this.retryBackoff = retryBackoff;
+    }
+
+    public Duration getMaxRetryBackoff() {
+        return maxRetryBackoff;
+    }
+
+    public void setMaxRetryBackoff(Duration maxRetryBackoff) {
+        this.maxRetryBackoff = maxRetryBackoff;
+    }
+}
@@ -0,0 +1,103 @@
+package com.singtel.network.controller;
+
+import com.singtel.network.api.MonitoringApi;
+import com.singtel.network.config.MetricsProperties;
+import com.singtel.network.dto.metric.MetricBatchRequest;
+import com.singtel.network.dto.metric.MetricIngestResponse;
+import com.singtel.network.dto.metric.MetricRollupSeriesResponse;
+import com.singtel.network.dto.metric.MetricSeriesFormat;
+import com.singtel.network.entity.ServiceMetric;
+import com.singtel.network.service.MetricIngestionService;
+import com.singtel.network.service.MetricQueryService;
+import com.singtel.network.service.MetricSeriesWriter;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * REST controller for service monitoring data.
+ */
+@RestController
+@RequestMapping("/monitoring")
+public class MonitoringController implements MonitoringApi {
+
+    private static final Logger logger = LoggerFactory.getLogger(MonitoringController.class);
+
+    @Autowired
+    private MetricIngestionService metricIngestionService;
+
+    @Autowired
+    private MetricQueryService metricQueryService;
+
+    @Autowired
+    private MetricsProperties metricsProperties;
+
+    @Override
+    public ResponseEntity<MetricIngestResponse> ingestMetrics(@Valid @RequestBody MetricBatchRequest request) {
+        logger.debug("Ingesting {} metric samples", request.getSamples().size());
+
+        MetricIngestResponse response = metricIngestionService.ingest(request);
+
+        if (!response.isAccepted()) {
+            long retryAfterSeconds = Math.max(1, metricsProperties.getIngest().getRetryAfter().toSeconds());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                    .body(response);
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @Override
+    public ResponseEntity<MetricRollupSeriesResponse> getRollupSeries(
+            @PathVariable UUID serviceInstanceId,
+            @PathVariable ServiceMetric.MetricType metricType,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "" + MetricQueryService.DEFAULT_MAX_POINTS) int maxPoints) {
+        logger.info("Fetching {} rollups for instance {} from {} to {}", metricType, serviceInstanceId, from, to);
+
+        MetricRollupSeriesResponse series =
+                metricQueryService.getRollupSeries(serviceInstanceId, metricType, from, to, maxPoints);
+
+        logger.info("Retrieved {} {} buckets", series.getPoints().size(), series.getResolution().getCode());
+        return ResponseEntity.ok(series);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> getMetricSeries(
+            @PathVariable UUID serviceInstanceId,
+            @PathVariable ServiceMetric.MetricType metricType,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "" + MetricQueryService.DEFAULT_MAX_POINTS) int points,
+            @RequestParam(defaultValue = "JSON") MetricSeriesFormat format) {
+        logger.info("Streaming {} series for instance {} from {} to {} ({} points, {})",
+                   metricType, serviceInstanceId, from, to, points, format);
+
+        // Checked up front so errors still get a normal status; the body is written on an async thread
+        metricQueryService.checkSeriesAccess(serviceInstanceId, from, to, points);
+
+        StreamingResponseBody body = out -> {
+            try (MetricSeriesWriter writer = MetricSeriesWriter.open(format, out)) {
+                writer.begin(serviceInstanceId, metricType, from, to);
+                int written = metricQueryService.streamSeries(serviceInstanceId, metricType, from, to, points, writer);
+                writer.end(written);
+            }
+        };
+        return ResponseEntity.ok().contentType(format.getMediaType()).body(body);
+    }
+}
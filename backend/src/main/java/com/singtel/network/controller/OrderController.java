@@ -1,10 +1,15 @@
 package com.singtel.network.controller;
 
 import com.singtel.network.api.OrderApi;
+import com.singtel.network.dto.common.CursorPage;
+import com.singtel.network.dto.order.BatchOrderRequest;
+import com.singtel.network.dto.order.BatchOrderResponse;
 import com.singtel.network.dto.order.CreateOrderRequest;
 import com.singtel.network.dto.order.OrderResponse;
+import com.singtel.network.dto.order.OrderSubmissionResponse;
 import com.singtel.network.entity.Order;
 import com.singtel.network.service.OrderService;
+import com.singtel.network.service.OrderSubmissionService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,8 +21,10 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.math.BigDecimal;
+import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +42,9 @@ public class OrderController implements OrderApi {
     @Autowired
     private OrderService orderService;
 
+    @Autowired
+    private OrderSubmissionService orderSubmissionService;
+
     @Override
     public ResponseEntity<OrderResponse> createOrder(@Valid @RequestBody CreateOrderRequest request) {
         logger.info("Creating new order for service: {}", request.getServiceId());
@@ -50,6 +60,39 @@ public class OrderController implements OrderApi {
         }
     }
 
+    @Override
+    public ResponseEntity<BatchOrderResponse> createOrders(@Valid @RequestBody BatchOrderRequest request) {
+        logger.info("Creating batch of {} orders", request.getOrders().size());
+
+        BatchOrderResponse response = orderService.createOrders(request.getOrders());
+
+        logger.info("Batch created {} orders, {} failed", response.getCreatedCount(), response.getFailedCount());
+        HttpStatus status = response.hasFailures() ? HttpStatus.MULTI_STATUS : HttpStatus.CREATED;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @Override
+    public ResponseEntity<OrderSubmissionResponse> createOrderSubmission(@Valid @RequestBody CreateOrderRequest request) {
+        logger.info("Submitting order for service: {}", request.getServiceId());
+
+        OrderSubmissionResponse submission = orderSubmissionService.submit(request);
+
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{submissionId}")
+                .buildAndExpand(submission.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(submission);
+    }
+
+    @Override
+    public ResponseEntity<OrderSubmissionResponse> getOrderSubmission(@PathVariable UUID submissionId) {
+        logger.info("Fetching order submission: {}", submissionId);
+
+        OrderSubmissionResponse submission = orderSubmissionService.getSubmission(submissionId);
+
+        return ResponseEntity.ok(submission);
+    }
+
     @Override
     public ResponseEntity<OrderResponse> getOrderById(@PathVariable UUID orderId) {
         logger.info("Fetching order by ID: {}", orderId);
@@ -143,6 +186,28 @@ public class OrderController implements OrderApi {
         return ResponseEntity.ok(orders);
     }
 
+    @Override
+    public ResponseEntity<CursorPage<OrderResponse>> searchOrdersByCursor(
+            @RequestParam(required = false) Order.OrderStatus status,
+            @RequestParam(required = false) Order.OrderType orderType,
+            @RequestParam(required = false) UUID serviceId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) BigDecimal minCost,
+            @RequestParam(required = false) BigDecimal maxCost,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        logger.info("Searching orders by cursor - Status: {}, Type: {}, Service: {}", status, orderType, serviceId);
+
+        CursorPage<OrderResponse> orders = orderService.searchOrdersByCursor(status, orderType, serviceId,
+                                                                             startDate, endDate, minCost, maxCost,
+                                                                             cursor, size);
+
+        logger.info("Cursor search returned {} orders (has next: {})", orders.getSize(), orders.isHasNext());
+        return ResponseEntity.ok(orders);
+    }
+
     @Override
     public ResponseEntity<OrderResponse> cancelOrder(@PathVariable UUID orderId) {
         logger.info("Cancelling order: {}", orderId);
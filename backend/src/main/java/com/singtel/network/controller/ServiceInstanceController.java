@@ -0,0 +1,59 @@
+package com.singtel.network.controller;
+
+import com.singtel.network.api.ServiceInstanceApi;
+import com.singtel.network.dto.common.CursorPage;
+import com.singtel.network.dto.instance.BandwidthChangeResponse;
+import com.singtel.network.dto.instance.ServiceInstanceResponse;
+import com.singtel.network.entity.BandwidthChange;
+import com.singtel.network.entity.ServiceInstance;
+import com.singtel.network.service.ServiceInstanceService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * REST controller for service instance listings.
+ */
+@RestController
+@RequestMapping("/service-instances")
+public class ServiceInstanceController implements ServiceInstanceApi {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceInstanceController.class);
+
+    @Autowired
+    private ServiceInstanceService serviceInstanceService;
+
+    @Override
+    public ResponseEntity<CursorPage<ServiceInstanceResponse>> getServiceInstances(
+            @RequestParam(required = false) ServiceInstance.ServiceInstanceStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        logger.info("Fetching service instances - Status: {}, size: {}", status, size);
+
+        CursorPage<ServiceInstanceResponse> instances = serviceInstanceService.getServiceInstances(status, cursor, size);
+
+        logger.info("Retrieved {} service instances (has next: {})", instances.getSize(), instances.isHasNext());
+        return ResponseEntity.ok(instances);
+    }
+
+    @Override
+    public ResponseEntity<CursorPage<BandwidthChangeResponse>> getBandwidthChanges(
+            @RequestParam(required = false) UUID serviceInstanceId,
+            @RequestParam(required = false) BandwidthChange.BandwidthChangeStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        logger.info("Fetching bandwidth changes - Instance: {}, Status: {}, size: {}", serviceInstanceId, status, size);
+
+        CursorPage<BandwidthChangeResponse> changes =
+                serviceInstanceService.getBandwidthChanges(serviceInstanceId, status, cursor, size);
+
+        logger.info("Retrieved {} bandwidth changes (has next: {})", changes.getSize(), changes.isHasNext());
+        return ResponseEntity.ok(changes);
+    }
+}
@@ -0,0 +1,38 @@
+package com.singtel.network.controller;
+
+import com.singtel.network.api.StatusStreamApi;
+import com.singtel.network.service.StatusStreamService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller for live status streams.
+ */
+@RestController
+@RequestMapping("/status-stream")
+public class StatusStreamController implements StatusStreamApi {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatusStreamController.class);
+
+    @Autowired
+    private StatusStreamService statusStreamService;
+
+    @Override
+    public ResponseEntity<SseEmitter> streamStatusChanges() {
+        logger.info("Opening status stream");
+
+        SseEmitter emitter = statusStreamService.subscribe();
+
+        // Reverse proxies must pass events through as they are written
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+}
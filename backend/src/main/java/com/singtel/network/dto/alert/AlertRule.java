@@ -0,0 +1,156 @@
+package com.singtel.network.dto.alert;
+
+import com.singtel.network.entity.ServiceMetric;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Enabled service_alerts row held in the in-memory alert index.
+ * The threshold is kept as a double so a sample is checked without allocation; the last trigger
+ * time is shared by all evaluating threads and claimed with a compare-and-set, and released again
+ * when the trigger could not be recorded.
+ */
+public final class AlertRule {
+
+    private static final long NEVER = Long.MIN_VALUE;
+
+    /** Returned by claimTrigger while the rule is cooling down */
+    public static final long COOLING_DOWN = Long.MAX_VALUE;
+
+    private final UUID id;
+    private final UUID serviceInstanceId;
+    private final String alertName;
+    private final ServiceMetric.MetricType metricType;
+    private final BigDecimal thresholdValue;
+    private final double threshold;
+    private final ThresholdOperator operator;
+    private final String severity;
+    private final long cooldownMillis;
+    // Shared with the reloaded rule, so a release still reaches the rule that is indexed now
+    private AtomicLong lastTriggeredMillis;
+
+    public AlertRule(UUID id, UUID serviceInstanceId, String alertName, ServiceMetric.MetricType metricType,
+                     BigDecimal thresholdValue, ThresholdOperator operator, String severity,
+                     Duration cooldown, Instant lastTriggeredAt) {
+        this.id = id;
+        this.serviceInstanceId = serviceInstanceId;
+        this.alertName = alertName;
+        this.metricType = metricType;
+        this.thresholdValue = thresholdValue;
+        this.threshold = thresholdValue.doubleValue();
+        this.operator = operator;
+        this.severity = severity;
+        this.cooldownMillis = cooldown.toMillis();
+        this.lastTriggeredMillis = new AtomicLong(lastTriggeredAt != null ? lastTriggeredAt.toEpochMilli() : NEVER);
+    }
+
+    /**
+     * Whether the value breaches the threshold
+     */
+    public boolean matches(double value) {
+        return operator.test(value, threshold);
+    }
+
+    /**
+     * Claim a trigger at nowMillis unless the rule is still cooling down from the previous one.
+     * Returns the previous trigger time for releaseTrigger, or COOLING_DOWN
+     */
+    public long claimTrigger(long nowMillis) {
+        while (true) {
+            long last = lastTriggeredMillis.get();
+            if (last != NEVER && nowMillis - last < cooldownMillis) {
+                return COOLING_DOWN;
+            }
+            if (lastTriggeredMillis.compareAndSet(last, nowMillis)) {
+                return last;
+            }
+        }
+    }
+
+    /**
+     * Undo a claim whose trigger was never recorded, unless a later trigger has been claimed since
+     */
+    public void releaseTrigger(long triggeredMillis, long previousMillis) {
+        lastTriggeredMillis.compareAndSet(triggeredMillis, previousMillis);
+    }
+
+    /**
+     * Keep a trigger time seen by this node across an index reload. Called before the rule is published.
+     */
+    public void carryOverTrigger(AlertRule previous) {
+        previous.lastTriggeredMillis.accumulateAndGet(lastTriggeredMillis.get(), Math::max);
+        lastTriggeredMillis = previous.lastTriggeredMillis;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getServiceInstanceId() {
+        return serviceInstanceId;
+    }
+
+    public String getAlertName() {
+        return alertName;
+    }
+
+    public ServiceMetric.MetricType getMetricType() {
+        return metricType;
+    }
+
+    public BigDecimal getThresholdValue() {
+        return thresholdValue;
+    }
+
+    public ThresholdOperator getOperator() {
+        return operator;
+    }
+
+    public String getSeverity() {
+        return severity;
+    }
+
+    /**
+     * Operators allowed by the threshold_operator check constraint
+     */
+    public enum ThresholdOperator {
+        GT(">"),
+        GE(">="),
+        LT("<"),
+        LE("<="),
+        EQ("=");
+
+        private final String symbol;
+
+        ThresholdOperator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        public boolean test(double value, double threshold) {
+            return switch (this) {
+                case GT -> value > threshold;
+                case GE -> value >= threshold;
+                case LT -> value < threshold;
+                case LE -> value <= threshold;
+                case EQ -> value == threshold;
+            };
+        }
+
+        public static ThresholdOperator fromSymbol(String symbol) {
+            for (ThresholdOperator operator : values()) {
+                if (operator.symbol.equals(symbol)) {
+                    return operator;
+                }
+            }
+            throw new IllegalArgumentException("Unknown threshold operator: " + symbol);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.singtel.network.dto.alert;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * An alert that fired on a sample, waiting to be recorded with its notifications.
+ * A trigger that cannot be recorded is released, so the rule's cooldown does not hide it.
+ */
+public final class AlertTrigger {
+
+    private final UUID alertId;
+    private final UUID serviceInstanceId;
+    private final Instant triggeredAt;
+    private final String subject;
+    private final String message;
+    private final AlertRule rule;
+    private final long previousTriggeredMillis;
+
+    public AlertTrigger(UUID alertId, UUID serviceInstanceId, Instant triggeredAt, String subject, String message) {
+        this(alertId, serviceInstanceId, triggeredAt, subject, message, null, 0);
+    }
+
+    public AlertTrigger(UUID alertId, UUID serviceInstanceId, Instant triggeredAt, String subject, String message,
+                        AlertRule rule, long previousTriggeredMillis) {
+        this.alertId = alertId;
+        this.serviceInstanceId = serviceInstanceId;
+        this.triggeredAt = triggeredAt;
+        this.subject = subject;
+        this.message = message;
+        this.rule = rule;
+        this.previousTriggeredMillis = previousTriggeredMillis;
+    }
+
+    /**
+     * Give the claimed trigger time back to the rule after the trigger was dropped
+     */
+    public void release() {
+        if (rule != null) {
+            rule.releaseTrigger(triggeredAt.toEpochMilli(), previousTriggeredMillis);
+        }
+    }
+
+    public UUID getAlertId() {
+        return alertId;
+    }
+
+    public UUID getServiceInstanceId() {
+        return serviceInstanceId;
+    }
+
+    public Instant getTriggeredAt() {
+        return triggeredAt;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
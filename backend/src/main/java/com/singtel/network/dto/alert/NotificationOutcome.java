@@ -0,0 +1,78 @@
+package com.singtel.network.dto.alert;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Result of one delivery attempt, written back to alert_notifications in a batch.
+ * A null status leaves the row's status unchanged.
+ */
+public final class NotificationOutcome {
+
+    public static final String SENT = "SENT";
+    public static final String FAILED = "FAILED";
+    public static final String DEAD_LETTER = "DEAD_LETTER";
+
+    private final UUID id;
+    private final String status;
+    private final int attempts;
+    private final Instant nextAttemptAt;
+    private final Instant sentAt;
+    private final String errorMessage;
+
+    private NotificationOutcome(UUID id, String status, int attempts, Instant nextAttemptAt,
+                                Instant sentAt, String errorMessage) {
+        this.id = id;
+        this.status = status;
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt;
+        this.sentAt = sentAt;
+        this.errorMessage = errorMessage;
+    }
+
+    public static NotificationOutcome sent(PendingNotification notification, Instant sentAt) {
+        return new NotificationOutcome(notification.getId(), SENT, notification.getAttempts() + 1, sentAt, sentAt, null);
+    }
+
+    public static NotificationOutcome retry(PendingNotification notification, Instant nextAttemptAt, String errorMessage) {
+        return new NotificationOutcome(notification.getId(), FAILED, notification.getAttempts() + 1, nextAttemptAt,
+                null, errorMessage);
+    }
+
+    public static NotificationOutcome deadLetter(PendingNotification notification, Instant now, String errorMessage) {
+        return new NotificationOutcome(notification.getId(), DEAD_LETTER, notification.getAttempts() + 1, now,
+                null, errorMessage);
+    }
+
+    /**
+     * Not attempted, e.g. because its destination is over its rate limit
+     */
+    public static NotificationOutcome deferred(PendingNotification notification, Instant nextAttemptAt) {
+        return new NotificationOutcome(notification.getId(), null, notification.getAttempts(), nextAttemptAt,
+                null, null);
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public Instant getSentAt() {
+        return sentAt;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+}
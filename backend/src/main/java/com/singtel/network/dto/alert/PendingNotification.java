@@ -0,0 +1,62 @@
+package com.singtel.network.dto.alert;
+
+import java.util.UUID;
+
+/**
+ * alert_notifications row claimed for delivery.
+ */
+public final class PendingNotification {
+
+    private final UUID id;
+    private final UUID alertId;
+    private final UUID serviceInstanceId;
+    private final String notificationType;
+    private final String recipient;
+    private final String subject;
+    private final String message;
+    private final int attempts;
+
+    public PendingNotification(UUID id, UUID alertId, UUID serviceInstanceId, String notificationType,
+                               String recipient, String subject, String message, int attempts) {
+        this.id = id;
+        this.alertId = alertId;
+        this.serviceInstanceId = serviceInstanceId;
+        this.notificationType = notificationType;
+        this.recipient = recipient;
+        this.subject = subject;
+        this.message = message;
+        this.attempts = attempts;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getAlertId() {
+        return alertId;
+    }
+
+    public UUID getServiceInstanceId() {
+        return serviceInstanceId;
+    }
+
+    public String getNotificationType() {
+        return notificationType;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+}
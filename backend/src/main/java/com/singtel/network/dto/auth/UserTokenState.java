@@ -0,0 +1,40 @@
+package com.singtel.network.dto.auth;
+
+import com.singtel.network.entity.Company;
+import com.singtel.network.entity.User;
+
+/**
+ * Current revocation-relevant state of a user, used to check signed-claim tokens.
+ */
+public class UserTokenState {
+
+    private final Integer tokenVersion;
+    private final User.UserStatus status;
+    private final Company.CompanyStatus companyStatus;
+
+    public UserTokenState(Integer tokenVersion, User.UserStatus status, Company.CompanyStatus companyStatus) {
+        this.tokenVersion = tokenVersion;
+        this.status = status;
+        this.companyStatus = companyStatus;
+    }
+
+    // Getters
+    public Integer getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public User.UserStatus getStatus() {
+        return status;
+    }
+
+    public Company.CompanyStatus getCompanyStatus() {
+        return companyStatus;
+    }
+
+    // Helper methods
+    public boolean accepts(Integer version) {
+        return tokenVersion != null && tokenVersion.equals(version)
+                && status == User.UserStatus.ACTIVE
+                && companyStatus == Company.CompanyStatus.ACTIVE;
+    }
+}
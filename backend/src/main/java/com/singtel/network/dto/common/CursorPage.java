@@ -0,0 +1,64 @@
+package com.singtel.network.dto.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * DTO for one slice of a keyset-paginated listing.
+ * Pass nextCursor back as the cursor parameter to fetch the following slice.
+ */
+public class CursorPage<T> {
+
+    private List<T> items = new ArrayList<>();
+    private String nextCursor;
+    private boolean hasNext;
+
+    // Constructors
+    public CursorPage() {
+    }
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    // Getters and Setters
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    // Helper methods
+    public int getSize() {
+        return items.size();
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = new ArrayList<>(items.size());
+        for (T item : items) {
+            mapped.add(mapper.apply(item));
+        }
+        return new CursorPage<>(mapped, nextCursor);
+    }
+}
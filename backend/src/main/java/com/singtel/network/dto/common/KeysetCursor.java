@@ -0,0 +1,86 @@
+package com.singtel.network.dto.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Position in a listing ordered by (createdAt DESC, id DESC).
+ * Clients only ever see the opaque token produced by {@link #encode()}.
+ */
+public final class KeysetCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime createdAt;
+    private final UUID id;
+
+    // Constructors
+    public KeysetCursor(LocalDateTime createdAt, UUID id) {
+        this.createdAt = Objects.requireNonNull(createdAt, "createdAt").truncatedTo(ChronoUnit.MICROS);
+        this.id = Objects.requireNonNull(id, "id");
+    }
+
+    /**
+     * Decode a continuation token, returning null for a missing one
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            // Base64 and UUID failures are already IllegalArgumentExceptions
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * Encode as an opaque, URL-safe continuation token
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Getters
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof KeysetCursor)) return false;
+        KeysetCursor that = (KeysetCursor) o;
+        return createdAt.equals(that.createdAt) && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(createdAt, id);
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetCursor{" +
+                "createdAt=" + createdAt +
+                ", id=" + id +
+                '}';
+    }
+}
@@ -0,0 +1,145 @@
+package com.singtel.network.dto.instance;
+
+import com.singtel.network.entity.BandwidthChange;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO for bandwidth change listings.
+ */
+public class BandwidthChangeResponse {
+
+    private UUID id;
+    private UUID serviceInstanceId;
+    private String instanceName;
+    private Integer previousBandwidthMbps;
+    private Integer newBandwidthMbps;
+    private String changeReason;
+    private LocalDateTime scheduledAt;
+    private LocalDateTime appliedAt;
+    private BandwidthChange.BandwidthChangeStatus status;
+    private BigDecimal costImpact;
+    private String workflowId;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public BandwidthChangeResponse() {
+    }
+
+    public BandwidthChangeResponse(BandwidthChange bandwidthChange) {
+        this.id = bandwidthChange.getId();
+        this.previousBandwidthMbps = bandwidthChange.getPreviousBandwidthMbps();
+        this.newBandwidthMbps = bandwidthChange.getNewBandwidthMbps();
+        this.changeReason = bandwidthChange.getChangeReason();
+        this.scheduledAt = bandwidthChange.getScheduledAt();
+        this.appliedAt = bandwidthChange.getAppliedAt();
+        this.status = bandwidthChange.getStatus();
+        this.costImpact = bandwidthChange.getCostImpact();
+        this.workflowId = bandwidthChange.getWorkflowId();
+        this.createdAt = bandwidthChange.getCreatedAt();
+
+        if (bandwidthChange.getServiceInstance() != null) {
+            this.serviceInstanceId = bandwidthChange.getServiceInstance().getId();
+            this.instanceName = bandwidthChange.getServiceInstance().getInstanceName();
+        }
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getServiceInstanceId() {
+        return serviceInstanceId;
+    }
+
+    public void setServiceInstanceId(UUID serviceInstanceId) {
+        this.serviceInstanceId = serviceInstanceId;
+    }
+
+    public String getInstanceName() {
+        return instanceName;
+    }
+
+    public void setInstanceName(String instanceName) {
+        this.instanceName = instanceName;
+    }
+
+    public Integer getPreviousBandwidthMbps() {
+        return previousBandwidthMbps;
+    }
+
+    public void setPreviousBandwidthMbps(Integer previousBandwidthMbps) {
+        this.previousBandwidthMbps = previousBandwidthMbps;
+    }
+
+    public Integer getNewBandwidthMbps() {
+        return newBandwidthMbps;
+    }
+
+    public void setNewBandwidthMbps(Integer newBandwidthMbps) {
+        this.newBandwidthMbps = newBandwidthMbps;
+    }
+
+    public String getChangeReason() {
+        return changeReason;
+    }
+
+    public void setChangeReason(String changeReason) {
+        this.changeReason = changeReason;
+    }
+
+    public LocalDateTime getScheduledAt() {
+        return scheduledAt;
+    }
+
+    public void setScheduledAt(LocalDateTime scheduledAt) {
+        this.scheduledAt = scheduledAt;
+    }
+
+    public LocalDateTime getAppliedAt() {
+        return appliedAt;
+    }
+
+    public void setAppliedAt(LocalDateTime appliedAt) {
+        this.appliedAt = appliedAt;
+    }
+
+    public BandwidthChange.BandwidthChangeStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BandwidthChange.BandwidthChangeStatus status) {
+        this.status = status;
+    }
+
+    public BigDecimal getCostImpact() {
+        return costImpact;
+    }
+
+    public void setCostImpact(BigDecimal costImpact) {
+        this.costImpact = costImpact;
+    }
+
+    public String getWorkflowId() {
+        return workflowId;
+    }
+
+    public void setWorkflowId(String workflowId) {
+        this.workflowId = workflowId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
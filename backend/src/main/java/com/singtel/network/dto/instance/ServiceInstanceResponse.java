@@ -0,0 +1,176 @@
+package com.singtel.network.dto.instance;
+
+import com.singtel.network.entity.ServiceInstance;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO for service instance listings.
+ */
+public class ServiceInstanceResponse {
+
+    private UUID id;
+    private String instanceName;
+    private ServiceInstance.ServiceInstanceStatus status;
+    private Integer currentBandwidthMbps;
+    private String installationAddress;
+    private String postalCode;
+    private BigDecimal monthlyCost;
+    private LocalDate contractStartDate;
+    private LocalDate contractEndDate;
+    private LocalDateTime lastBandwidthChangeAt;
+    private LocalDateTime provisionedAt;
+    private UUID serviceId;
+    private String serviceName;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public ServiceInstanceResponse() {
+    }
+
+    public ServiceInstanceResponse(ServiceInstance serviceInstance) {
+        this.id = serviceInstance.getId();
+        this.instanceName = serviceInstance.getInstanceName();
+        this.status = serviceInstance.getStatus();
+        this.currentBandwidthMbps = serviceInstance.getCurrentBandwidthMbps();
+        this.installationAddress = serviceInstance.getInstallationAddress();
+        this.postalCode = serviceInstance.getPostalCode();
+        this.monthlyCost = serviceInstance.getMonthlyCost();
+        this.contractStartDate = serviceInstance.getContractStartDate();
+        this.contractEndDate = serviceInstance.getContractEndDate();
+        this.lastBandwidthChangeAt = serviceInstance.getLastBandwidthChangeAt();
+        this.provisionedAt = serviceInstance.getProvisionedAt();
+        this.createdAt = serviceInstance.getCreatedAt();
+        this.updatedAt = serviceInstance.getUpdatedAt();
+
+        if (serviceInstance.getService() != null) {
+            this.serviceId = serviceInstance.getService().getId();
+            this.serviceName = serviceInstance.getService().getName();
+        }
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getInstanceName() {
+        return instanceName;
+    }
+
+    public void setInstanceName(String instanceName) {
+        this.instanceName = instanceName;
+    }
+
+    public ServiceInstance.ServiceInstanceStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ServiceInstance.ServiceInstanceStatus status) {
+        this.status = status;
+    }
+
+    public Integer getCurrentBandwidthMbps() {
+        return currentBandwidthMbps;
+    }
+
+    public void setCurrentBandwidthMbps(Integer currentBandwidthMbps) {
+        this.currentBandwidthMbps = currentBandwidthMbps;
+    }
+
+    public String getInstallationAddress() {
+        return installationAddress;
+    }
+
+    public void setInstallationAddress(String installationAddress) {
+        this.installationAddress = installationAddress;
+    }
+
+    public String getPostalCode() {
+        return postalCode;
+    }
+
+    public void setPostalCode(String postalCode) {
+        this.postalCode = postalCode;
+    }
+
+    public BigDecimal getMonthlyCost() {
+        return monthlyCost;
+    }
+
+    public void setMonthlyCost(BigDecimal monthlyCost) {
+        this.monthlyCost = monthlyCost;
+    }
+
+    public LocalDate getContractStartDate() {
+        return contractStartDate;
+    }
+
+    public void setContractStartDate(LocalDate contractStartDate) {
+        this.contractStartDate = contractStartDate;
+    }
+
+    public LocalDate getContractEndDate() {
+        return contractEndDate;
+    }
+
+    public void setContractEndDate(LocalDate contractEndDate) {
+        this.contractEndDate = contractEndDate;
+    }
+
+    public LocalDateTime getLastBandwidthChangeAt() {
+        return lastBandwidthChangeAt;
+    }
+
+    public void setLastBandwidthChangeAt(LocalDateTime lastBandwidthChangeAt) {
+        this.lastBandwidthChangeAt = lastBandwidthChangeAt;
+    }
+
+    public LocalDateTime getProvisionedAt() {
+        return provisionedAt;
+    }
+
+    public void setProvisionedAt(LocalDateTime provisionedAt) {
+        this.provisionedAt = provisionedAt;
+    }
+
+    public UUID getServiceId() {
+        return serviceId;
+    }
+
+    public void setServiceId(UUID serviceId) {
+        this.serviceId = serviceId;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public void setServiceName(String serviceName) {
+        this.serviceName = serviceName;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,38 @@
+package com.singtel.network.dto.metric;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for a batch of monitoring samples. The batch is accepted or rejected as a whole.
+ */
+public class MetricBatchRequest {
+
+    public static final int MAX_SAMPLES = 5_000;
+
+    @Valid
+    @NotEmpty(message = "At least one sample is required")
+    @Size(max = MAX_SAMPLES, message = "A batch must not exceed " + MAX_SAMPLES + " samples")
+    private List<MetricSampleRequest> samples = new ArrayList<>();
+
+    // Constructors
+    public MetricBatchRequest() {
+    }
+
+    public MetricBatchRequest(List<MetricSampleRequest> samples) {
+        this.samples = samples;
+    }
+
+    // Getters and Setters
+    public List<MetricSampleRequest> getSamples() {
+        return samples;
+    }
+
+    public void setSamples(List<MetricSampleRequest> samples) {
+        this.samples = samples;
+    }
+}
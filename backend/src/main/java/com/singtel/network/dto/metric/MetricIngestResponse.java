@@ -0,0 +1,56 @@
+package com.singtel.network.dto.metric;
+
+/**
+ * DTO describing the outcome of a metric batch submission.
+ */
+public class MetricIngestResponse {
+
+    private boolean accepted;
+    private int sampleCount;
+    private int bufferedSamples;
+    private int bufferCapacity;
+
+    // Constructors
+    public MetricIngestResponse() {
+    }
+
+    public MetricIngestResponse(boolean accepted, int sampleCount, int bufferedSamples, int bufferCapacity) {
+        this.accepted = accepted;
+        this.sampleCount = sampleCount;
+        this.bufferedSamples = bufferedSamples;
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    // Getters and Setters
+    public boolean isAccepted() {
+        return accepted;
+    }
+
+    public void setAccepted(boolean accepted) {
+        this.accepted = accepted;
+    }
+
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    public void setSampleCount(int sampleCount) {
+        this.sampleCount = sampleCount;
+    }
+
+    public int getBufferedSamples() {
+        return bufferedSamples;
+    }
+
+    public void setBufferedSamples(int bufferedSamples) {
+        this.bufferedSamples = bufferedSamples;
+    }
+
+    public int getBufferCapacity() {
+        return bufferCapacity;
+    }
+
+    public void setBufferCapacity(int bufferCapacity) {
+        this.bufferCapacity = bufferCapacity;
+    }
+}
@@ -0,0 +1,26 @@
+package com.singtel.network.dto.metric;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Projection of one raw sample: when it was measured and its value.
+ */
+public class MetricReading {
+
+    private final LocalDateTime measuredAt;
+    private final BigDecimal metricValue;
+
+    public MetricReading(LocalDateTime measuredAt, BigDecimal metricValue) {
+        this.measuredAt = measuredAt;
+        this.metricValue = metricValue;
+    }
+
+    public LocalDateTime getMeasuredAt() {
+        return measuredAt;
+    }
+
+    public BigDecimal getMetricValue() {
+        return metricValue;
+    }
+}
@@ -0,0 +1,65 @@
+package com.singtel.network.dto.metric;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Aggregation resolutions of service metric rollups, finest first.
+ * Buckets are aligned to UTC.
+ */
+public enum MetricResolution {
+
+    MINUTE("1m", ChronoUnit.MINUTES),
+    HOUR("1h", ChronoUnit.HOURS),
+    DAY("1d", ChronoUnit.DAYS);
+
+    private final String code;
+    private final ChronoUnit unit;
+
+    MetricResolution(String code, ChronoUnit unit) {
+        this.code = code;
+        this.unit = unit;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public Duration getDuration() {
+        return unit.getDuration();
+    }
+
+    /** Unit name understood by PostgreSQL date_trunc */
+    public String getTruncUnit() {
+        return unit == ChronoUnit.MINUTES ? "minute" : unit == ChronoUnit.HOURS ? "hour" : "day";
+    }
+
+    public String getTableName() {
+        return "singtel_app.service_metric_rollup_" + code;
+    }
+
+    public Instant truncate(Instant instant) {
+        return instant.truncatedTo(unit);
+    }
+
+    /**
+     * Number of buckets needed to cover a range
+     */
+    public long bucketsIn(Duration range) {
+        long bucketSeconds = getDuration().getSeconds();
+        return (range.getSeconds() + bucketSeconds - 1) / bucketSeconds;
+    }
+
+    /**
+     * Finest resolution that covers the range within maxPoints buckets, or DAY when none does
+     */
+    public static MetricResolution forRange(Duration range, int maxPoints) {
+        for (MetricResolution resolution : values()) {
+            if (resolution.bucketsIn(range) <= maxPoints) {
+                return resolution;
+            }
+        }
+        return DAY;
+    }
+}
@@ -0,0 +1,80 @@
+package com.singtel.network.dto.metric;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one aggregated bucket of a metric series.
+ */
+public class MetricRollupPoint {
+
+    private LocalDateTime bucketStart;
+    private int sampleCount;
+    private BigDecimal minValue;
+    private BigDecimal maxValue;
+    private BigDecimal avgValue;
+    private BigDecimal p95Value;
+
+    // Constructors
+    public MetricRollupPoint() {
+    }
+
+    public MetricRollupPoint(LocalDateTime bucketStart, int sampleCount, BigDecimal minValue,
+                             BigDecimal maxValue, BigDecimal avgValue, BigDecimal p95Value) {
+        this.bucketStart = bucketStart;
+        this.sampleCount = sampleCount;
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.avgValue = avgValue;
+        this.p95Value = p95Value;
+    }
+
+    // Getters and Setters
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    public void setSampleCount(int sampleCount) {
+        this.sampleCount = sampleCount;
+    }
+
+    public BigDecimal getMinValue() {
+        return minValue;
+    }
+
+    public void setMinValue(BigDecimal minValue) {
+        this.minValue = minValue;
+    }
+
+    public BigDecimal getMaxValue() {
+        return maxValue;
+    }
+
+    public void setMaxValue(BigDecimal maxValue) {
+        this.maxValue = maxValue;
+    }
+
+    public BigDecimal getAvgValue() {
+        return avgValue;
+    }
+
+    public void setAvgValue(BigDecimal avgValue) {
+        this.avgValue = avgValue;
+    }
+
+    public BigDecimal getP95Value() {
+        return p95Value;
+    }
+
+    public void setP95Value(BigDecimal p95Value) {
+        this.p95Value = p95Value;
+    }
+}
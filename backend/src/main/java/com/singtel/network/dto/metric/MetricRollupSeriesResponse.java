@@ -0,0 +1,96 @@
+package com.singtel.network.dto.metric;
+
+import com.singtel.network.entity.ServiceMetric;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for an aggregated metric series at the resolution chosen for the requested range.
+ */
+public class MetricRollupSeriesResponse {
+
+    private UUID serviceInstanceId;
+    private ServiceMetric.MetricType metricType;
+    private MetricResolution resolution;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private LocalDateTime rolledUpUntil;
+    private List<MetricRollupPoint> points = new ArrayList<>();
+
+    // Constructors
+    public MetricRollupSeriesResponse() {
+    }
+
+    public MetricRollupSeriesResponse(UUID serviceInstanceId, ServiceMetric.MetricType metricType,
+                                      MetricResolution resolution, LocalDateTime from, LocalDateTime to,
+                                      LocalDateTime rolledUpUntil, List<MetricRollupPoint> points) {
+        this.serviceInstanceId = serviceInstanceId;
+        this.metricType = metricType;
+        this.resolution = resolution;
+        this.from = from;
+        this.to = to;
+        this.rolledUpUntil = rolledUpUntil;
+        this.points = points;
+    }
+
+    // Getters and Setters
+    public UUID getServiceInstanceId() {
+        return serviceInstanceId;
+    }
+
+    public void setServiceInstanceId(UUID serviceInstanceId) {
+        this.serviceInstanceId = serviceInstanceId;
+    }
+
+    public ServiceMetric.MetricType getMetricType() {
+        return metricType;
+    }
+
+    public void setMetricType(ServiceMetric.MetricType metricType) {
+        this.metricType = metricType;
+    }
+
+    public MetricResolution getResolution() {
+        return resolution;
+    }
+
+    public void setResolution(MetricResolution resolution) {
+        this.resolution = resolution;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+
+    /** Buckets starting at or after this time are not aggregated yet */
+    public LocalDateTime getRolledUpUntil() {
+        return rolledUpUntil;
+    }
+
+    public void setRolledUpUntil(LocalDateTime rolledUpUntil) {
+        this.rolledUpUntil = rolledUpUntil;
+    }
+
+    public List<MetricRollupPoint> getPoints() {
+        return points;
+    }
+
+    public void setPoints(List<MetricRollupPoint> points) {
+        this.points = points;
+    }
+}
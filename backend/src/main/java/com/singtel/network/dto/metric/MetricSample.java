@@ -0,0 +1,59 @@
+package com.singtel.network.dto.metric;
+
+import com.singtel.network.entity.ServiceMetric;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Immutable metric sample held in the ingest buffer until it is written to service_metrics.
+ */
+public final class MetricSample {
+
+    private final UUID serviceInstanceId;
+    private final ServiceMetric.MetricType metricType;
+    private final BigDecimal metricValue;
+    private final String metricUnit;
+    private final LocalDateTime measuredAt;
+    private final String sourceSystem;
+
+    public MetricSample(UUID serviceInstanceId, ServiceMetric.MetricType metricType, BigDecimal metricValue,
+                        String metricUnit, LocalDateTime measuredAt, String sourceSystem) {
+        this.serviceInstanceId = serviceInstanceId;
+        this.metricType = metricType;
+        this.metricValue = metricValue;
+        this.metricUnit = metricUnit;
+        this.measuredAt = measuredAt;
+        this.sourceSystem = sourceSystem;
+    }
+
+    public static MetricSample from(MetricSampleRequest request) {
+        return new MetricSample(request.getServiceInstanceId(), request.getMetricType(), request.getMetricValue(),
+                request.getMetricUnit(), request.getMeasuredAt(), request.getSourceSystem());
+    }
+
+    public UUID getServiceInstanceId() {
+        return serviceInstanceId;
+    }
+
+    public ServiceMetric.MetricType getMetricType() {
+        return metricType;
+    }
+
+    public BigDecimal getMetricValue() {
+        return metricValue;
+    }
+
+    public String getMetricUnit() {
+        return metricUnit;
+    }
+
+    public LocalDateTime getMeasuredAt() {
+        return measuredAt;
+    }
+
+    public String getSourceSystem() {
+        return sourceSystem;
+    }
+}
@@ -0,0 +1,96 @@
+package com.singtel.network.dto.metric;
+
+import com.singtel.network.entity.ServiceMetric;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO for a single monitoring sample pushed by a probe.
+ */
+public class MetricSampleRequest {
+
+    @NotNull(message = "Service instance ID is required")
+    private UUID serviceInstanceId;
+
+    @NotNull(message = "Metric type is required")
+    private ServiceMetric.MetricType metricType;
+
+    @NotNull(message = "Metric value is required")
+    @Digits(integer = 9, fraction = 6, message = "Metric value must fit 9 integer and 6 fraction digits")
+    private BigDecimal metricValue;
+
+    @Size(max = 20, message = "Metric unit must not exceed 20 characters")
+    private String metricUnit;
+
+    @NotNull(message = "Measurement time is required")
+    private LocalDateTime measuredAt;
+
+    @Size(max = 100, message = "Source system must not exceed 100 characters")
+    private String sourceSystem;
+
+    // Constructors
+    public MetricSampleRequest() {
+    }
+
+    public MetricSampleRequest(UUID serviceInstanceId, ServiceMetric.MetricType metricType,
+                               BigDecimal metricValue, LocalDateTime measuredAt) {
+        this.serviceInstanceId = serviceInstanceId;
+        this.metricType = metricType;
+        this.metricValue = metricValue;
+        this.measuredAt = measuredAt;
+    }
+
+    // Getters and Setters
+    public UUID getServiceInstanceId() {
+        return serviceInstanceId;
+    }
+
+    public void setServiceInstanceId(UUID serviceInstanceId) {
+        this.serviceInstanceId = serviceInstanceId;
+    }
+
+    public ServiceMetric.MetricType getMetricType() {
+        return metricType;
+    }
+
+    public void setMetricType(ServiceMetric.MetricType metricType) {
+        this.metricType = metricType;
+    }
+
+    public BigDecimal getMetricValue() {
+        return metricValue;
+    }
+
+    public void setMetricValue(BigDecimal metricValue) {
+        this.metricValue = metricValue;
+    }
+
+    public String getMetricUnit() {
+        return metricUnit;
+    }
+
+    public void setMetricUnit(String metricUnit) {
+        this.metricUnit = metricUnit;
+    }
+
+    public LocalDateTime getMeasuredAt() {
+        return measuredAt;
+    }
+
+    public void setMeasuredAt(LocalDateTime measuredAt) {
+        this.measuredAt = measuredAt;
+    }
+
+    public String getSourceSystem() {
+        return sourceSystem;
+    }
+
+    public void setSourceSystem(String sourceSystem) {
+        this.sourceSystem = sourceSystem;
+    }
+}
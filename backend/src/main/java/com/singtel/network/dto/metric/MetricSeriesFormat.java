@@ -0,0 +1,22 @@
+package com.singtel.network.dto.metric;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Wire formats of a streamed metric series.
+ */
+public enum MetricSeriesFormat {
+
+    JSON(MediaType.APPLICATION_JSON),
+    CSV(new MediaType("text", "csv"));
+
+    private final MediaType mediaType;
+
+    MetricSeriesFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
@@ -0,0 +1,44 @@
+package com.singtel.network.dto.metric;
+
+import java.time.LocalDateTime;
+
+/**
+ * One downsampled point of a raw metric series: the samples of a time bucket reduced to
+ * their mean time, average, extremes and count.
+ */
+public class MetricSeriesPoint {
+
+    private final LocalDateTime time;
+    private final double avg;
+    private final double min;
+    private final double max;
+    private final long count;
+
+    public MetricSeriesPoint(LocalDateTime time, double avg, double min, double max, long count) {
+        this.time = time;
+        this.avg = avg;
+        this.min = min;
+        this.max = max;
+        this.count = count;
+    }
+
+    public LocalDateTime getTime() {
+        return time;
+    }
+
+    public double getAvg() {
+        return avg;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
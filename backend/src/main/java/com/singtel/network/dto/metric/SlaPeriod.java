@@ -0,0 +1,45 @@
+package com.singtel.network.dto.metric;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * One service instance and calendar month (UTC) of service_sla_metrics.
+ */
+public final class SlaPeriod {
+
+    private final UUID serviceInstanceId;
+    private final LocalDate periodStart;
+
+    public SlaPeriod(UUID serviceInstanceId, LocalDate periodStart) {
+        this.serviceInstanceId = serviceInstanceId;
+        this.periodStart = periodStart;
+    }
+
+    public UUID getServiceInstanceId() {
+        return serviceInstanceId;
+    }
+
+    public LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SlaPeriod)) return false;
+        SlaPeriod that = (SlaPeriod) o;
+        return serviceInstanceId.equals(that.serviceInstanceId) && periodStart.equals(that.periodStart);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(serviceInstanceId, periodStart);
+    }
+
+    @Override
+    public String toString() {
+        return serviceInstanceId + "@" + periodStart;
+    }
+}
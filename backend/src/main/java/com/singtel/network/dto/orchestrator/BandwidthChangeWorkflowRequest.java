@@ -0,0 +1,45 @@
+package com.singtel.network.dto.orchestrator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Body of the Service Orchestrator request starting the workflow for a bandwidth change
+ */
+public final class BandwidthChangeWorkflowRequest {
+
+    private final UUID changeId;
+    private final UUID serviceInstanceId;
+    private final Integer previousBandwidthMbps;
+    private final Integer newBandwidthMbps;
+    private final LocalDateTime scheduledAt;
+
+    public BandwidthChangeWorkflowRequest(UUID changeId, UUID serviceInstanceId, Integer previousBandwidthMbps,
+                                          Integer newBandwidthMbps, LocalDateTime scheduledAt) {
+        this.changeId = changeId;
+        this.serviceInstanceId = serviceInstanceId;
+        this.previousBandwidthMbps = previousBandwidthMbps;
+        this.newBandwidthMbps = newBandwidthMbps;
+        this.scheduledAt = scheduledAt;
+    }
+
+    public UUID getChangeId() {
+        return changeId;
+    }
+
+    public UUID getServiceInstanceId() {
+        return serviceInstanceId;
+    }
+
+    public Integer getPreviousBandwidthMbps() {
+        return previousBandwidthMbps;
+    }
+
+    public Integer getNewBandwidthMbps() {
+        return newBandwidthMbps;
+    }
+
+    public LocalDateTime getScheduledAt() {
+        return scheduledAt;
+    }
+}
@@ -0,0 +1,63 @@
+package com.singtel.network.dto.orchestrator;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Body of the Service Orchestrator request starting the workflow for an order
+ */
+public final class OrderWorkflowRequest {
+
+    private final UUID orderId;
+    private final String orderNumber;
+    private final String orderType;
+    private final UUID companyId;
+    private final UUID serviceId;
+    private final UUID serviceInstanceId;
+    private final Integer requestedBandwidthMbps;
+    private final LocalDate requestedDate;
+
+    public OrderWorkflowRequest(UUID orderId, String orderNumber, String orderType, UUID companyId, UUID serviceId,
+                                UUID serviceInstanceId, Integer requestedBandwidthMbps, LocalDate requestedDate) {
+        this.orderId = orderId;
+        this.orderNumber = orderNumber;
+        this.orderType = orderType;
+        this.companyId = companyId;
+        this.serviceId = serviceId;
+        this.serviceInstanceId = serviceInstanceId;
+        this.requestedBandwidthMbps = requestedBandwidthMbps;
+        this.requestedDate = requestedDate;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public String getOrderNumber() {
+        return orderNumber;
+    }
+
+    public String getOrderType() {
+        return orderType;
+    }
+
+    public UUID getCompanyId() {
+        return companyId;
+    }
+
+    public UUID getServiceId() {
+        return serviceId;
+    }
+
+    public UUID getServiceInstanceId() {
+        return serviceInstanceId;
+    }
+
+    public Integer getRequestedBandwidthMbps() {
+        return requestedBandwidthMbps;
+    }
+
+    public LocalDate getRequestedDate() {
+        return requestedDate;
+    }
+}
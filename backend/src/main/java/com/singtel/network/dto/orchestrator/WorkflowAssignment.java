@@ -0,0 +1,31 @@
+package com.singtel.network.dto.orchestrator;
+
+import java.util.UUID;
+
+/**
+ * Workflow started by the Service Orchestrator for an order or bandwidth change
+ */
+public final class WorkflowAssignment {
+
+    private final WorkflowType type;
+    private final UUID aggregateId;
+    private final String workflowId;
+
+    public WorkflowAssignment(WorkflowType type, UUID aggregateId, String workflowId) {
+        this.type = type;
+        this.aggregateId = aggregateId;
+        this.workflowId = workflowId;
+    }
+
+    public WorkflowType getType() {
+        return type;
+    }
+
+    public UUID getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getWorkflowId() {
+        return workflowId;
+    }
+}
@@ -0,0 +1,51 @@
+package com.singtel.network.dto.orchestrator;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Failed workflow submission of an aggregate, retried at nextAttemptAt unless parked
+ */
+public final class WorkflowSubmissionFailure {
+
+    private final WorkflowType type;
+    private final UUID aggregateId;
+    private final int attempts;
+    private final Instant nextAttemptAt;
+    private final boolean parked;
+    private final String error;
+
+    public WorkflowSubmissionFailure(WorkflowType type, UUID aggregateId, int attempts, Instant nextAttemptAt,
+                                     boolean parked, String error) {
+        this.type = type;
+        this.aggregateId = aggregateId;
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt;
+        this.parked = parked;
+        this.error = error;
+    }
+
+    public WorkflowType getType() {
+        return type;
+    }
+
+    public UUID getAggregateId() {
+        return aggregateId;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public boolean isParked() {
+        return parked;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,29 @@
+package com.singtel.network.dto.orchestrator;
+
+/**
+ * Kinds of Service Orchestrator workflow, with the endpoint that starts them
+ */
+public enum WorkflowType {
+
+    ORDER("orders", "/workflows/orders"),
+    BANDWIDTH_CHANGE("bandwidth-changes", "/workflows/bandwidth-changes");
+
+    private final String endpoint;
+    private final String path;
+
+    WorkflowType(String endpoint, String path) {
+        this.endpoint = endpoint;
+        this.path = path;
+    }
+
+    /**
+     * Key of this endpoint in the bulkhead configuration
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public String getPath() {
+        return path;
+    }
+}
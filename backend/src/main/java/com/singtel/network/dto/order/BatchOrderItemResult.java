@@ -0,0 +1,76 @@
+package com.singtel.network.dto.order;
+
+/**
+ * DTO for the outcome of one order in a batch, in request order.
+ */
+public class BatchOrderItemResult {
+
+    private int index;
+    private ItemStatus status;
+    private OrderResponse order;
+    private String error;
+
+    // Constructors
+    public BatchOrderItemResult() {
+    }
+
+    public BatchOrderItemResult(int index, ItemStatus status, OrderResponse order, String error) {
+        this.index = index;
+        this.status = status;
+        this.order = order;
+        this.error = error;
+    }
+
+    public static BatchOrderItemResult created(int index, OrderResponse order) {
+        return new BatchOrderItemResult(index, ItemStatus.CREATED, order, null);
+    }
+
+    public static BatchOrderItemResult failed(int index, String error) {
+        return new BatchOrderItemResult(index, ItemStatus.FAILED, null, error);
+    }
+
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public ItemStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ItemStatus status) {
+        this.status = status;
+    }
+
+    public OrderResponse getOrder() {
+        return order;
+    }
+
+    public void setOrder(OrderResponse order) {
+        this.order = order;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    // Helper methods
+    public boolean isCreated() {
+        return status == ItemStatus.CREATED;
+    }
+
+    /**
+     * Batch item status enumeration
+     */
+    public enum ItemStatus {
+        CREATED, FAILED
+    }
+}
@@ -0,0 +1,37 @@
+package com.singtel.network.dto.order;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for submitting many orders in one request.
+ * Items are validated individually so one bad order does not reject the batch.
+ */
+public class BatchOrderRequest {
+
+    public static final int MAX_ORDERS = 500;
+
+    @NotEmpty(message = "At least one order is required")
+    @Size(max = MAX_ORDERS, message = "A batch must not exceed " + MAX_ORDERS + " orders")
+    private List<CreateOrderRequest> orders = new ArrayList<>();
+
+    // Constructors
+    public BatchOrderRequest() {
+    }
+
+    public BatchOrderRequest(List<CreateOrderRequest> orders) {
+        this.orders = orders;
+    }
+
+    // Getters and Setters
+    public List<CreateOrderRequest> getOrders() {
+        return orders;
+    }
+
+    public void setOrders(List<CreateOrderRequest> orders) {
+        this.orders = orders;
+    }
+}
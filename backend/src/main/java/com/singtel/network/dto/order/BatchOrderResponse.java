@@ -0,0 +1,54 @@
+package com.singtel.network.dto.order;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for the outcome of a batch order submission.
+ */
+public class BatchOrderResponse {
+
+    private List<BatchOrderItemResult> results = new ArrayList<>();
+    private int createdCount;
+    private int failedCount;
+
+    // Constructors
+    public BatchOrderResponse() {
+    }
+
+    public BatchOrderResponse(List<BatchOrderItemResult> results) {
+        this.results = results;
+        this.createdCount = (int) results.stream().filter(BatchOrderItemResult::isCreated).count();
+        this.failedCount = results.size() - createdCount;
+    }
+
+    // Getters and Setters
+    public List<BatchOrderItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BatchOrderItemResult> results) {
+        this.results = results;
+    }
+
+    public int getCreatedCount() {
+        return createdCount;
+    }
+
+    public void setCreatedCount(int createdCount) {
+        this.createdCount = createdCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(int failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    // Helper methods
+    public boolean hasFailures() {
+        return failedCount > 0;
+    }
+}
@@ -1,6 +1,7 @@
 package com.singtel.network.dto.order;
 
 import com.singtel.network.entity.Order;
+import com.singtel.network.entity.ServiceInstance;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -83,6 +84,55 @@ public class OrderResponse {
         }
     }
 
+    /**
+     * Projection constructor for JPQL constructor expressions, built from selected columns only
+     */
+    public OrderResponse(UUID id, String orderNumber, Order.OrderType orderType, Order.OrderStatus status,
+                         Integer requestedBandwidthMbps, String installationAddress, String postalCode,
+                         String contactPerson, String contactPhone, String contactEmail,
+                         LocalDate requestedDate, LocalDate estimatedCompletionDate, LocalDate actualCompletionDate,
+                         BigDecimal totalCost, String notes, String workflowId,
+                         LocalDateTime createdAt, LocalDateTime updatedAt,
+                         UUID serviceId, String serviceName, String serviceType,
+                         UUID serviceInstanceId, String instanceName, ServiceInstance.ServiceInstanceStatus instanceStatus,
+                         UUID userId, String username, String firstName, String lastName,
+                         UUID companyId, String companyName) {
+        this.id = id;
+        this.orderNumber = orderNumber;
+        this.orderType = orderType;
+        this.status = status;
+        this.requestedBandwidthMbps = requestedBandwidthMbps;
+        this.installationAddress = installationAddress;
+        this.postalCode = postalCode;
+        this.contactPerson = contactPerson;
+        this.contactPhone = contactPhone;
+        this.contactEmail = contactEmail;
+        this.requestedDate = requestedDate;
+        this.estimatedCompletionDate = estimatedCompletionDate;
+        this.actualCompletionDate = actualCompletionDate;
+        this.totalCost = totalCost;
+        this.notes = notes;
+        this.workflowId = workflowId;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+
+        if (serviceId != null) {
+            this.service = new ServiceInfo(serviceId, serviceName, serviceType);
+        }
+
+        if (serviceInstanceId != null) {
+            this.serviceInstance = new ServiceInstanceInfo(serviceInstanceId, instanceName, instanceStatus);
+        }
+
+        if (userId != null) {
+            this.user = new UserInfo(userId, username, firstName + " " + lastName);
+        }
+
+        if (companyId != null) {
+            this.company = new CompanyInfo(companyId, companyName);
+        }
+    }
+
     // Getters and Setters
     public UUID getId() {
         return id;
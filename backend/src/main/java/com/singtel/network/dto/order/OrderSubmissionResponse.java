@@ -0,0 +1,92 @@
+package com.singtel.network.dto.order;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO for the status of an asynchronously submitted order.
+ */
+public class OrderSubmissionResponse {
+
+    private UUID id;
+    private SubmissionStatus status;
+    private UUID orderId;
+    private String orderNumber;
+    private String errorMessage;
+    private LocalDateTime submittedAt;
+    private LocalDateTime completedAt;
+
+    // Constructors
+    public OrderSubmissionResponse() {
+    }
+
+    public OrderSubmissionResponse(UUID id, SubmissionStatus status, LocalDateTime submittedAt) {
+        this.id = id;
+        this.status = status;
+        this.submittedAt = submittedAt;
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public SubmissionStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(SubmissionStatus status) {
+        this.status = status;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(UUID orderId) {
+        this.orderId = orderId;
+    }
+
+    public String getOrderNumber() {
+        return orderNumber;
+    }
+
+    public void setOrderNumber(String orderNumber) {
+        this.orderNumber = orderNumber;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(LocalDateTime submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    /**
+     * Submission status enumeration
+     */
+    public enum SubmissionStatus {
+        RECEIVED, PROCESSING, COMPLETED, FAILED
+    }
+}
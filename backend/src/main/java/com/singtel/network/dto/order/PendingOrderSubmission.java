@@ -0,0 +1,37 @@
+package com.singtel.network.dto.order;
+
+import java.util.UUID;
+
+/**
+ * order_submissions row claimed by an intake worker. The attempts value fences the completion.
+ */
+public final class PendingOrderSubmission {
+
+    private final UUID id;
+    private final UUID userId;
+    private final String request;
+    private final int attempts;
+
+    public PendingOrderSubmission(UUID id, UUID userId, String request, int attempts) {
+        this.id = id;
+        this.userId = userId;
+        this.request = request;
+        this.attempts = attempts;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public String getRequest() {
+        return request;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+}
@@ -0,0 +1,64 @@
+package com.singtel.network.dto.outbox;
+
+import com.singtel.network.entity.BandwidthChange;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Payload of BANDWIDTH_CHANGE outbox events: the change as it was when the event was written
+ */
+public final class BandwidthChangeEvent {
+
+    private final UUID changeId;
+    private final UUID serviceInstanceId;
+    private final Integer previousBandwidthMbps;
+    private final Integer newBandwidthMbps;
+    private final String status;
+    private final LocalDateTime scheduledAt;
+    private final LocalDateTime appliedAt;
+    private final LocalDateTime occurredAt;
+
+    public BandwidthChangeEvent(BandwidthChange change, LocalDateTime occurredAt) {
+        this.changeId = change.getId();
+        this.serviceInstanceId = change.getServiceInstance().getId();
+        this.previousBandwidthMbps = change.getPreviousBandwidthMbps();
+        this.newBandwidthMbps = change.getNewBandwidthMbps();
+        this.status = change.getStatus().name();
+        this.scheduledAt = change.getScheduledAt();
+        this.appliedAt = change.getAppliedAt();
+        this.occurredAt = occurredAt;
+    }
+
+    public UUID getChangeId() {
+        return changeId;
+    }
+
+    public UUID getServiceInstanceId() {
+        return serviceInstanceId;
+    }
+
+    public Integer getPreviousBandwidthMbps() {
+        return previousBandwidthMbps;
+    }
+
+    public Integer getNewBandwidthMbps() {
+        return newBandwidthMbps;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getScheduledAt() {
+        return scheduledAt;
+    }
+
+    public LocalDateTime getAppliedAt() {
+        return appliedAt;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
@@ -0,0 +1,90 @@
+package com.singtel.network.dto.outbox;
+
+import com.singtel.network.entity.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Payload of ORDER outbox events: the order as it was when the event was written
+ */
+public final class OrderEvent {
+
+    private final UUID orderId;
+    private final String orderNumber;
+    private final UUID companyId;
+    private final UUID serviceId;
+    private final UUID serviceInstanceId;
+    private final String orderType;
+    private final String status;
+    private final Integer requestedBandwidthMbps;
+    private final LocalDate requestedDate;
+    private final LocalDate actualCompletionDate;
+    private final BigDecimal totalCost;
+    private final LocalDateTime occurredAt;
+
+    public OrderEvent(Order order, LocalDateTime occurredAt) {
+        this.orderId = order.getId();
+        this.orderNumber = order.getOrderNumber();
+        this.companyId = order.getCompany().getId();
+        this.serviceId = order.getService().getId();
+        this.serviceInstanceId = order.getServiceInstance() != null ? order.getServiceInstance().getId() : null;
+        this.orderType = order.getOrderType().name();
+        this.status = order.getStatus().name();
+        this.requestedBandwidthMbps = order.getRequestedBandwidthMbps();
+        this.requestedDate = order.getRequestedDate();
+        this.actualCompletionDate = order.getActualCompletionDate();
+        this.totalCost = order.getTotalCost();
+        this.occurredAt = occurredAt;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public String getOrderNumber() {
+        return orderNumber;
+    }
+
+    public UUID getCompanyId() {
+        return companyId;
+    }
+
+    public UUID getServiceId() {
+        return serviceId;
+    }
+
+    public UUID getServiceInstanceId() {
+        return serviceInstanceId;
+    }
+
+    public String getOrderType() {
+        return orderType;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Integer getRequestedBandwidthMbps() {
+        return requestedBandwidthMbps;
+    }
+
+    public LocalDate getRequestedDate() {
+        return requestedDate;
+    }
+
+    public LocalDate getActualCompletionDate() {
+        return actualCompletionDate;
+    }
+
+    public BigDecimal getTotalCost() {
+        return totalCost;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
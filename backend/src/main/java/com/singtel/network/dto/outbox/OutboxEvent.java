@@ -0,0 +1,40 @@
+package com.singtel.network.dto.outbox;
+
+import java.util.UUID;
+
+/**
+ * Domain event to append to the outbox, with its payload already serialized to JSON
+ */
+public final class OutboxEvent {
+
+    public static final String ORDER = "ORDER";
+    public static final String BANDWIDTH_CHANGE = "BANDWIDTH_CHANGE";
+
+    private final String aggregateType;
+    private final UUID aggregateId;
+    private final String eventType;
+    private final String payload;
+
+    public OutboxEvent(String aggregateType, UUID aggregateId, String eventType, String payload) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public UUID getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+}
@@ -0,0 +1,37 @@
+package com.singtel.network.dto.outbox;
+
+import java.time.Instant;
+
+/**
+ * Failed publish of an outbox row, to be retried at nextAttemptAt
+ */
+public final class OutboxFailure {
+
+    private final long id;
+    private final int attempts;
+    private final Instant nextAttemptAt;
+    private final String error;
+
+    public OutboxFailure(long id, int attempts, Instant nextAttemptAt, String error) {
+        this.id = id;
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt;
+        this.error = error;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
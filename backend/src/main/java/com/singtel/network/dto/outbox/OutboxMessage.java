@@ -0,0 +1,58 @@
+package com.singtel.network.dto.outbox;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * outbox row claimed for publication. The id increases per aggregate in event order and is
+ * stable across redeliveries, so sinks can use it to drop duplicates.
+ */
+public final class OutboxMessage {
+
+    private final long id;
+    private final String aggregateType;
+    private final UUID aggregateId;
+    private final String eventType;
+    private final String payload;
+    private final Instant createdAt;
+    private final int attempts;
+
+    public OutboxMessage(long id, String aggregateType, UUID aggregateId, String eventType, String payload,
+                         Instant createdAt, int attempts) {
+        this.id = id;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+        this.attempts = attempts;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public UUID getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+}
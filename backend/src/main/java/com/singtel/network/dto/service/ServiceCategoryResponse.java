@@ -46,6 +46,22 @@ public class ServiceCategoryResponse {
         }
     }
 
+    /**
+     * Projection constructor for JPQL constructor expressions; services are attached separately
+     */
+    public ServiceCategoryResponse(UUID id, String name, String description, Integer displayOrder,
+                                   Boolean isActive, Long serviceCount,
+                                   LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.displayOrder = displayOrder;
+        this.isActive = isActive;
+        this.serviceCount = serviceCount != null ? serviceCount.intValue() : 0;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
     public ServiceCategoryResponse(ServiceCategory category, boolean includeServices) {
         this(category);
         if (!includeServices) {
@@ -24,6 +24,7 @@ public class ServiceSummaryResponse {
     private Boolean isBandwidthAdjustable;
     private Boolean isAvailable;
     private Integer provisioningTimeHours;
+    private UUID categoryId;
     private String categoryName;
 
     // Constructors
@@ -47,10 +48,37 @@ public class ServiceSummaryResponse {
         this.provisioningTimeHours = service.getProvisioningTimeHours();
         
         if (service.getCategory() != null) {
+            this.categoryId = service.getCategory().getId();
             this.categoryName = service.getCategory().getName();
         }
     }
 
+    /**
+     * Projection constructor for JPQL constructor expressions, built from selected columns only
+     */
+    public ServiceSummaryResponse(UUID id, String name, String description, String serviceType,
+                                  Integer baseBandwidthMbps, Integer maxBandwidthMbps, Integer minBandwidthMbps,
+                                  BigDecimal basePriceMonthly, BigDecimal pricePerMbps, BigDecimal setupFee,
+                                  Integer contractTermMonths, Boolean isBandwidthAdjustable, Boolean isAvailable,
+                                  Integer provisioningTimeHours, UUID categoryId, String categoryName) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.serviceType = serviceType;
+        this.baseBandwidthMbps = baseBandwidthMbps;
+        this.maxBandwidthMbps = maxBandwidthMbps;
+        this.minBandwidthMbps = minBandwidthMbps;
+        this.basePriceMonthly = basePriceMonthly;
+        this.pricePerMbps = pricePerMbps;
+        this.setupFee = setupFee;
+        this.contractTermMonths = contractTermMonths;
+        this.isBandwidthAdjustable = isBandwidthAdjustable;
+        this.isAvailable = isAvailable;
+        this.provisioningTimeHours = provisioningTimeHours;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+    }
+
     // Getters and Setters
     public UUID getId() {
         return id;
@@ -164,6 +192,14 @@ public class ServiceSummaryResponse {
         this.provisioningTimeHours = provisioningTimeHours;
     }
 
+    public UUID getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(UUID categoryId) {
+        this.categoryId = categoryId;
+    }
+
     public String getCategoryName() {
         return categoryName;
     }
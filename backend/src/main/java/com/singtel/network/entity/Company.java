@@ -1,5 +1,6 @@
 package com.singtel.network.entity;
 
+import com.singtel.network.event.AccountChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -12,6 +13,7 @@ import java.util.List;
  * Company entity representing business entities that subscribe to network services.
  */
 @Entity
+@EntityListeners(AccountChangeListener.class)
 @Table(name = "companies", schema = "singtel_app")
 public class Company extends BaseEntity {
 
@@ -1,5 +1,6 @@
 package com.singtel.network.entity;
 
+import com.singtel.network.event.StatusChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
@@ -13,6 +14,7 @@ import java.time.LocalDate;
  * Order entity for tracking service provisioning orders.
  */
 @Entity
+@EntityListeners(StatusChangeListener.class)
 @Table(name = "orders", schema = "singtel_app")
 public class Order extends BaseEntity {
 
@@ -88,6 +90,10 @@ public class Order extends BaseEntity {
     @Column(name = "workflow_id")
     private String workflowId;
 
+    // Status as last loaded or written, so StatusChangeListener can tell transitions from other updates
+    @Transient
+    private OrderStatus persistedStatus;
+
     // Constructors
     public Order() {
     }
@@ -253,6 +259,14 @@ public class Order extends BaseEntity {
         this.workflowId = workflowId;
     }
 
+    public OrderStatus getPersistedStatus() {
+        return persistedStatus;
+    }
+
+    public void setPersistedStatus(OrderStatus persistedStatus) {
+        this.persistedStatus = persistedStatus;
+    }
+
     // Helper methods
     public boolean isCompleted() {
         return status == OrderStatus.COMPLETED;
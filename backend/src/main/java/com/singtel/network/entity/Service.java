@@ -1,5 +1,6 @@
 package com.singtel.network.entity;
 
+import com.singtel.network.event.CatalogChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
@@ -17,6 +18,7 @@ import java.util.Map;
  * Service entity representing available network services in the catalog.
  */
 @Entity
+@EntityListeners(CatalogChangeListener.class)
 @Table(name = "services", schema = "singtel_app")
 public class Service extends BaseEntity {
 
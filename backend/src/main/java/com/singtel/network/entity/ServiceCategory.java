@@ -1,5 +1,6 @@
 package com.singtel.network.entity;
 
+import com.singtel.network.event.CatalogChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -11,6 +12,7 @@ import java.util.List;
  * Service category entity for organizing network services.
  */
 @Entity
+@EntityListeners(CatalogChangeListener.class)
 @Table(name = "service_categories", schema = "singtel_app")
 public class ServiceCategory extends BaseEntity {
 
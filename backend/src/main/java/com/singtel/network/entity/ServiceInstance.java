@@ -1,5 +1,6 @@
 package com.singtel.network.entity;
 
+import com.singtel.network.event.StatusChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
@@ -16,6 +17,7 @@ import java.util.List;
  * Service instance entity representing active services subscribed by companies.
  */
 @Entity
+@EntityListeners(StatusChangeListener.class)
 @Table(name = "service_instances", schema = "singtel_app")
 public class ServiceInstance extends BaseEntity {
 
@@ -83,6 +85,13 @@ public class ServiceInstance extends BaseEntity {
     @OneToOne(mappedBy = "serviceInstance", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Order order;
 
+    // Status and bandwidth as last loaded or written, so StatusChangeListener can tell transitions from other updates
+    @Transient
+    private ServiceInstanceStatus persistedStatus;
+
+    @Transient
+    private Integer persistedBandwidthMbps;
+
     // Constructors
     public ServiceInstance() {
     }
@@ -233,6 +242,22 @@ public class ServiceInstance extends BaseEntity {
         this.order = order;
     }
 
+    public ServiceInstanceStatus getPersistedStatus() {
+        return persistedStatus;
+    }
+
+    public void setPersistedStatus(ServiceInstanceStatus persistedStatus) {
+        this.persistedStatus = persistedStatus;
+    }
+
+    public Integer getPersistedBandwidthMbps() {
+        return persistedBandwidthMbps;
+    }
+
+    public void setPersistedBandwidthMbps(Integer persistedBandwidthMbps) {
+        this.persistedBandwidthMbps = persistedBandwidthMbps;
+    }
+
     // Helper methods
     public boolean isActive() {
         return status == ServiceInstanceStatus.ACTIVE;
@@ -0,0 +1,158 @@
+package com.singtel.network.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Size;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Service metric entity for raw monitoring samples.
+ * Rows are append-only, so there is no updated_at column and the entity does not extend BaseEntity.
+ */
+@Entity
+@Table(name = "service_metrics", schema = "singtel_app")
+@EntityListeners(AuditingEntityListener.class)
+public class ServiceMetric {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "service_instance_id", nullable = false)
+    private ServiceInstance serviceInstance;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric_type", nullable = false, length = 50)
+    private MetricType metricType;
+
+    @Column(name = "metric_value", nullable = false, precision = 15, scale = 6)
+    private BigDecimal metricValue;
+
+    @Size(max = 20, message = "Metric unit must not exceed 20 characters")
+    @Column(name = "metric_unit", length = 20)
+    private String metricUnit;
+
+    @Column(name = "measured_at", nullable = false)
+    private LocalDateTime measuredAt;
+
+    @Size(max = 100, message = "Source system must not exceed 100 characters")
+    @Column(name = "source_system", length = 100)
+    private String sourceSystem;
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public ServiceMetric() {
+    }
+
+    public ServiceMetric(ServiceInstance serviceInstance, MetricType metricType,
+                         BigDecimal metricValue, LocalDateTime measuredAt) {
+        this.serviceInstance = serviceInstance;
+        this.metricType = metricType;
+        this.metricValue = metricValue;
+        this.measuredAt = measuredAt;
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public ServiceInstance getServiceInstance() {
+        return serviceInstance;
+    }
+
+    public void setServiceInstance(ServiceInstance serviceInstance) {
+        this.serviceInstance = serviceInstance;
+    }
+
+    public MetricType getMetricType() {
+        return metricType;
+    }
+
+    public void setMetricType(MetricType metricType) {
+        this.metricType = metricType;
+    }
+
+    public BigDecimal getMetricValue() {
+        return metricValue;
+    }
+
+    public void setMetricValue(BigDecimal metricValue) {
+        this.metricValue = metricValue;
+    }
+
+    public String getMetricUnit() {
+        return metricUnit;
+    }
+
+    public void setMetricUnit(String metricUnit) {
+        this.metricUnit = metricUnit;
+    }
+
+    public LocalDateTime getMeasuredAt() {
+        return measuredAt;
+    }
+
+    public void setMeasuredAt(LocalDateTime measuredAt) {
+        this.measuredAt = measuredAt;
+    }
+
+    public String getSourceSystem() {
+        return sourceSystem;
+    }
+
+    public void setSourceSystem(String sourceSystem) {
+        this.sourceSystem = sourceSystem;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ServiceMetric)) return false;
+        ServiceMetric that = (ServiceMetric) o;
+        return id != null && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "ServiceMetric{" +
+                "id=" + id +
+                ", metricType=" + metricType +
+                ", metricValue=" + metricValue +
+                ", measuredAt=" + measuredAt +
+                '}';
+    }
+
+    /**
+     * Metric type enumeration
+     */
+    public enum MetricType {
+        BANDWIDTH_UTILIZATION, LATENCY, PACKET_LOSS, UPTIME
+    }
+}
@@ -1,5 +1,6 @@
 package com.singtel.network.entity;
 
+import com.singtel.network.event.AccountChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -17,6 +18,7 @@ import java.util.Collections;
  * Implements UserDetails for Spring Security integration.
  */
 @Entity
+@EntityListeners(AccountChangeListener.class)
 @Table(name = "users", schema = "singtel_app")
 public class User extends BaseEntity implements UserDetails {
 
@@ -68,6 +70,9 @@ public class User extends BaseEntity implements UserDetails {
     @Column(name = "password_changed_at")
     private LocalDateTime passwordChangedAt;
 
+    @Column(name = "token_version", nullable = false)
+    private Integer tokenVersion = 0;
+
     // Constructors
     public User() {
     }
@@ -149,6 +154,7 @@ public class User extends BaseEntity implements UserDetails {
     public void setPasswordHash(String passwordHash) {
         this.passwordHash = passwordHash;
         this.passwordChangedAt = LocalDateTime.now();
+        revokeTokens();
     }
 
     public String getFirstName() {
@@ -188,6 +194,9 @@ public class User extends BaseEntity implements UserDetails {
     }
 
     public void setStatus(UserStatus status) {
+        if (this.status != status) {
+            revokeTokens();
+        }
         this.status = status;
     }
 
@@ -207,6 +216,14 @@ public class User extends BaseEntity implements UserDetails {
         this.passwordChangedAt = passwordChangedAt;
     }
 
+    public Integer getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public void setTokenVersion(Integer tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
+
     // Helper methods
     public String getFullName() {
         return firstName + " " + lastName;
@@ -224,6 +241,13 @@ public class User extends BaseEntity implements UserDetails {
         this.lastLoginAt = LocalDateTime.now();
     }
 
+    /**
+     * Invalidate every token issued so far by moving to the next token version
+     */
+    public void revokeTokens() {
+        this.tokenVersion = (tokenVersion != null ? tokenVersion : 0) + 1;
+    }
+
     @Override
     public String toString() {
         return "User{" +
@@ -0,0 +1,32 @@
+package com.singtel.network.event;
+
+import com.singtel.network.entity.Company;
+import com.singtel.network.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * JPA entity listener that turns user and company updates into application events.
+ * Instantiated by Hibernate through Spring's bean container, so the publisher is injected.
+ */
+public class AccountChangeListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (eventPublisher == null) {
+            return;
+        }
+
+        if (entity instanceof User user) {
+            eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
+        } else if (entity instanceof Company company) {
+            eventPublisher.publishEvent(new CompanyChangedEvent(company.getId()));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.singtel.network.event;
+
+import com.singtel.network.entity.BaseEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * JPA entity listener that turns service and service category changes into application events.
+ * Instantiated by Hibernate through Spring's bean container, so the publisher is injected.
+ */
+public class CatalogChangeListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(BaseEntity entity) {
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(new CatalogChangedEvent(entity.getClass(), entity.getId()));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.singtel.network.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a service or service category is created, updated or removed, so cached catalog views can be rebuilt.
+ */
+public class CatalogChangedEvent {
+
+    private final Class<?> entityType;
+    private final UUID entityId;
+
+    public CatalogChangedEvent(Class<?> entityType, UUID entityId) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+    }
+
+    public Class<?> getEntityType() {
+        return entityType;
+    }
+
+    public UUID getEntityId() {
+        return entityId;
+    }
+}
@@ -0,0 +1,19 @@
+package com.singtel.network.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a company row is updated or removed, so cached principals of its users can be evicted.
+ */
+public class CompanyChangedEvent {
+
+    private final UUID companyId;
+
+    public CompanyChangedEvent(UUID companyId) {
+        this.companyId = companyId;
+    }
+
+    public UUID getCompanyId() {
+        return companyId;
+    }
+}
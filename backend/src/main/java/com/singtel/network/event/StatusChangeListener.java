@@ -0,0 +1,52 @@
+package com.singtel.network.event;
+
+import com.singtel.network.entity.Order;
+import com.singtel.network.entity.ServiceInstance;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Objects;
+
+/**
+ * JPA entity listener that turns order and service instance status transitions into application events.
+ * Inserts always publish; updates only when the status, or an instance's bandwidth, differs from
+ * what was last loaded or written. Instantiated by Hibernate through Spring's bean container, so the
+ * publisher is injected.
+ */
+public class StatusChangeListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostLoad
+    public void onLoad(Object entity) {
+        remember(entity);
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onWrite(Object entity) {
+        if (eventPublisher != null) {
+            if (entity instanceof Order order && order.getStatus() != order.getPersistedStatus()) {
+                eventPublisher.publishEvent(StatusChangedEvent.of(order));
+            } else if (entity instanceof ServiceInstance instance
+                    && (instance.getStatus() != instance.getPersistedStatus()
+                        || !Objects.equals(instance.getCurrentBandwidthMbps(), instance.getPersistedBandwidthMbps()))) {
+                eventPublisher.publishEvent(StatusChangedEvent.of(instance));
+            }
+        }
+        remember(entity);
+    }
+
+    private static void remember(Object entity) {
+        if (entity instanceof Order order) {
+            order.setPersistedStatus(order.getStatus());
+        } else if (entity instanceof ServiceInstance instance) {
+            instance.setPersistedStatus(instance.getStatus());
+            instance.setPersistedBandwidthMbps(instance.getCurrentBandwidthMbps());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.singtel.network.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.singtel.network.entity.Order;
+import com.singtel.network.entity.ServiceInstance;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published when an order or service instance is created or changes status, or an instance's
+ * bandwidth changes, so live status streams of the owning company can be updated.
+ */
+public class StatusChangedEvent {
+
+    private final UUID companyId;
+    private final ResourceType resourceType;
+    private final UUID resourceId;
+    private final String reference;
+    private final String previousStatus;
+    private final String status;
+    private final Integer bandwidthMbps;
+    private final LocalDateTime occurredAt;
+
+    public StatusChangedEvent(UUID companyId, ResourceType resourceType, UUID resourceId, String reference,
+                              String previousStatus, String status, Integer bandwidthMbps, LocalDateTime occurredAt) {
+        this.companyId = companyId;
+        this.resourceType = resourceType;
+        this.resourceId = resourceId;
+        this.reference = reference;
+        this.previousStatus = previousStatus;
+        this.status = status;
+        this.bandwidthMbps = bandwidthMbps;
+        this.occurredAt = occurredAt;
+    }
+
+    public static StatusChangedEvent of(Order order) {
+        return new StatusChangedEvent(
+                order.getCompany().getId(),
+                ResourceType.ORDER,
+                order.getId(),
+                order.getOrderNumber(),
+                order.getPersistedStatus() != null ? order.getPersistedStatus().name() : null,
+                order.getStatus().name(),
+                order.getRequestedBandwidthMbps(),
+                LocalDateTime.now());
+    }
+
+    public static StatusChangedEvent of(ServiceInstance instance) {
+        return new StatusChangedEvent(
+                instance.getCompany().getId(),
+                ResourceType.SERVICE_INSTANCE,
+                instance.getId(),
+                instance.getInstanceName(),
+                instance.getPersistedStatus() != null ? instance.getPersistedStatus().name() : null,
+                instance.getStatus().name(),
+                instance.getCurrentBandwidthMbps(),
+                LocalDateTime.now());
+    }
+
+    @JsonIgnore
+    public UUID getCompanyId() {
+        return companyId;
+    }
+
+    public ResourceType getResourceType() {
+        return resourceType;
+    }
+
+    public UUID getResourceId() {
+        return resourceId;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public String getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Integer getBandwidthMbps() {
+        return bandwidthMbps;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    /**
+     * Resource type enumeration
+     */
+    public enum ResourceType {
+        ORDER, SERVICE_INSTANCE
+    }
+}
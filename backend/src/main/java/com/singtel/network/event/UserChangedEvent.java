@@ -0,0 +1,19 @@
+package com.singtel.network.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a user row is updated or removed, so cached principals can be evicted.
+ */
+public class UserChangedEvent {
+
+    private final UUID userId;
+
+    public UserChangedEvent(UUID userId) {
+        this.userId = userId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+}
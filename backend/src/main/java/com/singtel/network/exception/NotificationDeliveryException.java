@@ -0,0 +1,24 @@
+package com.singtel.network.exception;
+
+/**
+ * A notification could not be delivered. Retryable failures are attempted again with backoff;
+ * the others go straight to the dead letter state.
+ */
+public class NotificationDeliveryException extends Exception {
+
+    private final boolean retryable;
+
+    public NotificationDeliveryException(String message, boolean retryable) {
+        super(message);
+        this.retryable = retryable;
+    }
+
+    public NotificationDeliveryException(String message, boolean retryable, Throwable cause) {
+        super(message, cause);
+        this.retryable = retryable;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
@@ -0,0 +1,40 @@
+package com.singtel.network.exception;
+
+/**
+ * A Service Orchestrator call failed. Retryable failures are retried with backoff inside the client;
+ * rejected calls never reached the orchestrator because its circuit was open or its bulkhead full.
+ */
+public class OrchestratorException extends RuntimeException {
+
+    private final boolean retryable;
+    private final boolean rejected;
+
+    public OrchestratorException(String message, boolean retryable) {
+        this(message, retryable, false, null);
+    }
+
+    public OrchestratorException(String message, boolean retryable, Throwable cause) {
+        this(message, retryable, false, cause);
+    }
+
+    private OrchestratorException(String message, boolean retryable, boolean rejected, Throwable cause) {
+        super(message, cause);
+        this.retryable = retryable;
+        this.rejected = rejected;
+    }
+
+    /**
+     * A call refused locally without contacting the orchestrator
+     */
+    public static OrchestratorException rejected(String message) {
+        return new OrchestratorException(message, true, true, null);
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+
+    public boolean isRejected() {
+        return rejected;
+    }
+}
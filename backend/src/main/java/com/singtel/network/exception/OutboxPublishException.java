@@ -0,0 +1,16 @@
+package com.singtel.network.exception;
+
+/**
+ * An outbox event could not be published. The relay retries it with backoff; later events of
+ * the same aggregate wait behind it.
+ */
+public class OutboxPublishException extends Exception {
+
+    public OutboxPublishException(String message) {
+        super(message);
+    }
+
+    public OutboxPublishException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,83 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.dto.alert.NotificationOutcome;
+import com.singtel.network.dto.alert.PendingNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC access to alert_notifications for the dispatcher.
+ * Rows are claimed with FOR UPDATE SKIP LOCKED and leased by moving next_attempt_at forward,
+ * so several nodes can dispatch without sending a row twice and a crashed node's rows come back.
+ */
+@Repository
+public class AlertNotificationRepository {
+
+    private static final String CLAIM_SQL =
+            "WITH due AS (" +
+            "  SELECT id FROM singtel_app.alert_notifications " +
+            "  WHERE status IN ('PENDING', 'FAILED') AND next_attempt_at <= CURRENT_TIMESTAMP " +
+            "    AND notification_type = ANY(?) " +
+            "  ORDER BY next_attempt_at LIMIT ? FOR UPDATE SKIP LOCKED" +
+            ") " +
+            "UPDATE singtel_app.alert_notifications n " +
+            "SET next_attempt_at = CURRENT_TIMESTAMP + make_interval(secs => ?) " +
+            "FROM due WHERE n.id = due.id " +
+            "RETURNING n.id, n.alert_id, n.service_instance_id, n.notification_type, n.recipient, " +
+            "n.subject, n.message, n.attempts";
+
+    private static final String COMPLETE_SQL =
+            "UPDATE singtel_app.alert_notifications SET status = COALESCE(?, status), attempts = ?, " +
+            "next_attempt_at = ?, sent_at = COALESCE(?, sent_at), error_message = COALESCE(?, error_message) " +
+            "WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Claim up to limit due rows of the given types and lease them for the given time
+     */
+    @Transactional
+    public List<PendingNotification> claimDue(Collection<String> notificationTypes, int limit, Duration lease) {
+        return jdbcTemplate.query(CLAIM_SQL, ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("varchar", notificationTypes.toArray()));
+                    ps.setInt(2, limit);
+                    ps.setLong(3, lease.toSeconds());
+                },
+                (rs, rowNum) -> new PendingNotification(
+                        rs.getObject("id", UUID.class),
+                        rs.getObject("alert_id", UUID.class),
+                        rs.getObject("service_instance_id", UUID.class),
+                        rs.getString("notification_type"),
+                        rs.getString("recipient"),
+                        rs.getString("subject"),
+                        rs.getString("message"),
+                        rs.getInt("attempts")));
+    }
+
+    /**
+     * Write delivery outcomes back as one JDBC batch
+     */
+    @Transactional
+    public void complete(List<NotificationOutcome> outcomes) {
+        if (outcomes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(COMPLETE_SQL, outcomes, outcomes.size(), (ps, outcome) -> {
+            ps.setString(1, outcome.getStatus());
+            ps.setInt(2, outcome.getAttempts());
+            ps.setTimestamp(3, Timestamp.from(outcome.getNextAttemptAt()));
+            ps.setTimestamp(4, outcome.getSentAt() != null ? Timestamp.from(outcome.getSentAt()) : null);
+            ps.setString(5, ErrorMessages.truncate(outcome.getErrorMessage()));
+            ps.setObject(6, outcome.getId());
+        });
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -110,12 +111,6 @@ public interface BandwidthChangeRepository extends JpaRepository<BandwidthChange
      */
     List<BandwidthChange> findByWorkflowId(String workflowId);
 
-    /**
-     * Find bandwidth changes without workflow ID
-     */
-    @Query("SELECT bc FROM BandwidthChange bc WHERE bc.workflowId IS NULL")
-    List<BandwidthChange> findChangesWithoutWorkflowId();
-
     /**
      * Find recent bandwidth changes by service instance
      */
@@ -174,6 +169,33 @@ public interface BandwidthChangeRepository extends JpaRepository<BandwidthChange
     @Query("SELECT bc FROM BandwidthChange bc WHERE bc.scheduledAt < :currentTime AND bc.status = 'SCHEDULED'")
     List<BandwidthChange> findOverdueScheduledChanges(@Param("currentTime") LocalDateTime currentTime);
 
+    /**
+     * Find the distinct times at which scheduled changes fall due, up to until, earliest first
+     */
+    @Query("SELECT DISTINCT bc.scheduledAt FROM BandwidthChange bc WHERE bc.status = 'SCHEDULED' AND bc.scheduledAt <= :until ORDER BY bc.scheduledAt")
+    List<LocalDateTime> findScheduledTimesUntil(@Param("until") LocalDateTime until, Pageable pageable);
+
+    /**
+     * Lock up to limit due scheduled changes for the current transaction, skipping rows other nodes
+     * hold. Only the earliest scheduled change of each service instance qualifies, so changes to one
+     * instance are applied in schedule order even when nodes claim concurrently.
+     */
+    @Query(value = "SELECT bc.id FROM singtel_app.bandwidth_changes bc " +
+                   "WHERE bc.status = 'SCHEDULED' AND bc.scheduled_at <= :now " +
+                   "AND NOT EXISTS (SELECT 1 FROM singtel_app.bandwidth_changes e " +
+                   "WHERE e.service_instance_id = bc.service_instance_id AND e.status = 'SCHEDULED' " +
+                   "AND (e.scheduled_at, e.id) < (bc.scheduled_at, bc.id)) " +
+                   "ORDER BY bc.scheduled_at, bc.id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<UUID> claimDueScheduledChangeIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Find bandwidth changes with their service instance and service loaded
+     */
+    @Query("SELECT bc FROM BandwidthChange bc JOIN FETCH bc.serviceInstance si JOIN FETCH si.service " +
+           "WHERE bc.id IN :ids ORDER BY bc.scheduledAt")
+    List<BandwidthChange> findWithServiceInstanceByIdIn(@Param("ids") Collection<UUID> ids);
+
     /**
      * Search bandwidth changes with multiple criteria
      */
@@ -0,0 +1,43 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.entity.BandwidthChange;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+
+/**
+ * Composable JPA specifications for bandwidth change listings.
+ * Bandwidth changes are owned through their service instance's company.
+ */
+public final class BandwidthChangeSpecifications {
+
+    private BandwidthChangeSpecifications() {
+    }
+
+    /**
+     * Build a company-scoped listing filter from the optional criteria
+     */
+    public static Specification<BandwidthChange> search(UUID companyId, UUID serviceInstanceId,
+                                                        BandwidthChange.BandwidthChangeStatus status) {
+        Specification<BandwidthChange> spec = belongsToCompany(companyId);
+        if (serviceInstanceId != null) {
+            spec = spec.and(forServiceInstance(serviceInstanceId));
+        }
+        if (status != null) {
+            spec = spec.and(hasStatus(status));
+        }
+        return spec;
+    }
+
+    public static Specification<BandwidthChange> belongsToCompany(UUID companyId) {
+        return (root, query, cb) -> cb.equal(root.get("serviceInstance").get("company").get("id"), companyId);
+    }
+
+    public static Specification<BandwidthChange> forServiceInstance(UUID serviceInstanceId) {
+        return (root, query, cb) -> cb.equal(root.get("serviceInstance").get("id"), serviceInstanceId);
+    }
+
+    public static Specification<BandwidthChange> hasStatus(BandwidthChange.BandwidthChangeStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+}
@@ -0,0 +1,17 @@
+package com.singtel.network.repository;
+
+/**
+ * Bounds the error text stored with failed deliveries and submissions, so one verbose
+ * exception cannot bloat the rows that are retried.
+ */
+final class ErrorMessages {
+
+    static final int MAX_LENGTH = 1_000;
+
+    private ErrorMessages() {
+    }
+
+    static String truncate(String message) {
+        return message != null && message.length() > MAX_LENGTH ? message.substring(0, MAX_LENGTH) : message;
+    }
+}
@@ -0,0 +1,56 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.entity.BaseEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Two-phase paging for queries that fetch-join associations.
+ * The first query pages plain ids so LIMIT/OFFSET run in SQL; the second loads the
+ * entity graph for just those ids. Combining JOIN FETCH with a page directly lets
+ * Hibernate fall back to loading every match and paginating in memory (HHH90003004).
+ */
+final class IdFirstPaging {
+
+    private IdFirstPaging() {
+    }
+
+    /**
+     * Load the entities for a page of ids, keeping the page metadata
+     */
+    static <T extends BaseEntity> Page<T> page(Page<UUID> ids, Function<Collection<UUID>, List<T>> loader) {
+        return new PageImpl<>(list(ids.getContent(), loader), ids.getPageable(), ids.getTotalElements());
+    }
+
+    /**
+     * Load the entities for a list of ids, preserving the order of the ids
+     */
+    static <T extends BaseEntity> List<T> list(List<UUID> ids, Function<Collection<UUID>, List<T>> loader) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<UUID, T> byId = new HashMap<>();
+        for (T entity : loader.apply(ids)) {
+            byId.put(entity.getId(), entity);
+        }
+
+        List<T> ordered = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            T entity = byId.get(id);
+            // A row deleted between the two queries is simply left out of the page
+            if (entity != null) {
+                ordered.add(entity);
+            }
+        }
+        return ordered;
+    }
+}
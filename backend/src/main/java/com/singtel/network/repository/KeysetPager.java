@@ -0,0 +1,98 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.dto.common.CursorPage;
+import com.singtel.network.dto.common.KeysetCursor;
+import com.singtel.network.entity.BaseEntity;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keyset (cursor) pagination over entities ordered by (createdAt DESC, id DESC).
+ * Each slice is a single LIMIT query that seeks past the cursor instead of counting
+ * and skipping rows, so deep pages cost the same as the first one.
+ */
+@Component
+public class KeysetPager {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String FETCH_GRAPH_HINT = "jakarta.persistence.fetchgraph";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Fetch the slice after the given continuation token
+     */
+    public <T extends BaseEntity> CursorPage<T> page(Class<T> type, Specification<T> spec, String cursor,
+                                                     int size, String... fetchAttributes) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        int limit = Math.min(size, MAX_PAGE_SIZE);
+
+        // One extra row tells us whether another slice exists without a count query
+        List<T> rows = fetch(type, spec, KeysetCursor.decode(cursor), limit + 1, fetchAttributes);
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+
+        List<T> items = new ArrayList<>(rows.subList(0, limit));
+        T last = items.get(limit - 1);
+        return new CursorPage<>(items, new KeysetCursor(last.getCreatedAt(), last.getId()).encode());
+    }
+
+    /**
+     * Fetch up to limit rows strictly after the cursor, newest first
+     */
+    public <T extends BaseEntity> List<T> fetch(Class<T> type, Specification<T> spec, KeysetCursor after,
+                                                int limit, String... fetchAttributes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(type);
+        Root<T> root = query.from(type);
+        Path<LocalDateTime> createdAt = root.get("createdAt");
+        Path<UUID> id = root.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        if (after != null) {
+            // created_at <= c is an index range condition, so Postgres seeks straight to the cursor;
+            // the OR only breaks ties between rows sharing the cursor timestamp
+            predicates.add(cb.lessThanOrEqualTo(createdAt, after.getCreatedAt()));
+            predicates.add(cb.or(cb.lessThan(createdAt, after.getCreatedAt()),
+                                 cb.lessThan(id, after.getId())));
+        }
+
+        query.select(root)
+             .where(predicates.toArray(new Predicate[0]))
+             .orderBy(cb.desc(createdAt), cb.desc(id));
+
+        TypedQuery<T> typedQuery = entityManager.createQuery(query).setMaxResults(limit);
+        if (fetchAttributes.length > 0) {
+            EntityGraph<T> graph = entityManager.createEntityGraph(type);
+            graph.addAttributeNodes(fetchAttributes);
+            typedQuery.setHint(FETCH_GRAPH_HINT, graph);
+        }
+        return typedQuery.getResultList();
+    }
+}
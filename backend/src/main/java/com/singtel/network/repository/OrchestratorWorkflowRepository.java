@@ -0,0 +1,162 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.dto.orchestrator.BandwidthChangeWorkflowRequest;
+import com.singtel.network.dto.orchestrator.OrderWorkflowRequest;
+import com.singtel.network.dto.orchestrator.WorkflowAssignment;
+import com.singtel.network.dto.orchestrator.WorkflowSubmissionFailure;
+import com.singtel.network.dto.orchestrator.WorkflowType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JDBC access to orders and bandwidth_changes still waiting for a Service Orchestrator workflow.
+ * Failed submissions are tracked in workflow_submissions; aggregates backing off or parked there
+ * are left out of the lookups, so they cannot crowd out newer ones.
+ */
+@Repository
+public class OrchestratorWorkflowRepository {
+
+    private static final String ORDERS_AWAITING_WORKFLOW_SQL =
+            "SELECT id, order_number, order_type, company_id, service_id, service_instance_id, " +
+            "requested_bandwidth_mbps, requested_date FROM singtel_app.orders o " +
+            "WHERE workflow_id IS NULL AND status IN ('SUBMITTED', 'APPROVED', 'IN_PROGRESS') " +
+            "AND NOT EXISTS (SELECT 1 FROM singtel_app.workflow_submissions s " +
+            "                WHERE s.aggregate_id = o.id AND (s.status = 'PARKED' OR s.next_attempt_at > CURRENT_TIMESTAMP)) " +
+            "ORDER BY created_at LIMIT ?";
+
+    private static final String CHANGES_AWAITING_WORKFLOW_SQL =
+            "SELECT id, service_instance_id, previous_bandwidth_mbps, new_bandwidth_mbps, scheduled_at " +
+            "FROM singtel_app.bandwidth_changes c " +
+            "WHERE workflow_id IS NULL AND status IN ('PENDING', 'SCHEDULED') " +
+            "AND NOT EXISTS (SELECT 1 FROM singtel_app.workflow_submissions s " +
+            "                WHERE s.aggregate_id = c.id AND (s.status = 'PARKED' OR s.next_attempt_at > CURRENT_TIMESTAMP)) " +
+            "ORDER BY created_at LIMIT ?";
+
+    // A workflow already recorded is never replaced
+    private static final String ASSIGN_ORDER_SQL =
+            "UPDATE singtel_app.orders SET workflow_id = ? WHERE id = ? AND workflow_id IS NULL";
+
+    private static final String ASSIGN_CHANGE_SQL =
+            "UPDATE singtel_app.bandwidth_changes SET workflow_id = ? WHERE id = ? AND workflow_id IS NULL";
+
+    private static final String ATTEMPTS_SQL =
+            "SELECT aggregate_id, attempts FROM singtel_app.workflow_submissions WHERE aggregate_id = ANY(?)";
+
+    private static final String FAIL_SQL =
+            "INSERT INTO singtel_app.workflow_submissions " +
+            "(aggregate_id, aggregate_type, status, attempts, next_attempt_at, last_error, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (aggregate_id) DO UPDATE SET status = EXCLUDED.status, attempts = EXCLUDED.attempts, " +
+            "next_attempt_at = EXCLUDED.next_attempt_at, last_error = EXCLUDED.last_error, updated_at = CURRENT_TIMESTAMP";
+
+    private static final String CLEAR_FAILURES_SQL =
+            "DELETE FROM singtel_app.workflow_submissions WHERE aggregate_id = ANY(?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Find open orders without a workflow, oldest first
+     */
+    public List<OrderWorkflowRequest> findOrdersAwaitingWorkflow(int limit) {
+        return jdbcTemplate.query(ORDERS_AWAITING_WORKFLOW_SQL, (rs, rowNum) -> {
+            Date requestedDate = rs.getDate("requested_date");
+            return new OrderWorkflowRequest(
+                    rs.getObject("id", UUID.class),
+                    rs.getString("order_number"),
+                    rs.getString("order_type"),
+                    rs.getObject("company_id", UUID.class),
+                    rs.getObject("service_id", UUID.class),
+                    rs.getObject("service_instance_id", UUID.class),
+                    rs.getObject("requested_bandwidth_mbps", Integer.class),
+                    requestedDate != null ? requestedDate.toLocalDate() : null);
+        }, limit);
+    }
+
+    /**
+     * Find pending or scheduled bandwidth changes without a workflow, oldest first
+     */
+    public List<BandwidthChangeWorkflowRequest> findBandwidthChangesAwaitingWorkflow(int limit) {
+        return jdbcTemplate.query(CHANGES_AWAITING_WORKFLOW_SQL, (rs, rowNum) -> {
+            Timestamp scheduledAt = rs.getTimestamp("scheduled_at");
+            return new BandwidthChangeWorkflowRequest(
+                    rs.getObject("id", UUID.class),
+                    rs.getObject("service_instance_id", UUID.class),
+                    rs.getObject("previous_bandwidth_mbps", Integer.class),
+                    rs.getObject("new_bandwidth_mbps", Integer.class),
+                    scheduledAt != null ? scheduledAt.toLocalDateTime() : null);
+        }, limit);
+    }
+
+    /**
+     * Find the failed submission attempts of the given aggregates; aggregates never failed are absent
+     */
+    public Map<UUID, Integer> findSubmissionAttempts(Collection<UUID> aggregateIds) {
+        Map<UUID, Integer> attempts = new HashMap<>();
+        if (aggregateIds.isEmpty()) {
+            return attempts;
+        }
+        jdbcTemplate.query(ATTEMPTS_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", aggregateIds.toArray())),
+                rs -> {
+                    attempts.put(rs.getObject("aggregate_id", UUID.class), rs.getInt("attempts"));
+                });
+        return attempts;
+    }
+
+    /**
+     * Record failed submissions as one JDBC batch, replacing the previous failure of each aggregate
+     */
+    @Transactional
+    public void recordFailures(List<WorkflowSubmissionFailure> failures) {
+        if (failures.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(FAIL_SQL, failures, failures.size(), (ps, failure) -> {
+            ps.setObject(1, failure.getAggregateId());
+            ps.setString(2, failure.getType().name());
+            ps.setString(3, failure.isParked() ? "PARKED" : "RETRY");
+            ps.setInt(4, failure.getAttempts());
+            ps.setTimestamp(5, Timestamp.from(failure.getNextAttemptAt()));
+            ps.setString(6, ErrorMessages.truncate(failure.getError()));
+        });
+    }
+
+    /**
+     * Record started workflows as one JDBC batch per table and forget earlier failed submissions
+     * of those aggregates. Returns the number of rows updated.
+     */
+    @Transactional
+    public int assign(List<WorkflowAssignment> assignments) {
+        int updated = assign(ASSIGN_ORDER_SQL, WorkflowType.ORDER, assignments)
+                + assign(ASSIGN_CHANGE_SQL, WorkflowType.BANDWIDTH_CHANGE, assignments);
+        if (!assignments.isEmpty()) {
+            Object[] aggregateIds = assignments.stream().map(WorkflowAssignment::getAggregateId).toArray();
+            jdbcTemplate.update(CLEAR_FAILURES_SQL, ps ->
+                    ps.setArray(1, ps.getConnection().createArrayOf("uuid", aggregateIds)));
+        }
+        return updated;
+    }
+
+    private int assign(String sql, WorkflowType type, List<WorkflowAssignment> assignments) {
+        List<Object[]> args = assignments.stream()
+                .filter(assignment -> assignment.getType() == type)
+                .map(assignment -> new Object[]{assignment.getWorkflowId(), assignment.getAggregateId()})
+                .toList();
+        if (args.isEmpty()) {
+            return 0;
+        }
+        return Arrays.stream(jdbcTemplate.batchUpdate(sql, args)).map(count -> Math.max(count, 0)).sum();
+    }
+}
@@ -1,16 +1,22 @@
 package com.singtel.network.repository;
 
+import com.singtel.network.dto.order.OrderResponse;
 import com.singtel.network.entity.Order;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,7 +25,18 @@ import java.util.UUID;
  * Repository interface for Order entity operations.
  */
 @Repository
-public interface OrderRepository extends JpaRepository<Order, UUID> {
+public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecificationExecutor<Order> {
+
+    /**
+     * Constructor expression selecting only the columns an order list item needs
+     */
+    String ORDER_RESPONSE_SELECT = "SELECT new com.singtel.network.dto.order.OrderResponse(" +
+            "o.id, o.orderNumber, o.orderType, o.status, o.requestedBandwidthMbps, o.installationAddress, o.postalCode, " +
+            "o.contactPerson, o.contactPhone, o.contactEmail, o.requestedDate, o.estimatedCompletionDate, " +
+            "o.actualCompletionDate, o.totalCost, o.notes, o.workflowId, o.createdAt, o.updatedAt, " +
+            "s.id, s.name, s.serviceType, si.id, si.instanceName, si.status, " +
+            "u.id, u.username, u.firstName, u.lastName, c.id, c.name) " +
+            "FROM Order o JOIN o.service s JOIN o.user u JOIN o.company c LEFT JOIN o.serviceInstance si ";
 
     /**
      * Find order by order number
@@ -33,10 +50,41 @@ public interface OrderRepository extends JpaRepository<Order, UUID> {
     List<Order> findByCompanyId(@Param("companyId") UUID companyId);
 
     /**
-     * Find orders by company ID with pagination
+     * Find orders by company ID with pagination.
+     * Pages ids in SQL first, then fetches the associations for that page only; newest orders come first unless the pageable is sorted.
      */
-    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.service LEFT JOIN FETCH o.user LEFT JOIN FETCH o.company LEFT JOIN FETCH o.serviceInstance WHERE o.company.id = :companyId")
-    Page<Order> findByCompanyId(@Param("companyId") UUID companyId, Pageable pageable);
+    default Page<Order> findByCompanyId(UUID companyId, Pageable pageable) {
+        Pageable sorted = pageable.getSort().isSorted() || pageable.isUnpaged()
+                ? pageable
+                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        return IdFirstPaging.page(findIdsByCompanyId(companyId, sorted), this::findWithDetailsByIdIn);
+    }
+
+    /**
+     * Find a page of order IDs by company ID
+     */
+    @Query(value = "SELECT o.id FROM Order o WHERE o.company.id = :companyId",
+           countQuery = "SELECT COUNT(o) FROM Order o WHERE o.company.id = :companyId")
+    Page<UUID> findIdsByCompanyId(@Param("companyId") UUID companyId, Pageable pageable);
+
+    /**
+     * Find orders by IDs, fetching service, user, company and service instance in the same query
+     */
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.service LEFT JOIN FETCH o.user LEFT JOIN FETCH o.company LEFT JOIN FETCH o.serviceInstance WHERE o.id IN :ids")
+    List<Order> findWithDetailsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Find order list items by company ID, newest first, without loading entities
+     */
+    @Query(ORDER_RESPONSE_SELECT + "WHERE c.id = :companyId ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderResponse> findOrderResponsesByCompanyId(@Param("companyId") UUID companyId);
+
+    /**
+     * Find the most recent order list items by company, without loading entities
+     */
+    @Query(ORDER_RESPONSE_SELECT + "WHERE c.id = :companyId ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderResponse> findRecentOrderResponsesByCompany(@Param("companyId") UUID companyId, Pageable pageable);
 
     /**
      * Find orders by user ID
@@ -186,26 +234,47 @@ public interface OrderRepository extends JpaRepository<Order, UUID> {
     List<Order> findByWorkflowId(String workflowId);
 
     /**
-     * Find orders without workflow ID
+     * Find recent orders by company.
+     * The limit is applied to an id-only query so it runs in SQL rather than in memory.
+     */
+    default List<Order> findRecentOrdersByCompany(UUID companyId, Pageable pageable) {
+        return IdFirstPaging.list(findRecentOrderIdsByCompany(companyId, pageable), this::findWithDetailsByIdIn);
+    }
+
+    /**
+     * Find recent order IDs by company
      */
-    @Query("SELECT o FROM Order o WHERE o.workflowId IS NULL")
-    List<Order> findOrdersWithoutWorkflowId();
+    @Query("SELECT o.id FROM Order o WHERE o.company.id = :companyId ORDER BY o.createdAt DESC, o.id DESC")
+    List<UUID> findRecentOrderIdsByCompany(@Param("companyId") UUID companyId, Pageable pageable);
 
     /**
-     * Find recent orders by company
+     * Find orders matching a specification, fetching service, user, company and service instance in the same query
      */
-    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.service LEFT JOIN FETCH o.user LEFT JOIN FETCH o.company LEFT JOIN FETCH o.serviceInstance WHERE o.company.id = :companyId ORDER BY o.createdAt DESC")
-    List<Order> findRecentOrdersByCompany(@Param("companyId") UUID companyId, Pageable pageable);
+    @Override
+    @EntityGraph(attributePaths = {"service", "user", "company", "serviceInstance"})
+    Page<Order> findAll(Specification<Order> spec, Pageable pageable);
 
     /**
-     * Search orders with multiple criteria (simple query for pagination compatibility)
+     * Search orders with multiple criteria.
+     * Filtering, sorting, paging and the count run in Postgres; newest orders come first unless the pageable is sorted.
      */
-    @Query("SELECT o FROM Order o WHERE " +
-           "o.company.id = :companyId AND " +
-           "(:status IS NULL OR o.status = :status)")
-    Page<Order> searchOrders(@Param("companyId") UUID companyId,
-                           @Param("status") Order.OrderStatus status,
-                           Pageable pageable);
+    default Page<Order> searchOrders(UUID companyId, Order.OrderStatus status, Order.OrderType orderType,
+                                     UUID serviceId, LocalDate startDate, LocalDate endDate,
+                                     BigDecimal minCost, BigDecimal maxCost, Pageable pageable) {
+        Pageable sorted = pageable.getSort().isSorted() || pageable.isUnpaged()
+                ? pageable
+                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        return findAll(OrderSpecifications.search(companyId, status, orderType, serviceId,
+                startDate, endDate, minCost, maxCost), sorted);
+    }
+
+    /**
+     * Search orders by company and optional status
+     */
+    default Page<Order> searchOrders(UUID companyId, Order.OrderStatus status, Pageable pageable) {
+        return searchOrders(companyId, status, null, null, null, null, null, null, pageable);
+    }
 
     /**
      * Check if order number exists
@@ -213,8 +282,21 @@ public interface OrderRepository extends JpaRepository<Order, UUID> {
     boolean existsByOrderNumber(String orderNumber);
 
     /**
-     * Find next order number sequence
+     * Reserve the next block of order numbers; the sequence advances by a whole block per call
+     */
+    @Query(value = "SELECT nextval('singtel_app.order_number_seq')", nativeQuery = true)
+    Long reserveOrderNumberBlock();
+
+    /**
+     * Reserve several blocks of order numbers in one round trip
+     */
+    @Query(value = "SELECT nextval('singtel_app.order_number_seq') FROM generate_series(1, :blocks)", nativeQuery = true)
+    List<Long> reserveOrderNumberBlocks(@Param("blocks") int blocks);
+
+    /**
+     * Find the order number block size, which is the increment of the order number sequence
      */
-    @Query("SELECT COALESCE(COUNT(o), 0) + 1 FROM Order o")
-    Integer findNextOrderSequence();
+    @Query(value = "SELECT increment_by FROM pg_sequences WHERE schemaname = 'singtel_app' AND sequencename = 'order_number_seq'",
+           nativeQuery = true)
+    Long findOrderNumberBlockSize();
 }
@@ -0,0 +1,83 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.entity.Order;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Composable JPA specifications for order search.
+ * Every search is scoped to a company; the remaining criteria only add a predicate when present.
+ */
+public final class OrderSpecifications {
+
+    private OrderSpecifications() {
+    }
+
+    /**
+     * Build a company-scoped order search from the optional criteria.
+     * Dates are inclusive calendar days matched against the order creation time.
+     */
+    public static Specification<Order> search(UUID companyId, Order.OrderStatus status, Order.OrderType orderType,
+                                              UUID serviceId, LocalDate startDate, LocalDate endDate,
+                                              BigDecimal minCost, BigDecimal maxCost) {
+        Specification<Order> spec = belongsToCompany(companyId);
+
+        if (status != null) {
+            spec = spec.and(hasStatus(status));
+        }
+        if (orderType != null) {
+            spec = spec.and(hasOrderType(orderType));
+        }
+        if (serviceId != null) {
+            spec = spec.and(hasService(serviceId));
+        }
+        if (startDate != null) {
+            spec = spec.and(createdOnOrAfter(startDate));
+        }
+        if (endDate != null) {
+            spec = spec.and(createdOnOrBefore(endDate));
+        }
+        if (minCost != null) {
+            spec = spec.and(costAtLeast(minCost));
+        }
+        if (maxCost != null) {
+            spec = spec.and(costAtMost(maxCost));
+        }
+        return spec;
+    }
+
+    public static Specification<Order> belongsToCompany(UUID companyId) {
+        return (root, query, cb) -> cb.equal(root.get("company").get("id"), companyId);
+    }
+
+    public static Specification<Order> hasStatus(Order.OrderStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Order> hasOrderType(Order.OrderType orderType) {
+        return (root, query, cb) -> cb.equal(root.get("orderType"), orderType);
+    }
+
+    public static Specification<Order> hasService(UUID serviceId) {
+        return (root, query, cb) -> cb.equal(root.get("service").get("id"), serviceId);
+    }
+
+    public static Specification<Order> createdOnOrAfter(LocalDate startDate) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), startDate.atStartOfDay());
+    }
+
+    public static Specification<Order> createdOnOrBefore(LocalDate endDate) {
+        return (root, query, cb) -> cb.lessThan(root.get("createdAt"), endDate.plusDays(1).atStartOfDay());
+    }
+
+    public static Specification<Order> costAtLeast(BigDecimal minCost) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("totalCost"), minCost);
+    }
+
+    public static Specification<Order> costAtMost(BigDecimal maxCost) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("totalCost"), maxCost);
+    }
+}
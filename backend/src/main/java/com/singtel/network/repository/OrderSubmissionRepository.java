@@ -0,0 +1,137 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.dto.order.OrderSubmissionResponse;
+import com.singtel.network.dto.order.PendingOrderSubmission;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JDBC access to order_submissions, the intake records of asynchronously submitted orders.
+ * A worker claims a row by moving it to PROCESSING with a lease on next_attempt_at; the claim
+ * succeeds on one node only, and a row whose lease ran out can be claimed again.
+ */
+@Repository
+public class OrderSubmissionRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO singtel_app.order_submissions (id, company_id, user_id, request, next_attempt_at) " +
+            "VALUES (?, ?, ?, ?::jsonb, CURRENT_TIMESTAMP + make_interval(secs => ?)) RETURNING created_at";
+
+    private static final String CLAIM_SQL =
+            "UPDATE singtel_app.order_submissions " +
+            "SET status = 'PROCESSING', attempts = attempts + 1, " +
+            "next_attempt_at = CURRENT_TIMESTAMP + make_interval(secs => ?) " +
+            "WHERE id = ? AND (status = 'RECEIVED' OR (status = 'PROCESSING' AND next_attempt_at <= CURRENT_TIMESTAMP)) " +
+            "RETURNING id, user_id, request::text AS request, attempts";
+
+    private static final String DUE_SQL =
+            "SELECT id FROM singtel_app.order_submissions " +
+            "WHERE status IN ('RECEIVED', 'PROCESSING') AND next_attempt_at <= CURRENT_TIMESTAMP " +
+            "ORDER BY next_attempt_at LIMIT ?";
+
+    private static final String COMPLETE_SQL =
+            "UPDATE singtel_app.order_submissions SET status = 'COMPLETED', order_id = ?, error_message = NULL, " +
+            "completed_at = CURRENT_TIMESTAMP WHERE id = ? AND status = 'PROCESSING' AND attempts = ?";
+
+    private static final String FAIL_SQL =
+            "UPDATE singtel_app.order_submissions SET status = 'FAILED', error_message = ?, " +
+            "completed_at = CURRENT_TIMESTAMP WHERE id = ? AND status = 'PROCESSING' AND attempts = ?";
+
+    private static final String RETRY_SQL =
+            "UPDATE singtel_app.order_submissions SET status = 'RECEIVED', error_message = ?, " +
+            "next_attempt_at = CURRENT_TIMESTAMP + make_interval(secs => ?) " +
+            "WHERE id = ? AND status = 'PROCESSING' AND attempts = ?";
+
+    private static final String FIND_SQL =
+            "SELECT s.id, s.status, s.order_id, o.order_number, s.error_message, s.created_at, s.completed_at " +
+            "FROM singtel_app.order_submissions s LEFT JOIN singtel_app.orders o ON o.id = s.order_id " +
+            "WHERE s.id = ? AND s.company_id = ?";
+
+    private static final String BACKLOG_SQL =
+            "SELECT count(*) FROM singtel_app.order_submissions WHERE status IN ('RECEIVED', 'PROCESSING')";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Record a RECEIVED submission the sweeper may pick up after sweepDelay. Returns its created_at.
+     */
+    public Timestamp insert(UUID id, UUID companyId, UUID userId, String request, Duration sweepDelay) {
+        return jdbcTemplate.queryForObject(INSERT_SQL, Timestamp.class,
+                id, companyId, userId, request, sweepDelay.toSeconds());
+    }
+
+    /**
+     * Claim the submission for processing and lease it for the given time
+     */
+    public Optional<PendingOrderSubmission> claim(UUID id, Duration lease) {
+        return jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new PendingOrderSubmission(
+                rs.getObject("id", UUID.class),
+                rs.getObject("user_id", UUID.class),
+                rs.getString("request"),
+                rs.getInt("attempts")), lease.toSeconds(), id).stream().findFirst();
+    }
+
+    /**
+     * Ids of RECEIVED submissions past their sweep delay and PROCESSING ones whose lease ran out
+     */
+    public List<UUID> findDueIds(int limit) {
+        return jdbcTemplate.queryForList(DUE_SQL, UUID.class, limit);
+    }
+
+    /**
+     * Link the created order, in the transaction that created it. Returns false when the claim
+     * was lost, in which case the caller must roll back.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean complete(PendingOrderSubmission submission, UUID orderId) {
+        return jdbcTemplate.update(COMPLETE_SQL, orderId, submission.getId(), submission.getAttempts()) == 1;
+    }
+
+    public void fail(PendingOrderSubmission submission, String error) {
+        jdbcTemplate.update(FAIL_SQL, ErrorMessages.truncate(error), submission.getId(), submission.getAttempts());
+    }
+
+    /**
+     * Return the submission to RECEIVED for the sweeper to retry after the backoff
+     */
+    public void retry(PendingOrderSubmission submission, String error, Duration backoff) {
+        jdbcTemplate.update(RETRY_SQL, ErrorMessages.truncate(error), backoff.toSeconds(),
+                submission.getId(), submission.getAttempts());
+    }
+
+    /**
+     * Find a submission of the given company
+     */
+    public Optional<OrderSubmissionResponse> findByIdAndCompanyId(UUID id, UUID companyId) {
+        return jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> {
+            Timestamp completedAt = rs.getTimestamp("completed_at");
+            OrderSubmissionResponse response = new OrderSubmissionResponse(
+                    rs.getObject("id", UUID.class),
+                    OrderSubmissionResponse.SubmissionStatus.valueOf(rs.getString("status")),
+                    rs.getTimestamp("created_at").toLocalDateTime());
+            response.setOrderId(rs.getObject("order_id", UUID.class));
+            response.setOrderNumber(rs.getString("order_number"));
+            response.setErrorMessage(rs.getString("error_message"));
+            response.setCompletedAt(completedAt != null ? completedAt.toLocalDateTime() : null);
+            return response;
+        }, id, companyId).stream().findFirst();
+    }
+
+    /**
+     * Number of submissions not yet completed or failed
+     */
+    public long countBacklog() {
+        Long count = jdbcTemplate.queryForObject(BACKLOG_SQL, Long.class);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,103 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.dto.outbox.OutboxEvent;
+import com.singtel.network.dto.outbox.OutboxFailure;
+import com.singtel.network.dto.outbox.OutboxMessage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC access to the outbox table.
+ * Only the oldest row of each aggregate can be claimed, so events of one aggregate are published
+ * in order even with several relays; claims use FOR UPDATE SKIP LOCKED and a lease on
+ * next_attempt_at like alert_notifications. Published rows are deleted.
+ */
+@Repository
+public class OutboxRepository {
+
+    private static final String APPEND_SQL =
+            "INSERT INTO singtel_app.outbox (aggregate_type, aggregate_id, event_type, payload) VALUES (?, ?, ?, ?::jsonb)";
+
+    private static final String CLAIM_SQL =
+            "WITH due AS (" +
+            "  SELECT o.id FROM singtel_app.outbox o " +
+            "  WHERE o.next_attempt_at <= CURRENT_TIMESTAMP " +
+            "    AND NOT EXISTS (SELECT 1 FROM singtel_app.outbox earlier " +
+            "                    WHERE earlier.aggregate_id = o.aggregate_id AND earlier.id < o.id) " +
+            "  ORDER BY o.id LIMIT ? FOR UPDATE SKIP LOCKED" +
+            ") " +
+            "UPDATE singtel_app.outbox o " +
+            "SET next_attempt_at = CURRENT_TIMESTAMP + make_interval(secs => ?) " +
+            "FROM due WHERE o.id = due.id " +
+            "RETURNING o.id, o.aggregate_type, o.aggregate_id, o.event_type, o.payload::text AS payload, " +
+            "o.created_at, o.attempts";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM singtel_app.outbox WHERE id = ANY(?)";
+
+    private static final String FAIL_SQL =
+            "UPDATE singtel_app.outbox SET attempts = ?, next_attempt_at = ?, last_error = ? WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Append events as one JDBC batch in the caller's transaction, which must exist so the events
+     * commit or roll back with the state change they describe
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(APPEND_SQL, events, events.size(), (ps, event) -> {
+            ps.setString(1, event.getAggregateType());
+            ps.setObject(2, event.getAggregateId());
+            ps.setString(3, event.getEventType());
+            ps.setString(4, event.getPayload());
+        });
+    }
+
+    /**
+     * Claim up to limit due rows, at most one per aggregate and oldest first, and lease them for the given time
+     */
+    @Transactional
+    public List<OutboxMessage> claimDue(int limit, Duration lease) {
+        return jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new OutboxMessage(
+                rs.getLong("id"),
+                rs.getString("aggregate_type"),
+                rs.getObject("aggregate_id", UUID.class),
+                rs.getString("event_type"),
+                rs.getString("payload"),
+                rs.getTimestamp("created_at").toInstant(),
+                rs.getInt("attempts")), limit, lease.toSeconds());
+    }
+
+    /**
+     * Delete the published rows and reschedule the failed ones
+     */
+    @Transactional
+    public void complete(Collection<Long> publishedIds, List<OutboxFailure> failures) {
+        if (!publishedIds.isEmpty()) {
+            jdbcTemplate.update(DELETE_SQL, ps ->
+                    ps.setArray(1, ps.getConnection().createArrayOf("bigint", publishedIds.toArray())));
+        }
+        if (!failures.isEmpty()) {
+            jdbcTemplate.batchUpdate(FAIL_SQL, failures, failures.size(), (ps, failure) -> {
+                ps.setInt(1, failure.getAttempts());
+                ps.setTimestamp(2, Timestamp.from(failure.getNextAttemptAt()));
+                ps.setString(3, ErrorMessages.truncate(failure.getError()));
+                ps.setLong(4, failure.getId());
+            });
+        }
+    }
+}
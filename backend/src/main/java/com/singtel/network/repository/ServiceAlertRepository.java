@@ -0,0 +1,92 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.dto.alert.AlertRule;
+import com.singtel.network.dto.alert.AlertTrigger;
+import com.singtel.network.entity.ServiceMetric;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC access to service_alerts and alert_notifications for the alert evaluator.
+ */
+@Repository
+public class ServiceAlertRepository {
+
+    private static final String ENABLED_ALERTS_SQL =
+            "SELECT id, service_instance_id, alert_name, metric_type, threshold_value, threshold_operator, " +
+            "severity, cooldown_minutes, last_triggered_at FROM singtel_app.service_alerts " +
+            "WHERE is_enabled = true AND metric_type IN (" +
+            Arrays.stream(ServiceMetric.MetricType.values())
+                    .map(type -> "'" + type.name() + "'")
+                    .collect(Collectors.joining(", ")) +
+            ")";
+
+    // The cooldown is checked again against the stored last_triggered_at so that nodes evaluating
+    // the same alert cannot both fire it; notifications are only written when the update won.
+    private static final String FIRE_SQL =
+            "WITH fired AS (" +
+            "  UPDATE singtel_app.service_alerts SET last_triggered_at = ? " +
+            "  WHERE id = ? AND is_enabled = true AND (last_triggered_at IS NULL " +
+            "    OR last_triggered_at <= ?::timestamptz - make_interval(mins => COALESCE(cooldown_minutes, 0))) " +
+            "  RETURNING id, service_instance_id, notification_emails, notification_webhooks" +
+            ") " +
+            "INSERT INTO singtel_app.alert_notifications (alert_id, service_instance_id, notification_type, " +
+            "recipient, subject, message, status) " +
+            "SELECT f.id, f.service_instance_id, r.notification_type, r.recipient, ?, ?, 'PENDING' " +
+            "FROM fired f CROSS JOIN LATERAL (" +
+            "  SELECT 'EMAIL' AS notification_type, email AS recipient FROM unnest(f.notification_emails) AS email " +
+            "  UNION ALL " +
+            "  SELECT 'WEBHOOK', url FROM unnest(f.notification_webhooks) AS url" +
+            ") r";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Find every enabled alert on a known metric type
+     */
+    public List<AlertRule> findEnabledAlerts() {
+        return jdbcTemplate.query(ENABLED_ALERTS_SQL, (rs, rowNum) -> {
+            Timestamp lastTriggeredAt = rs.getTimestamp("last_triggered_at");
+            return new AlertRule(
+                    rs.getObject("id", UUID.class),
+                    rs.getObject("service_instance_id", UUID.class),
+                    rs.getString("alert_name"),
+                    ServiceMetric.MetricType.valueOf(rs.getString("metric_type")),
+                    rs.getBigDecimal("threshold_value"),
+                    AlertRule.ThresholdOperator.fromSymbol(rs.getString("threshold_operator")),
+                    rs.getString("severity"),
+                    Duration.ofMinutes(rs.getInt("cooldown_minutes")),
+                    lastTriggeredAt != null ? lastTriggeredAt.toInstant() : null);
+        });
+    }
+
+    /**
+     * Record the triggers as one JDBC batch: stamp last_triggered_at and queue a PENDING notification
+     * per recipient for each alert that is out of its cooldown. Returns the number of notifications.
+     */
+    @Transactional
+    public int fire(List<AlertTrigger> triggers) {
+        if (triggers.isEmpty()) {
+            return 0;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(FIRE_SQL, triggers, triggers.size(), (ps, trigger) -> {
+            Timestamp triggeredAt = Timestamp.from(trigger.getTriggeredAt());
+            ps.setTimestamp(1, triggeredAt);
+            ps.setObject(2, trigger.getAlertId());
+            ps.setTimestamp(3, triggeredAt);
+            ps.setString(4, trigger.getSubject());
+            ps.setString(5, trigger.getMessage());
+        });
+        return Arrays.stream(counts).flatMapToInt(Arrays::stream).map(count -> Math.max(count, 0)).sum();
+    }
+}
@@ -1,5 +1,6 @@
 package com.singtel.network.repository;
 
+import com.singtel.network.dto.service.ServiceCategoryResponse;
 import com.singtel.network.entity.ServiceCategory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -35,6 +36,25 @@ public interface ServiceCategoryRepository extends JpaRepository<ServiceCategory
     @Query("SELECT sc FROM ServiceCategory sc WHERE sc.isActive = true ORDER BY sc.displayOrder, sc.name")
     Page<ServiceCategory> findActiveCategories(Pageable pageable);
 
+    /**
+     * Find active category list items with their service counts, without loading the services collection
+     */
+    @Query("SELECT new com.singtel.network.dto.service.ServiceCategoryResponse(" +
+           "sc.id, sc.name, sc.description, sc.displayOrder, sc.isActive, " +
+           "(SELECT COUNT(s) FROM Service s WHERE s.category = sc), sc.createdAt, sc.updatedAt) " +
+           "FROM ServiceCategory sc WHERE sc.isActive = true ORDER BY sc.displayOrder, sc.name")
+    List<ServiceCategoryResponse> findActiveCategorySummaries();
+
+    /**
+     * Find active category list items with pagination
+     */
+    @Query(value = "SELECT new com.singtel.network.dto.service.ServiceCategoryResponse(" +
+                   "sc.id, sc.name, sc.description, sc.displayOrder, sc.isActive, " +
+                   "(SELECT COUNT(s) FROM Service s WHERE s.category = sc), sc.createdAt, sc.updatedAt) " +
+                   "FROM ServiceCategory sc WHERE sc.isActive = true ORDER BY sc.displayOrder, sc.name",
+           countQuery = "SELECT COUNT(sc) FROM ServiceCategory sc WHERE sc.isActive = true")
+    Page<ServiceCategoryResponse> findActiveCategorySummaries(Pageable pageable);
+
     /**
      * Find categories by active status
      */
@@ -10,6 +10,7 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -165,6 +166,12 @@ public interface ServiceInstanceRepository extends JpaRepository<ServiceInstance
     @Query("SELECT si FROM ServiceInstance si WHERE si.lastBandwidthChangeAt >= :sinceDate")
     List<ServiceInstance> findWithRecentBandwidthChanges(@Param("sinceDate") LocalDate sinceDate);
 
+    /**
+     * Find which of the given service instance IDs exist
+     */
+    @Query("SELECT si.id FROM ServiceInstance si WHERE si.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
     /**
      * Search service instances with multiple criteria
      */
@@ -0,0 +1,34 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.entity.ServiceInstance;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+
+/**
+ * Composable JPA specifications for service instance listings.
+ */
+public final class ServiceInstanceSpecifications {
+
+    private ServiceInstanceSpecifications() {
+    }
+
+    /**
+     * Build a company-scoped listing filter, optionally narrowed to one status
+     */
+    public static Specification<ServiceInstance> search(UUID companyId, ServiceInstance.ServiceInstanceStatus status) {
+        Specification<ServiceInstance> spec = belongsToCompany(companyId);
+        if (status != null) {
+            spec = spec.and(hasStatus(status));
+        }
+        return spec;
+    }
+
+    public static Specification<ServiceInstance> belongsToCompany(UUID companyId) {
+        return (root, query, cb) -> cb.equal(root.get("company").get("id"), companyId);
+    }
+
+    public static Specification<ServiceInstance> hasStatus(ServiceInstance.ServiceInstanceStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+}
@@ -0,0 +1,89 @@
+package com.singtel.network.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * DDL access to the daily partitions of service_metrics.
+ * Partitions are named service_metrics_pYYYYMMDD and cover one UTC day of measured_at.
+ */
+@Repository
+public class ServiceMetricPartitionRepository {
+
+    public static final String PARENT_TABLE = "singtel_app.service_metrics";
+
+    private static final String PARTITION_PREFIX = "service_metrics_p";
+    private static final Pattern PARTITION_NAME = Pattern.compile(PARTITION_PREFIX + "\\d{8}");
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Find the names of partitions currently attached to service_metrics
+     */
+    public List<String> findPartitionNames() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "WHERE i.inhparent = CAST(? AS regclass) ORDER BY c.relname",
+                String.class, PARENT_TABLE);
+    }
+
+    /**
+     * Create the partition for one UTC day unless it already exists
+     */
+    public void createDailyPartition(LocalDate day) {
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS singtel_app.%s PARTITION OF %s " +
+                "FOR VALUES FROM ('%s 00:00:00+00') TO ('%s 00:00:00+00')",
+                partitionName(day), PARENT_TABLE, day, day.plusDays(1)));
+    }
+
+    /**
+     * Detach a partition, leaving it as a standalone table
+     */
+    public void detachPartition(String partitionName) {
+        jdbcTemplate.execute(String.format("ALTER TABLE %s DETACH PARTITION singtel_app.%s",
+                PARENT_TABLE, checkedName(partitionName)));
+    }
+
+    /**
+     * Drop a partition together with its rows
+     */
+    public void dropPartition(String partitionName) {
+        jdbcTemplate.execute(String.format("DROP TABLE IF EXISTS singtel_app.%s", checkedName(partitionName)));
+    }
+
+    public static String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + day.format(DAY_FORMAT);
+    }
+
+    /**
+     * Day covered by a partition, or null when the name does not follow the daily scheme
+     */
+    public static LocalDate partitionDay(String partitionName) {
+        if (partitionName == null || !PARTITION_NAME.matcher(partitionName).matches()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(partitionName.substring(PARTITION_PREFIX.length()), DAY_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    // Names are spliced into DDL, so only names of the daily scheme are accepted
+    private static String checkedName(String partitionName) {
+        if (partitionDay(partitionName) == null) {
+            throw new IllegalArgumentException("Not a service_metrics partition: " + partitionName);
+        }
+        return partitionName;
+    }
+}
@@ -0,0 +1,48 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.dto.metric.MetricReading;
+import com.singtel.network.entity.ServiceMetric;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Repository interface for ServiceMetric entity operations.
+ * Samples are written by ServiceMetricWriter; this repository serves reads.
+ */
+@Repository
+public interface ServiceMetricRepository extends JpaRepository<ServiceMetric, UUID> {
+
+    /** Rows per round trip while streaming; the driver only uses a cursor inside a transaction */
+    int STREAM_FETCH_SIZE = 5_000;
+
+    /**
+     * Stream the readings of one metric for a service instance in [from, to), oldest first.
+     * Rows are projections, so nothing accumulates in the persistence context; close the stream.
+     */
+    @Query("SELECT new com.singtel.network.dto.metric.MetricReading(m.measuredAt, m.metricValue) " +
+           "FROM ServiceMetric m WHERE m.serviceInstance.id = :serviceInstanceId " +
+           "AND m.metricType = :metricType AND m.measuredAt >= :from AND m.measuredAt < :to " +
+           "ORDER BY m.measuredAt")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<MetricReading> streamReadings(@Param("serviceInstanceId") UUID serviceInstanceId,
+                                         @Param("metricType") ServiceMetric.MetricType metricType,
+                                         @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to);
+
+    /**
+     * Count samples recorded for a service instance
+     */
+    long countByServiceInstanceId(UUID serviceInstanceId);
+}
@@ -0,0 +1,165 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.dto.metric.MetricResolution;
+import com.singtel.network.dto.metric.MetricRollupPoint;
+import com.singtel.network.entity.ServiceMetric;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * JDBC access to the service metric rollup tables and their watermarks.
+ * Every resolution is aggregated straight from raw samples so p95 stays exact.
+ */
+@Repository
+public class ServiceMetricRollupRepository {
+
+    private static final String ROLLUP_SQL =
+            "INSERT INTO %1$s (service_instance_id, metric_type, bucket_start, sample_count, " +
+            "min_value, max_value, avg_value, p95_value) " +
+            "SELECT service_instance_id, metric_type, " +
+            "date_trunc('%2$s', measured_at AT TIME ZONE 'UTC') AT TIME ZONE 'UTC' AS bucket_start, " +
+            "COUNT(*), MIN(metric_value), MAX(metric_value), AVG(metric_value), " +
+            "percentile_cont(0.95) WITHIN GROUP (ORDER BY metric_value) " +
+            "FROM singtel_app.service_metrics " +
+            "WHERE %3$smeasured_at >= ? AND measured_at < ? " +
+            "GROUP BY service_instance_id, metric_type, bucket_start " +
+            "ON CONFLICT (service_instance_id, metric_type, bucket_start) DO UPDATE SET " +
+            "sample_count = EXCLUDED.sample_count, min_value = EXCLUDED.min_value, " +
+            "max_value = EXCLUDED.max_value, avg_value = EXCLUDED.avg_value, p95_value = EXCLUDED.p95_value, " +
+            "updated_at = CURRENT_TIMESTAMP";
+
+    private static final String WATERMARK_SQL =
+            "INSERT INTO singtel_app.service_metric_rollup_watermarks (resolution, rolled_up_until, updated_at) " +
+            "VALUES (?, ?, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (resolution) DO UPDATE SET rolled_up_until = EXCLUDED.rolled_up_until, updated_at = CURRENT_TIMESTAMP";
+
+    private static final String MARK_DIRTY_SQL =
+            "INSERT INTO singtel_app.service_metric_rollup_dirty_hours (service_instance_id, hour_start) " +
+            "VALUES (?, ?) ON CONFLICT DO NOTHING";
+
+    // Deleting up front makes a concurrent mark of the same hour wait and insert a fresh row
+    private static final String CLAIM_DIRTY_SQL =
+            "DELETE FROM singtel_app.service_metric_rollup_dirty_hours " +
+            "WHERE (service_instance_id, hour_start) IN (" +
+            "SELECT service_instance_id, hour_start FROM singtel_app.service_metric_rollup_dirty_hours " +
+            "ORDER BY hour_start LIMIT ? FOR UPDATE SKIP LOCKED) " +
+            "RETURNING service_instance_id, hour_start";
+
+    private static final String INSTANCE_FILTER = "service_instance_id = ? AND ";
+
+    private static final String POINTS_SQL =
+            "SELECT bucket_start, sample_count, min_value, max_value, avg_value, p95_value FROM %s " +
+            "WHERE service_instance_id = ? AND metric_type = ? AND bucket_start >= ? AND bucket_start < ? " +
+            "ORDER BY bucket_start";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Find the time up to which a resolution has been aggregated
+     */
+    public Optional<Instant> findWatermark(MetricResolution resolution) {
+        return jdbcTemplate.query(
+                "SELECT rolled_up_until FROM singtel_app.service_metric_rollup_watermarks WHERE resolution = ?",
+                (rs, rowNum) -> rs.getTimestamp(1).toInstant(), resolution.getCode())
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Aggregate the raw samples measured in [from, to) and advance the watermark to, atomically.
+     * Buckets are upserted, so re-running a window is harmless.
+     */
+    @Transactional
+    public int rollup(MetricResolution resolution, Instant from, Instant to) {
+        int buckets = jdbcTemplate.update(
+                String.format(ROLLUP_SQL, resolution.getTableName(), resolution.getTruncUnit(), ""),
+                Timestamp.from(from), Timestamp.from(to));
+        jdbcTemplate.update(WATERMARK_SQL, resolution.getCode(), Timestamp.from(to));
+        return buckets;
+    }
+
+    /**
+     * Mark hours that received samples after their rollup window may already have closed
+     */
+    @Transactional
+    public int markDirtyHours(Map<UUID, Set<Instant>> hoursByInstance) {
+        List<Object[]> args = new ArrayList<>();
+        hoursByInstance.forEach((serviceInstanceId, hours) ->
+                hours.forEach(hour -> args.add(new Object[]{serviceInstanceId, Timestamp.from(hour)})));
+        return Arrays.stream(jdbcTemplate.batchUpdate(MARK_DIRTY_SQL, args)).sum();
+    }
+
+    /**
+     * Claim up to limit dirty hours, oldest first, and re-aggregate them at every resolution whose
+     * watermark has passed them: minute and hour buckets of the hour, and the whole day bucket.
+     * Returns the number of hours claimed.
+     */
+    @Transactional
+    public int rerollDirtyHours(int limit) {
+        Map<UUID, Set<Instant>> hoursByInstance = new HashMap<>();
+        jdbcTemplate.query(CLAIM_DIRTY_SQL, rs -> {
+            hoursByInstance.computeIfAbsent(rs.getObject(1, UUID.class), id -> new TreeSet<>())
+                    .add(rs.getTimestamp(2).toInstant());
+        }, limit);
+
+        for (MetricResolution resolution : MetricResolution.values()) {
+            Optional<Instant> watermark = findWatermark(resolution);
+            if (watermark.isEmpty()) {
+                continue;
+            }
+            // Minute buckets are re-aggregated an hour at a time, coarser ones a bucket at a time
+            MetricResolution window = resolution == MetricResolution.MINUTE ? MetricResolution.HOUR : resolution;
+            String sql = String.format(ROLLUP_SQL, resolution.getTableName(), resolution.getTruncUnit(), INSTANCE_FILTER);
+            hoursByInstance.forEach((serviceInstanceId, hours) -> hours.stream()
+                    .map(window::truncate)
+                    .distinct()
+                    .filter(from -> from.isBefore(watermark.get()))
+                    .forEach(from -> {
+                        Instant to = from.plus(window.getDuration());
+                        jdbcTemplate.update(sql, serviceInstanceId, Timestamp.from(from),
+                                Timestamp.from(to.isBefore(watermark.get()) ? to : watermark.get()));
+                    }));
+        }
+        return hoursByInstance.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * Delete buckets that start before the cutoff
+     */
+    @Transactional
+    public int deleteBucketsBefore(MetricResolution resolution, Instant cutoff) {
+        return jdbcTemplate.update("DELETE FROM " + resolution.getTableName() + " WHERE bucket_start < ?",
+                Timestamp.from(cutoff));
+    }
+
+    /**
+     * Find the buckets of one metric for a service instance in [from, to)
+     */
+    public List<MetricRollupPoint> findPoints(MetricResolution resolution, UUID serviceInstanceId,
+                                              ServiceMetric.MetricType metricType, Instant from, Instant to) {
+        return jdbcTemplate.query(String.format(POINTS_SQL, resolution.getTableName()),
+                (rs, rowNum) -> new MetricRollupPoint(
+                        rs.getTimestamp("bucket_start").toLocalDateTime(),
+                        rs.getInt("sample_count"),
+                        rs.getBigDecimal("min_value"),
+                        rs.getBigDecimal("max_value"),
+                        rs.getBigDecimal("avg_value"),
+                        rs.getBigDecimal("p95_value")),
+                serviceInstanceId, metricType.name(), Timestamp.from(from), Timestamp.from(to));
+    }
+}
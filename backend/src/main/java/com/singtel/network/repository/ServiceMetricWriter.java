@@ -0,0 +1,53 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.dto.metric.MetricSample;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bulk writer for service_metrics.
+ * Bypasses the persistence context: samples are never read back in the same unit of work, and
+ * JDBC batches are rewritten into multi-row INSERTs by the driver (reWriteBatchedInserts).
+ */
+@Repository
+public class ServiceMetricWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO singtel_app.service_metrics " +
+            "(id, service_instance_id, metric_type, metric_value, metric_unit, measured_at, source_system, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert samples in one transaction, batchSize rows per JDBC batch
+     */
+    @Transactional
+    public int insertAll(List<MetricSample> samples, int batchSize) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, samples, batchSize, (ps, sample) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, sample.getServiceInstanceId());
+            ps.setString(3, sample.getMetricType().name());
+            ps.setBigDecimal(4, sample.getMetricValue());
+            ps.setString(5, sample.getMetricUnit());
+            ps.setTimestamp(6, Timestamp.valueOf(sample.getMeasuredAt()));
+            ps.setString(7, sample.getSourceSystem());
+            ps.setTimestamp(8, createdAt);
+        });
+
+        int written = 0;
+        for (int[] batch : counts) {
+            written += batch.length;
+        }
+        return written;
+    }
+}
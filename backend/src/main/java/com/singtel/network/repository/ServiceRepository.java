@@ -1,9 +1,13 @@
 package com.singtel.network.repository;
 
+import com.singtel.network.dto.service.ServiceSummaryResponse;
 import com.singtel.network.entity.Service;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,7 +20,7 @@ import java.util.UUID;
  * Repository interface for Service entity operations.
  */
 @Repository
-public interface ServiceRepository extends JpaRepository<Service, UUID> {
+public interface ServiceRepository extends JpaRepository<Service, UUID>, JpaSpecificationExecutor<Service> {
 
     /**
      * Find services by category ID
@@ -44,6 +48,16 @@ public interface ServiceRepository extends JpaRepository<Service, UUID> {
     @Query("SELECT s FROM Service s WHERE s.isAvailable = true")
     List<Service> findAvailableServices();
 
+    /**
+     * Find available service list items without loading entities or their jsonb columns
+     */
+    @Query("SELECT new com.singtel.network.dto.service.ServiceSummaryResponse(" +
+           "s.id, s.name, s.description, s.serviceType, s.baseBandwidthMbps, s.maxBandwidthMbps, s.minBandwidthMbps, " +
+           "s.basePriceMonthly, s.pricePerMbps, s.setupFee, s.contractTermMonths, s.isBandwidthAdjustable, " +
+           "s.isAvailable, s.provisioningTimeHours, c.id, c.name) " +
+           "FROM Service s LEFT JOIN s.category c WHERE s.isAvailable = true ORDER BY s.name")
+    List<ServiceSummaryResponse> findAvailableServiceSummaries();
+
     /**
      * Find available services with pagination
      */
@@ -92,36 +106,20 @@ public interface ServiceRepository extends JpaRepository<Service, UUID> {
     List<Service> findByCategoryAndType(@Param("categoryId") UUID categoryId, @Param("serviceType") String serviceType);
 
     /**
-     * Search services with multiple criteria using native query to avoid PostgreSQL parameter type issues
-     */
-    @Query(value = "SELECT * FROM singtel_app.services s WHERE " +
-           "(:categoryId::uuid IS NULL OR s.category_id = :categoryId::uuid) AND " +
-           "(:serviceType IS NULL OR s.service_type = :serviceType) AND " +
-           "(:minPrice::numeric IS NULL OR s.base_price_monthly >= :minPrice::numeric) AND " +
-           "(:maxPrice::numeric IS NULL OR s.base_price_monthly <= :maxPrice::numeric) AND " +
-           "(:minBandwidth::integer IS NULL OR s.base_bandwidth_mbps >= :minBandwidth::integer) AND " +
-           "(:maxBandwidth::integer IS NULL OR s.base_bandwidth_mbps <= :maxBandwidth::integer) AND " +
-           "(:bandwidthAdjustable::boolean IS NULL OR s.is_bandwidth_adjustable = :bandwidthAdjustable::boolean) AND " +
-           "s.is_available = true " +
-           "ORDER BY s.name",
-           countQuery = "SELECT COUNT(*) FROM singtel_app.services s WHERE " +
-           "(:categoryId::uuid IS NULL OR s.category_id = :categoryId::uuid) AND " +
-           "(:serviceType IS NULL OR s.service_type = :serviceType) AND " +
-           "(:minPrice::numeric IS NULL OR s.base_price_monthly >= :minPrice::numeric) AND " +
-           "(:maxPrice::numeric IS NULL OR s.base_price_monthly <= :maxPrice::numeric) AND " +
-           "(:minBandwidth::integer IS NULL OR s.base_bandwidth_mbps >= :minBandwidth::integer) AND " +
-           "(:maxBandwidth::integer IS NULL OR s.base_bandwidth_mbps <= :maxBandwidth::integer) AND " +
-           "(:bandwidthAdjustable::boolean IS NULL OR s.is_bandwidth_adjustable = :bandwidthAdjustable::boolean) AND " +
-           "s.is_available = true",
-           nativeQuery = true)
-    Page<Service> searchServices(@Param("categoryId") UUID categoryId,
-                                @Param("serviceType") String serviceType,
-                                @Param("minPrice") BigDecimal minPrice,
-                                @Param("maxPrice") BigDecimal maxPrice,
-                                @Param("minBandwidth") Integer minBandwidth,
-                                @Param("maxBandwidth") Integer maxBandwidth,
-                                @Param("bandwidthAdjustable") Boolean bandwidthAdjustable,
-                                Pageable pageable);
+     * Search available services with multiple optional criteria.
+     * Sorting, paging and the count run in Postgres; results are ordered by name unless the pageable is sorted.
+     */
+    default Page<Service> searchServices(UUID categoryId, String serviceType,
+                                         BigDecimal minPrice, BigDecimal maxPrice,
+                                         Integer minBandwidth, Integer maxBandwidth,
+                                         Boolean bandwidthAdjustable, Pageable pageable) {
+        Pageable sorted = pageable.getSort().isSorted() || pageable.isUnpaged()
+                ? pageable
+                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("name"));
+
+        return findAll(ServiceSpecifications.search(categoryId, serviceType, minPrice, maxPrice,
+                minBandwidth, maxBandwidth, bandwidthAdjustable), sorted);
+    }
 
     /**
      * Get distinct service types
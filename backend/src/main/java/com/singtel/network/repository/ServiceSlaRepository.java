@@ -0,0 +1,190 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.dto.metric.SlaPeriod;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JDBC access to service_sla_metrics. Monthly (UTC) periods are calculated from the daily
+ * metric rollups and service_status_events; a period is only recalculated when one of its
+ * inputs was written after the period's calculated_at.
+ */
+@Repository
+public class ServiceSlaRepository {
+
+    static final String WATERMARK_NAME = "INPUTS";
+
+    private static final String OVERLAP_SECONDS =
+            "EXTRACT(EPOCH FROM LEAST(COALESCE(ev.resolved_at, CURRENT_TIMESTAMP), p.period_to) " +
+            "- GREATEST(ev.started_at, p.period_from))::numeric";
+
+    /** Availability target (percent) for services whose features carry no sla_uptime */
+    private static final String DEFAULT_TARGET = "99.9";
+
+    // Daily rollups and status events written since the given time, mapped to the periods they touch.
+    // Open events are always included because their downtime grows without the row changing.
+    private static final String CHANGED_PERIODS_SQL =
+            "SELECT c.service_instance_id, c.period_start FROM (" +
+            "  SELECT service_instance_id, " +
+            "         date_trunc('month', bucket_start AT TIME ZONE 'UTC')::date AS period_start, " +
+            "         MAX(updated_at) AS changed_at " +
+            "  FROM singtel_app.service_metric_rollup_1d WHERE updated_at > ? " +
+            "  GROUP BY 1, 2 " +
+            "  UNION ALL " +
+            "  SELECT e.service_instance_id, m.month_start::date, " +
+            "         MAX(CASE WHEN e.resolved_at IS NULL THEN CURRENT_TIMESTAMP ELSE e.updated_at END) " +
+            "  FROM singtel_app.service_status_events e " +
+            "  CROSS JOIN LATERAL generate_series(date_trunc('month', e.started_at AT TIME ZONE 'UTC'), " +
+            "         date_trunc('month', COALESCE(e.resolved_at, CURRENT_TIMESTAMP) AT TIME ZONE 'UTC'), " +
+            "         INTERVAL '1 month') AS m(month_start) " +
+            "  WHERE e.updated_at > ? OR e.resolved_at IS NULL " +
+            "  GROUP BY 1, 2" +
+            ") c " +
+            "LEFT JOIN singtel_app.service_sla_metrics s " +
+            "  ON s.service_instance_id = c.service_instance_id AND s.period_start = c.period_start " +
+            "WHERE c.period_start <= (CURRENT_TIMESTAMP AT TIME ZONE 'UTC')::date " +
+            "GROUP BY c.service_instance_id, c.period_start, s.calculated_at " +
+            "HAVING s.calculated_at IS NULL OR s.calculated_at < MAX(c.changed_at) " +
+            "ORDER BY c.period_start, c.service_instance_id";
+
+    // Outage is the time covered by CRITICAL and HIGH incidents; planned maintenance is taken out of
+    // the period before availability is computed. The current period runs up to now.
+    private static final String CALCULATE_SQL =
+            "WITH p AS (" +
+            "  SELECT t.service_instance_id, t.period_start, " +
+            "         t.period_start::timestamp AT TIME ZONE 'UTC' AS period_from, " +
+            "         LEAST((t.period_start + INTERVAL '1 month') AT TIME ZONE 'UTC', CURRENT_TIMESTAMP) AS period_to " +
+            "  FROM unnest(?::uuid[], ?::date[]) AS t(service_instance_id, period_start)" +
+            "), m AS (" +
+            "  SELECT p.service_instance_id, p.period_start, " +
+            weightedAverage("UPTIME") + " AS uptime, " +
+            weightedAverage("LATENCY") + " AS latency, " +
+            weightedAverage("PACKET_LOSS") + " AS packet_loss, " +
+            weightedAverage("BANDWIDTH_UTILIZATION") + " AS utilization_avg, " +
+            "         MAX(r.max_value) FILTER (WHERE r.metric_type = 'BANDWIDTH_UTILIZATION') AS utilization_peak " +
+            "  FROM p JOIN singtel_app.service_metric_rollup_1d r " +
+            "    ON r.service_instance_id = p.service_instance_id " +
+            "   AND r.bucket_start >= p.period_from AND r.bucket_start < p.period_to " +
+            "  GROUP BY p.service_instance_id, p.period_start" +
+            "), e AS (" +
+            "  SELECT p.service_instance_id, p.period_start, " +
+            "         COUNT(*) FILTER (WHERE ev.event_type = 'INCIDENT' AND ev.started_at >= p.period_from) AS incidents, " +
+            "         COALESCE(SUM(" + OVERLAP_SECONDS + ") FILTER (WHERE ev.event_type = 'INCIDENT' " +
+            "             AND ev.severity IN ('CRITICAL', 'HIGH')), 0) AS outage_seconds, " +
+            "         COALESCE(SUM(" + OVERLAP_SECONDS + ") FILTER (WHERE ev.event_type = 'MAINTENANCE'), 0) AS maintenance_seconds " +
+            "  FROM p JOIN singtel_app.service_status_events ev " +
+            "    ON ev.service_instance_id = p.service_instance_id " +
+            "   AND ev.started_at < p.period_to AND COALESCE(ev.resolved_at, CURRENT_TIMESTAMP) > p.period_from " +
+            "  GROUP BY p.service_instance_id, p.period_start" +
+            "), a AS (" +
+            "  SELECT p.service_instance_id, p.period_start, m.uptime, m.latency, m.packet_loss, " +
+            "         m.utilization_avg, m.utilization_peak, " +
+            "         COALESCE(e.incidents, 0) AS incidents, " +
+            "         COALESCE(e.maintenance_seconds, 0) AS maintenance_seconds, " +
+            "         GREATEST(0, COALESCE(100 * (1 - COALESCE(e.outage_seconds, 0) / NULLIF(" +
+            "             EXTRACT(EPOCH FROM p.period_to - p.period_from)::numeric - COALESCE(e.maintenance_seconds, 0), 0)), 100)) AS availability, " +
+            "         COALESCE(NULLIF(regexp_replace(svc.features ->> 'sla_uptime', '[^0-9.]', '', 'g'), '')::numeric, " +
+            "             " + DEFAULT_TARGET + ") AS target " +
+            "  FROM p " +
+            "  LEFT JOIN m ON m.service_instance_id = p.service_instance_id AND m.period_start = p.period_start " +
+            "  LEFT JOIN e ON e.service_instance_id = p.service_instance_id AND e.period_start = p.period_start " +
+            "  JOIN singtel_app.service_instances si ON si.id = p.service_instance_id " +
+            "  JOIN singtel_app.services svc ON svc.id = si.service_id " +
+            "  WHERE p.period_to > p.period_from" +
+            ") " +
+            "INSERT INTO singtel_app.service_sla_metrics (service_instance_id, period_start, period_end, " +
+            "uptime_percentage, availability_percentage, average_latency_ms, packet_loss_percentage, " +
+            "bandwidth_utilization_avg, bandwidth_utilization_peak, incidents_count, maintenance_hours, " +
+            "sla_compliance_score, calculated_at) " +
+            "SELECT service_instance_id, period_start, (period_start + INTERVAL '1 month - 1 day')::date, " +
+            clamp("uptime", "100", 2) + ", " +
+            "ROUND(LEAST(availability, 100), 2), " +
+            clamp("latency", "9999999.999", 3) + ", " +
+            clamp("packet_loss", "9.9999", 4) + ", " +
+            clamp("utilization_avg", "999.99", 2) + ", " +
+            clamp("utilization_peak", "999.99", 2) + ", " +
+            "incidents, ROUND(LEAST(maintenance_seconds / 3600, 9999.99), 2), " +
+            "ROUND(LEAST(100, 100 * LEAST(availability, 100) / NULLIF(target, 0)), 2), CURRENT_TIMESTAMP " +
+            "FROM a " +
+            "ON CONFLICT (service_instance_id, period_start) DO UPDATE SET " +
+            "period_end = EXCLUDED.period_end, uptime_percentage = EXCLUDED.uptime_percentage, " +
+            "availability_percentage = EXCLUDED.availability_percentage, average_latency_ms = EXCLUDED.average_latency_ms, " +
+            "packet_loss_percentage = EXCLUDED.packet_loss_percentage, " +
+            "bandwidth_utilization_avg = EXCLUDED.bandwidth_utilization_avg, " +
+            "bandwidth_utilization_peak = EXCLUDED.bandwidth_utilization_peak, " +
+            "incidents_count = EXCLUDED.incidents_count, maintenance_hours = EXCLUDED.maintenance_hours, " +
+            "sla_compliance_score = EXCLUDED.sla_compliance_score, calculated_at = EXCLUDED.calculated_at";
+
+    private static final String WATERMARK_SQL =
+            "INSERT INTO singtel_app.service_sla_watermarks (name, changed_until, updated_at) " +
+            "VALUES (?, ?, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (name) DO UPDATE SET changed_until = EXCLUDED.changed_until, updated_at = CURRENT_TIMESTAMP";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Find the time before which every input change has been applied
+     */
+    public Optional<Instant> findWatermark() {
+        return jdbcTemplate.query(
+                "SELECT changed_until FROM singtel_app.service_sla_watermarks WHERE name = ?",
+                (rs, rowNum) -> rs.getTimestamp(1).toInstant(), WATERMARK_NAME)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Record that every input change before changedUntil has been applied
+     */
+    @Transactional
+    public void saveWatermark(Instant changedUntil) {
+        jdbcTemplate.update(WATERMARK_SQL, WATERMARK_NAME, Timestamp.from(changedUntil));
+    }
+
+    /**
+     * Find the periods with inputs written after since that are missing or older than those inputs
+     */
+    public List<SlaPeriod> findChangedPeriods(Instant since) {
+        Timestamp sinceTimestamp = Timestamp.from(since);
+        return jdbcTemplate.query(CHANGED_PERIODS_SQL,
+                (rs, rowNum) -> new SlaPeriod(rs.getObject(1, UUID.class), rs.getDate(2).toLocalDate()),
+                sinceTimestamp, sinceTimestamp);
+    }
+
+    /**
+     * Calculate and upsert the given periods in one transaction, returning the number of rows written
+     */
+    @Transactional
+    public int calculate(List<SlaPeriod> periods) {
+        if (periods.isEmpty()) {
+            return 0;
+        }
+        Object[] ids = periods.stream().map(SlaPeriod::getServiceInstanceId).toArray();
+        Object[] starts = periods.stream().map(period -> Date.valueOf(period.getPeriodStart())).toArray();
+        return jdbcTemplate.update(CALCULATE_SQL, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids));
+            ps.setArray(2, ps.getConnection().createArrayOf("date", starts));
+        });
+    }
+
+    private static String weightedAverage(String metricType) {
+        return "SUM(r.avg_value * r.sample_count) FILTER (WHERE r.metric_type = '" + metricType + "') " +
+               "/ NULLIF(SUM(r.sample_count) FILTER (WHERE r.metric_type = '" + metricType + "'), 0)";
+    }
+
+    // LEAST and GREATEST skip NULLs, so "no samples" has to be kept explicitly
+    private static String clamp(String column, String max, int scale) {
+        return "CASE WHEN " + column + " IS NULL THEN NULL ELSE ROUND(LEAST(GREATEST(" + column + ", 0), "
+               + max + "), " + scale + ") END";
+    }
+}
@@ -0,0 +1,96 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.entity.Service;
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Composable JPA specifications for service catalog search.
+ * Only criteria that are present contribute a predicate, so Postgres sees a plain
+ * conjunction it can answer from the search indexes.
+ */
+public final class ServiceSpecifications {
+
+    private ServiceSpecifications() {
+    }
+
+    /**
+     * Build a search over available services from the optional criteria
+     */
+    public static Specification<Service> search(UUID categoryId, String serviceType,
+                                                BigDecimal minPrice, BigDecimal maxPrice,
+                                                Integer minBandwidth, Integer maxBandwidth,
+                                                Boolean bandwidthAdjustable) {
+        Specification<Service> spec = isAvailable().and(fetchCategory());
+
+        if (categoryId != null) {
+            spec = spec.and(hasCategory(categoryId));
+        }
+        if (serviceType != null) {
+            spec = spec.and(hasServiceType(serviceType));
+        }
+        if (minPrice != null) {
+            spec = spec.and(priceAtLeast(minPrice));
+        }
+        if (maxPrice != null) {
+            spec = spec.and(priceAtMost(maxPrice));
+        }
+        if (minBandwidth != null) {
+            spec = spec.and(bandwidthAtLeast(minBandwidth));
+        }
+        if (maxBandwidth != null) {
+            spec = spec.and(bandwidthAtMost(maxBandwidth));
+        }
+        if (bandwidthAdjustable != null) {
+            spec = spec.and(isBandwidthAdjustable(bandwidthAdjustable));
+        }
+        return spec;
+    }
+
+    public static Specification<Service> isAvailable() {
+        return (root, query, cb) -> cb.isTrue(root.get("isAvailable"));
+    }
+
+    public static Specification<Service> hasCategory(UUID categoryId) {
+        return (root, query, cb) -> cb.equal(root.get("category").get("id"), categoryId);
+    }
+
+    public static Specification<Service> hasServiceType(String serviceType) {
+        return (root, query, cb) -> cb.equal(root.get("serviceType"), serviceType);
+    }
+
+    public static Specification<Service> priceAtLeast(BigDecimal minPrice) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("basePriceMonthly"), minPrice);
+    }
+
+    public static Specification<Service> priceAtMost(BigDecimal maxPrice) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("basePriceMonthly"), maxPrice);
+    }
+
+    public static Specification<Service> bandwidthAtLeast(Integer minBandwidth) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("baseBandwidthMbps"), minBandwidth);
+    }
+
+    public static Specification<Service> bandwidthAtMost(Integer maxBandwidth) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("baseBandwidthMbps"), maxBandwidth);
+    }
+
+    public static Specification<Service> isBandwidthAdjustable(Boolean bandwidthAdjustable) {
+        return (root, query, cb) -> cb.equal(root.get("isBandwidthAdjustable"), bandwidthAdjustable);
+    }
+
+    /**
+     * Fetch the category with the page query (not the count query) so summaries need no extra lookups
+     */
+    public static Specification<Service> fetchCategory() {
+        return (root, query, cb) -> {
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("category", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+}
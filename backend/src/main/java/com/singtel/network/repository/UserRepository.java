@@ -1,5 +1,6 @@
 package com.singtel.network.repository;
 
+import com.singtel.network.dto.auth.UserTokenState;
 import com.singtel.network.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,7 +19,7 @@ import java.util.UUID;
  * Repository interface for User entity operations.
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository extends JpaRepository<User, UUID>, UserRepositoryCustom {
 
     /**
      * Find user by username
@@ -48,6 +49,13 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.company WHERE u.id = :id")
     Optional<User> findByIdWithCompany(@Param("id") UUID id);
 
+    /**
+     * Find token version and account status used to validate signed-claim tokens
+     */
+    @Query("SELECT new com.singtel.network.dto.auth.UserTokenState(u.tokenVersion, u.status, c.status) " +
+           "FROM User u JOIN u.company c WHERE u.id = :id")
+    Optional<UserTokenState> findTokenStateById(@Param("id") UUID id);
+
     /**
      * Check if username exists
      */
@@ -107,13 +115,6 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     @Query("UPDATE User u SET u.lastLoginAt = :loginTime WHERE u.id = :userId")
     void updateLastLoginTime(@Param("userId") UUID userId, @Param("loginTime") LocalDateTime loginTime);
 
-    /**
-     * Update user status
-     */
-    @Modifying
-    @Query("UPDATE User u SET u.status = :status WHERE u.id = :userId")
-    void updateUserStatus(@Param("userId") UUID userId, @Param("status") User.UserStatus status);
-
     /**
      * Find users with expired passwords
      */
@@ -0,0 +1,17 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.entity.User;
+
+import java.util.UUID;
+
+/**
+ * User updates that need more than a derived or annotated query.
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Update user status and revoke previously issued tokens.
+     * Publishes UserChangedEvent, so the principal and token-state caches are evicted after commit
+     */
+    void updateUserStatus(UUID userId, User.UserStatus status);
+}
@@ -0,0 +1,38 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.entity.User;
+import com.singtel.network.event.UserChangedEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Bulk user updates. A JPQL update bypasses AccountChangeListener, so the change event is
+ * published here instead; without it a status change would leave old tokens valid until the
+ * caches expire.
+ */
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public void updateUserStatus(UUID userId, User.UserStatus status) {
+        int updated = entityManager
+                .createQuery("UPDATE User u SET u.status = :status, u.tokenVersion = u.tokenVersion + 1 WHERE u.id = :userId")
+                .setParameter("status", status)
+                .setParameter("userId", userId)
+                .executeUpdate();
+        if (updated > 0) {
+            eventPublisher.publishEvent(new UserChangedEvent(userId));
+        }
+    }
+}
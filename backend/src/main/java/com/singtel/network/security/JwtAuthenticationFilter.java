@@ -1,5 +1,7 @@
 package com.singtel.network.security;
 
+import com.singtel.network.entity.User;
+import com.singtel.network.service.UserDetailsServiceImpl;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,16 +9,17 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * JWT authentication filter to validate JWT tokens in requests.
@@ -30,18 +33,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private JwtTokenProvider tokenProvider;
 
     @Autowired
-    private UserDetailsService userDetailsService;
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private UserTokenStateCache tokenStateCache;
+
+    @Value("${spring.security.jwt.stateless:false}")
+    private boolean stateless;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
                                   FilterChain filterChain) throws ServletException, IOException {
         try {
             String jwt = getJwtFromRequest(request);
+            Optional<JwtClaims> claims = tokenProvider.parseAndValidate(jwt);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
+            if (claims.isPresent()) {
+                String username = claims.get().getSubject();
+
+                UserDetails userDetails = loadPrincipal(claims.get());
+                if (userDetails == null) {
+                    logger.debug("Rejected revoked or inactive token for user: {}", username);
+                    filterChain.doFilter(request, response);
+                    return;
+                }
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
                 UsernamePasswordAuthenticationToken authentication = 
                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -57,6 +73,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Resolve the principal from signed token claims when stateless authentication is enabled,
+     * falling back to a database lookup for tokens issued without identity claims
+     */
+    private UserDetails loadPrincipal(JwtClaims claims) {
+        if (stateless) {
+            Optional<User> principal = claims.toPrincipal();
+            if (principal.isPresent()) {
+                User user = principal.get();
+                return user.isEnabled() && tokenStateCache.isCurrent(user) ? user : null;
+            }
+        }
+        return userDetailsService.loadCachedUserByUsername(claims.getSubject());
+    }
+
     /**
      * Extract JWT token from request header
      */
@@ -0,0 +1,145 @@
+package com.singtel.network.security;
+
+import com.singtel.network.entity.Company;
+import com.singtel.network.entity.User;
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Immutable view of the claims of a verified JWT token.
+ * Produced once per token by {@link JwtTokenProvider#parseAndValidate(String)} and safe to share between threads.
+ */
+public final class JwtClaims {
+
+    private static final String CLAIM_TYPE = "type";
+    private static final String TYPE_REFRESH = "refresh";
+
+    private final String subject;
+    private final String type;
+    private final Instant issuedAt;
+    private final Instant expiration;
+    private final UUID userId;
+    private final UUID companyId;
+    private final User.UserRole role;
+    private final User.UserStatus status;
+    private final Company.CompanyStatus companyStatus;
+    private final Integer tokenVersion;
+
+    private JwtClaims(Claims claims) {
+        this.subject = claims.getSubject();
+        this.type = claims.get(CLAIM_TYPE, String.class);
+        this.issuedAt = toInstant(claims.getIssuedAt());
+        this.expiration = toInstant(claims.getExpiration());
+
+        String userIdClaim = claims.get(JwtTokenProvider.CLAIM_USER_ID, String.class);
+        String companyIdClaim = claims.get(JwtTokenProvider.CLAIM_COMPANY_ID, String.class);
+        String roleClaim = claims.get(JwtTokenProvider.CLAIM_ROLE, String.class);
+        String statusClaim = claims.get(JwtTokenProvider.CLAIM_STATUS, String.class);
+        String companyStatusClaim = claims.get(JwtTokenProvider.CLAIM_COMPANY_STATUS, String.class);
+
+        this.userId = userIdClaim != null ? UUID.fromString(userIdClaim) : null;
+        this.companyId = companyIdClaim != null ? UUID.fromString(companyIdClaim) : null;
+        this.role = roleClaim != null ? User.UserRole.valueOf(roleClaim) : null;
+        this.status = statusClaim != null ? User.UserStatus.valueOf(statusClaim) : null;
+        this.companyStatus = companyStatusClaim != null ? Company.CompanyStatus.valueOf(companyStatusClaim) : null;
+        this.tokenVersion = claims.get(JwtTokenProvider.CLAIM_TOKEN_VERSION, Integer.class);
+    }
+
+    /**
+     * Copy the relevant values out of parsed JWT claims
+     */
+    public static JwtClaims from(Claims claims) {
+        return new JwtClaims(claims);
+    }
+
+    // Getters
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+    public Instant getExpiration() {
+        return expiration;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public UUID getCompanyId() {
+        return companyId;
+    }
+
+    public User.UserRole getRole() {
+        return role;
+    }
+
+    public User.UserStatus getStatus() {
+        return status;
+    }
+
+    public Company.CompanyStatus getCompanyStatus() {
+        return companyStatus;
+    }
+
+    public Integer getTokenVersion() {
+        return tokenVersion;
+    }
+
+    // Helper methods
+
+    public boolean isRefreshToken() {
+        return TYPE_REFRESH.equals(type);
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiration != null && !expiration.isAfter(now);
+    }
+
+    /**
+     * Whether the token carries the identity claims needed for stateless authentication
+     */
+    public boolean hasIdentity() {
+        return userId != null && companyId != null && role != null && status != null && companyStatus != null;
+    }
+
+    /**
+     * Build a detached user principal from the identity claims.
+     * Returns empty for tokens issued without identity claims.
+     */
+    public Optional<User> toPrincipal() {
+        if (!hasIdentity()) {
+            return Optional.empty();
+        }
+
+        Company company = new Company();
+        company.setId(companyId);
+        company.setStatus(companyStatus);
+
+        User user = new User();
+        user.setId(userId);
+        user.setUsername(subject);
+        user.setRole(role);
+        user.setStatus(status);
+        user.setTokenVersion(tokenVersion != null ? tokenVersion : 0);
+        user.setCompany(company);
+
+        return Optional.of(user);
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+}
@@ -1,37 +1,81 @@
 package com.singtel.network.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.singtel.network.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * JWT token provider for generating and validating JWT tokens.
+ * Verified claims are cached by token digest until the token expires, so a token presented
+ * repeatedly is only signature-checked and parsed once.
  */
 @Component
 public class JwtTokenProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
+    // Identity claims signed into access tokens for stateless authentication
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_COMPANY_ID = "cid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_STATUS = "status";
+    public static final String CLAIM_COMPANY_STATUS = "cst";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
+    private static final ThreadLocal<MessageDigest> TOKEN_DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
     private final SecretKey jwtSecret;
     private final int jwtExpirationInMs;
     private final int refreshTokenExpirationInMs;
+    private final JwtParser jwtParser;
+    private final Cache<ByteBuffer, JwtClaims> claimsCache;
 
     public JwtTokenProvider(
             @Value("${spring.security.jwt.secret}") String jwtSecretString,
             @Value("${spring.security.jwt.expiration}") int jwtExpirationInMs,
-            @Value("${spring.security.jwt.refresh-expiration}") int refreshTokenExpirationInMs) {
+            @Value("${spring.security.jwt.refresh-expiration}") int refreshTokenExpirationInMs,
+            @Value("${spring.security.jwt.claims-cache-size:10000}") long claimsCacheSize) {
         
         this.jwtSecret = Keys.hmacShaKeyFor(jwtSecretString.getBytes());
         this.jwtExpirationInMs = jwtExpirationInMs;
         this.refreshTokenExpirationInMs = refreshTokenExpirationInMs;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(jwtSecret)
+                .build();
+        this.claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheSize)
+                .expireAfter(new TokenExpiry())
+                .build();
     }
 
     /**
@@ -39,6 +83,9 @@ public class JwtTokenProvider {
      */
     public String generateToken(Authentication authentication) {
         UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
+        if (userPrincipal instanceof User user) {
+            return generateTokenFromUser(user);
+        }
         return generateTokenFromUsername(userPrincipal.getUsername());
     }
 
@@ -46,9 +93,17 @@ public class JwtTokenProvider {
      * Generate JWT token from username
      */
     public String generateTokenFromUsername(String username) {
+        return generateTokenFromUsername(username, Collections.emptyMap());
+    }
+
+    /**
+     * Generate JWT token from username with additional signed claims
+     */
+    public String generateTokenFromUsername(String username, Map<String, Object> claims) {
         Date expiryDate = new Date(System.currentTimeMillis() + jwtExpirationInMs);
 
         return Jwts.builder()
+                .addClaims(claims)
                 .setSubject(username)
                 .setIssuedAt(new Date())
                 .setExpiration(expiryDate)
@@ -56,6 +111,24 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * Generate JWT token carrying the user's identity, company, role, status and token version
+     */
+    public String generateTokenFromUser(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_USER_ID, user.getId().toString());
+        claims.put(CLAIM_ROLE, user.getRole().name());
+        claims.put(CLAIM_STATUS, user.getStatus().name());
+        claims.put(CLAIM_TOKEN_VERSION, user.getTokenVersion() != null ? user.getTokenVersion() : 0);
+
+        if (user.getCompany() != null) {
+            claims.put(CLAIM_COMPANY_ID, user.getCompany().getId().toString());
+            claims.put(CLAIM_COMPANY_STATUS, user.getCompany().getStatus().name());
+        }
+
+        return generateTokenFromUsername(user.getUsername(), claims);
+    }
+
     /**
      * Generate refresh token
      */
@@ -71,90 +144,136 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * Verify a JWT token once and return its claims.
+     * Returns empty if the token is malformed, badly signed or expired.
+     */
+    public Optional<JwtClaims> parseAndValidate(String token) {
+        if (!StringUtils.hasText(token)) {
+            return Optional.empty();
+        }
+
+        ByteBuffer key = digest(token);
+        JwtClaims cached = claimsCache.getIfPresent(key);
+        if (cached != null) {
+            if (!cached.isExpired(Instant.now())) {
+                return Optional.of(cached);
+            }
+            claimsCache.invalidate(key);
+            logger.error("Expired JWT token: cached claims expired at {}", cached.getExpiration());
+            return Optional.empty();
+        }
+
+        try {
+            JwtClaims claims = JwtClaims.from(jwtParser.parseClaimsJws(token).getBody());
+            claimsCache.put(key, claims);
+            return Optional.of(claims);
+        } catch (SecurityException ex) {
+            logger.error("Invalid JWT signature: {}", ex.getMessage());
+        } catch (MalformedJwtException ex) {
+            logger.error("Invalid JWT token: {}", ex.getMessage());
+        } catch (ExpiredJwtException ex) {
+            logger.error("Expired JWT token: {}", ex.getMessage());
+        } catch (UnsupportedJwtException ex) {
+            logger.error("Unsupported JWT token: {}", ex.getMessage());
+        } catch (IllegalArgumentException ex) {
+            logger.error("JWT claims string is empty: {}", ex.getMessage());
+        } catch (JwtException ex) {
+            logger.error("Invalid JWT token: {}", ex.getMessage());
+        }
+        return Optional.empty();
+    }
+
     /**
      * Get username from JWT token
      */
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(jwtSecret)
-                .parseClaimsJws(token)
-                .getBody();
+        return requireClaims(token).getSubject();
+    }
 
-        return claims.getSubject();
+    /**
+     * Build a detached user principal from the signed claims of a JWT token.
+     * Returns empty for tokens issued without identity claims.
+     */
+    public Optional<User> getUserFromToken(String token) {
+        return requireClaims(token).toPrincipal();
     }
 
     /**
      * Get expiration date from JWT token
      */
     public Date getExpirationDateFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(jwtSecret)
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getExpiration();
+        return Date.from(requireClaims(token).getExpiration());
     }
 
     /**
      * Validate JWT token
      */
     public boolean validateToken(String authToken) {
-        try {
-            Jwts.parser()
-                .setSigningKey(jwtSecret)
-                .parseClaimsJws(authToken);
-            return true;
-        } catch (SecurityException ex) {
-            logger.error("Invalid JWT signature: {}", ex.getMessage());
-        } catch (MalformedJwtException ex) {
-            logger.error("Invalid JWT token: {}", ex.getMessage());
-        } catch (ExpiredJwtException ex) {
-            logger.error("Expired JWT token: {}", ex.getMessage());
-        } catch (UnsupportedJwtException ex) {
-            logger.error("Unsupported JWT token: {}", ex.getMessage());
-        } catch (IllegalArgumentException ex) {
-            logger.error("JWT claims string is empty: {}", ex.getMessage());
-        }
-        return false;
+        return parseAndValidate(authToken).isPresent();
     }
 
     /**
      * Check if token is expired
      */
     public boolean isTokenExpired(String token) {
-        try {
-            Date expiration = getExpirationDateFromToken(token);
-            return expiration.before(new Date());
-        } catch (Exception e) {
-            return true;
-        }
+        return parseAndValidate(token)
+                .map(claims -> claims.isExpired(Instant.now()))
+                .orElse(true);
     }
 
     /**
      * Check if token is a refresh token
      */
     public boolean isRefreshToken(String token) {
-        try {
-            Claims claims = Jwts.parser()
-                    .setSigningKey(jwtSecret)
-                    .parseClaimsJws(token)
-                    .getBody();
-            
-            return "refresh".equals(claims.get("type"));
-        } catch (Exception e) {
-            return false;
-        }
+        return parseAndValidate(token)
+                .map(JwtClaims::isRefreshToken)
+                .orElse(false);
     }
 
     /**
      * Get remaining validity time in milliseconds
      */
     public long getRemainingValidityTime(String token) {
-        try {
-            Date expiration = getExpirationDateFromToken(token);
-            return expiration.getTime() - System.currentTimeMillis();
-        } catch (Exception e) {
-            return 0;
+        return parseAndValidate(token)
+                .map(JwtClaims::getExpiration)
+                .map(expiration -> Math.max(0, expiration.toEpochMilli() - System.currentTimeMillis()))
+                .orElse(0L);
+    }
+
+    private JwtClaims requireClaims(String token) {
+        return parseAndValidate(token)
+                .orElseThrow(() -> new MalformedJwtException("Invalid JWT token"));
+    }
+
+    private static ByteBuffer digest(String token) {
+        MessageDigest digest = TOKEN_DIGEST.get();
+        digest.reset();
+        return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    /**
+     * Keeps cached claims only until the token itself expires
+     */
+    private class TokenExpiry implements Expiry<ByteBuffer, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, JwtClaims claims, long currentTime) {
+            Instant expiration = claims.getExpiration();
+            if (expiration == null) {
+                return Duration.ofMillis(jwtExpirationInMs).toNanos();
+            }
+            return Math.max(0, Duration.between(Instant.now(), expiration).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, JwtClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 }
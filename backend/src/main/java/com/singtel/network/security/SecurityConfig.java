@@ -1,6 +1,7 @@
 package com.singtel.network.security;
 
 import com.singtel.network.config.CorsProperties;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -70,6 +71,9 @@ public class SecurityConfig {
             .exceptionHandling(exception -> exception.authenticationEntryPoint(unauthorizedHandler))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(authz -> authz
+                // Async dispatches finish streamed responses whose request was already authorized
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // Public auth endpoints
                 .requestMatchers("/auth/login", "/auth/refresh", "/auth/health").permitAll()
                 .requestMatchers("/actuator/health").permitAll()
@@ -86,7 +90,9 @@ public class SecurityConfig {
                 .requestMatchers("/companies/**").hasAnyRole("USER", "ADMIN")
                 .requestMatchers("/services/**").hasAnyRole("USER", "ADMIN", "VIEWER")
                 .requestMatchers("/orders/**").hasAnyRole("USER", "ADMIN")
+                .requestMatchers("/service-instances/**").hasAnyRole("USER", "ADMIN", "VIEWER")
                 .requestMatchers("/monitoring/**").hasAnyRole("USER", "ADMIN", "VIEWER")
+                .requestMatchers("/status-stream/**").hasAnyRole("USER", "ADMIN", "VIEWER")
 
                 // All other requests require authentication
                 .anyRequest().authenticated()
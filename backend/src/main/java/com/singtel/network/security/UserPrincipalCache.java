@@ -0,0 +1,240 @@
+package com.singtel.network.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.singtel.network.config.AppCacheProperties;
+import com.singtel.network.entity.Company;
+import com.singtel.network.entity.User;
+import com.singtel.network.event.CompanyChangedEvent;
+import com.singtel.network.event.UserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded in-process cache of user principals (with their company) used by
+ * {@link com.singtel.network.service.UserDetailsServiceImpl} to authenticate requests.
+ * Entries are private copies without the password hash; every lookup returns a fresh copy, so
+ * no two requests share a principal and nothing a request does to it reaches the cache.
+ * Principals from the cache may be stale and must never be saved. Entries are evicted after
+ * commit whenever the user or its company changes, and on logout; a load that raced with an
+ * eviction is not cached, as in {@link UserTokenStateCache}.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserPrincipalCache.class);
+
+    public static final String CACHE_NAME = "userPrincipals";
+
+    private static final String LOGIN_KEY_PREFIX = "login:";
+    private static final String ID_KEY_PREFIX = "id:";
+
+    private final Cache<String, User> cache;
+
+    // Cache keys of each user and cached users of each company, so evictions touch only their own entries
+    private final ConcurrentMap<UUID, Set<String>> keysByUser = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, Set<UUID>> usersByCompany = new ConcurrentHashMap<>();
+
+    // Bumped before every eviction so a load that raced with it is not cached
+    private final AtomicLong evictions = new AtomicLong();
+
+    public UserPrincipalCache(AppCacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        AppCacheProperties.CacheSpec spec = cacheProperties.getUserPrincipal();
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(spec.getTtl())
+                .maximumSize(spec.getMaxSize())
+                .evictionListener((String key, User user, RemovalCause cause) -> unindex(key, user))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Find cached user by username or email
+     */
+    public User getByLogin(String usernameOrEmail) {
+        return copyOf(cache.getIfPresent(LOGIN_KEY_PREFIX + usernameOrEmail));
+    }
+
+    /**
+     * Find cached user by ID
+     */
+    public User getById(UUID userId) {
+        return copyOf(cache.getIfPresent(ID_KEY_PREFIX + userId));
+    }
+
+    /**
+     * Eviction generation to read before loading a user; pass it to the put that caches the load
+     */
+    public long generation() {
+        return evictions.get();
+    }
+
+    /**
+     * Cache a user loaded under the given generation, unless an eviction has happened since
+     */
+    public void putByLogin(String usernameOrEmail, User user, long generation) {
+        put(LOGIN_KEY_PREFIX + usernameOrEmail, user, generation);
+    }
+
+    /**
+     * Cache a user loaded under the given generation, unless an eviction has happened since
+     */
+    public void putById(User user, long generation) {
+        put(ID_KEY_PREFIX + user.getId(), user, generation);
+    }
+
+    /**
+     * Evict every entry of the given user
+     */
+    public void evictUser(UUID userId) {
+        evictions.incrementAndGet();
+        Set<String> keys = keysByUser.get(userId);
+        if (keys == null) {
+            return;
+        }
+        List<String> evicted = List.copyOf(keys);
+        cache.invalidateAll(evicted);
+        keysByUser.computeIfPresent(userId, (id, current) -> {
+            evicted.forEach(current::remove);
+            return current.isEmpty() ? null : current;
+        });
+    }
+
+    /**
+     * Evict every entry of users belonging to the given company
+     */
+    public void evictCompany(UUID companyId) {
+        evictions.incrementAndGet();
+        Set<UUID> users = usersByCompany.get(companyId);
+        if (users == null) {
+            return;
+        }
+        List<UUID> evicted = List.copyOf(users);
+        evicted.forEach(this::evictUser);
+        usersByCompany.computeIfPresent(companyId, (id, current) -> {
+            evicted.forEach(current::remove);
+            return current.isEmpty() ? null : current;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        logger.debug("Evicting cached principal for user: {}", event.getUserId());
+        evictUser(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        logger.debug("Evicting cached principals for company: {}", event.getCompanyId());
+        evictCompany(event.getCompanyId());
+    }
+
+    /**
+     * Store a copy atomically with the generation check. The key is indexed before the check, so an
+     * eviction that starts after a successful check always finds the entry it has to remove.
+     */
+    private void put(String key, User user, long generation) {
+        User copy = copyOf(user);
+        cache.asMap().compute(key, (k, current) -> {
+            index(k, copy);
+            if (evictions.get() == generation) {
+                return copy;
+            }
+            if (current == null || !current.getId().equals(copy.getId())) {
+                unindex(k, copy);
+            }
+            return current;
+        });
+    }
+
+    private void index(String key, User user) {
+        keysByUser.compute(user.getId(), (id, keys) -> {
+            Set<String> indexed = keys != null ? keys : ConcurrentHashMap.newKeySet();
+            indexed.add(key);
+            return indexed;
+        });
+        if (user.getCompany() != null) {
+            usersByCompany.compute(user.getCompany().getId(), (id, users) -> {
+                Set<UUID> indexed = users != null ? users : ConcurrentHashMap.newKeySet();
+                indexed.add(user.getId());
+                return indexed;
+            });
+        }
+    }
+
+    /**
+     * Drop an expired, size-evicted or rejected entry from the indexes
+     */
+    private void unindex(String key, User user) {
+        keysByUser.computeIfPresent(user.getId(), (id, keys) -> {
+            keys.remove(key);
+            if (!keys.isEmpty()) {
+                return keys;
+            }
+            if (user.getCompany() != null) {
+                usersByCompany.computeIfPresent(user.getCompany().getId(), (companyId, users) -> {
+                    users.remove(id);
+                    return users.isEmpty() ? null : users;
+                });
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Detached copy of the user and its company, without the password hash or collections
+     */
+    private static User copyOf(User user) {
+        if (user == null) {
+            return null;
+        }
+        User copy = new User();
+        copy.setId(user.getId());
+        copy.setCreatedAt(user.getCreatedAt());
+        copy.setUpdatedAt(user.getUpdatedAt());
+        copy.setUsername(user.getUsername());
+        copy.setEmail(user.getEmail());
+        copy.setFirstName(user.getFirstName());
+        copy.setLastName(user.getLastName());
+        copy.setPhone(user.getPhone());
+        copy.setRole(user.getRole());
+        copy.setStatus(user.getStatus());
+        copy.setLastLoginAt(user.getLastLoginAt());
+        copy.setPasswordChangedAt(user.getPasswordChangedAt());
+        copy.setTokenVersion(user.getTokenVersion());
+
+        Company company = user.getCompany();
+        if (company != null) {
+            Company companyCopy = new Company();
+            companyCopy.setId(company.getId());
+            companyCopy.setCreatedAt(company.getCreatedAt());
+            companyCopy.setUpdatedAt(company.getUpdatedAt());
+            companyCopy.setName(company.getName());
+            companyCopy.setRegistrationNumber(company.getRegistrationNumber());
+            companyCopy.setEmail(company.getEmail());
+            companyCopy.setPhone(company.getPhone());
+            companyCopy.setAddress(company.getAddress());
+            companyCopy.setPostalCode(company.getPostalCode());
+            companyCopy.setCountry(company.getCountry());
+            companyCopy.setIndustry(company.getIndustry());
+            companyCopy.setCompanySize(company.getCompanySize());
+            companyCopy.setStatus(company.getStatus());
+            copy.setCompany(companyCopy);
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,93 @@
+package com.singtel.network.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.singtel.network.config.AppCacheProperties;
+import com.singtel.network.dto.auth.UserTokenState;
+import com.singtel.network.entity.User;
+import com.singtel.network.event.CompanyChangedEvent;
+import com.singtel.network.event.UserChangedEvent;
+import com.singtel.network.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Short-lived cache of user token state used to revoke stateless JWT tokens.
+ * A token is accepted only while its version matches the user's current token version
+ * and both the user and the company are active.
+ */
+@Component
+public class UserTokenStateCache {
+
+    public static final String CACHE_NAME = "userTokenStates";
+
+    private final UserRepository userRepository;
+    private final Cache<UUID, Optional<UserTokenState>> cache;
+
+    // Bumped before every eviction so a load that raced with it is not cached
+    private final AtomicLong evictions = new AtomicLong();
+
+    public UserTokenStateCache(UserRepository userRepository, AppCacheProperties cacheProperties,
+                               MeterRegistry meterRegistry) {
+        AppCacheProperties.CacheSpec spec = cacheProperties.getTokenState();
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(spec.getTtl())
+                .maximumSize(spec.getMaxSize())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Check whether the token version carried by the principal is still current
+     */
+    public boolean isCurrent(User principal) {
+        return getTokenState(principal.getId())
+                .map(state -> state.accepts(principal.getTokenVersion()))
+                .orElse(false);
+    }
+
+    /**
+     * Cached token state, loaded outside the cache on a miss. Cache.get(key, loader) would run the
+     * query inside the map's bin lock, pinning a virtual thread's carrier for the whole round trip.
+     * A load is only cached if no eviction happened meanwhile, so a revocation cannot be undone.
+     */
+    private Optional<UserTokenState> getTokenState(UUID userId) {
+        Optional<UserTokenState> cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = evictions.get();
+        Optional<UserTokenState> loaded = userRepository.findTokenStateById(userId);
+        cache.asMap().compute(userId, (id, current) -> evictions.get() == generation ? loaded : current);
+        return loaded;
+    }
+
+    /**
+     * Drop the cached state of a user so the next request reloads it
+     */
+    public void evict(UUID userId) {
+        evictions.incrementAndGet();
+        cache.invalidate(userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        // Token state carries the company status, which is not indexed by company
+        evictions.incrementAndGet();
+        cache.invalidateAll();
+    }
+}
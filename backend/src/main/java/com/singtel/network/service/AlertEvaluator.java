@@ -0,0 +1,131 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.MetricsProperties;
+import com.singtel.network.dto.alert.AlertRule;
+import com.singtel.network.dto.alert.AlertTrigger;
+import com.singtel.network.dto.metric.MetricSample;
+import com.singtel.network.entity.ServiceMetric;
+import com.singtel.network.repository.ServiceAlertRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Checks samples against enabled service_alerts as they leave the ingest buffer.
+ * Alerts are indexed by service instance and metric type, so a sample costs two hash lookups
+ * plus one comparison per alert on that metric. The index is rebuilt periodically and swapped in whole.
+ */
+@Service
+public class AlertEvaluator {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlertEvaluator.class);
+
+    @Autowired
+    private ServiceAlertRepository serviceAlertRepository;
+
+    @Autowired
+    private AlertNotificationWriter alertNotificationWriter;
+
+    @Autowired
+    private MetricsProperties metricsProperties;
+
+    private volatile Map<UUID, Map<ServiceMetric.MetricType, List<AlertRule>>> index = Map.of();
+
+    /**
+     * Reload enabled alerts, keeping trigger times this node recorded since the last load
+     */
+    @Scheduled(fixedDelayString = "${app.metrics.alerts.refresh-interval-ms:30000}")
+    public void refresh() {
+        if (!metricsProperties.getAlerts().isEnabled()) {
+            return;
+        }
+        List<AlertRule> rules;
+        try {
+            rules = serviceAlertRepository.findEnabledAlerts();
+        } catch (DataAccessException e) {
+            logger.error("Could not reload service alerts, keeping {} indexed alerts", getAlertCount(), e);
+            return;
+        }
+
+        Map<UUID, AlertRule> previous = new HashMap<>();
+        index.values().forEach(byType -> byType.values().forEach(list -> list.forEach(rule -> previous.put(rule.getId(), rule))));
+
+        Map<UUID, Map<ServiceMetric.MetricType, List<AlertRule>>> rebuilt = new HashMap<>();
+        for (AlertRule rule : rules) {
+            AlertRule old = previous.get(rule.getId());
+            if (old != null) {
+                rule.carryOverTrigger(old);
+            }
+            rebuilt.computeIfAbsent(rule.getServiceInstanceId(), id -> new EnumMap<>(ServiceMetric.MetricType.class))
+                    .computeIfAbsent(rule.getMetricType(), type -> new ArrayList<>())
+                    .add(rule);
+        }
+        index = rebuilt;
+        logger.debug("Indexed {} enabled alerts on {} service instances", rules.size(), rebuilt.size());
+    }
+
+    /**
+     * Evaluate samples against the index and queue every alert that fires, returning the number fired.
+     * A trigger the queue rejects is released at once, so the next breach can fire it again.
+     */
+    public int evaluate(List<MetricSample> samples) {
+        Map<UUID, Map<ServiceMetric.MetricType, List<AlertRule>>> current = index;
+        if (current.isEmpty()) {
+            return 0;
+        }
+
+        long now = System.currentTimeMillis();
+        int fired = 0;
+        for (MetricSample sample : samples) {
+            Map<ServiceMetric.MetricType, List<AlertRule>> byType = current.get(sample.getServiceInstanceId());
+            if (byType == null) {
+                continue;
+            }
+            List<AlertRule> rules = byType.get(sample.getMetricType());
+            if (rules == null) {
+                continue;
+            }
+            double value = sample.getMetricValue().doubleValue();
+            for (AlertRule rule : rules) {
+                if (!rule.matches(value)) {
+                    continue;
+                }
+                long previous = rule.claimTrigger(now);
+                if (previous == AlertRule.COOLING_DOWN) {
+                    continue;
+                }
+                AlertTrigger trigger = trigger(rule, sample, now, previous);
+                if (alertNotificationWriter.enqueue(trigger)) {
+                    fired++;
+                } else {
+                    trigger.release();
+                }
+            }
+        }
+        return fired;
+    }
+
+    public int getAlertCount() {
+        return index.values().stream().mapToInt(byType -> byType.values().stream().mapToInt(List::size).sum()).sum();
+    }
+
+    private AlertTrigger trigger(AlertRule rule, MetricSample sample, long now, long previous) {
+        String subject = "[" + rule.getSeverity() + "] " + rule.getAlertName();
+        String message = String.format("%s %s %s %s on service instance %s at %s",
+                sample.getMetricType(), sample.getMetricValue().toPlainString(), rule.getOperator().getSymbol(),
+                rule.getThresholdValue().toPlainString(), sample.getServiceInstanceId(), sample.getMeasuredAt());
+        return new AlertTrigger(rule.getId(), rule.getServiceInstanceId(), Instant.ofEpochMilli(now), subject, message,
+                rule, previous);
+    }
+}
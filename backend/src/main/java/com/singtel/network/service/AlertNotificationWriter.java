@@ -0,0 +1,102 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.MetricsProperties;
+import com.singtel.network.dto.alert.AlertTrigger;
+import com.singtel.network.repository.ServiceAlertRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background writer recording fired alerts and their notifications in JDBC batches.
+ * Evaluation only offers to a bounded queue, so a slow database never holds up ingestion.
+ * Triggers of a batch that fails to write are released, so their alerts can fire again.
+ */
+@Component
+public class AlertNotificationWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlertNotificationWriter.class);
+
+    @Autowired
+    private ServiceAlertRepository serviceAlertRepository;
+
+    @Autowired
+    private MetricsProperties metricsProperties;
+
+    private BlockingQueue<AlertTrigger> pending;
+
+    private final AtomicLong queuedNotifications = new AtomicLong();
+    private final AtomicLong droppedTriggers = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        pending = new ArrayBlockingQueue<>(metricsProperties.getAlerts().getQueueCapacity());
+    }
+
+    /**
+     * Queue a trigger without blocking; it is dropped and counted when the queue is full
+     */
+    public boolean enqueue(AlertTrigger trigger) {
+        if (pending.offer(trigger)) {
+            return true;
+        }
+        if (droppedTriggers.incrementAndGet() % 1_000 == 1) {
+            logger.warn("Alert trigger queue full, {} triggers dropped so far", droppedTriggers.get());
+        }
+        return false;
+    }
+
+    /**
+     * Write what is pending at the start of the run, one batch per transaction
+     */
+    @Scheduled(fixedDelayString = "${app.metrics.alerts.write-interval-ms:500}")
+    public void writePending() {
+        int batchSize = metricsProperties.getAlerts().getBatchSize();
+        int remaining = pending.size();
+        List<AlertTrigger> batch = new ArrayList<>(Math.min(batchSize, remaining));
+
+        while (remaining > 0 && pending.drainTo(batch, Math.min(batchSize, remaining)) > 0) {
+            remaining -= batch.size();
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void writeOnShutdown() {
+        writePending();
+    }
+
+    public int getPendingTriggers() {
+        return pending.size();
+    }
+
+    public long getQueuedNotifications() {
+        return queuedNotifications.get();
+    }
+
+    public long getDroppedTriggers() {
+        return droppedTriggers.get();
+    }
+
+    private void write(List<AlertTrigger> batch) {
+        try {
+            queuedNotifications.addAndGet(serviceAlertRepository.fire(batch));
+        } catch (DataAccessException e) {
+            droppedTriggers.addAndGet(batch.size());
+            batch.forEach(AlertTrigger::release);
+            logger.error("Dropped {} alert triggers after write failure: {}", batch.size(), e.getMessage());
+        }
+    }
+}
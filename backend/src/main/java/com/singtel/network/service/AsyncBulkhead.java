@@ -0,0 +1,95 @@
+package com.singtel.network.service;
+
+import com.singtel.network.exception.OrchestratorException;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Limits asynchronous calls to one endpoint to maxConcurrent in flight. Further calls wait in a
+ * bounded FIFO queue and start as earlier ones complete; calls beyond the queue are rejected.
+ * Nothing blocks, so a slow endpoint cannot tie up the callers' threads.
+ */
+public class AsyncBulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final Executor executor;
+
+    private final Queue<Runnable> waiting = new ArrayDeque<>();
+    private int active;
+
+    public AsyncBulkhead(String name, int maxConcurrent, int maxQueued, Executor executor) {
+        if (maxConcurrent < 1 || maxQueued < 0) {
+            throw new IllegalArgumentException("Bulkhead needs at least one concurrent call and a non-negative queue");
+        }
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.executor = executor;
+    }
+
+    /**
+     * Run call now if a slot is free, later if the queue has room, or fail with a rejection
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable start = () -> {
+            CompletableFuture<T> future;
+            try {
+                future = call.get();
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            future.whenComplete((value, error) -> {
+                release();
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            });
+        };
+
+        synchronized (this) {
+            if (active >= maxConcurrent) {
+                if (waiting.size() >= maxQueued) {
+                    return CompletableFuture.failedFuture(
+                            OrchestratorException.rejected("Bulkhead " + name + " is full"));
+                }
+                waiting.add(start);
+                return result;
+            }
+            active++;
+        }
+        start.run();
+        return result;
+    }
+
+    public synchronized int getActive() {
+        return active;
+    }
+
+    public synchronized int getQueued() {
+        return waiting.size();
+    }
+
+    /**
+     * Hand the slot to the next queued call, on the executor so completions do not nest
+     */
+    private void release() {
+        Runnable next;
+        synchronized (this) {
+            next = waiting.poll();
+            if (next == null) {
+                active--;
+                return;
+            }
+        }
+        executor.execute(next);
+    }
+}
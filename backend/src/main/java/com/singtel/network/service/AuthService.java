@@ -5,7 +5,9 @@ import com.singtel.network.dto.auth.LoginRequest;
 import com.singtel.network.dto.user.UserProfileResponse;
 import com.singtel.network.entity.User;
 import com.singtel.network.repository.UserRepository;
+import com.singtel.network.security.JwtClaims;
 import com.singtel.network.security.JwtTokenProvider;
+import com.singtel.network.security.UserPrincipalCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -38,6 +40,9 @@ public class AuthService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserPrincipalCache principalCache;
+
     /**
      * Authenticate user and generate JWT tokens
      */
@@ -58,9 +63,9 @@ public class AuthService {
             // Get user details
             User user = (User) authentication.getPrincipal();
             
-            // Update last login time
+            // Record the login with a column update; saving the whole principal could write back stale fields
             user.updateLastLogin();
-            userRepository.save(user);
+            userRepository.updateLastLoginTime(user.getId(), user.getLastLoginAt());
 
             // Generate tokens
             String accessToken = tokenProvider.generateToken(authentication);
@@ -90,12 +95,12 @@ public class AuthService {
 
         try {
             // Validate refresh token
-            if (!tokenProvider.validateToken(refreshToken) || !tokenProvider.isRefreshToken(refreshToken)) {
-                throw new BadCredentialsException("Invalid refresh token");
-            }
+            JwtClaims claims = tokenProvider.parseAndValidate(refreshToken)
+                .filter(JwtClaims::isRefreshToken)
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
 
             // Get username from refresh token
-            String username = tokenProvider.getUsernameFromToken(refreshToken);
+            String username = claims.getSubject();
             
             // Load user
             User user = userRepository.findByUsername(username)
@@ -107,7 +112,7 @@ public class AuthService {
             }
 
             // Generate new tokens
-            String newAccessToken = tokenProvider.generateTokenFromUsername(username);
+            String newAccessToken = tokenProvider.generateTokenFromUser(user);
             String newRefreshToken = tokenProvider.generateRefreshToken(username);
 
             // Get token expiration time
@@ -184,6 +189,7 @@ public class AuthService {
         
         if (authentication != null) {
             User user = (User) authentication.getPrincipal();
+            principalCache.evictUser(user.getId());
             logger.info("User logged out: {}", user.getUsername());
         }
 
@@ -0,0 +1,62 @@
+package com.singtel.network.service;
+
+import com.singtel.network.entity.BandwidthChange;
+import com.singtel.network.entity.ServiceInstance;
+import com.singtel.network.repository.BandwidthChangeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Applies one batch of due scheduled bandwidth changes per transaction.
+ */
+@Service
+public class BandwidthChangeApplier {
+
+    private static final Logger logger = LoggerFactory.getLogger(BandwidthChangeApplier.class);
+
+    @Autowired
+    private BandwidthChangeRepository bandwidthChangeRepository;
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+
+    /**
+     * Claim up to limit changes due at now and apply them through ServiceInstance.updateBandwidth.
+     * Changes the instance can no longer take are marked failed. Both outcomes are recorded in the
+     * outbox. The row locks are held until commit, which also flushes the change and instance
+     * updates as JDBC batches.
+     *
+     * @return the number of changes claimed, 0 when nothing is due or everything due is locked elsewhere
+     */
+    @Transactional
+    public int applyDue(LocalDateTime now, int limit) {
+        List<UUID> ids = bandwidthChangeRepository.claimDueScheduledChangeIds(now, limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int applied = 0;
+        List<BandwidthChange> changes = bandwidthChangeRepository.findWithServiceInstanceByIdIn(ids);
+        for (BandwidthChange change : changes) {
+            ServiceInstance instance = change.getServiceInstance();
+            if (instance.canAdjustBandwidth() && instance.getService().isValidBandwidth(change.getNewBandwidthMbps())) {
+                change.apply();
+                applied++;
+            } else {
+                logger.warn("Scheduled bandwidth change {} to {} Mbps failed: instance {} is {} and cannot take it",
+                           change.getId(), change.getNewBandwidthMbps(), instance.getId(), instance.getStatus());
+                change.fail();
+            }
+        }
+        outboxWriter.bandwidthChangesChanged(changes);
+        logger.debug("Applied {} of {} due bandwidth changes", applied, ids.size());
+        return ids.size();
+    }
+}
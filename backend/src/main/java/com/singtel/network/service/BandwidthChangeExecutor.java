@@ -0,0 +1,177 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.BandwidthChangeProperties;
+import com.singtel.network.repository.BandwidthChangeRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs scheduled bandwidth changes when they fall due. The times of upcoming changes are loaded
+ * ahead into a DelayQueue, rounded up to the second so changes sharing a minute boundary share one
+ * wake-up. On waking, a single worker thread claims due rows in small batches with SKIP LOCKED until
+ * none are left, so several nodes split a burst between them instead of each querying per change.
+ * Each node adds a random jitter to its wake-ups so they do not reach the database at the same instant.
+ */
+@Component
+public class BandwidthChangeExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(BandwidthChangeExecutor.class);
+
+    @Autowired
+    private BandwidthChangeRepository bandwidthChangeRepository;
+
+    @Autowired
+    private BandwidthChangeApplier bandwidthChangeApplier;
+
+    @Autowired
+    private BandwidthChangeProperties bandwidthChangeProperties;
+
+    private final DelayQueue<Wakeup> wakeups = new DelayQueue<>();
+    private final Set<Long> queuedSeconds = ConcurrentHashMap.newKeySet();
+    private final AtomicLong claimedChanges = new AtomicLong();
+
+    private Thread worker;
+
+    @PostConstruct
+    public void start() {
+        if (!bandwidthChangeProperties.isEnabled()) {
+            logger.info("Scheduled bandwidth change execution is disabled");
+            return;
+        }
+        worker = new Thread(this::runWorker, "bandwidth-change-executor");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    /**
+     * Load the due times of changes scheduled up to the lookahead; overdue ones wake the worker now
+     */
+    @Scheduled(fixedDelayString = "${app.bandwidth-changes.refresh-interval-ms:15000}")
+    public void refresh() {
+        if (!bandwidthChangeProperties.isEnabled()) {
+            return;
+        }
+        LocalDateTime until = LocalDateTime.now().plus(bandwidthChangeProperties.getLookahead());
+        try {
+            List<LocalDateTime> times = bandwidthChangeRepository.findScheduledTimesUntil(
+                    until, PageRequest.of(0, bandwidthChangeProperties.getMaxWakeups()));
+            times.forEach(this::wakeAt);
+        } catch (DataAccessException e) {
+            logger.error("Loading scheduled bandwidth changes failed", e);
+        }
+    }
+
+    /**
+     * Make sure the worker wakes at time, e.g. for a change scheduled closer than the next refresh
+     */
+    public void wakeAt(LocalDateTime time) {
+        long dueMillis = time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        long second = Math.max(Math.floorDiv(dueMillis + 999, 1000), Math.floorDiv(System.currentTimeMillis(), 1000));
+        if (queuedSeconds.add(second)) {
+            wakeups.add(new Wakeup(second, second * 1000 + jitterMillis()));
+        }
+    }
+
+    /**
+     * Claim and apply batches until nothing due is left unlocked
+     *
+     * @return the number of changes claimed
+     */
+    public int applyDue() {
+        int batchSize = bandwidthChangeProperties.getBatchSize();
+        int total = 0;
+        int claimed;
+        do {
+            claimed = bandwidthChangeApplier.applyDue(LocalDateTime.now(), batchSize);
+            total += claimed;
+        } while (claimed > 0 && !Thread.currentThread().isInterrupted());
+        claimedChanges.addAndGet(total);
+        return total;
+    }
+
+    public int getQueuedWakeups() {
+        return wakeups.size();
+    }
+
+    public long getClaimedChanges() {
+        return claimedChanges.get();
+    }
+
+    private void runWorker() {
+        List<Wakeup> fired = new ArrayList<>();
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                fired.add(wakeups.take());
+                wakeups.drainTo(fired);
+                fired.forEach(wakeup -> queuedSeconds.remove(wakeup.second));
+                fired.clear();
+
+                int claimed = applyDue();
+                if (claimed > 0) {
+                    logger.info("Processed {} scheduled bandwidth changes", claimed);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                // Rows stay SCHEDULED and overdue, so the next refresh wakes the worker for them again
+                logger.error("Applying scheduled bandwidth changes failed", e);
+            }
+        }
+    }
+
+    private long jitterMillis() {
+        long jitter = bandwidthChangeProperties.getWakeupJitter().toMillis();
+        return jitter > 0 ? ThreadLocalRandom.current().nextLong(jitter + 1) : 0;
+    }
+
+    /**
+     * Wake-up for one due second, fired at that second plus this node's jitter
+     */
+    private static final class Wakeup implements Delayed {
+
+        final long second;
+        final long fireAtMillis;
+
+        Wakeup(long second, long fireAtMillis) {
+            this.second = second;
+            this.fireAtMillis = fireAtMillis;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(fireAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(fireAtMillis, ((Wakeup) other).fireAtMillis);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.AppCacheProperties;
+import com.singtel.network.config.CacheConfig;
+import com.singtel.network.dto.service.ServiceSummaryResponse;
+import com.singtel.network.event.CatalogChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Keeps the catalog caches of {@link ServiceCatalogService} warm and consistent.
+ * Caches are filled once the application is ready and cleared after any committed
+ * change to a service or service category.
+ */
+@Service
+public class CatalogCacheService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogCacheService.class);
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ServiceCatalogService serviceCatalogService;
+
+    @Autowired
+    private CatalogSearchIndex catalogSearchIndex;
+
+    @Autowired
+    private AppCacheProperties cacheProperties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmOnStartup() {
+        if (cacheProperties.isWarmCatalogOnStartup()) {
+            warm();
+        }
+    }
+
+    /**
+     * Load the cached catalog views through the caching proxy
+     */
+    public void warm() {
+        try {
+            serviceCatalogService.getAllActiveCategories();
+            serviceCatalogService.getServiceTypes();
+            List<ServiceSummaryResponse> services = serviceCatalogService.getAllAvailableServices();
+            for (ServiceSummaryResponse service : services) {
+                serviceCatalogService.getServiceById(service.getId());
+            }
+            catalogSearchIndex.rebuild();
+            logger.info("Warmed catalog caches with {} services", services.size());
+        } catch (RuntimeException e) {
+            logger.warn("Could not warm catalog caches, they will be filled on first use", e);
+        }
+    }
+
+    /**
+     * Clear all catalog caches
+     */
+    public void evictAll() {
+        for (String name : CacheConfig.CATALOG_CACHES) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        logger.debug("Catalog changed ({} {}), clearing catalog caches",
+                event.getEntityType().getSimpleName(), event.getEntityId());
+        evictAll();
+    }
+}
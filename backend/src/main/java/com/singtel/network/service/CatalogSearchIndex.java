@@ -0,0 +1,92 @@
+package com.singtel.network.service;
+
+import com.singtel.network.event.CatalogChangedEvent;
+import com.singtel.network.repository.ServiceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the current {@link CatalogSnapshot} and swaps in a new one when the catalog changes.
+ * Readers always see a complete snapshot; a change marks the snapshot stale and the next
+ * search rebuilds it while concurrent searches keep using the previous one.
+ */
+@Component
+public class CatalogSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSearchIndex.class);
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+
+    // Not a monitor: the first build runs a query, which would pin a virtual thread's carrier
+    private final ReentrantLock initialLoadLock = new ReentrantLock();
+
+    /**
+     * Get the current snapshot, rebuilding it first if the catalog has changed
+     */
+    public CatalogSnapshot getSnapshot() {
+        CatalogSnapshot current = snapshot.get();
+        if (current == null) {
+            initialLoadLock.lock();
+            try {
+                current = snapshot.get();
+                if (current == null) {
+                    return rebuild();
+                }
+            } finally {
+                initialLoadLock.unlock();
+            }
+        }
+
+        if (stale.compareAndSet(true, false)) {
+            try {
+                return load();
+            } catch (RuntimeException e) {
+                stale.set(true);
+                throw e;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Load the available services and atomically replace the snapshot
+     */
+    public CatalogSnapshot rebuild() {
+        stale.set(false);
+        return load();
+    }
+
+    private CatalogSnapshot load() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+
+        CatalogSnapshot rebuilt = transaction.execute(status ->
+                CatalogSnapshot.build(serviceRepository.findAvailableServices()));
+        snapshot.set(rebuilt);
+
+        logger.debug("Rebuilt catalog search snapshot with {} services", rebuilt.size());
+        return rebuilt;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        stale.set(true);
+    }
+}
@@ -0,0 +1,282 @@
+package com.singtel.network.service;
+
+import com.singtel.network.dto.service.ServiceSummaryResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable, indexed view of the available service catalog used for multi-criteria search.
+ * Each service is addressed by its position in the snapshot; equality filters are bitsets,
+ * range filters are binary searches over sorted position arrays, and a search is the
+ * intersection of the matching bitsets followed by a page slice.
+ */
+public final class CatalogSnapshot {
+
+    private static final String SORT_PRICE = "basePriceMonthly";
+    private static final String SORT_BANDWIDTH = "baseBandwidthMbps";
+
+    private final ServiceSummaryResponse[] services;
+    private final BitSet all;
+    private final BitSet bandwidthAdjustable;
+    private final Map<UUID, BitSet> byCategory;
+    private final Map<String, BitSet> byServiceType;
+
+    // Positions sorted by price / bandwidth, with the sorted keys alongside for binary search
+    private final int[] priceOrder;
+    private final BigDecimal[] sortedPrices;
+    private final int[] bandwidthOrder;
+    private final int[] sortedBandwidths;
+
+    // Positions without a price / bandwidth, in catalog order; sorted slices place them like Postgres
+    private final int[] unpriced;
+    private final int[] withoutBandwidth;
+
+    private CatalogSnapshot(List<com.singtel.network.entity.Service> source) {
+        List<com.singtel.network.entity.Service> ordered = new ArrayList<>(source);
+        ordered.sort(Comparator.comparing(com.singtel.network.entity.Service::getName,
+                        Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(com.singtel.network.entity.Service::getId));
+
+        int size = ordered.size();
+        this.services = new ServiceSummaryResponse[size];
+        this.all = new BitSet(size);
+        this.bandwidthAdjustable = new BitSet(size);
+        Map<UUID, BitSet> categories = new HashMap<>();
+        Map<String, BitSet> serviceTypes = new HashMap<>();
+        List<Integer> priced = new ArrayList<>(size);
+        List<Integer> withBandwidth = new ArrayList<>(size);
+        List<Integer> noPrice = new ArrayList<>();
+        List<Integer> noBandwidth = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            com.singtel.network.entity.Service service = ordered.get(i);
+            services[i] = new ServiceSummaryResponse(service);
+            all.set(i);
+
+            if (service.isBandwidthAdjustable()) {
+                bandwidthAdjustable.set(i);
+            }
+            if (service.getCategory() != null) {
+                categories.computeIfAbsent(service.getCategory().getId(), id -> new BitSet(size)).set(i);
+            }
+            if (service.getServiceType() != null) {
+                serviceTypes.computeIfAbsent(service.getServiceType(), type -> new BitSet(size)).set(i);
+            }
+            if (service.getBasePriceMonthly() != null) {
+                priced.add(i);
+            } else {
+                noPrice.add(i);
+            }
+            if (service.getBaseBandwidthMbps() != null) {
+                withBandwidth.add(i);
+            } else {
+                noBandwidth.add(i);
+            }
+        }
+
+        this.byCategory = Collections.unmodifiableMap(categories);
+        this.byServiceType = Collections.unmodifiableMap(serviceTypes);
+
+        this.priceOrder = priced.stream()
+                .sorted(Comparator.comparing((Integer i) -> services[i].getBasePriceMonthly()))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        this.sortedPrices = Arrays.stream(priceOrder)
+                .mapToObj(i -> services[i].getBasePriceMonthly())
+                .toArray(BigDecimal[]::new);
+
+        this.bandwidthOrder = withBandwidth.stream()
+                .sorted(Comparator.comparing((Integer i) -> services[i].getBaseBandwidthMbps()))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        this.sortedBandwidths = Arrays.stream(bandwidthOrder)
+                .map(i -> services[i].getBaseBandwidthMbps())
+                .toArray();
+        this.unpriced = noPrice.stream().mapToInt(Integer::intValue).toArray();
+        this.withoutBandwidth = noBandwidth.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Build a snapshot from available services. Must run while lazy associations can be initialised.
+     */
+    public static CatalogSnapshot build(List<com.singtel.network.entity.Service> services) {
+        return new CatalogSnapshot(services);
+    }
+
+    public int size() {
+        return services.length;
+    }
+
+    /**
+     * Whether a search with this sort can be answered from the snapshot indexes
+     */
+    public static boolean supportsSort(Sort sort) {
+        return sort.stream().allMatch(o -> SORT_PRICE.equals(o.getProperty()) || SORT_BANDWIDTH.equals(o.getProperty()))
+                && sort.stream().count() <= 1;
+    }
+
+    /**
+     * Search services matching every non-null criterion.
+     * Sorting by basePriceMonthly or baseBandwidthMbps uses the range indexes; any other
+     * sort falls back to catalog order (by name), see {@link #supportsSort(Sort)}.
+     */
+    public Page<ServiceSummaryResponse> search(UUID categoryId, String serviceType,
+                                               BigDecimal minPrice, BigDecimal maxPrice,
+                                               Integer minBandwidth, Integer maxBandwidth,
+                                               Boolean bandwidthAdjustable, Pageable pageable) {
+        BitSet matches = (BitSet) all.clone();
+
+        if (categoryId != null) {
+            matches.and(byCategory.getOrDefault(categoryId, new BitSet()));
+        }
+        if (serviceType != null) {
+            matches.and(byServiceType.getOrDefault(serviceType, new BitSet()));
+        }
+        if (bandwidthAdjustable != null) {
+            if (bandwidthAdjustable) {
+                matches.and(this.bandwidthAdjustable);
+            } else {
+                matches.andNot(this.bandwidthAdjustable);
+            }
+        }
+        if (minPrice != null || maxPrice != null) {
+            int from = minPrice != null ? lowerBound(sortedPrices, minPrice) : 0;
+            int to = maxPrice != null ? upperBound(sortedPrices, maxPrice) : sortedPrices.length;
+            matches.and(positions(priceOrder, from, to));
+        }
+        if (minBandwidth != null || maxBandwidth != null) {
+            int from = minBandwidth != null ? lowerBound(sortedBandwidths, minBandwidth) : 0;
+            int to = maxBandwidth != null ? upperBound(sortedBandwidths, maxBandwidth) : sortedBandwidths.length;
+            matches.and(positions(bandwidthOrder, from, to));
+        }
+
+        return slice(matches, pageable);
+    }
+
+    private Page<ServiceSummaryResponse> slice(BitSet matches, Pageable pageable) {
+        int total = matches.cardinality();
+        if (pageable.isUnpaged()) {
+            pageable = Pageable.ofSize(Math.max(total, 1));
+        }
+
+        long offset = pageable.getOffset();
+        int limit = pageable.getPageSize();
+        List<ServiceSummaryResponse> content = new ArrayList<>(Math.min(limit, total));
+
+        Sort.Order order = pageable.getSort().stream()
+                .filter(o -> SORT_PRICE.equals(o.getProperty()) || SORT_BANDWIDTH.equals(o.getProperty()))
+                .findFirst()
+                .orElse(null);
+
+        if (order == null) {
+            int skipped = 0;
+            for (int i = matches.nextSetBit(0); i >= 0 && content.size() < limit; i = matches.nextSetBit(i + 1)) {
+                if (skipped++ >= offset) {
+                    content.add(services[i]);
+                }
+            }
+        } else {
+            boolean byPrice = SORT_PRICE.equals(order.getProperty());
+            int[] sorted = byPrice ? priceOrder : bandwidthOrder;
+            int[] nulls = byPrice ? unpriced : withoutBandwidth;
+            // Postgres default: nulls sort as the largest value, last ascending and first descending
+            boolean nullsFirst = order.getNullHandling() == Sort.NullHandling.NULLS_FIRST
+                    || (order.getNullHandling() == Sort.NullHandling.NATIVE && order.isDescending());
+            int skipped = 0;
+            for (int k = 0; k < sorted.length + nulls.length && content.size() < limit; k++) {
+                int i = position(sorted, nulls, order.isAscending(), nullsFirst, k);
+                if (matches.get(i) && skipped++ >= offset) {
+                    content.add(services[i]);
+                }
+            }
+        }
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * Position at rank k of the sort, with the keyless positions before or after the sorted ones
+     */
+    private static int position(int[] sorted, int[] nulls, boolean ascending, boolean nullsFirst, int k) {
+        int rank = nullsFirst ? k - nulls.length : k;
+        if (rank < 0 || rank >= sorted.length) {
+            return nulls[nullsFirst ? k : k - sorted.length];
+        }
+        return ascending ? sorted[rank] : sorted[sorted.length - 1 - rank];
+    }
+
+    private BitSet positions(int[] sortedPositions, int from, int to) {
+        BitSet bits = new BitSet(services.length);
+        for (int k = from; k < to; k++) {
+            bits.set(sortedPositions[k]);
+        }
+        return bits;
+    }
+
+    /** First index whose key is >= value */
+    private static int lowerBound(BigDecimal[] keys, BigDecimal value) {
+        int low = 0, high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(value) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** First index whose key is > value */
+    private static int upperBound(BigDecimal[] keys, BigDecimal value) {
+        int low = 0, high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(value) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int lowerBound(int[] keys, int value) {
+        int low = 0, high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int upperBound(int[] keys, int value) {
+        int low = 0, high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
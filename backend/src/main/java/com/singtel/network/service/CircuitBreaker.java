@@ -0,0 +1,132 @@
+package com.singtel.network.service;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker. It opens when the failure rate over the last windowSize calls
+ * reaches the threshold, rejects calls while open, then lets halfOpenCalls trial calls through:
+ * all of them succeeding closes it again, any failure reopens it.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+
+    private final boolean[] window;
+    private int next;
+    private int recorded;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int trialPermits;
+    private int trialSuccesses;
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, int failureRateThreshold,
+                          Duration openDuration, int halfOpenCalls) {
+        this(name, windowSize, minimumCalls, failureRateThreshold, openDuration, halfOpenCalls, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, int windowSize, int minimumCalls, int failureRateThreshold,
+                   Duration openDuration, int halfOpenCalls, LongSupplier nanoClock) {
+        if (windowSize < 1 || minimumCalls < 1 || halfOpenCalls < 1) {
+            throw new IllegalArgumentException("Circuit breaker window, minimum calls and half-open calls must be at least 1");
+        }
+        if (failureRateThreshold < 1 || failureRateThreshold > 100) {
+            throw new IllegalArgumentException("Failure rate threshold must be a percentage between 1 and 100");
+        }
+        this.name = name;
+        this.window = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Whether a call may proceed; every permitted call must report onSuccess or onFailure
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialPermits = halfOpenCalls;
+            trialSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialPermits == 0) {
+                return false;
+            }
+            trialPermits--;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++trialSuccesses >= halfOpenCalls) {
+                close();
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+                open();
+            }
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == window.length) {
+            if (window[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        window[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        next = 0;
+        recorded = 0;
+        failures = 0;
+    }
+}
@@ -0,0 +1,60 @@
+package com.singtel.network.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * Token bucket per destination. Buckets idle for longer than a full refill are evicted,
+ * since they would be back at full capacity anyway.
+ */
+public class DestinationRateLimiter {
+
+    private final double tokensPerNano;
+    private final double burst;
+    private final Cache<String, Bucket> buckets;
+
+    public DestinationRateLimiter(int ratePerMinute, int burst) {
+        if (ratePerMinute < 1 || burst < 1) {
+            throw new IllegalArgumentException("Rate and burst must be at least 1");
+        }
+        this.tokensPerNano = ratePerMinute / (double) Duration.ofMinutes(1).toNanos();
+        this.burst = burst;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofNanos((long) (burst / tokensPerNano)).plusMinutes(1))
+                .maximumSize(100_000)
+                .build();
+    }
+
+    /**
+     * Take a token for key at nowNanos; returns 0 on success or the nanoseconds until a token is available
+     */
+    public long tryAcquire(String key, long nowNanos) {
+        return buckets.get(key, k -> new Bucket(burst, nowNanos)).tryAcquire(nowNanos);
+    }
+
+    private final class Bucket {
+
+        private double tokens;
+        private long refilledAt;
+
+        Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+
+        // Short and non-blocking, so holding the monitor is cheap on any kind of thread
+        synchronized long tryAcquire(long nowNanos) {
+            if (nowNanos > refilledAt) {
+                tokens = Math.min(burst, tokens + (nowNanos - refilledAt) * tokensPerNano);
+                refilledAt = nowNanos;
+            }
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / tokensPerNano);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.singtel.network.service;
+
+import com.singtel.network.dto.alert.PendingNotification;
+import com.singtel.network.exception.NotificationDeliveryException;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Hands alert emails to the HTTP mail relay at app.notifications.email-gateway-url.
+ * Without a relay the sender is disabled and email rows stay PENDING.
+ */
+@Component
+public class EmailNotificationSender extends HttpNotificationSender {
+
+    @Override
+    public String getNotificationType() {
+        return "EMAIL";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        String gatewayUrl = notificationProperties.getEmailGatewayUrl();
+        return gatewayUrl != null && !gatewayUrl.isBlank();
+    }
+
+    @Override
+    public String destinationKey(PendingNotification notification) {
+        return notification.getRecipient().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public void send(PendingNotification notification) throws NotificationDeliveryException {
+        Map<String, Object> email = new LinkedHashMap<>();
+        email.put("to", notification.getRecipient());
+        email.put("subject", notification.getSubject());
+        email.put("text", notification.getMessage());
+        postJson(URI.create(notificationProperties.getEmailGatewayUrl()), email);
+    }
+}
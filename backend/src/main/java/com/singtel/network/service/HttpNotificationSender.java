@@ -0,0 +1,68 @@
+package com.singtel.network.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.singtel.network.config.NotificationProperties;
+import com.singtel.network.exception.NotificationDeliveryException;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * Base for senders that POST a JSON document. The shared HttpClient keeps connections to each
+ * destination alive between sends.
+ */
+public abstract class HttpNotificationSender implements NotificationSender {
+
+    @Autowired
+    protected NotificationProperties notificationProperties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private HttpClient httpClient;
+
+    @PostConstruct
+    public void init() {
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(notificationProperties.getRequestTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    /**
+     * POST body as JSON; 408, 429 and 5xx answers and I/O errors are retryable, other non-2xx answers are not
+     */
+    protected void postJson(URI uri, Object body) throws NotificationDeliveryException {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(uri)
+                    .timeout(notificationProperties.getRequestTimeout())
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new NotificationDeliveryException("Invalid notification request: " + e.getMessage(), false, e);
+        }
+
+        int status;
+        try {
+            status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            throw new NotificationDeliveryException("POST " + uri + " failed: " + e, true, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NotificationDeliveryException("POST " + uri + " interrupted", true, e);
+        }
+
+        if (status / 100 != 2) {
+            boolean retryable = status == 408 || status == 429 || status >= 500;
+            throw new NotificationDeliveryException("POST " + uri + " answered " + status, retryable);
+        }
+    }
+}
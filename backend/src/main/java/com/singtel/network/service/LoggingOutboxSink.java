@@ -0,0 +1,26 @@
+package com.singtel.network.service;
+
+import com.singtel.network.dto.outbox.OutboxMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes outbox events to the application log; the default until a downstream is configured.
+ */
+@Component
+public class LoggingOutboxSink implements OutboxSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingOutboxSink.class);
+
+    @Override
+    public String getName() {
+        return "log";
+    }
+
+    @Override
+    public void publish(OutboxMessage message) {
+        logger.info("Outbox event {} {} for {} {}: {}", message.getId(), message.getEventType(),
+                   message.getAggregateType(), message.getAggregateId(), message.getPayload());
+    }
+}
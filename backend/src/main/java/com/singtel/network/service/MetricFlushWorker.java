@@ -0,0 +1,99 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.MetricsProperties;
+import com.singtel.network.dto.metric.MetricSample;
+import com.singtel.network.repository.ServiceMetricWriter;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background writer moving buffered metric samples into service_metrics in batches.
+ * Each batch is checked against the alert index once it is stored, off the request thread,
+ * so alerts never fire for samples that were dropped. Late samples are handed to the rollup
+ * so the buckets they belong to are re-aggregated.
+ */
+@Component
+public class MetricFlushWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricFlushWorker.class);
+
+    @Autowired
+    private MetricSampleBuffer metricSampleBuffer;
+
+    @Autowired
+    private ServiceMetricWriter serviceMetricWriter;
+
+    @Autowired
+    private AlertEvaluator alertEvaluator;
+
+    @Autowired
+    private MetricRollupService metricRollupService;
+
+    @Autowired
+    private MetricsProperties metricsProperties;
+
+    private final AtomicLong writtenSamples = new AtomicLong();
+    private final AtomicLong droppedSamples = new AtomicLong();
+
+    /**
+     * Write what is pending at the start of the run; later arrivals wait for the next run
+     * so a steady stream cannot monopolise the scheduler thread
+     */
+    @Scheduled(fixedDelayString = "${app.metrics.ingest.flush-interval-ms:200}")
+    public void flush() {
+        int batchSize = metricsProperties.getIngest().getBatchSize();
+        int pending = metricSampleBuffer.size();
+        List<MetricSample> batch = new ArrayList<>(Math.min(batchSize, pending));
+
+        while (pending > 0 && metricSampleBuffer.drainTo(batch, Math.min(batchSize, pending)) > 0) {
+            pending -= batch.size();
+            if (write(batch, batchSize)) {
+                metricRollupService.recordLateSamples(batch, Instant.now());
+                alertEvaluator.evaluate(batch);
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * Persist whatever is still buffered before the data source shuts down
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        logger.info("Flushing {} buffered metric samples before shutdown", metricSampleBuffer.size());
+        flush();
+    }
+
+    public long getWrittenSamples() {
+        return writtenSamples.get();
+    }
+
+    public long getDroppedSamples() {
+        return droppedSamples.get();
+    }
+
+    /**
+     * @return whether the batch was stored
+     */
+    private boolean write(List<MetricSample> batch, int batchSize) {
+        try {
+            writtenSamples.addAndGet(serviceMetricWriter.insertAll(batch, batchSize));
+            return true;
+        } catch (DataAccessException e) {
+            // A bad batch is dropped rather than retried forever, which would stall the buffer
+            droppedSamples.addAndGet(batch.size());
+            logger.error("Dropped {} metric samples after write failure: {}", batch.size(), e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.MetricsProperties;
+import com.singtel.network.dto.metric.MetricBatchRequest;
+import com.singtel.network.dto.metric.MetricIngestResponse;
+import com.singtel.network.dto.metric.MetricSample;
+import com.singtel.network.dto.metric.MetricSampleRequest;
+import com.singtel.network.repository.ServiceInstanceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Service accepting pushed monitoring samples into the ingest buffer.
+ * Samples are persisted asynchronously by MetricFlushWorker.
+ */
+@Service
+public class MetricIngestionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricIngestionService.class);
+
+    /** Tolerated probe clock drift for samples stamped in the future */
+    private static final Duration MAX_CLOCK_SKEW = Duration.ofHours(1);
+
+    @Autowired
+    private MetricSampleBuffer metricSampleBuffer;
+
+    @Autowired
+    private ServiceInstanceRepository serviceInstanceRepository;
+
+    @Autowired
+    private MetricsProperties metricsProperties;
+
+    /**
+     * Validate and buffer a batch of samples; the batch is rejected whole when the buffer is full
+     */
+    @Transactional(readOnly = true)
+    public MetricIngestResponse ingest(MetricBatchRequest request) {
+        List<MetricSampleRequest> samples = request.getSamples();
+
+        // Shed load before touching the database when the writer is already behind
+        if (samples.size() > metricSampleBuffer.remainingCapacity()) {
+            return rejected(samples.size());
+        }
+
+        verifyMeasuredWithinRetention(samples);
+        verifyServiceInstancesExist(samples);
+
+        List<MetricSample> buffered = samples.stream()
+                .map(MetricSample::from)
+                .toList();
+        if (!metricSampleBuffer.offerAll(buffered)) {
+            return rejected(samples.size());
+        }
+
+        logger.debug("Buffered {} metric samples ({} pending)", samples.size(), metricSampleBuffer.size());
+        return new MetricIngestResponse(true, samples.size(), metricSampleBuffer.size(), metricSampleBuffer.capacity());
+    }
+
+    // Samples outside the partition window would have no partition to land in
+    private void verifyMeasuredWithinRetention(List<MetricSampleRequest> samples) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime earliest = now.minusDays(metricsProperties.getPartitions().getRetentionDays());
+        LocalDateTime latest = now.plus(MAX_CLOCK_SKEW);
+        for (MetricSampleRequest sample : samples) {
+            if (sample.getMeasuredAt().isBefore(earliest) || sample.getMeasuredAt().isAfter(latest)) {
+                throw new IllegalArgumentException("Measurement time outside the retained window: " + sample.getMeasuredAt());
+            }
+        }
+    }
+
+    private void verifyServiceInstancesExist(List<MetricSampleRequest> samples) {
+        Set<UUID> serviceInstanceIds = samples.stream()
+                .map(MetricSampleRequest::getServiceInstanceId)
+                .collect(Collectors.toSet());
+
+        Set<UUID> missing = new HashSet<>(serviceInstanceIds);
+        missing.removeAll(serviceInstanceRepository.findExistingIds(serviceInstanceIds));
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Service instance not found: " + missing.iterator().next());
+        }
+    }
+
+    private MetricIngestResponse rejected(int sampleCount) {
+        logger.warn("Metric buffer full, rejecting batch of {} samples ({} pending)",
+                   sampleCount, metricSampleBuffer.size());
+        return new MetricIngestResponse(false, sampleCount, metricSampleBuffer.size(), metricSampleBuffer.capacity());
+    }
+}
@@ -0,0 +1,137 @@
+package com.singtel.network.service;
+
+import com.singtel.network.dto.metric.MetricReading;
+import com.singtel.network.dto.metric.MetricResolution;
+import com.singtel.network.dto.metric.MetricRollupPoint;
+import com.singtel.network.dto.metric.MetricRollupSeriesResponse;
+import com.singtel.network.dto.metric.MetricSeriesPoint;
+import com.singtel.network.entity.ServiceInstance;
+import com.singtel.network.entity.ServiceMetric;
+import com.singtel.network.entity.User;
+import com.singtel.network.repository.ServiceInstanceRepository;
+import com.singtel.network.repository.ServiceMetricRepository;
+import com.singtel.network.repository.ServiceMetricRollupRepository;
+import com.singtel.network.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Service for reading metric series of the current company's service instances.
+ */
+@Service
+@Transactional(readOnly = true)
+public class MetricQueryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricQueryService.class);
+
+    public static final int DEFAULT_MAX_POINTS = 500;
+    public static final int MAX_POINTS = 5_000;
+
+    @Autowired
+    private ServiceMetricRollupRepository rollupRepository;
+
+    @Autowired
+    private ServiceMetricRepository serviceMetricRepository;
+
+    @Autowired
+    private ServiceInstanceRepository serviceInstanceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Get an aggregated series at the finest rollup resolution that fits maxPoints buckets
+     */
+    public MetricRollupSeriesResponse getRollupSeries(UUID serviceInstanceId, ServiceMetric.MetricType metricType,
+                                                      LocalDateTime from, LocalDateTime to, int maxPoints) {
+        validateRange(from, to, maxPoints);
+        verifyServiceInstanceAccess(serviceInstanceId);
+
+        MetricResolution resolution = MetricResolution.forRange(Duration.between(from, to), maxPoints);
+        logger.debug("Reading {} rollups of {} for instance {} from {} to {}",
+                    resolution.getCode(), metricType, serviceInstanceId, from, to);
+
+        List<MetricRollupPoint> points = rollupRepository.findPoints(resolution, serviceInstanceId, metricType,
+                resolution.truncate(toInstant(from)), toInstant(to));
+        LocalDateTime rolledUpUntil = rollupRepository.findWatermark(resolution)
+                .map(watermark -> LocalDateTime.ofInstant(watermark, ZoneId.systemDefault()))
+                .orElse(null);
+
+        return new MetricRollupSeriesResponse(serviceInstanceId, metricType, resolution, from, to, rolledUpUntil, points);
+    }
+
+    /**
+     * Validate a raw series request and check the instance belongs to the current company.
+     * Call before streaming starts: streaming runs on another thread without the security context.
+     */
+    public void checkSeriesAccess(UUID serviceInstanceId, LocalDateTime from, LocalDateTime to, int maxPoints) {
+        validateRange(from, to, maxPoints);
+        verifyServiceInstanceAccess(serviceInstanceId);
+    }
+
+    /**
+     * Stream raw readings in [from, to) through a bucket-average downsampler into sink,
+     * returning the number of points emitted. Access must have been checked with checkSeriesAccess.
+     */
+    public int streamSeries(UUID serviceInstanceId, ServiceMetric.MetricType metricType,
+                            LocalDateTime from, LocalDateTime to, int maxPoints,
+                            Consumer<MetricSeriesPoint> sink) {
+        MetricSeriesDownsampler downsampler = new MetricSeriesDownsampler(from, to, maxPoints, sink);
+        try (Stream<MetricReading> readings =
+                     serviceMetricRepository.streamReadings(serviceInstanceId, metricType, from, to)) {
+            readings.forEach(downsampler::accept);
+        }
+        int points = downsampler.finish();
+        logger.debug("Streamed {} points of {} for instance {}", points, metricType, serviceInstanceId);
+        return points;
+    }
+
+    // Private helper methods
+
+    private void validateRange(LocalDateTime from, LocalDateTime to, int maxPoints) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Time range must have from before to");
+        }
+        if (maxPoints < 1 || maxPoints > MAX_POINTS) {
+            throw new IllegalArgumentException("maxPoints must be between 1 and " + MAX_POINTS);
+        }
+    }
+
+    private void verifyServiceInstanceAccess(UUID serviceInstanceId) {
+        User currentUser = getCurrentUser();
+        ServiceInstance serviceInstance = serviceInstanceRepository.findById(serviceInstanceId)
+                .orElseThrow(() -> new IllegalArgumentException("Service instance not found: " + serviceInstanceId));
+        if (!serviceInstance.getCompany().getId().equals(currentUser.getCompany().getId())) {
+            throw new IllegalArgumentException("Service instance does not belong to your company");
+        }
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private User getCurrentUser() {
+        User user = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+
+        // Ensure the user and company relationship are properly loaded
+        if (user.getCompany() == null) {
+            user = userRepository.findByIdWithCompany(user.getId())
+                    .orElseThrow(() -> new IllegalStateException("Current user not found in database"));
+        }
+
+        return user;
+    }
+}
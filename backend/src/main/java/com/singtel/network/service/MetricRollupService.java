@@ -0,0 +1,152 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.MetricsProperties;
+import com.singtel.network.dto.metric.MetricResolution;
+import com.singtel.network.dto.metric.MetricSample;
+import com.singtel.network.repository.ServiceMetricRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Incrementally aggregates raw service metrics into 1m, 1h and 1d rollups.
+ * Each resolution keeps a watermark; a run only aggregates complete buckets between the
+ * watermark and now minus the allowed lateness, one day per transaction. Samples stored after
+ * that window has closed mark their hour dirty, and the next run re-aggregates those hours.
+ */
+@Service
+public class MetricRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricRollupService.class);
+
+    /** Raw window aggregated per transaction; matches one daily partition of service_metrics */
+    static final Duration CHUNK = Duration.ofDays(1);
+
+    /** Upper bound of chunks per resolution and run, so a long backlog cannot hold the scheduler */
+    static final int MAX_CHUNKS_PER_RUN = 100;
+
+    /** Upper bound of dirty hours re-aggregated per run */
+    static final int MAX_DIRTY_HOURS_PER_RUN = 500;
+
+    @Autowired
+    private ServiceMetricRollupRepository rollupRepository;
+
+    @Autowired
+    private MetricsProperties metricsProperties;
+
+    @Scheduled(fixedDelayString = "${app.metrics.rollup.interval-ms:60000}")
+    public void rollupAll() {
+        if (!metricsProperties.getRollup().isEnabled()) {
+            return;
+        }
+        Instant now = Instant.now();
+        for (MetricResolution resolution : MetricResolution.values()) {
+            try {
+                catchUp(resolution, now);
+            } catch (DataAccessException e) {
+                logger.error("Rollup of service metrics at {} failed", resolution.getCode(), e);
+            }
+        }
+        try {
+            rerollDirtyHours();
+        } catch (DataAccessException e) {
+            logger.error("Re-aggregation of late service metrics failed", e);
+        }
+    }
+
+    /**
+     * Mark the hours of stored samples that are older than the allowed lateness, since the
+     * watermark may already have passed their buckets. writtenAt must be taken after the batch
+     * committed, so a rollup that could not see the batch started before it.
+     */
+    public void recordLateSamples(List<MetricSample> samples, Instant writtenAt) {
+        if (!metricsProperties.getRollup().isEnabled()) {
+            return;
+        }
+        Instant closed = MetricResolution.MINUTE.truncate(writtenAt.minus(metricsProperties.getRollup().getAllowedLateness()));
+        Map<UUID, Set<Instant>> hoursByInstance = new HashMap<>();
+        for (MetricSample sample : samples) {
+            // Same conversion as ServiceMetricWriter, so the hour matches the stored measured_at
+            Instant measuredAt = Timestamp.valueOf(sample.getMeasuredAt()).toInstant();
+            if (measuredAt.isBefore(closed)) {
+                hoursByInstance.computeIfAbsent(sample.getServiceInstanceId(), id -> new HashSet<>())
+                        .add(MetricResolution.HOUR.truncate(measuredAt));
+            }
+        }
+        if (hoursByInstance.isEmpty()) {
+            return;
+        }
+        try {
+            rollupRepository.markDirtyHours(hoursByInstance);
+        } catch (DataAccessException e) {
+            logger.error("Could not mark late metric samples of {} service instances for re-aggregation: {}",
+                    hoursByInstance.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Drop minute buckets past their retention; hourly and daily buckets are kept
+     */
+    @Scheduled(cron = "${app.metrics.rollup.prune-cron:0 20 0 * * *}", zone = "UTC")
+    public void pruneMinuteRollups() {
+        if (!metricsProperties.getRollup().isEnabled()) {
+            return;
+        }
+        Instant cutoff = Instant.now().minus(Duration.ofDays(metricsProperties.getRollup().getMinuteRetentionDays()));
+        int deleted = rollupRepository.deleteBucketsBefore(MetricResolution.MINUTE, MetricResolution.DAY.truncate(cutoff));
+        logger.info("Pruned {} minute rollup buckets", deleted);
+    }
+
+    /**
+     * Aggregate every complete bucket since the watermark, returning the number of buckets written
+     */
+    int catchUp(MetricResolution resolution, Instant now) {
+        Instant cutoff = resolution.truncate(now.minus(metricsProperties.getRollup().getAllowedLateness()));
+        Instant watermark = rollupRepository.findWatermark(resolution)
+                .orElseGet(() -> initialWatermark(now));
+
+        int buckets = 0;
+        int chunks = 0;
+        while (watermark.isBefore(cutoff) && chunks < MAX_CHUNKS_PER_RUN) {
+            Instant to = watermark.plus(CHUNK).isBefore(cutoff) ? watermark.plus(CHUNK) : cutoff;
+            buckets += rollupRepository.rollup(resolution, watermark, to);
+            watermark = to;
+            chunks++;
+        }
+
+        if (buckets > 0) {
+            logger.debug("Rolled up {} {} buckets up to {}", buckets, resolution.getCode(), watermark);
+        }
+        return buckets;
+    }
+
+    /**
+     * Re-aggregate hours marked by late samples, returning the number of hours claimed
+     */
+    int rerollDirtyHours() {
+        int hours = rollupRepository.rerollDirtyHours(MAX_DIRTY_HOURS_PER_RUN);
+        if (hours > 0) {
+            logger.info("Re-aggregated {} hours that received late service metrics", hours);
+        }
+        return hours;
+    }
+
+    // Nothing older than raw retention can still be aggregated
+    private Instant initialWatermark(Instant now) {
+        Duration retention = Duration.ofDays(metricsProperties.getPartitions().getRetentionDays());
+        return MetricResolution.DAY.truncate(now.minus(retention));
+    }
+}
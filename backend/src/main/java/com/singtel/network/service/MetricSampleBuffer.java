@@ -0,0 +1,71 @@
+package com.singtel.network.service;
+
+import com.singtel.network.dto.metric.MetricSample;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Bounded ring buffer between the ingest endpoint and the background writer.
+ * A batch is accepted only if it fits completely, so a full buffer pushes back on the caller
+ * instead of growing the heap or silently dropping samples.
+ */
+public class MetricSampleBuffer {
+
+    private final MetricSample[] ring;
+    private int head;
+    private int size;
+    private long rejectedSamples;
+
+    public MetricSampleBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Buffer capacity must be at least 1");
+        }
+        this.ring = new MetricSample[capacity];
+    }
+
+    /**
+     * Append every sample, or none of them when the remaining capacity is too small
+     */
+    public synchronized boolean offerAll(Collection<MetricSample> samples) {
+        if (samples.size() > ring.length - size) {
+            rejectedSamples += samples.size();
+            return false;
+        }
+        for (MetricSample sample : samples) {
+            ring[(head + size) % ring.length] = sample;
+            size++;
+        }
+        return true;
+    }
+
+    /**
+     * Move up to max of the oldest samples into target, returning how many were moved
+     */
+    public synchronized int drainTo(List<MetricSample> target, int max) {
+        int count = Math.min(max, size);
+        for (int i = 0; i < count; i++) {
+            target.add(ring[head]);
+            ring[head] = null;
+            head = (head + 1) % ring.length;
+        }
+        size -= count;
+        return count;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized int remainingCapacity() {
+        return ring.length - size;
+    }
+
+    public int capacity() {
+        return ring.length;
+    }
+
+    public synchronized long getRejectedSamples() {
+        return rejectedSamples;
+    }
+}
@@ -0,0 +1,82 @@
+package com.singtel.network.service;
+
+import com.singtel.network.dto.metric.MetricReading;
+import com.singtel.network.dto.metric.MetricSeriesPoint;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Consumer;
+
+/**
+ * Streaming bucket-average downsampler for time-ordered readings.
+ * The range is split into at most maxPoints equal time buckets; a bucket is emitted as soon as
+ * the first reading of a later bucket arrives, so memory does not depend on the number of readings.
+ */
+public class MetricSeriesDownsampler {
+
+    private final LocalDateTime from;
+    private final long bucketMicros;
+    private final Consumer<MetricSeriesPoint> sink;
+
+    private long bucket = -1;
+    private long count;
+    private double sum;
+    private double min;
+    private double max;
+    private double offsetSum;
+    private int emitted;
+
+    public MetricSeriesDownsampler(LocalDateTime from, LocalDateTime to, int maxPoints,
+                                   Consumer<MetricSeriesPoint> sink) {
+        long rangeMicros = ChronoUnit.MICROS.between(from, to);
+        this.from = from;
+        this.bucketMicros = Math.max(1, (rangeMicros + maxPoints - 1) / maxPoints);
+        this.sink = sink;
+    }
+
+    /**
+     * Add the next reading; readings must arrive in measuredAt order
+     */
+    public void accept(MetricReading reading) {
+        long offset = ChronoUnit.MICROS.between(from, reading.getMeasuredAt());
+        long readingBucket = offset / bucketMicros;
+        if (readingBucket != bucket) {
+            emit();
+            bucket = readingBucket;
+        }
+
+        double value = reading.getMetricValue().doubleValue();
+        if (count == 0) {
+            min = value;
+            max = value;
+        } else {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        sum += value;
+        offsetSum += offset;
+        count++;
+    }
+
+    /**
+     * Emit the last open bucket and return the number of points emitted
+     */
+    public int finish() {
+        emit();
+        return emitted;
+    }
+
+    private void emit() {
+        if (count == 0) {
+            return;
+        }
+        // Points sit at the mean time of their samples, so sparse data keeps its exact timestamps
+        LocalDateTime time = from.plus(Math.round(offsetSum / count), ChronoUnit.MICROS);
+        sink.accept(new MetricSeriesPoint(time, sum / count, min, max, count));
+        emitted++;
+
+        count = 0;
+        sum = 0;
+        offsetSum = 0;
+    }
+}
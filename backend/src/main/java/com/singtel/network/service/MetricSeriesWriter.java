@@ -0,0 +1,130 @@
+package com.singtel.network.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.singtel.network.dto.metric.MetricSeriesFormat;
+import com.singtel.network.dto.metric.MetricSeriesPoint;
+import com.singtel.network.entity.ServiceMetric;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Writes a downsampled metric series to a response stream point by point, without collecting it first.
+ */
+public abstract class MetricSeriesWriter implements Consumer<MetricSeriesPoint>, AutoCloseable {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    public static MetricSeriesWriter open(MetricSeriesFormat format, OutputStream out) throws IOException {
+        return format == MetricSeriesFormat.CSV ? new Csv(out) : new Json(out);
+    }
+
+    public abstract void begin(UUID serviceInstanceId, ServiceMetric.MetricType metricType,
+                               LocalDateTime from, LocalDateTime to) throws IOException;
+
+    public abstract void end(int pointCount) throws IOException;
+
+    protected abstract void write(MetricSeriesPoint point) throws IOException;
+
+    @Override
+    public void accept(MetricSeriesPoint point) {
+        try {
+            write(point);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public abstract void close() throws IOException;
+
+    /**
+     * {"serviceInstanceId":..,"metricType":..,"from":..,"to":..,"points":[{"time":..,"avg":..,"min":..,"max":..,"count":..}],"pointCount":n}
+     */
+    private static final class Json extends MetricSeriesWriter {
+
+        private final JsonGenerator generator;
+
+        Json(OutputStream out) throws IOException {
+            // The servlet container owns the response stream
+            this.generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void begin(UUID serviceInstanceId, ServiceMetric.MetricType metricType,
+                          LocalDateTime from, LocalDateTime to) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("serviceInstanceId", serviceInstanceId.toString());
+            generator.writeStringField("metricType", metricType.name());
+            generator.writeStringField("from", from.toString());
+            generator.writeStringField("to", to.toString());
+            generator.writeArrayFieldStart("points");
+        }
+
+        @Override
+        protected void write(MetricSeriesPoint point) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("time", point.getTime().toString());
+            generator.writeNumberField("avg", point.getAvg());
+            generator.writeNumberField("min", point.getMin());
+            generator.writeNumberField("max", point.getMax());
+            generator.writeNumberField("count", point.getCount());
+            generator.writeEndObject();
+        }
+
+        @Override
+        public void end(int pointCount) throws IOException {
+            generator.writeEndArray();
+            generator.writeNumberField("pointCount", pointCount);
+            generator.writeEndObject();
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    /**
+     * time,avg,min,max,count with one header line
+     */
+    private static final class Csv extends MetricSeriesWriter {
+
+        private final BufferedWriter writer;
+
+        Csv(OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void begin(UUID serviceInstanceId, ServiceMetric.MetricType metricType,
+                          LocalDateTime from, LocalDateTime to) throws IOException {
+            writer.write("time,avg,min,max,count\n");
+        }
+
+        @Override
+        protected void write(MetricSeriesPoint point) throws IOException {
+            writer.write(point.getTime() + "," + point.getAvg() + "," + point.getMin() + ","
+                    + point.getMax() + "," + point.getCount() + "\n");
+        }
+
+        @Override
+        public void end(int pointCount) {
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.NotificationProperties;
+import com.singtel.network.dto.alert.NotificationOutcome;
+import com.singtel.network.dto.alert.PendingNotification;
+import com.singtel.network.exception.NotificationDeliveryException;
+import com.singtel.network.repository.AlertNotificationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delivers PENDING and due FAILED alert_notifications.
+ * Each round claims a batch with SKIP LOCKED, fans the sends out concurrently and writes all outcomes
+ * back in one batch. Failures are retried with exponential backoff until max-attempts, then dead-lettered.
+ * Sends run on virtual threads when spring.threads.virtual.enabled is set (Java 21), otherwise on a
+ * fixed platform pool.
+ */
+@Service
+public class NotificationDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    @Autowired
+    private AlertNotificationRepository alertNotificationRepository;
+
+    @Autowired
+    private List<NotificationSender> notificationSenders;
+
+    @Autowired
+    private NotificationProperties notificationProperties;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private final Map<String, NotificationSender> sendersByType = new HashMap<>();
+
+    private DestinationRateLimiter rateLimiter;
+
+    private Executor executor;
+
+    private ExecutorService platformPool;
+
+    @PostConstruct
+    public void start() {
+        for (NotificationSender sender : notificationSenders) {
+            if (sender.isEnabled()) {
+                sendersByType.put(sender.getNotificationType(), sender);
+            } else {
+                logger.info("{} notifications are not configured and stay queued", sender.getNotificationType());
+            }
+        }
+        rateLimiter = new DestinationRateLimiter(notificationProperties.getRatePerMinute(), notificationProperties.getBurst());
+
+        int concurrency = notificationProperties.getConcurrency();
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor virtual = new SimpleAsyncTaskExecutor("notify-");
+            virtual.setVirtualThreads(true);
+            virtual.setConcurrencyLimit(concurrency);
+            executor = virtual;
+        } else {
+            AtomicInteger threadNumber = new AtomicInteger();
+            platformPool = Executors.newFixedThreadPool(concurrency,
+                    task -> new Thread(task, "notify-" + threadNumber.incrementAndGet()));
+            executor = platformPool;
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (platformPool != null) {
+            platformPool.shutdown();
+            platformPool.awaitTermination(notificationProperties.getRequestTimeout().toSeconds() + 1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.poll-interval-ms:1000}")
+    public void dispatchDue() {
+        if (!notificationProperties.isEnabled() || sendersByType.isEmpty()) {
+            return;
+        }
+        try {
+            for (int batch = 0; batch < notificationProperties.getMaxBatchesPerRun(); batch++) {
+                if (dispatchBatch() < notificationProperties.getBatchSize()) {
+                    break;
+                }
+            }
+        } catch (DataAccessException e) {
+            logger.error("Notification dispatch failed", e);
+        }
+    }
+
+    /**
+     * Claim, send and record one batch, returning the number of rows claimed
+     */
+    int dispatchBatch() {
+        List<PendingNotification> claimed = alertNotificationRepository.claimDue(
+                sendersByType.keySet(), notificationProperties.getBatchSize(), notificationProperties.getLease());
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        long nowNanos = System.nanoTime();
+        Instant now = Instant.now();
+        List<CompletableFuture<NotificationOutcome>> outcomes = new ArrayList<>(claimed.size());
+        for (PendingNotification notification : claimed) {
+            NotificationSender sender = sendersByType.get(notification.getNotificationType());
+            long waitNanos = rateLimiter.tryAcquire(sender.destinationKey(notification), nowNanos);
+            if (waitNanos > 0) {
+                outcomes.add(CompletableFuture.completedFuture(
+                        NotificationOutcome.deferred(notification, now.plusNanos(waitNanos))));
+            } else {
+                outcomes.add(CompletableFuture.supplyAsync(() -> deliver(sender, notification), executor));
+            }
+        }
+
+        List<NotificationOutcome> results = outcomes.stream().map(CompletableFuture::join).toList();
+        alertNotificationRepository.complete(results);
+
+        if (logger.isDebugEnabled()) {
+            long sent = results.stream().filter(result -> NotificationOutcome.SENT.equals(result.getStatus())).count();
+            logger.debug("Dispatched {} notifications, {} sent", claimed.size(), sent);
+        }
+        return claimed.size();
+    }
+
+    NotificationOutcome deliver(NotificationSender sender, PendingNotification notification) {
+        try {
+            sender.send(notification);
+            return NotificationOutcome.sent(notification, Instant.now());
+        } catch (NotificationDeliveryException e) {
+            return failed(notification, e.isRetryable(), e.getMessage());
+        } catch (RuntimeException e) {
+            logger.error("Unexpected error sending notification {}", notification.getId(), e);
+            return failed(notification, true, e.toString());
+        }
+    }
+
+    /**
+     * Delay before a notification that has failed attempts times is sent again
+     */
+    Duration backoff(int attempts) {
+        return RetryBackoff.equalJitter(notificationProperties.getInitialBackoff(), notificationProperties.getMaxBackoff(), attempts);
+    }
+
+    private NotificationOutcome failed(PendingNotification notification, boolean retryable, String error) {
+        Instant now = Instant.now();
+        int attempts = notification.getAttempts() + 1;
+        if (!retryable || attempts >= notificationProperties.getMaxAttempts()) {
+            logger.warn("Notification {} to {} dead-lettered after {} attempts: {}",
+                       notification.getId(), notification.getRecipient(), attempts, error);
+            return NotificationOutcome.deadLetter(notification, now, error);
+        }
+        return NotificationOutcome.retry(notification, now.plus(backoff(attempts)), error);
+    }
+}
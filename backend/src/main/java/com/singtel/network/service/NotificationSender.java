@@ -0,0 +1,30 @@
+package com.singtel.network.service;
+
+import com.singtel.network.dto.alert.PendingNotification;
+import com.singtel.network.exception.NotificationDeliveryException;
+
+/**
+ * Delivers alert notifications of one notification_type.
+ */
+public interface NotificationSender {
+
+    /**
+     * The alert_notifications.notification_type this sender handles, e.g. WEBHOOK
+     */
+    String getNotificationType();
+
+    /**
+     * Whether the sender is configured; rows of disabled types are left queued
+     */
+    boolean isEnabled();
+
+    /**
+     * Key the per-destination rate limit applies to
+     */
+    String destinationKey(PendingNotification notification);
+
+    /**
+     * Deliver synchronously; called on a dispatcher thread
+     */
+    void send(PendingNotification notification) throws NotificationDeliveryException;
+}
@@ -0,0 +1,189 @@
+package com.singtel.network.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.singtel.network.config.OrchestratorProperties;
+import com.singtel.network.dto.orchestrator.WorkflowType;
+import com.singtel.network.exception.OrchestratorException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Non-blocking Service Orchestrator client. Requests go through one pooled JDK HttpClient and,
+ * per endpoint, an {@link AsyncBulkhead} capping calls in flight and a {@link CircuitBreaker}
+ * that stops calling an endpoint that keeps failing. Timeouts, 408, 429 and 5xx responses are
+ * retried with full-jitter exponential backoff; every attempt carries the aggregate id as
+ * Idempotency-Key, so a retried start returns the workflow the first attempt created.
+ */
+@Component
+public class OrchestratorClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrchestratorClient.class);
+
+    @Autowired
+    private OrchestratorProperties orchestratorProperties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private HttpClient httpClient;
+    private ExecutorService callbackExecutor;
+    private final Map<WorkflowType, AsyncBulkhead> bulkheads = new EnumMap<>(WorkflowType.class);
+    private final Map<WorkflowType, CircuitBreaker> circuitBreakers = new EnumMap<>(WorkflowType.class);
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        callbackExecutor = Executors.newFixedThreadPool(orchestratorProperties.getCallbackThreads(), task -> {
+            Thread thread = new Thread(task, "orchestrator-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // HTTP/1.1 keeps a pool of keep-alive connections, bounded by the bulkheads' concurrency
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(orchestratorProperties.getConnectTimeout())
+                .executor(callbackExecutor)
+                .build();
+
+        OrchestratorProperties.Breaker breaker = orchestratorProperties.getCircuitBreaker();
+        for (WorkflowType type : WorkflowType.values()) {
+            bulkheads.put(type, new AsyncBulkhead(type.getEndpoint(), orchestratorProperties.getBulkhead(type.getEndpoint()),
+                                                  orchestratorProperties.getBulkheadQueue(), callbackExecutor));
+            circuitBreakers.put(type, new CircuitBreaker(type.getEndpoint(), breaker.getWindowSize(), breaker.getMinimumCalls(),
+                                                         breaker.getFailureRateThreshold(), breaker.getOpenDuration(),
+                                                         breaker.getHalfOpenCalls()));
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        callbackExecutor.shutdownNow();
+    }
+
+    /**
+     * Start the workflow for an aggregate, completing with its workflowId or exceptionally with an
+     * {@link OrchestratorException}
+     */
+    public CompletableFuture<String> startWorkflow(WorkflowType type, UUID aggregateId, Object payload) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(orchestratorProperties.getBaseUrl() + type.getPath()))
+                    .timeout(orchestratorProperties.getTimeout())
+                    .header("Content-Type", "application/json")
+                    .header("Idempotency-Key", aggregateId.toString())
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(payload)))
+                    .build();
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(
+                    new OrchestratorException("Cannot build " + type + " workflow request for " + aggregateId, false, e));
+        }
+        return attempt(type, request, 0);
+    }
+
+    public CircuitBreaker.State getCircuitState(WorkflowType type) {
+        return circuitBreakers.get(type).getState();
+    }
+
+    public int getInFlight(WorkflowType type) {
+        return bulkheads.get(type).getActive();
+    }
+
+    public int getQueued(WorkflowType type) {
+        return bulkheads.get(type).getQueued();
+    }
+
+    /**
+     * Backoff before retry number retry (1-based): full jitter over initial * 2^(retry - 1), capped
+     */
+    Duration backoff(int retry) {
+        return RetryBackoff.fullJitter(orchestratorProperties.getInitialBackoff(), orchestratorProperties.getMaxBackoff(), retry);
+    }
+
+    private CompletableFuture<String> attempt(WorkflowType type, HttpRequest request, int retries) {
+        return bulkheads.get(type).execute(() -> call(type, request)).exceptionallyCompose(error -> {
+            OrchestratorException failure = unwrap(error);
+            if (!failure.isRetryable() || failure.isRejected() || retries >= orchestratorProperties.getRetryAttempts()) {
+                return CompletableFuture.failedFuture(failure);
+            }
+            Duration delay = backoff(retries + 1);
+            logger.debug("Retrying {} in {} ms after: {}", request.uri(), delay.toMillis(), failure.getMessage());
+            return CompletableFuture.runAsync(() -> { },
+                            CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS, callbackExecutor))
+                    .thenCompose(ignored -> attempt(type, request, retries + 1));
+        });
+    }
+
+    private CompletableFuture<String> call(WorkflowType type, HttpRequest request) {
+        CircuitBreaker circuitBreaker = circuitBreakers.get(type);
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(OrchestratorException.rejected("Circuit for " + type.getEndpoint() + " is open"));
+        }
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()).handle((response, error) -> {
+            if (error != null) {
+                circuitBreaker.onFailure();
+                throw new CompletionException(new OrchestratorException(
+                        "Orchestrator " + type.getEndpoint() + " call failed: " + unwrapCause(error), true, error));
+            }
+            int status = response.statusCode();
+            if (status >= 200 && status < 300) {
+                circuitBreaker.onSuccess();
+                return workflowId(type, response.body());
+            }
+            // Client errors say nothing about the orchestrator's health
+            boolean retryable = status == 408 || status == 429 || status >= 500;
+            if (retryable) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+            throw new CompletionException(new OrchestratorException(
+                    "Orchestrator " + type.getEndpoint() + " answered " + status, retryable));
+        });
+    }
+
+    private String workflowId(WorkflowType type, String body) {
+        try {
+            JsonNode workflowId = objectMapper.readTree(body).get("workflowId");
+            if (workflowId != null && workflowId.isTextual() && !workflowId.asText().isBlank()) {
+                return workflowId.asText();
+            }
+        } catch (JsonProcessingException e) {
+            // Reported below
+        }
+        throw new CompletionException(new OrchestratorException(
+                "Orchestrator " + type.getEndpoint() + " response has no workflowId", false));
+    }
+
+    private static OrchestratorException unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof OrchestratorException failure
+                ? failure
+                : new OrchestratorException(cause.toString(), false, cause);
+    }
+
+    private static String unwrapCause(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause.toString();
+    }
+}
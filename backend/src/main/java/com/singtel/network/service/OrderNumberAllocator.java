@@ -0,0 +1,158 @@
+package com.singtel.network.service;
+
+import com.singtel.network.repository.OrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Allocates order numbers from the order_number_seq sequence using hi/lo blocks.
+ * Each nextval reserves a block of numbers (the sequence increment) that this node hands out
+ * from an AtomicLong, so allocation is a memory increment and only one call per block reaches
+ * Postgres. Blocks never overlap across nodes; numbers left in a block at shutdown are skipped.
+ * Refills hold a ReentrantLock rather than a monitor because they wait on JDBC, which would
+ * pin the carrier thread of a virtual thread.
+ */
+@Component
+public class OrderNumberAllocator {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderNumberAllocator.class);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private final ReentrantLock refillLock = new ReentrantLock();
+
+    private volatile Block block = Block.EMPTY;
+
+    private volatile long blockSize;
+
+    /**
+     * Allocate the next order number for the current year, e.g. ORD-2025-000123
+     */
+    public String nextOrderNumber() {
+        return format(LocalDate.now().getYear(), nextValue());
+    }
+
+    /**
+     * Allocate count order numbers for the current year, reserving any blocks needed in one round trip
+     */
+    public List<String> nextOrderNumbers(int count) {
+        int year = LocalDate.now().getYear();
+        List<String> numbers = new ArrayList<>(count);
+        for (long value : nextValues(count)) {
+            numbers.add(format(year, value));
+        }
+        return numbers;
+    }
+
+    /**
+     * Allocate the next sequence value, refilling the block from the database when it runs out
+     */
+    public long nextValue() {
+        while (true) {
+            Block current = block;
+            long value = current.next.getAndIncrement();
+            if (value < current.end) {
+                return value;
+            }
+
+            refillLock.lock();
+            try {
+                // Only the first thread to see the exhausted block reserves a new one
+                if (block == current) {
+                    block = reserveBlock();
+                }
+            } finally {
+                refillLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Allocate count sequence values: the rest of the current block first, then freshly reserved blocks
+     */
+    public List<Long> nextValues(int count) {
+        List<Long> values = new ArrayList<>(count);
+        if (count <= 0) {
+            return values;
+        }
+
+        refillLock.lock();
+        try {
+            drain(block, values, count);
+
+            int missing = count - values.size();
+            if (missing > 0) {
+                long size = blockSize();
+                int blocks = (int) ((missing + size - 1) / size);
+                Block last = block;
+                for (Long hi : orderRepository.reserveOrderNumberBlocks(blocks)) {
+                    last = new Block(hi, hi + size);
+                    drain(last, values, count);
+                }
+                // Whatever is left of the final block serves later single allocations
+                block = last;
+                logger.debug("Reserved {} order number blocks for a batch of {}", blocks, count);
+            }
+        } finally {
+            refillLock.unlock();
+        }
+        return values;
+    }
+
+    static String format(int year, long value) {
+        return String.format("ORD-%d-%06d", year, value);
+    }
+
+    private Block reserveBlock() {
+        long size = blockSize();
+        Long hi = orderRepository.reserveOrderNumberBlock();
+        logger.debug("Reserved order numbers {} to {}", hi, hi + size - 1);
+        return new Block(hi, hi + size);
+    }
+
+    private long blockSize() {
+        if (blockSize == 0) {
+            Long size = orderRepository.findOrderNumberBlockSize();
+            if (size == null || size < 1) {
+                throw new IllegalStateException("Order number sequence is missing or has an invalid increment");
+            }
+            blockSize = size;
+        }
+        return blockSize;
+    }
+
+    private static void drain(Block source, List<Long> values, int count) {
+        while (values.size() < count) {
+            long value = source.next.getAndIncrement();
+            if (value >= source.end) {
+                return;
+            }
+            values.add(value);
+        }
+    }
+
+    /**
+     * Half-open range [next, end) of sequence values owned by this node
+     */
+    private static final class Block {
+
+        static final Block EMPTY = new Block(0, 0);
+
+        final AtomicLong next;
+        final long end;
+
+        Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
@@ -1,22 +1,35 @@
 package com.singtel.network.service;
 
+import com.singtel.network.dto.common.CursorPage;
+import com.singtel.network.dto.order.BatchOrderItemResult;
+import com.singtel.network.dto.order.BatchOrderResponse;
 import com.singtel.network.dto.order.CreateOrderRequest;
 import com.singtel.network.dto.order.OrderResponse;
+import com.singtel.network.dto.order.PendingOrderSubmission;
 import com.singtel.network.entity.*;
 import com.singtel.network.repository.*;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -28,6 +41,8 @@ public class OrderService {
 
     private static final Logger logger = LoggerFactory.getLogger(OrderService.class);
 
+    private static final String[] ORDER_LISTING_GRAPH = {"service", "user", "company", "serviceInstance"};
+
     @Autowired
     private OrderRepository orderRepository;
 
@@ -43,70 +58,64 @@ public class OrderService {
     @Autowired
     private ServiceCatalogService serviceCatalogService;
 
+    @Autowired
+    private KeysetPager keysetPager;
+
+    @Autowired
+    private OrderNumberAllocator orderNumberAllocator;
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+
+    @Autowired
+    private OrderSubmissionRepository orderSubmissionRepository;
+
+    @Autowired
+    private Validator validator;
+
     /**
      * Create a new order
      */
     public OrderResponse createOrder(CreateOrderRequest request) {
         logger.info("Creating new order for service: {}", request.getServiceId());
+        return createOrder(request, getCurrentUser());
+    }
 
-        // Get current user
-        User currentUser = getCurrentUser();
+    /**
+     * Create the order of an asynchronous submission on behalf of its user and link it to the
+     * submission in the same transaction. Rolls back when the worker's claim has been lost.
+     */
+    public OrderResponse createSubmittedOrder(PendingOrderSubmission submission, User user, CreateOrderRequest request) {
+        checkConstraints(request);
+        OrderResponse order = createOrder(request, user);
+        if (!orderSubmissionRepository.complete(submission, order.getId())) {
+            throw new IllegalStateException("Order submission " + submission.getId() + " was claimed by another worker");
+        }
+        return order;
+    }
 
+    private OrderResponse createOrder(CreateOrderRequest request, User currentUser) {
         // Validate service
         com.singtel.network.entity.Service service = serviceRepository.findById(request.getServiceId())
                 .orElseThrow(() -> new IllegalArgumentException("Service not found with ID: " + request.getServiceId()));
-
-        if (!service.isAvailable()) {
-            throw new IllegalArgumentException("Service is not available: " + request.getServiceId());
-        }
-
-        // Validate bandwidth for new service orders
-        if (request.isNewServiceOrder() && !service.isValidBandwidth(request.getRequestedBandwidthMbps())) {
-            throw new IllegalArgumentException("Invalid bandwidth for service: " + request.getRequestedBandwidthMbps() + " Mbps");
-        }
+        validateService(request, service);
 
         // Validate service instance for modify/terminate orders
         ServiceInstance serviceInstance = null;
         if (request.isModifyServiceOrder() || request.isTerminateServiceOrder()) {
             serviceInstance = serviceInstanceRepository.findById(request.getServiceInstanceId())
                     .orElseThrow(() -> new IllegalArgumentException("Service instance not found: " + request.getServiceInstanceId()));
-            
-            // Verify ownership
-            if (!serviceInstance.getCompany().getId().equals(currentUser.getCompany().getId())) {
-                throw new IllegalArgumentException("Service instance does not belong to your company");
-            }
+            validateServiceInstance(serviceInstance, currentUser);
         }
 
         // Create order
-        Order order = new Order();
-        order.setCompany(currentUser.getCompany());
-        order.setUser(currentUser);
-        order.setService(service);
-        order.setServiceInstance(serviceInstance);
-        order.setOrderNumber(generateOrderNumber());
-        order.setOrderType(request.getOrderType());
-        order.setRequestedBandwidthMbps(request.getRequestedBandwidthMbps());
-        order.setInstallationAddress(request.getInstallationAddress());
-        order.setPostalCode(request.getPostalCode());
-        order.setContactPerson(request.getContactPerson());
-        order.setContactPhone(request.getContactPhone());
-        order.setContactEmail(request.getContactEmail());
-        order.setRequestedDate(request.getRequestedDate() != null ? request.getRequestedDate() : LocalDate.now().plusDays(1));
-        order.setNotes(request.getNotes());
-
-        // Calculate costs and estimated completion
-        try {
-            calculateOrderDetails(order, service);
-        } catch (Exception e) {
-            logger.error("Error calculating order details: ", e);
-            // Set simple defaults
-            order.setTotalCost(BigDecimal.valueOf(100.00));
-            order.setEstimatedCompletionDate(LocalDate.now().plusDays(3));
-        }
+        Order order = buildOrder(request, currentUser, service, serviceInstance);
+        order.setOrderNumber(orderNumberAllocator.nextOrderNumber());
 
         // Save order
         try {
             order = orderRepository.save(order);
+            outboxWriter.orderCreated(order);
             logger.info("Order created successfully: {}", order.getOrderNumber());
             return new OrderResponse(order);
         } catch (Exception e) {
@@ -115,6 +124,74 @@ public class OrderService {
         }
     }
 
+    /**
+     * Create a batch of orders in one transaction.
+     * Services and instances are prefetched once, order numbers come from one allocation and the
+     * inserts are flushed as JDBC batches. Invalid items are reported per index and skipped.
+     */
+    public BatchOrderResponse createOrders(List<CreateOrderRequest> requests) {
+        logger.info("Creating batch of {} orders", requests.size());
+
+        User currentUser = getCurrentUser();
+        Map<UUID, com.singtel.network.entity.Service> services = prefetchServices(requests);
+        Map<UUID, ServiceInstance> serviceInstances = prefetchServiceInstances(requests);
+
+        BatchOrderItemResult[] results = new BatchOrderItemResult[requests.size()];
+        List<Order> orders = new ArrayList<>();
+        List<Integer> orderIndexes = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            CreateOrderRequest request = requests.get(i);
+            try {
+                checkConstraints(request);
+
+                com.singtel.network.entity.Service service = services.get(request.getServiceId());
+                if (service == null) {
+                    throw new IllegalArgumentException("Service not found with ID: " + request.getServiceId());
+                }
+                validateService(request, service);
+
+                ServiceInstance serviceInstance = null;
+                if (request.isModifyServiceOrder() || request.isTerminateServiceOrder()) {
+                    if (request.getServiceInstanceId() != null) {
+                        serviceInstance = serviceInstances.get(request.getServiceInstanceId());
+                    }
+                    if (serviceInstance == null) {
+                        throw new IllegalArgumentException("Service instance not found: " + request.getServiceInstanceId());
+                    }
+                    validateServiceInstance(serviceInstance, currentUser);
+                }
+
+                orders.add(buildOrder(request, currentUser, service, serviceInstance));
+                orderIndexes.add(i);
+            } catch (IllegalArgumentException e) {
+                results[i] = BatchOrderItemResult.failed(i, e.getMessage());
+            }
+        }
+
+        if (!orders.isEmpty()) {
+            List<String> orderNumbers = orderNumberAllocator.nextOrderNumbers(orders.size());
+            for (int i = 0; i < orders.size(); i++) {
+                orders.get(i).setOrderNumber(orderNumbers.get(i));
+            }
+
+            // Ids are generated client-side, so the inserts are batched at flush
+            List<Order> saved = orderRepository.saveAll(orders);
+            orderRepository.flush();
+            outboxWriter.ordersCreated(saved);
+
+            for (int i = 0; i < saved.size(); i++) {
+                int index = orderIndexes.get(i);
+                results[index] = BatchOrderItemResult.created(index, new OrderResponse(saved.get(i)));
+            }
+        }
+
+        BatchOrderResponse response = new BatchOrderResponse(Arrays.asList(results));
+        logger.info("Batch order creation finished: {} created, {} failed",
+                   response.getCreatedCount(), response.getFailedCount());
+        return response;
+    }
+
     /**
      * Get order by ID
      */
@@ -161,10 +238,7 @@ public class OrderService {
         User currentUser = getCurrentUser();
         logger.debug("Fetching orders for company: {}", currentUser.getCompany().getId());
         
-        List<Order> orders = orderRepository.findByCompanyId(currentUser.getCompany().getId());
-        return orders.stream()
-                .map(OrderResponse::new)
-                .collect(Collectors.toList());
+        return orderRepository.findOrderResponsesByCompanyId(currentUser.getCompany().getId());
     }
 
     /**
@@ -228,6 +302,9 @@ public class OrderService {
         
         order.cancel();
         order = orderRepository.save(order);
+        // The update takes the row lock before the event gets its outbox id
+        orderRepository.flush();
+        outboxWriter.orderStatusChanged(order);
         
         logger.info("Order cancelled successfully: {}", order.getOrderNumber());
         return new OrderResponse(order);
@@ -243,31 +320,26 @@ public class OrderService {
         User currentUser = getCurrentUser();
         logger.debug("Searching orders with criteria for company: {}", currentUser.getCompany().getId());
 
-        Page<Order> orders = orderRepository.searchOrders(currentUser.getCompany().getId(),
-                                                         status, pageable);
+        Page<Order> orders = orderRepository.searchOrders(currentUser.getCompany().getId(), status, orderType,
+                                                         serviceId, startDate, endDate, minCost, maxCost, pageable);
+        return orders.map(OrderResponse::new);
+    }
 
-        // Initialize lazy relationships within the transaction
-        return orders.map(order -> {
-            try {
-                // Force initialization of lazy relationships within the transaction
-                if (order.getService() != null) {
-                    order.getService().getName(); // Initialize service
-                }
-                if (order.getUser() != null) {
-                    order.getUser().getUsername(); // Initialize user
-                }
-                if (order.getCompany() != null) {
-                    order.getCompany().getName(); // Initialize company
-                }
-                if (order.getServiceInstance() != null) {
-                    order.getServiceInstance().getInstanceName(); // Initialize service instance
-                }
-            } catch (Exception e) {
-                logger.warn("Could not initialize lazy relationships for order {}: {}", order.getId(), e.getMessage());
-                // Continue with OrderResponse creation - it handles null relationships gracefully
-            }
-            return new OrderResponse(order);
-        });
+    /**
+     * Search orders with keyset pagination, newest first
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<OrderResponse> searchOrdersByCursor(Order.OrderStatus status, Order.OrderType orderType,
+                                                          UUID serviceId, LocalDate startDate, LocalDate endDate,
+                                                          BigDecimal minCost, BigDecimal maxCost,
+                                                          String cursor, int size) {
+        User currentUser = getCurrentUser();
+        logger.debug("Searching orders by cursor for company: {}", currentUser.getCompany().getId());
+
+        Specification<Order> spec = OrderSpecifications.search(currentUser.getCompany().getId(), status, orderType,
+                                                               serviceId, startDate, endDate, minCost, maxCost);
+        return keysetPager.page(Order.class, spec, cursor, size, ORDER_LISTING_GRAPH)
+                .map(OrderResponse::new);
     }
 
     /**
@@ -279,10 +351,7 @@ public class OrderService {
         logger.debug("Fetching recent orders for company: {} with limit: {}", currentUser.getCompany().getId(), limit);
         
         Pageable pageable = Pageable.ofSize(limit);
-        List<Order> orders = orderRepository.findRecentOrdersByCompany(currentUser.getCompany().getId(), pageable);
-        return orders.stream()
-                .map(OrderResponse::new)
-                .collect(Collectors.toList());
+        return orderRepository.findRecentOrderResponsesByCompany(currentUser.getCompany().getId(), pageable);
     }
 
     /**
@@ -311,15 +380,90 @@ public class OrderService {
         return user;
     }
 
-    private String generateOrderNumber() {
+    private Map<UUID, com.singtel.network.entity.Service> prefetchServices(List<CreateOrderRequest> requests) {
+        Set<UUID> serviceIds = requests.stream()
+                .filter(Objects::nonNull)
+                .map(CreateOrderRequest::getServiceId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        return serviceRepository.findAllById(serviceIds).stream()
+                .collect(Collectors.toMap(com.singtel.network.entity.Service::getId, Function.identity()));
+    }
+
+    private Map<UUID, ServiceInstance> prefetchServiceInstances(List<CreateOrderRequest> requests) {
+        Set<UUID> serviceInstanceIds = requests.stream()
+                .filter(Objects::nonNull)
+                .map(CreateOrderRequest::getServiceInstanceId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (serviceInstanceIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return serviceInstanceRepository.findAllById(serviceInstanceIds).stream()
+                .collect(Collectors.toMap(ServiceInstance::getId, Function.identity()));
+    }
+
+    private void checkConstraints(CreateOrderRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Order request is required");
+        }
+
+        Set<ConstraintViolation<CreateOrderRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    private void validateService(CreateOrderRequest request, com.singtel.network.entity.Service service) {
+        if (!service.isAvailable()) {
+            throw new IllegalArgumentException("Service is not available: " + request.getServiceId());
+        }
+
+        // Validate bandwidth for new service orders
+        if (request.isNewServiceOrder() && !service.isValidBandwidth(request.getRequestedBandwidthMbps())) {
+            throw new IllegalArgumentException("Invalid bandwidth for service: " + request.getRequestedBandwidthMbps() + " Mbps");
+        }
+    }
+
+    private void validateServiceInstance(ServiceInstance serviceInstance, User currentUser) {
+        // Verify ownership
+        if (!serviceInstance.getCompany().getId().equals(currentUser.getCompany().getId())) {
+            throw new IllegalArgumentException("Service instance does not belong to your company");
+        }
+    }
+
+    private Order buildOrder(CreateOrderRequest request, User currentUser,
+                             com.singtel.network.entity.Service service, ServiceInstance serviceInstance) {
+        Order order = new Order();
+        order.setCompany(currentUser.getCompany());
+        order.setUser(currentUser);
+        order.setService(service);
+        order.setServiceInstance(serviceInstance);
+        order.setOrderType(request.getOrderType());
+        order.setRequestedBandwidthMbps(request.getRequestedBandwidthMbps());
+        order.setInstallationAddress(request.getInstallationAddress());
+        order.setPostalCode(request.getPostalCode());
+        order.setContactPerson(request.getContactPerson());
+        order.setContactPhone(request.getContactPhone());
+        order.setContactEmail(request.getContactEmail());
+        order.setRequestedDate(request.getRequestedDate() != null ? request.getRequestedDate() : LocalDate.now().plusDays(1));
+        order.setNotes(request.getNotes());
+
+        // Calculate costs and estimated completion
         try {
-            Integer nextSequence = orderRepository.findNextOrderSequence();
-            return String.format("ORD-2024-%03d", nextSequence);
+            calculateOrderDetails(order, service);
         } catch (Exception e) {
-            logger.error("Error generating order number: ", e);
-            // Fallback to timestamp-based order number
-            return String.format("ORD-2024-%d", System.currentTimeMillis() % 100000);
+            logger.error("Error calculating order details: ", e);
+            // Set simple defaults
+            order.setTotalCost(BigDecimal.valueOf(100.00));
+            order.setEstimatedCompletionDate(LocalDate.now().plusDays(3));
         }
+        return order;
     }
 
     private void calculateOrderDetails(Order order, com.singtel.network.entity.Service service) {
@@ -343,7 +487,4 @@ public class OrderService {
         LocalDate estimatedCompletion = LocalDate.now().plusDays((service.getProvisioningTimeHours() + 23) / 24);
         order.setEstimatedCompletionDate(estimatedCompletion);
     }
-}sioningTimeHours() != null ? service.getProvisioningTimeHours() : 24;
-        order.setEstimatedCompletionDate(requestedDate.plusDays(provisioningHours / 24));
-    }
 }
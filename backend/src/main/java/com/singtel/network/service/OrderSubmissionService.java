@@ -0,0 +1,251 @@
+package com.singtel.network.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.singtel.network.config.OrderIntakeProperties;
+import com.singtel.network.dto.order.CreateOrderRequest;
+import com.singtel.network.dto.order.OrderResponse;
+import com.singtel.network.dto.order.OrderSubmissionResponse;
+import com.singtel.network.dto.order.PendingOrderSubmission;
+import com.singtel.network.entity.User;
+import com.singtel.network.repository.OrderSubmissionRepository;
+import com.singtel.network.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Asynchronous order submission. The request thread only inserts an order_submissions row and
+ * hands its id to a bounded worker pool, so its latency does not depend on pricing, order number
+ * allocation or contention on orders. Workers create the order through OrderService and link it
+ * to the submission in one transaction. Submissions the pool had no room for, that failed
+ * transiently or whose worker died are picked up again by the sweeper, on any node.
+ */
+@Service
+public class OrderSubmissionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderSubmissionService.class);
+
+    @Autowired
+    private OrderSubmissionRepository orderSubmissionRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OrderIntakeProperties orderIntakeProperties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ThreadPoolExecutor workers;
+
+    private final Set<UUID> queued = ConcurrentHashMap.newKeySet();
+    private final AtomicLong backlog = new AtomicLong();
+
+    private Counter acceptedCounter;
+    private Counter completedCounter;
+    private Counter failedCounter;
+    private Counter retriedCounter;
+    private Counter deferredCounter;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        int size = orderIntakeProperties.getWorkers();
+        workers = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(orderIntakeProperties.getQueueCapacity()),
+                task -> new Thread(task, "order-intake-" + threadNumber.incrementAndGet()));
+
+        Gauge.builder("orders.intake.queue.depth", workers, pool -> pool.getQueue().size())
+                .description("Submissions waiting for an intake worker on this node")
+                .register(meterRegistry);
+        Gauge.builder("orders.intake.active", workers, ThreadPoolExecutor::getActiveCount)
+                .description("Submissions being processed on this node")
+                .register(meterRegistry);
+        Gauge.builder("orders.intake.backlog", backlog, AtomicLong::get)
+                .description("Submissions not yet completed or failed, across nodes, as of the last sweep")
+                .register(meterRegistry);
+        acceptedCounter = meterRegistry.counter("orders.intake.submissions", "outcome", "accepted");
+        completedCounter = meterRegistry.counter("orders.intake.submissions", "outcome", "completed");
+        failedCounter = meterRegistry.counter("orders.intake.submissions", "outcome", "failed");
+        retriedCounter = meterRegistry.counter("orders.intake.submissions", "outcome", "retried");
+        deferredCounter = meterRegistry.counter("orders.intake.submissions", "outcome", "deferred");
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // Queued submissions stay RECEIVED and are swept up by the next node to run
+        workers.shutdown();
+        workers.awaitTermination(orderIntakeProperties.getLease().toSeconds(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * Record the request and queue it for processing
+     */
+    public OrderSubmissionResponse submit(CreateOrderRequest request) {
+        User currentUser = getCurrentUser();
+        UUID id = UUID.randomUUID();
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Order request cannot be stored: " + e.getOriginalMessage(), e);
+        }
+
+        Timestamp submittedAt = orderSubmissionRepository.insert(id, currentUser.getCompany().getId(), currentUser.getId(),
+                                                                 body, orderIntakeProperties.getSweepDelay());
+        acceptedCounter.increment();
+        enqueue(id);
+        logger.info("Accepted order submission {} for service: {}", id, request.getServiceId());
+        return new OrderSubmissionResponse(id, OrderSubmissionResponse.SubmissionStatus.RECEIVED, submittedAt.toLocalDateTime());
+    }
+
+    /**
+     * Get a submission of the current user's company
+     */
+    public OrderSubmissionResponse getSubmission(UUID submissionId) {
+        User currentUser = getCurrentUser();
+        return orderSubmissionRepository.findByIdAndCompanyId(submissionId, currentUser.getCompany().getId())
+                .orElseThrow(() -> new IllegalArgumentException("Order submission not found with ID: " + submissionId));
+    }
+
+    /**
+     * Queue due submissions while the pool has room and refresh the backlog gauge
+     */
+    @Scheduled(fixedDelayString = "${app.order-intake.sweep-interval-ms:5000}")
+    public void sweep() {
+        try {
+            backlog.set(orderSubmissionRepository.countBacklog());
+            int room = Math.min(workers.getQueue().remainingCapacity(), orderIntakeProperties.getSweepBatchSize());
+            if (room == 0) {
+                return;
+            }
+            int swept = 0;
+            for (UUID id : orderSubmissionRepository.findDueIds(room)) {
+                if (enqueue(id)) {
+                    swept++;
+                }
+            }
+            if (swept > 0) {
+                logger.debug("Queued {} order submissions from the sweep", swept);
+            }
+        } catch (DataAccessException e) {
+            logger.error("Order submission sweep failed", e);
+        }
+    }
+
+    public int getQueueDepth() {
+        return workers.getQueue().size();
+    }
+
+    public int getActiveWorkers() {
+        return workers.getActiveCount();
+    }
+
+    /**
+     * Hand the submission to the pool unless it is already queued here or the queue is full
+     */
+    boolean enqueue(UUID id) {
+        if (!queued.add(id)) {
+            return false;
+        }
+        try {
+            workers.execute(() -> {
+                try {
+                    process(id);
+                } catch (RuntimeException e) {
+                    // The lease runs out and the sweeper retries
+                    logger.error("Processing order submission {} failed", id, e);
+                } finally {
+                    queued.remove(id);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            queued.remove(id);
+            deferredCounter.increment();
+            logger.debug("Order intake queue is full, submission {} is left to the sweeper", id);
+            return false;
+        }
+    }
+
+    /**
+     * Claim the submission and create its order. Invalid requests fail for good; anything else
+     * is retried with backoff until max-attempts.
+     */
+    void process(UUID id) {
+        Optional<PendingOrderSubmission> claimed = orderSubmissionRepository.claim(id, orderIntakeProperties.getLease());
+        if (claimed.isEmpty()) {
+            return;
+        }
+        PendingOrderSubmission submission = claimed.get();
+        try {
+            CreateOrderRequest request = objectMapper.readValue(submission.getRequest(), CreateOrderRequest.class);
+            User user = userRepository.findByIdWithCompany(submission.getUserId())
+                    .orElseThrow(() -> new IllegalArgumentException("Submitting user no longer exists"));
+            OrderResponse order = orderService.createSubmittedOrder(submission, user, request);
+            completedCounter.increment();
+            logger.info("Order submission {} created order {}", id, order.getOrderNumber());
+        } catch (JsonProcessingException e) {
+            fail(submission, "Stored order request is unreadable: " + e.getOriginalMessage());
+        } catch (IllegalArgumentException e) {
+            fail(submission, e.getMessage());
+        } catch (RuntimeException e) {
+            if (submission.getAttempts() >= orderIntakeProperties.getMaxAttempts()) {
+                logger.error("Order submission {} failed after {} attempts", id, submission.getAttempts(), e);
+                fail(submission, e.getMessage());
+            } else {
+                Duration backoff = RetryBackoff.equalJitter(orderIntakeProperties.getRetryBackoff(),
+                        orderIntakeProperties.getMaxRetryBackoff(), submission.getAttempts());
+                logger.warn("Order submission {} failed on attempt {}, retrying in {}s: {}",
+                           id, submission.getAttempts(), backoff.toSeconds(), e.getMessage());
+                orderSubmissionRepository.retry(submission, e.getMessage(), backoff);
+                retriedCounter.increment();
+            }
+        }
+    }
+
+    private void fail(PendingOrderSubmission submission, String error) {
+        logger.info("Order submission {} rejected: {}", submission.getId(), error);
+        orderSubmissionRepository.fail(submission, error);
+        failedCounter.increment();
+    }
+
+    private User getCurrentUser() {
+        User user = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (user.getCompany() == null) {
+            user = userRepository.findByIdWithCompany(user.getId())
+                    .orElseThrow(() -> new IllegalStateException("Current user not found in database"));
+        }
+        return user;
+    }
+}
@@ -0,0 +1,125 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.OutboxProperties;
+import com.singtel.network.dto.outbox.OutboxFailure;
+import com.singtel.network.dto.outbox.OutboxMessage;
+import com.singtel.network.exception.OutboxPublishException;
+import com.singtel.network.repository.OutboxRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes outbox events to the configured sink.
+ * Each round claims the oldest event of up to batch-size aggregates with SKIP LOCKED, publishes
+ * them and deletes or reschedules them in one round trip. A failed event is retried with backoff
+ * and holds back the later events of its aggregate, so per-aggregate order survives sink outages.
+ */
+@Service
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private List<OutboxSink> outboxSinks;
+
+    @Autowired
+    private OutboxProperties outboxProperties;
+
+    private OutboxSink sink;
+
+    private final AtomicLong publishedEvents = new AtomicLong();
+    private final AtomicLong failedAttempts = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        sink = outboxSinks.stream()
+                .filter(candidate -> candidate.getName().equals(outboxProperties.getSink()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Unknown app.outbox.sink: " + outboxProperties.getSink()));
+        logger.info("Relaying outbox events to the {} sink", sink.getName());
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:1000}")
+    public void relayPending() {
+        if (!outboxProperties.isEnabled()) {
+            return;
+        }
+        try {
+            // Publishing an event makes the aggregate's next one claimable, so keep going until nothing is due
+            for (int batch = 0; batch < outboxProperties.getMaxBatchesPerRun(); batch++) {
+                if (relayBatch() == 0) {
+                    break;
+                }
+            }
+        } catch (DataAccessException e) {
+            logger.error("Outbox relay failed", e);
+        }
+    }
+
+    /**
+     * Claim, publish and record one batch, returning the number of events claimed
+     */
+    int relayBatch() {
+        List<OutboxMessage> claimed = outboxRepository.claimDue(outboxProperties.getBatchSize(), outboxProperties.getLease());
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> published = new ArrayList<>(claimed.size());
+        List<OutboxFailure> failures = new ArrayList<>();
+        for (OutboxMessage message : claimed) {
+            try {
+                sink.publish(message);
+                published.add(message.getId());
+            } catch (OutboxPublishException e) {
+                failures.add(failed(message, e.getMessage()));
+            } catch (RuntimeException e) {
+                logger.error("Unexpected error publishing outbox event {}", message.getId(), e);
+                failures.add(failed(message, e.toString()));
+            }
+        }
+        outboxRepository.complete(published, failures);
+
+        publishedEvents.addAndGet(published.size());
+        failedAttempts.addAndGet(failures.size());
+        logger.debug("Relayed {} outbox events, {} failed", published.size(), failures.size());
+        return claimed.size();
+    }
+
+    /**
+     * Delay before an event that has failed attempts times is published again
+     */
+    Duration backoff(int attempts) {
+        return RetryBackoff.equalJitter(outboxProperties.getInitialBackoff(), outboxProperties.getMaxBackoff(), attempts);
+    }
+
+    public long getPublishedEvents() {
+        return publishedEvents.get();
+    }
+
+    public long getFailedAttempts() {
+        return failedAttempts.get();
+    }
+
+    private OutboxFailure failed(OutboxMessage message, String error) {
+        int attempts = message.getAttempts() + 1;
+        Duration delay = backoff(attempts);
+        logger.warn("Publishing outbox event {} {} for {} failed on attempt {}, retrying in {} ms: {}",
+                   message.getId(), message.getEventType(), message.getAggregateId(), attempts, delay.toMillis(), error);
+        return new OutboxFailure(message.getId(), attempts, Instant.now().plus(delay), error);
+    }
+}
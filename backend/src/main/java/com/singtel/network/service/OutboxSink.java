@@ -0,0 +1,22 @@
+package com.singtel.network.service;
+
+import com.singtel.network.dto.outbox.OutboxMessage;
+import com.singtel.network.exception.OutboxPublishException;
+
+/**
+ * Destination the outbox relay publishes events to, selected by app.outbox.sink.
+ * Delivery is at least once: a message can be published again after a lease expires, with the same id.
+ */
+public interface OutboxSink {
+
+    /**
+     * Value of app.outbox.sink that selects this sink
+     */
+    String getName();
+
+    /**
+     * Publish synchronously; called on the relay thread. The messages of one batch belong to
+     * different aggregates.
+     */
+    void publish(OutboxMessage message) throws OutboxPublishException;
+}
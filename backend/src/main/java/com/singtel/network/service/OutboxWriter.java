@@ -0,0 +1,73 @@
+package com.singtel.network.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.singtel.network.dto.outbox.BandwidthChangeEvent;
+import com.singtel.network.dto.outbox.OrderEvent;
+import com.singtel.network.dto.outbox.OutboxEvent;
+import com.singtel.network.entity.BandwidthChange;
+import com.singtel.network.entity.Order;
+import com.singtel.network.repository.OutboxRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Records order and bandwidth change events in the outbox within the transaction that changes them.
+ * Call after the change has been flushed: the aggregate's row lock then orders concurrent writers,
+ * so outbox ids follow the order in which the changes commit.
+ */
+@Component
+public class OutboxWriter {
+
+    public static final String ORDER_CREATED = "ORDER_CREATED";
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public void orderCreated(Order order) {
+        ordersCreated(List.of(order));
+    }
+
+    public void ordersCreated(List<Order> orders) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.append(orders.stream()
+                .map(order -> orderEvent(order, ORDER_CREATED, now))
+                .toList());
+    }
+
+    /**
+     * Record the order's current status, e.g. ORDER_CANCELLED or ORDER_COMPLETED
+     */
+    public void orderStatusChanged(Order order) {
+        outboxRepository.append(List.of(orderEvent(order, "ORDER_" + order.getStatus().name(), LocalDateTime.now())));
+    }
+
+    /**
+     * Record the changes' current statuses, e.g. BANDWIDTH_CHANGE_APPLIED
+     */
+    public void bandwidthChangesChanged(List<BandwidthChange> changes) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.append(changes.stream()
+                .map(change -> new OutboxEvent(OutboxEvent.BANDWIDTH_CHANGE, change.getId(),
+                        "BANDWIDTH_CHANGE_" + change.getStatus().name(), toJson(new BandwidthChangeEvent(change, now))))
+                .toList());
+    }
+
+    private OutboxEvent orderEvent(Order order, String eventType, LocalDateTime now) {
+        return new OutboxEvent(OutboxEvent.ORDER, order.getId(), eventType, toJson(new OrderEvent(order, now)));
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize outbox payload " + payload.getClass().getSimpleName(), e);
+        }
+    }
+}
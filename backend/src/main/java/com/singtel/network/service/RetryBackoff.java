@@ -0,0 +1,35 @@
+package com.singtel.network.service;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Capped exponential backoff shared by everything that retries failed calls and deliveries.
+ * Equal jitter keeps half of each delay fixed and half random, so retries of a batch that failed
+ * together spread out without ever retrying immediately; full jitter suits short in-call retries.
+ */
+final class RetryBackoff {
+
+    private RetryBackoff() {
+    }
+
+    /**
+     * Backoff before attempt number attempts + 1: initial * 2^(attempts - 1), capped at max, with equal jitter
+     */
+    static Duration equalJitter(Duration initial, Duration max, int attempts) {
+        long halfMillis = cap(initial, max, attempts).toMillis() / 2;
+        return Duration.ofMillis(halfMillis + ThreadLocalRandom.current().nextLong(halfMillis + 1));
+    }
+
+    /**
+     * Backoff before attempt number attempts + 1: uniform between zero and initial * 2^(attempts - 1), capped at max
+     */
+    static Duration fullJitter(Duration initial, Duration max, int attempts) {
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(cap(initial, max, attempts).toMillis() + 1));
+    }
+
+    private static Duration cap(Duration initial, Duration max, int attempts) {
+        Duration base = initial.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 20));
+        return base.compareTo(max) > 0 ? max : base;
+    }
+}
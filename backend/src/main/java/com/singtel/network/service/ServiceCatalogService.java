@@ -1,5 +1,6 @@
 package com.singtel.network.service;
 
+import com.singtel.network.config.CacheConfig;
 import com.singtel.network.dto.service.ServiceCategoryResponse;
 import com.singtel.network.dto.service.ServiceDetailResponse;
 import com.singtel.network.dto.service.ServiceSummaryResponse;
@@ -9,19 +10,23 @@ import com.singtel.network.repository.ServiceRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
  * Service for managing service catalog operations.
+ * The unfiltered catalog views are cached as DTOs and rebuilt by {@link CatalogCacheService} when the catalog changes.
  */
 @org.springframework.stereotype.Service
 @Transactional(readOnly = true)
@@ -35,16 +40,25 @@ public class ServiceCatalogService {
     @Autowired
     private ServiceCategoryRepository serviceCategoryRepository;
 
+    @Autowired
+    private CatalogSearchIndex catalogSearchIndex;
+
     /**
      * Get all active service categories with their services
      */
+    @Cacheable(CacheConfig.CATALOG_CATEGORIES)
     public List<ServiceCategoryResponse> getAllActiveCategories() {
         logger.debug("Fetching all active service categories");
         
-        List<ServiceCategory> categories = serviceCategoryRepository.findActiveCategories();
-        return categories.stream()
-                .map(category -> new ServiceCategoryResponse(category, true))
-                .collect(Collectors.toList());
+        // Two column-only queries instead of loading every category's services collection
+        List<ServiceCategoryResponse> categories = serviceCategoryRepository.findActiveCategorySummaries();
+        Map<UUID, List<ServiceSummaryResponse>> servicesByCategory = serviceRepository.findAvailableServiceSummaries().stream()
+                .filter(service -> service.getCategoryId() != null)
+                .collect(Collectors.groupingBy(ServiceSummaryResponse::getCategoryId));
+
+        categories.forEach(category ->
+                category.setServices(servicesByCategory.getOrDefault(category.getId(), new ArrayList<>())));
+        return categories;
     }
 
     /**
@@ -53,8 +67,7 @@ public class ServiceCatalogService {
     public Page<ServiceCategoryResponse> getAllActiveCategories(Pageable pageable) {
         logger.debug("Fetching active service categories with pagination: {}", pageable);
         
-        Page<ServiceCategory> categories = serviceCategoryRepository.findActiveCategories(pageable);
-        return categories.map(category -> new ServiceCategoryResponse(category, false));
+        return serviceCategoryRepository.findActiveCategorySummaries(pageable);
     }
 
     /**
@@ -72,13 +85,11 @@ public class ServiceCatalogService {
     /**
      * Get all available services
      */
+    @Cacheable(CacheConfig.CATALOG_SERVICES)
     public List<ServiceSummaryResponse> getAllAvailableServices() {
         logger.debug("Fetching all available services");
         
-        List<com.singtel.network.entity.Service> services = serviceRepository.findAvailableServices();
-        return services.stream()
-                .map(ServiceSummaryResponse::new)
-                .collect(Collectors.toList());
+        return serviceRepository.findAvailableServiceSummaries();
     }
 
     /**
@@ -94,6 +105,7 @@ public class ServiceCatalogService {
     /**
      * Get service by ID
      */
+    @Cacheable(CacheConfig.CATALOG_SERVICE_DETAILS)
     public ServiceDetailResponse getServiceById(UUID serviceId) {
         logger.debug("Fetching service by ID: {}", serviceId);
         
@@ -202,8 +214,10 @@ public class ServiceCatalogService {
     }
 
     /**
-     * Search services with multiple criteria using programmatic filtering to avoid PostgreSQL parameter type issues
+     * Search services with multiple criteria. Unsorted, price-sorted and bandwidth-sorted searches are
+     * answered from the indexed in-memory catalog snapshot; any other sort is pushed down to Postgres.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<ServiceSummaryResponse> searchServices(UUID categoryId, String serviceType,
                                                       BigDecimal minPrice, BigDecimal maxPrice,
                                                       Integer minBandwidth, Integer maxBandwidth,
@@ -211,58 +225,19 @@ public class ServiceCatalogService {
         logger.debug("Searching services with criteria - Category: {}, Type: {}, Price: {}-{}, Bandwidth: {}-{}, Adjustable: {}",
                     categoryId, serviceType, minPrice, maxPrice, minBandwidth, maxBandwidth, bandwidthAdjustable);
 
-        // Check if any search criteria is provided
-        boolean hasSearchCriteria = categoryId != null || serviceType != null ||
-                                  minPrice != null || maxPrice != null ||
-                                  minBandwidth != null || maxBandwidth != null ||
-                                  bandwidthAdjustable != null;
-
-        Page<com.singtel.network.entity.Service> services;
-        if (!hasSearchCriteria) {
-            // No search criteria provided, return all available services
-            logger.debug("No search criteria provided, returning all available services");
-            services = serviceRepository.findAvailableServices(pageable);
+        Page<ServiceSummaryResponse> services;
+        if (CatalogSnapshot.supportsSort(pageable.getSort())) {
+            services = catalogSearchIndex.getSnapshot()
+                    .search(categoryId, serviceType, minPrice, maxPrice, minBandwidth, maxBandwidth,
+                            bandwidthAdjustable, pageable);
         } else {
-            // Use specific queries based on the criteria to avoid complex parameter handling
-            logger.debug("Using specific search criteria to filter services");
-
-            if (minPrice != null && maxPrice != null && categoryId == null && serviceType == null &&
-                minBandwidth == null && maxBandwidth == null && bandwidthAdjustable == null) {
-                // Only price range search
-                List<com.singtel.network.entity.Service> priceFilteredServices = serviceRepository.findByPriceRange(minPrice, maxPrice)
-                    .stream()
-                    .skip(pageable.getOffset())
-                    .limit(pageable.getPageSize())
-                    .collect(Collectors.toList());
-
-                // Create a Page manually
-                long total = serviceRepository.findByPriceRange(minPrice, maxPrice).size();
-                services = new PageImpl<>(priceFilteredServices, pageable, total);
-            } else {
-                // For other complex searches, fall back to getting all available services and filter programmatically
-                List<com.singtel.network.entity.Service> allServices = serviceRepository.findAvailableServices();
-
-                List<com.singtel.network.entity.Service> filteredServices = allServices.stream()
-                    .filter(service -> categoryId == null || service.getCategory().getId().equals(categoryId))
-                    .filter(service -> serviceType == null || service.getServiceType().equals(serviceType))
-                    .filter(service -> minPrice == null || service.getBasePriceMonthly().compareTo(minPrice) >= 0)
-                    .filter(service -> maxPrice == null || service.getBasePriceMonthly().compareTo(maxPrice) <= 0)
-                    .filter(service -> minBandwidth == null || service.getBaseBandwidthMbps() >= minBandwidth)
-                    .filter(service -> maxBandwidth == null || service.getBaseBandwidthMbps() <= maxBandwidth)
-                    .filter(service -> bandwidthAdjustable == null || service.isBandwidthAdjustable() == bandwidthAdjustable)
-                    .collect(Collectors.toList());
-
-                // Apply pagination manually
-                int start = (int) pageable.getOffset();
-                int end = Math.min(start + pageable.getPageSize(), filteredServices.size());
-                List<com.singtel.network.entity.Service> pagedServices = filteredServices.subList(start, end);
-
-                services = new PageImpl<>(pagedServices, pageable, filteredServices.size());
-            }
+            services = serviceRepository.searchServices(categoryId, serviceType, minPrice, maxPrice,
+                            minBandwidth, maxBandwidth, bandwidthAdjustable, pageable)
+                    .map(ServiceSummaryResponse::new);
         }
 
         logger.debug("Found {} services matching criteria", services.getTotalElements());
-        return services.map(ServiceSummaryResponse::new);
+        return services;
     }
 
     /**
@@ -281,6 +256,7 @@ public class ServiceCatalogService {
     /**
      * Get distinct service types
      */
+    @Cacheable(CacheConfig.CATALOG_SERVICE_TYPES)
     public List<String> getServiceTypes() {
         logger.debug("Fetching distinct service types");
         
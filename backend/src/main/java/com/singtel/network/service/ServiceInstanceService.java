@@ -0,0 +1,81 @@
+package com.singtel.network.service;
+
+import com.singtel.network.dto.common.CursorPage;
+import com.singtel.network.dto.instance.BandwidthChangeResponse;
+import com.singtel.network.dto.instance.ServiceInstanceResponse;
+import com.singtel.network.entity.BandwidthChange;
+import com.singtel.network.entity.ServiceInstance;
+import com.singtel.network.entity.User;
+import com.singtel.network.repository.BandwidthChangeSpecifications;
+import com.singtel.network.repository.KeysetPager;
+import com.singtel.network.repository.ServiceInstanceSpecifications;
+import com.singtel.network.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Service for listing the current company's service instances and bandwidth changes.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ServiceInstanceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceInstanceService.class);
+
+    @Autowired
+    private KeysetPager keysetPager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Get service instances with keyset pagination, newest first
+     */
+    public CursorPage<ServiceInstanceResponse> getServiceInstances(ServiceInstance.ServiceInstanceStatus status,
+                                                                   String cursor, int size) {
+        User currentUser = getCurrentUser();
+        logger.debug("Fetching service instances by cursor for company: {}", currentUser.getCompany().getId());
+
+        return keysetPager.page(ServiceInstance.class,
+                                ServiceInstanceSpecifications.search(currentUser.getCompany().getId(), status),
+                                cursor, size, "service")
+                .map(ServiceInstanceResponse::new);
+    }
+
+    /**
+     * Get bandwidth changes with keyset pagination, newest first
+     */
+    public CursorPage<BandwidthChangeResponse> getBandwidthChanges(UUID serviceInstanceId,
+                                                                   BandwidthChange.BandwidthChangeStatus status,
+                                                                   String cursor, int size) {
+        User currentUser = getCurrentUser();
+        logger.debug("Fetching bandwidth changes by cursor for company: {}, instance: {}",
+                    currentUser.getCompany().getId(), serviceInstanceId);
+
+        return keysetPager.page(BandwidthChange.class,
+                                BandwidthChangeSpecifications.search(currentUser.getCompany().getId(),
+                                                                     serviceInstanceId, status),
+                                cursor, size, "serviceInstance")
+                .map(BandwidthChangeResponse::new);
+    }
+
+    // Private helper methods
+
+    private User getCurrentUser() {
+        User user = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+
+        // Ensure the user and company relationship are properly loaded
+        if (user.getCompany() == null) {
+            user = userRepository.findByIdWithCompany(user.getId())
+                    .orElseThrow(() -> new IllegalStateException("Current user not found in database"));
+        }
+
+        return user;
+    }
+}
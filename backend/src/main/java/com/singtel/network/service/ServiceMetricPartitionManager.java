@@ -0,0 +1,92 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.MetricsProperties;
+import com.singtel.network.repository.ServiceMetricPartitionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Keeps the daily partitions of service_metrics rolling: partitions for the retention window
+ * and the next lookahead days exist, and partitions older than retention are detached or dropped.
+ */
+@Component
+public class ServiceMetricPartitionManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceMetricPartitionManager.class);
+
+    @Autowired
+    private ServiceMetricPartitionRepository partitionRepository;
+
+    @Autowired
+    private MetricsProperties metricsProperties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void maintainOnStartup() {
+        maintainPartitions();
+    }
+
+    @Scheduled(cron = "${app.metrics.partitions.cron:0 5 0 * * *}", zone = "UTC")
+    public void maintainPartitions() {
+        if (!metricsProperties.getPartitions().isEnabled()) {
+            return;
+        }
+        try {
+            maintain(LocalDate.now(ZoneOffset.UTC));
+        } catch (DataAccessException e) {
+            logger.error("Service metric partition maintenance failed", e);
+        }
+    }
+
+    /**
+     * Create missing partitions in [today - retention, today + lookahead] and retire older ones
+     */
+    void maintain(LocalDate today) {
+        MetricsProperties.Partitions settings = metricsProperties.getPartitions();
+        LocalDate oldestRetained = today.minusDays(settings.getRetentionDays());
+        LocalDate newest = today.plusDays(settings.getLookaheadDays());
+
+        Set<LocalDate> existing = new HashSet<>();
+        for (String name : partitionRepository.findPartitionNames()) {
+            LocalDate day = ServiceMetricPartitionRepository.partitionDay(name);
+            if (day == null) {
+                continue;
+            }
+            if (day.isBefore(oldestRetained)) {
+                retire(name, settings.getRetentionAction());
+            } else {
+                existing.add(day);
+            }
+        }
+
+        int created = 0;
+        for (LocalDate day = oldestRetained; !day.isAfter(newest); day = day.plusDays(1)) {
+            if (!existing.contains(day)) {
+                partitionRepository.createDailyPartition(day);
+                created++;
+            }
+        }
+        if (created > 0) {
+            logger.info("Created {} service_metrics partitions up to {}", created, newest);
+        }
+    }
+
+    private void retire(String name, MetricsProperties.RetentionAction action) {
+        if (action == MetricsProperties.RetentionAction.DETACH) {
+            partitionRepository.detachPartition(name);
+        } else {
+            partitionRepository.dropPartition(name);
+        }
+        logger.info("Retired service_metrics partition {} ({})", name, action);
+    }
+}
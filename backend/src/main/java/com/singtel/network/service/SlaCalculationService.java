@@ -0,0 +1,119 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.MetricsProperties;
+import com.singtel.network.dto.metric.SlaPeriod;
+import com.singtel.network.repository.ServiceSlaRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps service_sla_metrics up to date. Each run asks for the periods whose daily rollups or status
+ * events changed since the last complete run and recalculates only those, in chunks on a bounded
+ * pool; every chunk commits on its own so progress survives a failing chunk.
+ */
+@Service
+public class SlaCalculationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlaCalculationService.class);
+
+    @Autowired
+    private ServiceSlaRepository slaRepository;
+
+    @Autowired
+    private MetricsProperties metricsProperties;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void start() {
+        int parallelism = metricsProperties.getSla().getParallelism();
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(parallelism * 2),
+                task -> new Thread(task, "sla-calc-" + threadNumber.incrementAndGet()),
+                (task, pool) -> {
+                    // A full queue slows the submitting run down instead of growing without bound
+                    if (pool.isShutdown()) {
+                        throw new RejectedExecutionException("SLA calculation pool is shut down");
+                    }
+                    task.run();
+                });
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    @Scheduled(fixedDelayString = "${app.metrics.sla.interval-ms:300000}")
+    public void calculateChangedPeriods() {
+        if (!metricsProperties.getSla().isEnabled()) {
+            return;
+        }
+        try {
+            calculateChanged(Instant.now());
+        } catch (DataAccessException | RejectedExecutionException e) {
+            logger.error("SLA calculation run failed", e);
+        }
+    }
+
+    /**
+     * Recalculate every period changed since the watermark, returning the number of rows written.
+     * The watermark only moves to runStart when every chunk succeeded.
+     */
+    int calculateChanged(Instant runStart) {
+        MetricsProperties.Sla sla = metricsProperties.getSla();
+        Instant since = slaRepository.findWatermark()
+                .map(watermark -> watermark.minus(sla.getChangeOverlap()))
+                .orElse(Instant.EPOCH);
+        List<SlaPeriod> changed = slaRepository.findChangedPeriods(since);
+
+        List<CompletableFuture<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < changed.size(); from += sla.getChunkSize()) {
+            List<SlaPeriod> chunk = changed.subList(from, Math.min(from + sla.getChunkSize(), changed.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> slaRepository.calculate(chunk), executor)
+                    .exceptionally(e -> {
+                        logger.error("SLA calculation failed for {} periods starting with {}", chunk.size(), chunk.get(0), e);
+                        return -1;
+                    }));
+        }
+
+        int written = 0;
+        int failed = 0;
+        for (CompletableFuture<Integer> chunk : chunks) {
+            int rows = chunk.join();
+            if (rows < 0) {
+                failed++;
+            } else {
+                written += rows;
+            }
+        }
+
+        if (failed == 0) {
+            slaRepository.saveWatermark(runStart);
+        } else {
+            logger.warn("{} of {} SLA chunks failed; their periods are retried on the next run", failed, chunks.size());
+        }
+        if (!changed.isEmpty()) {
+            logger.info("Recalculated {} of {} changed SLA periods", written, changed.size());
+        }
+        return written;
+    }
+}
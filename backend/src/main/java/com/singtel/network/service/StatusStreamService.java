@@ -0,0 +1,336 @@
+package com.singtel.network.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.singtel.network.config.StatusStreamProperties;
+import com.singtel.network.entity.User;
+import com.singtel.network.event.StatusChangedEvent;
+import com.singtel.network.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes order and service instance status changes to the open Server-Sent Event streams of the
+ * owning company. Events arrive from StatusChangeListener through the application event bus
+ * after commit, are serialized once and offered to a bounded buffer per subscriber, so publishing
+ * never waits on a client. A small writer pool drains the buffers; an open stream holds no thread
+ * while idle. A subscriber whose buffer fills up, or whose client blocks a single write past the
+ * write timeout, is evicted and its stream completed, and the client reconnects and reloads its
+ * view. A writer stuck on a stalled client is replaced so other streams keep flowing until the
+ * container's socket timeout frees it. Streams are per node and carry no replay.
+ */
+@Service
+public class StatusStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatusStreamService.class);
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StatusStreamProperties statusStreamProperties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Set<Subscriber> writing = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong eventIds = new AtomicLong();
+
+    private ThreadPoolExecutor writers;
+    private int replacedWriters;
+
+    private Counter publishedCounter;
+    private Counter evictedCounter;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        writers = (ThreadPoolExecutor) Executors.newFixedThreadPool(statusStreamProperties.getWriterThreads(), task -> {
+            Thread thread = new Thread(task, "status-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("status.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open order and service instance status streams on this node")
+                .register(meterRegistry);
+        publishedCounter = meterRegistry.counter("status.stream.events");
+        evictedCounter = meterRegistry.counter("status.stream.evictions");
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscribers.values().forEach(companySubscribers -> companySubscribers.forEach(this::close));
+        writers.shutdown();
+    }
+
+    /**
+     * Open a status stream for the current user's company
+     */
+    public SseEmitter subscribe() {
+        User currentUser = getCurrentUser();
+        return subscribe(currentUser.getCompany().getId(), new SseEmitter(statusStreamProperties.getTimeout().toMillis()));
+    }
+
+    SseEmitter subscribe(UUID companyId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(companyId, emitter, statusStreamProperties.getBufferSize());
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        subscribers.compute(companyId, (id, companySubscribers) -> {
+            Set<Subscriber> updated = companySubscribers != null ? companySubscribers : ConcurrentHashMap.newKeySet();
+            updated.add(subscriber);
+            return updated;
+        });
+        subscriberCount.incrementAndGet();
+        offer(subscriber, SseEmitter.event()
+                .comment("connected")
+                .reconnectTime(statusStreamProperties.getReconnectDelay().toMillis())
+                .build());
+        logger.debug("Opened status stream for company {}", companyId);
+        return emitter;
+    }
+
+    /**
+     * Fan a committed status change out to the streams of its company
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStatusChanged(StatusChangedEvent event) {
+        Set<Subscriber> companySubscribers = subscribers.get(event.getCompanyId());
+        if (companySubscribers == null) {
+            return;
+        }
+
+        Set<DataWithMediaType> message;
+        try {
+            message = SseEmitter.event()
+                    .id(String.valueOf(eventIds.incrementAndGet()))
+                    .name(event.getResourceType().name())
+                    .data(objectMapper.writeValueAsString(event))
+                    .build();
+        } catch (JsonProcessingException e) {
+            logger.error("Could not serialize status change of {} {}", event.getResourceType(), event.getResourceId(), e);
+            return;
+        }
+        publishedCounter.increment();
+        for (Subscriber subscriber : companySubscribers) {
+            offer(subscriber, message);
+        }
+    }
+
+    /**
+     * Keep idle streams open through proxies and find clients that went away
+     */
+    @Scheduled(fixedDelayString = "${app.status-stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(companySubscribers -> companySubscribers.forEach(subscriber -> offer(subscriber, HEARTBEAT)));
+    }
+
+    /**
+     * Evict subscribers whose client has blocked the current write past the write timeout, and
+     * give their writer's place to a new thread. The emitter is not touched here: its send holds
+     * the emitter's monitor, and the stuck writer completes the stream once the write returns.
+     */
+    @Scheduled(fixedDelayString = "${app.status-stream.stall-check-interval-ms:1000}")
+    public void evictStalled() {
+        long now = System.nanoTime();
+        long timeoutNanos = statusStreamProperties.getWriteTimeout().toNanos();
+        for (Subscriber subscriber : writing) {
+            long startedAt = subscriber.writeStartedAt;
+            if (startedAt == 0 || now - startedAt < timeoutNanos || !subscriber.stalled.compareAndSet(false, true)) {
+                continue;
+            }
+            if (remove(subscriber)) {
+                logger.info("Evicting status stream subscriber of company {} blocked on a write for {} ms",
+                           subscriber.companyId, TimeUnit.NANOSECONDS.toMillis(now - startedAt));
+                evictedCounter.increment();
+            }
+            if (addWriter()) {
+                subscriber.replaced.set(true);
+                // The write may have returned meanwhile, before its writer could see the flag
+                if (!writing.contains(subscriber) && subscriber.replaced.getAndSet(false)) {
+                    removeWriter();
+                }
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void offer(Subscriber subscriber, Set<DataWithMediaType> message) {
+        if (!subscriber.buffer.offer(message)) {
+            logger.info("Evicting slow status stream subscriber of company {} with {} undelivered events",
+                       subscriber.companyId, subscriber.buffer.size());
+            evictedCounter.increment();
+            close(subscriber);
+            return;
+        }
+        schedule(subscriber);
+    }
+
+    /**
+     * Stop delivering to the subscriber; its writer completes the stream
+     */
+    private void close(Subscriber subscriber) {
+        remove(subscriber);
+        schedule(subscriber);
+    }
+
+    /**
+     * @return whether this call closed the subscriber
+     */
+    private boolean remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        subscribers.computeIfPresent(subscriber.companyId, (id, companySubscribers) -> {
+            companySubscribers.remove(subscriber);
+            return companySubscribers.isEmpty() ? null : companySubscribers;
+        });
+        subscriberCount.decrementAndGet();
+        return true;
+    }
+
+    /**
+     * Grow the pool by one thread in place of a stuck writer, at most doubling it
+     *
+     * @return whether a thread was added
+     */
+    private synchronized boolean addWriter() {
+        if (replacedWriters >= statusStreamProperties.getWriterThreads()) {
+            return false;
+        }
+        replacedWriters++;
+        writers.setMaximumPoolSize(writers.getMaximumPoolSize() + 1);
+        writers.setCorePoolSize(writers.getCorePoolSize() + 1);
+        return true;
+    }
+
+    /**
+     * Shrink the pool again once a replaced writer is free
+     */
+    private synchronized void removeWriter() {
+        replacedWriters--;
+        writers.setCorePoolSize(writers.getCorePoolSize() - 1);
+        writers.setMaximumPoolSize(writers.getMaximumPoolSize() - 1);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                writers.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    /**
+     * Write the subscriber's buffered events. Only one writer drains a subscriber at a time, so
+     * a stalled client holds one writer thread rather than the publishing thread; evictStalled adds
+     * a thread in its place.
+     */
+    private void drain(Subscriber subscriber) {
+        writing.add(subscriber);
+        try {
+            Set<DataWithMediaType> message;
+            while (!subscriber.closed.get() && (message = subscriber.buffer.poll()) != null) {
+                subscriber.writeStartedAt = System.nanoTime();
+                subscriber.emitter.send(message);
+                subscriber.writeStartedAt = 0;
+            }
+            if (subscriber.closed.get() && !subscriber.completed) {
+                subscriber.buffer.clear();
+                subscriber.completed = true;
+                subscriber.emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client disconnected or the stream timed out; the container completes the request
+            logger.debug("Status stream of company {} closed: {}", subscriber.companyId, e.getMessage());
+            subscriber.completed = true;
+            remove(subscriber);
+        } finally {
+            subscriber.writeStartedAt = 0;
+            writing.remove(subscriber);
+            if (subscriber.replaced.getAndSet(false)) {
+                removeWriter();
+            }
+            subscriber.draining.set(false);
+        }
+
+        // Catch up on events or a close that arrived while this writer still held the subscriber
+        if (subscriber.closed.get() ? !subscriber.completed : !subscriber.buffer.isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    private User getCurrentUser() {
+        User user = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (user.getCompany() == null) {
+            user = userRepository.findByIdWithCompany(user.getId())
+                    .orElseThrow(() -> new IllegalStateException("Current user not found in database"));
+        }
+        return user;
+    }
+
+    /**
+     * An open stream and the events waiting to be written to it
+     */
+    private static final class Subscriber {
+
+        final UUID companyId;
+        final SseEmitter emitter;
+        final BlockingQueue<Set<DataWithMediaType>> buffer;
+        final AtomicBoolean closed = new AtomicBoolean();
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicBoolean stalled = new AtomicBoolean();
+        volatile boolean completed;
+        // System.nanoTime() when the write in progress started, 0 between writes
+        volatile long writeStartedAt;
+        // Set while a thread added in place of this subscriber's stuck writer is in the pool
+        final AtomicBoolean replaced = new AtomicBoolean();
+
+        Subscriber(UUID companyId, SseEmitter emitter, int bufferSize) {
+            this.companyId = companyId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
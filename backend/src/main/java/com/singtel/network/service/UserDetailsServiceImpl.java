@@ -2,6 +2,7 @@ package com.singtel.network.service;
 
 import com.singtel.network.entity.User;
 import com.singtel.network.repository.UserRepository;
+import com.singtel.network.security.UserPrincipalCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,10 +10,13 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
 
 /**
  * UserDetailsService implementation for Spring Security authentication.
+ * Password logins always load the user from the database. Per-request principals for JWT
+ * authentication are served from {@link UserPrincipalCache} until they expire or change.
  */
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
@@ -22,8 +26,10 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserPrincipalCache principalCache;
+
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String usernameOrEmail) throws UsernameNotFoundException {
         logger.debug("Loading user by username or email: {}", usernameOrEmail);
 
@@ -41,17 +47,42 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     }
 
     /**
-     * Load user by ID (useful for JWT token validation)
+     * Load the principal of an authenticated request through the cache. The returned user is a
+     * detached copy that may be stale and must not be saved.
+     */
+    public UserDetails loadCachedUserByUsername(String usernameOrEmail) throws UsernameNotFoundException {
+        User cached = principalCache.getByLogin(usernameOrEmail);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = principalCache.generation();
+        User user = (User) loadUserByUsername(usernameOrEmail);
+        principalCache.putByLogin(usernameOrEmail, user, generation);
+        return user;
+    }
+
+    /**
+     * Load user by ID through the cache (useful for JWT token validation). The returned user is a
+     * detached copy that may be stale and must not be saved.
      */
-    @Transactional(readOnly = true)
     public UserDetails loadUserById(String userId) throws UsernameNotFoundException {
         try {
-            User user = userRepository.findByIdWithCompany(java.util.UUID.fromString(userId))
+            UUID id = UUID.fromString(userId);
+            User cached = principalCache.getById(id);
+            if (cached != null) {
+                return cached;
+            }
+
+            long generation = principalCache.generation();
+            User user = userRepository.findByIdWithCompany(id)
                     .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + userId));
 
             logger.debug("User found by ID: {} with username: {} and company: {}",
                         userId, user.getUsername(),
                         user.getCompany() != null ? user.getCompany().getName() : "null");
+
+            principalCache.putById(user, generation);
             return user;
         } catch (IllegalArgumentException e) {
             logger.error("Invalid UUID format: {}", userId);
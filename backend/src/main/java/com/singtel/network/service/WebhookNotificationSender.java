@@ -0,0 +1,60 @@
+package com.singtel.network.service;
+
+import com.singtel.network.dto.alert.PendingNotification;
+import com.singtel.network.exception.NotificationDeliveryException;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Posts alert notifications to the webhook URLs configured on service_alerts.
+ */
+@Component
+public class WebhookNotificationSender extends HttpNotificationSender {
+
+    @Override
+    public String getNotificationType() {
+        return "WEBHOOK";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Webhooks are rate limited per host, however many URLs point at it
+     */
+    @Override
+    public String destinationKey(PendingNotification notification) {
+        try {
+            URI uri = URI.create(notification.getRecipient());
+            return uri.getHost() != null ? uri.getHost().toLowerCase() : notification.getRecipient();
+        } catch (IllegalArgumentException e) {
+            return notification.getRecipient();
+        }
+    }
+
+    @Override
+    public void send(PendingNotification notification) throws NotificationDeliveryException {
+        URI uri;
+        try {
+            uri = URI.create(notification.getRecipient());
+        } catch (IllegalArgumentException e) {
+            throw new NotificationDeliveryException("Invalid webhook URL: " + notification.getRecipient(), false, e);
+        }
+        if (!"https".equalsIgnoreCase(uri.getScheme()) && !"http".equalsIgnoreCase(uri.getScheme())) {
+            throw new NotificationDeliveryException("Unsupported webhook URL: " + notification.getRecipient(), false);
+        }
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("notificationId", notification.getId());
+        payload.put("alertId", notification.getAlertId());
+        payload.put("serviceInstanceId", notification.getServiceInstanceId());
+        payload.put("subject", notification.getSubject());
+        payload.put("message", notification.getMessage());
+        postJson(uri, payload);
+    }
+}
@@ -0,0 +1,83 @@
+package com.singtel.network.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.singtel.network.config.OutboxProperties;
+import com.singtel.network.dto.outbox.OutboxMessage;
+import com.singtel.network.exception.OutboxPublishException;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * POSTs each outbox event to app.outbox.webhook-url with the outbox id as Idempotency-Key.
+ */
+@Component
+public class WebhookOutboxSink implements OutboxSink {
+
+    @Autowired
+    private OutboxProperties outboxProperties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private HttpClient httpClient;
+
+    @PostConstruct
+    public void init() {
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(outboxProperties.getRequestTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return "webhook";
+    }
+
+    @Override
+    public void publish(OutboxMessage message) throws OutboxPublishException {
+        if (outboxProperties.getWebhookUrl() == null || outboxProperties.getWebhookUrl().isBlank()) {
+            throw new OutboxPublishException("app.outbox.webhook-url is not set");
+        }
+        HttpRequest request;
+        try {
+            ObjectNode body = objectMapper.createObjectNode();
+            body.put("id", message.getId());
+            body.put("aggregateType", message.getAggregateType());
+            body.put("aggregateId", message.getAggregateId().toString());
+            body.put("eventType", message.getEventType());
+            body.put("createdAt", message.getCreatedAt().toString());
+            body.set("payload", objectMapper.readTree(message.getPayload()));
+            request = HttpRequest.newBuilder(URI.create(outboxProperties.getWebhookUrl()))
+                    .timeout(outboxProperties.getRequestTimeout())
+                    .header("Content-Type", "application/json")
+                    .header("Idempotency-Key", String.valueOf(message.getId()))
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new OutboxPublishException("Invalid outbox webhook request: " + e.getMessage(), e);
+        }
+
+        int status;
+        try {
+            status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            throw new OutboxPublishException("POST " + request.uri() + " failed: " + e, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OutboxPublishException("POST " + request.uri() + " interrupted", e);
+        }
+        if (status / 100 != 2) {
+            throw new OutboxPublishException("POST " + request.uri() + " answered " + status);
+        }
+    }
+}
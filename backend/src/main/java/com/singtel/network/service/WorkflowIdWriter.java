@@ -0,0 +1,159 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.OrchestratorProperties;
+import com.singtel.network.dto.orchestrator.WorkflowAssignment;
+import com.singtel.network.dto.orchestrator.WorkflowSubmissionFailure;
+import com.singtel.network.repository.OrchestratorWorkflowRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background writer recording started workflow ids on their orders and bandwidth changes, and
+ * failed submissions, in JDBC batches. A lost assignment is harmless: the aggregate is submitted
+ * again and the orchestrator returns the same workflow for its idempotency key. A lost failure
+ * only means the aggregate is retried without backoff.
+ */
+@Component
+public class WorkflowIdWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkflowIdWriter.class);
+
+    @Autowired
+    private OrchestratorWorkflowRepository orchestratorWorkflowRepository;
+
+    @Autowired
+    private OrchestratorProperties orchestratorProperties;
+
+    private BlockingQueue<WorkflowAssignment> pending;
+    private BlockingQueue<WorkflowSubmissionFailure> pendingFailures;
+    private final Set<UUID> pendingIds = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong writtenAssignments = new AtomicLong();
+    private final AtomicLong droppedAssignments = new AtomicLong();
+    private final AtomicLong droppedFailures = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        pending = new ArrayBlockingQueue<>(orchestratorProperties.getWriteQueueCapacity());
+        pendingFailures = new ArrayBlockingQueue<>(orchestratorProperties.getWriteQueueCapacity());
+    }
+
+    /**
+     * Queue an assignment without blocking; it is dropped and counted when the queue is full
+     */
+    public boolean enqueue(WorkflowAssignment assignment) {
+        pendingIds.add(assignment.getAggregateId());
+        if (pending.offer(assignment)) {
+            return true;
+        }
+        pendingIds.remove(assignment.getAggregateId());
+        if (droppedAssignments.incrementAndGet() % 1_000 == 1) {
+            logger.warn("Workflow assignment queue full, {} assignments dropped so far", droppedAssignments.get());
+        }
+        return false;
+    }
+
+    /**
+     * Queue a failed submission without blocking; it is dropped and counted when the queue is full
+     */
+    public boolean enqueueFailure(WorkflowSubmissionFailure failure) {
+        pendingIds.add(failure.getAggregateId());
+        if (pendingFailures.offer(failure)) {
+            return true;
+        }
+        pendingIds.remove(failure.getAggregateId());
+        if (droppedFailures.incrementAndGet() % 1_000 == 1) {
+            logger.warn("Workflow submission failure queue full, {} failures dropped so far", droppedFailures.get());
+        }
+        return false;
+    }
+
+    /**
+     * Whether a workflow id or failure for the aggregate is waiting to be written
+     */
+    public boolean isPending(UUID aggregateId) {
+        return pendingIds.contains(aggregateId);
+    }
+
+    /**
+     * Write what is pending at the start of the run, one batch per transaction
+     */
+    @Scheduled(fixedDelayString = "${app.service-orchestrator.write-interval-ms:500}")
+    public void writePending() {
+        int batchSize = orchestratorProperties.getWriteBatchSize();
+        int remaining = pending.size();
+        List<WorkflowAssignment> batch = new ArrayList<>(Math.min(batchSize, remaining));
+
+        while (remaining > 0 && pending.drainTo(batch, Math.min(batchSize, remaining)) > 0) {
+            remaining -= batch.size();
+            write(batch);
+            batch.clear();
+        }
+
+        remaining = pendingFailures.size();
+        List<WorkflowSubmissionFailure> failures = new ArrayList<>(Math.min(batchSize, remaining));
+        while (remaining > 0 && pendingFailures.drainTo(failures, Math.min(batchSize, remaining)) > 0) {
+            remaining -= failures.size();
+            writeFailures(failures);
+            failures.clear();
+        }
+    }
+
+    @PreDestroy
+    public void writeOnShutdown() {
+        writePending();
+    }
+
+    public int getPendingAssignments() {
+        return pending.size();
+    }
+
+    public long getWrittenAssignments() {
+        return writtenAssignments.get();
+    }
+
+    public long getDroppedAssignments() {
+        return droppedAssignments.get();
+    }
+
+    public long getDroppedFailures() {
+        return droppedFailures.get();
+    }
+
+    private void write(List<WorkflowAssignment> batch) {
+        try {
+            writtenAssignments.addAndGet(orchestratorWorkflowRepository.assign(batch));
+        } catch (DataAccessException e) {
+            droppedAssignments.addAndGet(batch.size());
+            logger.error("Dropped {} workflow assignments after write failure: {}", batch.size(), e.getMessage());
+        } finally {
+            batch.forEach(assignment -> pendingIds.remove(assignment.getAggregateId()));
+        }
+    }
+
+    private void writeFailures(List<WorkflowSubmissionFailure> failures) {
+        try {
+            orchestratorWorkflowRepository.recordFailures(failures);
+        } catch (DataAccessException e) {
+            droppedFailures.addAndGet(failures.size());
+            logger.error("Dropped {} workflow submission failures after write failure: {}", failures.size(), e.getMessage());
+        } finally {
+            failures.forEach(failure -> pendingIds.remove(failure.getAggregateId()));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.OrchestratorProperties;
+import com.singtel.network.dto.orchestrator.BandwidthChangeWorkflowRequest;
+import com.singtel.network.dto.orchestrator.OrderWorkflowRequest;
+import com.singtel.network.dto.orchestrator.WorkflowAssignment;
+import com.singtel.network.dto.orchestrator.WorkflowSubmissionFailure;
+import com.singtel.network.dto.orchestrator.WorkflowType;
+import com.singtel.network.exception.OrchestratorException;
+import com.singtel.network.repository.OrchestratorWorkflowRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Starts Service Orchestrator workflows for open orders and bandwidth changes that have none.
+ * Submission is fire-and-forget on the client's futures, so the scheduler thread only runs the
+ * lookups; aggregates already in flight or waiting for write-back are not submitted twice.
+ * A failed aggregate backs off on its own schedule, and one the orchestrator refused for good
+ * is parked instead of being resubmitted every run.
+ */
+@Service
+public class WorkflowSubmissionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkflowSubmissionService.class);
+
+    @Autowired
+    private OrchestratorWorkflowRepository orchestratorWorkflowRepository;
+
+    @Autowired
+    private OrchestratorClient orchestratorClient;
+
+    @Autowired
+    private WorkflowIdWriter workflowIdWriter;
+
+    @Autowired
+    private OrchestratorProperties orchestratorProperties;
+
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong startedWorkflows = new AtomicLong();
+    private final AtomicLong failedSubmissions = new AtomicLong();
+    private long reportedFailures;
+
+    @Scheduled(fixedDelayString = "${app.service-orchestrator.poll-interval-ms:5000}")
+    public void submitPending() {
+        if (!orchestratorProperties.isEnabled()) {
+            return;
+        }
+        int limit = orchestratorProperties.getSubmitBatchSize();
+        try {
+            List<OrderWorkflowRequest> orders = orchestratorWorkflowRepository.findOrdersAwaitingWorkflow(limit);
+            List<BandwidthChangeWorkflowRequest> changes =
+                    orchestratorWorkflowRepository.findBandwidthChangesAwaitingWorkflow(limit);
+            List<UUID> aggregateIds = new ArrayList<>(orders.size() + changes.size());
+            orders.forEach(order -> aggregateIds.add(order.getOrderId()));
+            changes.forEach(change -> aggregateIds.add(change.getChangeId()));
+            Map<UUID, Integer> attempts = orchestratorWorkflowRepository.findSubmissionAttempts(aggregateIds);
+
+            for (OrderWorkflowRequest order : orders) {
+                submit(WorkflowType.ORDER, order.getOrderId(), order, attempts.getOrDefault(order.getOrderId(), 0));
+            }
+            for (BandwidthChangeWorkflowRequest change : changes) {
+                submit(WorkflowType.BANDWIDTH_CHANGE, change.getChangeId(), change,
+                       attempts.getOrDefault(change.getChangeId(), 0));
+            }
+        } catch (DataAccessException e) {
+            logger.error("Loading aggregates awaiting a workflow failed", e);
+        }
+
+        // Failures complete on client threads; report them once per run instead of per aggregate
+        long failed = failedSubmissions.get();
+        if (failed > reportedFailures) {
+            logger.warn("{} workflow submissions failed since the previous run", failed - reportedFailures);
+            reportedFailures = failed;
+        }
+    }
+
+    /**
+     * Start the workflow for one aggregate unless it is already being handled. A failure is
+     * recorded as attempt number failedAttempts + 1.
+     *
+     * @return whether a request was started
+     */
+    public boolean submit(WorkflowType type, UUID aggregateId, Object payload, int failedAttempts) {
+        if (workflowIdWriter.isPending(aggregateId) || !inFlight.add(aggregateId)) {
+            return false;
+        }
+        orchestratorClient.startWorkflow(type, aggregateId, payload).whenComplete((workflowId, error) -> {
+            try {
+                if (error == null) {
+                    startedWorkflows.incrementAndGet();
+                    workflowIdWriter.enqueue(new WorkflowAssignment(type, aggregateId, workflowId));
+                } else {
+                    failedSubmissions.incrementAndGet();
+                    workflowIdWriter.enqueueFailure(failed(type, aggregateId, failedAttempts + 1, error));
+                }
+            } finally {
+                inFlight.remove(aggregateId);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Delay before an aggregate whose submission has failed attempts times is submitted again
+     */
+    Duration backoff(int attempts) {
+        return RetryBackoff.equalJitter(orchestratorProperties.getSubmitInitialBackoff(),
+                orchestratorProperties.getSubmitMaxBackoff(), attempts);
+    }
+
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    public long getStartedWorkflows() {
+        return startedWorkflows.get();
+    }
+
+    public long getFailedSubmissions() {
+        return failedSubmissions.get();
+    }
+
+    private WorkflowSubmissionFailure failed(WorkflowType type, UUID aggregateId, int attempts, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        // 4xx answers and answers without a workflowId will not succeed on resubmission
+        boolean parked = cause instanceof OrchestratorException failure && !failure.isRetryable();
+        if (parked) {
+            logger.warn("Parked {} workflow submission for {} after attempt {}: {}", type, aggregateId, attempts,
+                        cause.getMessage());
+            return new WorkflowSubmissionFailure(type, aggregateId, attempts, Instant.now(), true, cause.getMessage());
+        }
+        Duration delay = backoff(attempts);
+        logger.debug("Starting {} workflow for {} failed on attempt {}, retrying in {} ms: {}",
+                     type, aggregateId, attempts, delay.toMillis(), cause.getMessage());
+        return new WorkflowSubmissionFailure(type, aggregateId, attempts, Instant.now().plus(delay), false,
+                                             cause.getMessage());
+    }
+}
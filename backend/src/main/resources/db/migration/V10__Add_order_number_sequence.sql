@@ -0,0 +1,10 @@
+-- Order number sequence
+-- Version: 10.0
+-- Description: Sequence backing hi/lo order number allocation
+
+-- Set schema
+SET search_path TO singtel_app;
+
+-- Each nextval reserves a block of 50 numbers that a node hands out from memory;
+-- the increment is the block size and is read back by the allocator
+CREATE SEQUENCE IF NOT EXISTS order_number_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,62 @@
+-- Partition service metrics by day
+-- Version: 11.0
+-- Description: Convert service_metrics to a table range-partitioned on measured_at with daily partitions
+
+-- Set schema
+SET search_path TO singtel_app;
+
+ALTER TABLE service_metrics RENAME TO service_metrics_unpartitioned;
+ALTER TABLE service_metrics_unpartitioned RENAME CONSTRAINT service_metrics_pkey TO service_metrics_unpartitioned_pkey;
+DROP INDEX IF EXISTS idx_service_metrics_service_instance_id;
+DROP INDEX IF EXISTS idx_service_metrics_metric_type;
+DROP INDEX IF EXISTS idx_service_metrics_measured_at;
+DROP INDEX IF EXISTS idx_service_metrics_composite;
+
+-- The partition key has to be part of the primary key
+CREATE TABLE service_metrics (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    service_instance_id UUID NOT NULL REFERENCES service_instances(id) ON DELETE CASCADE,
+    metric_type VARCHAR(50) NOT NULL, -- 'BANDWIDTH_UTILIZATION', 'LATENCY', 'PACKET_LOSS', 'UPTIME'
+    metric_value DECIMAL(15,6) NOT NULL,
+    metric_unit VARCHAR(20), -- 'MBPS', 'MS', 'PERCENT', etc.
+    measured_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    source_system VARCHAR(100), -- Which monitoring system provided this data
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, measured_at)
+) PARTITION BY RANGE (measured_at);
+
+-- Declared on the parent so every partition gets it; range lookups per instance and
+-- metric prune to the partitions covering measured_at and then use this index
+CREATE INDEX idx_service_metrics_composite ON service_metrics(service_instance_id, metric_type, measured_at);
+
+-- Daily partitions named service_metrics_pYYYYMMDD with UTC day bounds, covering existing
+-- rows and the next seven days; ServiceMetricPartitionManager keeps the window rolling
+DO $$
+DECLARE
+    today DATE := (CURRENT_TIMESTAMP AT TIME ZONE 'UTC')::date;
+    first_day DATE;
+    last_day DATE;
+    day DATE;
+BEGIN
+    SELECT LEAST(COALESCE(MIN((measured_at AT TIME ZONE 'UTC')::date), today), today),
+           GREATEST(COALESCE(MAX((measured_at AT TIME ZONE 'UTC')::date), today), today + 7)
+      INTO first_day, last_day
+      FROM service_metrics_unpartitioned;
+
+    day := first_day;
+    WHILE day <= last_day LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS singtel_app.%I PARTITION OF singtel_app.service_metrics '
+            'FOR VALUES FROM (%L) TO (%L)',
+            'service_metrics_p' || to_char(day, 'YYYYMMDD'),
+            day::text || ' 00:00:00+00',
+            (day + 1)::text || ' 00:00:00+00');
+        day := day + 1;
+    END LOOP;
+END $$;
+
+INSERT INTO service_metrics (id, service_instance_id, metric_type, metric_value, metric_unit, measured_at, source_system, created_at)
+SELECT id, service_instance_id, metric_type, metric_value, metric_unit, measured_at, source_system, created_at
+FROM service_metrics_unpartitioned;
+
+DROP TABLE service_metrics_unpartitioned;
@@ -0,0 +1,31 @@
+-- SLA calculation support
+-- Version: 13.0
+-- Description: Change tracking for incremental SLA calculation into service_sla_metrics
+
+-- Set schema
+SET search_path TO singtel_app;
+
+-- One SLA row per service instance and monthly period; keep the most recent duplicate
+DELETE FROM service_sla_metrics s
+USING service_sla_metrics newer
+WHERE s.service_instance_id = newer.service_instance_id
+  AND s.period_start = newer.period_start
+  AND (s.calculated_at, s.id) < (newer.calculated_at, newer.id);
+
+CREATE UNIQUE INDEX uq_service_sla_metrics_instance_period ON service_sla_metrics(service_instance_id, period_start);
+
+-- Rollup buckets record when they were last written so changed SLA periods can be found
+ALTER TABLE service_metric_rollup_1m ADD COLUMN updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE service_metric_rollup_1h ADD COLUMN updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE service_metric_rollup_1d ADD COLUMN updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+CREATE INDEX idx_service_metric_rollup_1d_updated_at ON service_metric_rollup_1d(updated_at);
+CREATE INDEX idx_service_status_events_updated_at ON service_status_events(updated_at);
+CREATE INDEX idx_service_status_events_open ON service_status_events(service_instance_id) WHERE resolved_at IS NULL;
+
+-- Every input change before changed_until has been applied to service_sla_metrics
+CREATE TABLE service_sla_watermarks (
+    name VARCHAR(50) PRIMARY KEY,
+    changed_until TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,18 @@
+-- Alert notification dispatch
+-- Version: 14.0
+-- Description: Retry scheduling and dead-lettering for alert_notifications
+
+-- Set schema
+SET search_path TO singtel_app;
+
+-- FAILED rows are retried at next_attempt_at; DEAD_LETTER rows have used up their attempts
+ALTER TABLE alert_notifications DROP CONSTRAINT IF EXISTS alert_notifications_status_check;
+ALTER TABLE alert_notifications ADD CONSTRAINT alert_notifications_status_check
+    CHECK (status IN ('PENDING', 'SENT', 'FAILED', 'DELIVERED', 'DEAD_LETTER'));
+
+ALTER TABLE alert_notifications ADD COLUMN attempts INTEGER NOT NULL DEFAULT 0;
+-- Also the lease: a claimed row is pushed into the future until its send completes
+ALTER TABLE alert_notifications ADD COLUMN next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+CREATE INDEX idx_alert_notifications_due ON alert_notifications(next_attempt_at)
+    WHERE status IN ('PENDING', 'FAILED');
@@ -0,0 +1,14 @@
+-- Scheduled bandwidth change execution
+-- Version: 15.0
+-- Description: Partial indexes for claiming due scheduled bandwidth changes
+
+-- Set schema
+SET search_path TO singtel_app;
+
+-- Due changes in schedule order, and the wake-up times loaded ahead of time
+CREATE INDEX idx_bandwidth_changes_scheduled_due ON bandwidth_changes(scheduled_at, id)
+    WHERE status = 'SCHEDULED';
+
+-- Earlier scheduled change of the same instance, which must be applied first
+CREATE INDEX idx_bandwidth_changes_instance_scheduled ON bandwidth_changes(service_instance_id, scheduled_at, id)
+    WHERE status = 'SCHEDULED';
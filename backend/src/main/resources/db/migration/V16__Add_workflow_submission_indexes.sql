@@ -0,0 +1,12 @@
+-- Service Orchestrator workflow submission
+-- Version: 16.0
+-- Description: Partial indexes for orders and bandwidth changes still waiting for a workflow
+
+-- Set schema
+SET search_path TO singtel_app;
+
+CREATE INDEX idx_orders_awaiting_workflow ON orders(created_at)
+    WHERE workflow_id IS NULL AND status IN ('SUBMITTED', 'APPROVED', 'IN_PROGRESS');
+
+CREATE INDEX idx_bandwidth_changes_awaiting_workflow ON bandwidth_changes(created_at)
+    WHERE workflow_id IS NULL AND status IN ('PENDING', 'SCHEDULED');
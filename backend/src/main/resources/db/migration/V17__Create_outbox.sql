@@ -0,0 +1,25 @@
+-- Transactional outbox
+-- Version: 17.0
+-- Description: Domain events written in the same transaction as order and bandwidth change state changes
+
+-- Set schema
+SET search_path TO singtel_app;
+
+-- Rows are deleted once published, so the table only holds the backlog
+CREATE TABLE outbox (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    -- When a relay may publish the event next; claiming moves it forward by the relay's lease,
+    -- and a failed publish reschedules it with backoff
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error TEXT
+);
+
+-- Finds the oldest pending event of an aggregate; only that one may be published
+CREATE INDEX idx_outbox_aggregate ON outbox(aggregate_id, id);
+CREATE INDEX idx_outbox_due ON outbox(next_attempt_at, id);
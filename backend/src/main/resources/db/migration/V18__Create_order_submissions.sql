@@ -0,0 +1,25 @@
+-- Asynchronous order intake
+-- Version: 18.0
+-- Description: Order requests accepted with 202 and completed by the intake worker pool
+
+-- Set schema
+SET search_path TO singtel_app;
+
+CREATE TABLE order_submissions (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    company_id UUID NOT NULL REFERENCES companies(id),
+    user_id UUID NOT NULL REFERENCES users(id),
+    request JSONB NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'RECEIVED' CHECK (status IN ('RECEIVED', 'PROCESSING', 'COMPLETED', 'FAILED')),
+    order_id UUID REFERENCES orders(id),
+    -- Incremented by every claim; completion must match it, which fences out a worker whose lease expired
+    attempts INTEGER NOT NULL DEFAULT 0,
+    -- RECEIVED: when the sweeper may pick the row up; PROCESSING: end of the worker's lease
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    error_message TEXT,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX idx_order_submissions_due ON order_submissions(next_attempt_at)
+    WHERE status IN ('RECEIVED', 'PROCESSING');
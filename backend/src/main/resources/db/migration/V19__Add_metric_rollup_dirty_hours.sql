@@ -0,0 +1,17 @@
+-- Service metric rollup re-aggregation
+-- Version: 19.0
+-- Description: Hours that received samples after their rollup window closed
+
+-- Set schema
+SET search_path TO singtel_app;
+
+-- Marked when a stored batch contains samples older than the allowed lateness;
+-- the rollup job re-aggregates the hour (and its day) and deletes the mark
+CREATE TABLE service_metric_rollup_dirty_hours (
+    service_instance_id UUID NOT NULL REFERENCES service_instances(id) ON DELETE CASCADE,
+    hour_start TIMESTAMP WITH TIME ZONE NOT NULL,
+    marked_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (service_instance_id, hour_start)
+);
+
+CREATE INDEX idx_service_metric_rollup_dirty_hours_hour ON service_metric_rollup_dirty_hours(hour_start);
@@ -0,0 +1,19 @@
+-- Service Orchestrator workflow submission
+-- Version: 20.0
+-- Description: Failed workflow submissions per order or bandwidth change, with backoff and parking
+
+-- Set schema
+SET search_path TO singtel_app;
+
+-- One row per aggregate whose last submission failed; removed once its workflow id is recorded.
+-- RETRY rows are skipped by the poll until next_attempt_at. PARKED rows were rejected for good
+-- (4xx or no workflowId) and are skipped until an operator deletes the row.
+CREATE TABLE workflow_submissions (
+    aggregate_id UUID PRIMARY KEY,
+    aggregate_type VARCHAR(30) NOT NULL,
+    status VARCHAR(20) NOT NULL CHECK (status IN ('RETRY', 'PARKED')),
+    attempts INTEGER NOT NULL,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    last_error TEXT,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,9 @@
+-- Token version for stateless JWT authentication
+-- Version: 6.0
+-- Description: Add a per-user token version so signed-claim tokens can be revoked without a per-request user lookup
+
+-- Set schema
+SET search_path TO singtel_app;
+
+-- Incremented whenever a user's credentials or status change; tokens carrying an older version are rejected
+ALTER TABLE users ADD COLUMN token_version INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,17 @@
+-- Service search indexes
+-- Version: 7.0
+-- Description: Composite and partial indexes backing the Specification-based service search
+
+-- Set schema
+SET search_path TO singtel_app;
+
+-- Equality filters first, then the price range, restricted to rows the search can return
+CREATE INDEX idx_services_search_category_type_price ON services(category_id, service_type, base_price_monthly)
+    WHERE is_available = true;
+
+-- Range-only searches and price/bandwidth sorted pages
+CREATE INDEX idx_services_search_price ON services(base_price_monthly) WHERE is_available = true;
+CREATE INDEX idx_services_search_bandwidth ON services(base_bandwidth_mbps) WHERE is_available = true;
+
+-- Default ordering of search results
+CREATE INDEX idx_services_search_name ON services(name) WHERE is_available = true;
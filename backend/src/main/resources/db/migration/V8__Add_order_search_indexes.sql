@@ -0,0 +1,19 @@
+-- Order search indexes
+-- Version: 8.0
+-- Description: Composite indexes backing the company-scoped order search
+
+-- Set schema
+SET search_path TO singtel_app;
+
+-- Status-filtered searches returning newest orders first; the trailing id keeps
+-- orders created in the same instant in a stable index order
+CREATE INDEX idx_orders_company_status_created ON orders(company_id, status, created_at DESC, id DESC);
+
+-- Unfiltered company listings, newest first
+CREATE INDEX idx_orders_company_created ON orders(company_id, created_at DESC, id DESC);
+
+-- Searches for the orders of one service
+CREATE INDEX idx_orders_company_service ON orders(company_id, service_id);
+
+-- company_id alone is now a prefix of the composite indexes above
+DROP INDEX IF EXISTS idx_orders_company_id;
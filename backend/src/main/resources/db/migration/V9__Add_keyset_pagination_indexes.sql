@@ -0,0 +1,17 @@
+-- Keyset pagination indexes
+-- Version: 9.0
+-- Description: (created_at DESC, id DESC) indexes backing the cursor-paginated listings
+
+-- Set schema
+SET search_path TO singtel_app;
+
+-- Order listings are served by the (company_id[, status], created_at DESC, id DESC) indexes from V8
+
+-- Service instance listings
+CREATE INDEX idx_service_instances_company_created_id ON service_instances(company_id, created_at DESC, id DESC);
+DROP INDEX IF EXISTS idx_service_instances_company_id;
+
+-- Bandwidth change listings, per instance and company-wide via the instance join
+CREATE INDEX idx_bandwidth_changes_instance_created_id ON bandwidth_changes(service_instance_id, created_at DESC, id DESC);
+CREATE INDEX idx_bandwidth_changes_created_id ON bandwidth_changes(created_at DESC, id DESC);
+DROP INDEX IF EXISTS idx_bandwidth_changes_service_instance_id;
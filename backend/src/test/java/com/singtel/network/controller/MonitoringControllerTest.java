@@ -0,0 +1,234 @@
+package com.singtel.network.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.singtel.network.config.MetricsProperties;
+import com.singtel.network.dto.metric.MetricBatchRequest;
+import com.singtel.network.dto.metric.MetricIngestResponse;
+import com.singtel.network.dto.metric.MetricResolution;
+import com.singtel.network.dto.metric.MetricRollupPoint;
+import com.singtel.network.dto.metric.MetricRollupSeriesResponse;
+import com.singtel.network.dto.metric.MetricSampleRequest;
+import com.singtel.network.dto.metric.MetricSeriesPoint;
+import com.singtel.network.entity.ServiceMetric;
+import com.singtel.network.exception.GlobalExceptionHandler;
+import com.singtel.network.service.MetricIngestionService;
+import com.singtel.network.service.MetricQueryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for MonitoringController.
+ */
+@ExtendWith(MockitoExtension.class)
+class MonitoringControllerTest {
+
+    @Mock
+    private MetricIngestionService metricIngestionService;
+
+    @Mock
+    private MetricQueryService metricQueryService;
+
+    @Spy
+    private MetricsProperties metricsProperties = new MetricsProperties();
+
+    @InjectMocks
+    private MonitoringController monitoringController;
+
+    private MockMvc mockMvc;
+    private ObjectMapper objectMapper;
+
+    private MetricBatchRequest batchRequest;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(monitoringController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+
+        MetricSampleRequest sample = new MetricSampleRequest(UUID.randomUUID(),
+                ServiceMetric.MetricType.BANDWIDTH_UTILIZATION, new BigDecimal("73.25"), LocalDateTime.now());
+        sample.setMetricUnit("PERCENT");
+        batchRequest = new MetricBatchRequest(List.of(sample));
+    }
+
+    @Test
+    void ingestMetrics_Accepted() throws Exception {
+        // Arrange
+        when(metricIngestionService.ingest(any(MetricBatchRequest.class)))
+                .thenReturn(new MetricIngestResponse(true, 1, 1, 100_000));
+
+        // Act & Assert
+        mockMvc.perform(post("/monitoring/metrics")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batchRequest)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.accepted").value(true))
+                .andExpect(jsonPath("$.sampleCount").value(1))
+                .andExpect(jsonPath("$.bufferedSamples").value(1));
+    }
+
+    @Test
+    void ingestMetrics_BufferFull() throws Exception {
+        // Arrange
+        metricsProperties.getIngest().setRetryAfter(Duration.ofSeconds(3));
+        when(metricIngestionService.ingest(any(MetricBatchRequest.class)))
+                .thenReturn(new MetricIngestResponse(false, 1, 100_000, 100_000));
+
+        // Act & Assert
+        mockMvc.perform(post("/monitoring/metrics")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batchRequest)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "3"))
+                .andExpect(jsonPath("$.accepted").value(false));
+    }
+
+    @Test
+    void ingestMetrics_ValidationError() throws Exception {
+        // Arrange
+        batchRequest.getSamples().get(0).setMetricType(null);
+
+        // Act & Assert
+        mockMvc.perform(post("/monitoring/metrics")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batchRequest)))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(metricIngestionService);
+    }
+
+    @Test
+    void getRollupSeries_Success() throws Exception {
+        // Arrange
+        UUID serviceInstanceId = UUID.randomUUID();
+        LocalDateTime from = LocalDateTime.of(2026, 3, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2026, 3, 2, 0, 0);
+        MetricRollupPoint point = new MetricRollupPoint(from, 60, new BigDecimal("1.5"), new BigDecimal("9.0"),
+                new BigDecimal("3.2"), new BigDecimal("8.1"));
+        when(metricQueryService.getRollupSeries(serviceInstanceId, ServiceMetric.MetricType.LATENCY, from, to, 500))
+                .thenReturn(new MetricRollupSeriesResponse(serviceInstanceId, ServiceMetric.MetricType.LATENCY,
+                        MetricResolution.HOUR, from, to, to, List.of(point)));
+
+        // Act & Assert
+        mockMvc.perform(get("/monitoring/service-instances/{id}/metrics/LATENCY/rollups", serviceInstanceId)
+                .param("from", "2026-03-01T00:00:00")
+                .param("to", "2026-03-02T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resolution").value("HOUR"))
+                .andExpect(jsonPath("$.points[0].sampleCount").value(60))
+                .andExpect(jsonPath("$.points[0].p95Value").value(8.1));
+    }
+
+    @Test
+    void getRollupSeries_InvalidRange() throws Exception {
+        // Arrange
+        when(metricQueryService.getRollupSeries(any(), any(), any(), any(), eq(500)))
+                .thenThrow(new IllegalArgumentException("Time range must have from before to"));
+
+        // Act & Assert
+        mockMvc.perform(get("/monitoring/service-instances/{id}/metrics/LATENCY/rollups", UUID.randomUUID())
+                .param("from", "2026-03-02T00:00:00")
+                .param("to", "2026-03-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getMetricSeries_StreamsJson() throws Exception {
+        // Arrange
+        UUID serviceInstanceId = UUID.randomUUID();
+        LocalDateTime from = LocalDateTime.of(2026, 3, 1, 0, 0);
+        stubSeries(serviceInstanceId, new MetricSeriesPoint(from.plusMinutes(5), 15.0, 10.0, 20.0, 2));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/monitoring/service-instances/{id}/metrics/LATENCY", serviceInstanceId)
+                .param("from", "2026-03-01T00:00:00")
+                .param("to", "2026-03-02T00:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.metricType").value("LATENCY"))
+                .andExpect(jsonPath("$.points[0].time").value("2026-03-01T00:05"))
+                .andExpect(jsonPath("$.points[0].avg").value(15.0))
+                .andExpect(jsonPath("$.points[0].count").value(2))
+                .andExpect(jsonPath("$.pointCount").value(1));
+    }
+
+    @Test
+    void getMetricSeries_StreamsCsv() throws Exception {
+        // Arrange
+        UUID serviceInstanceId = UUID.randomUUID();
+        LocalDateTime from = LocalDateTime.of(2026, 3, 1, 0, 0);
+        stubSeries(serviceInstanceId, new MetricSeriesPoint(from, 1.5, 1.0, 2.0, 4));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/monitoring/service-instances/{id}/metrics/LATENCY", serviceInstanceId)
+                .param("from", "2026-03-01T00:00:00")
+                .param("to", "2026-03-02T00:00:00")
+                .param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content().string("time,avg,min,max,count\n2026-03-01T00:00,1.5,1.0,2.0,4\n"));
+    }
+
+    @Test
+    void getMetricSeries_AccessDeniedBeforeStreaming() throws Exception {
+        // Arrange
+        doThrow(new IllegalArgumentException("Service instance does not belong to your company"))
+                .when(metricQueryService).checkSeriesAccess(any(), any(), any(), anyInt());
+
+        // Act & Assert
+        mockMvc.perform(get("/monitoring/service-instances/{id}/metrics/LATENCY", UUID.randomUUID())
+                .param("from", "2026-03-01T00:00:00")
+                .param("to", "2026-03-02T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubSeries(UUID serviceInstanceId, MetricSeriesPoint point) {
+        doAnswer(invocation -> {
+            invocation.<Consumer<MetricSeriesPoint>>getArgument(5).accept(point);
+            return 1;
+        }).when(metricQueryService).streamSeries(eq(serviceInstanceId), eq(ServiceMetric.MetricType.LATENCY),
+                any(), any(), eq(500), any());
+    }
+}
@@ -2,11 +2,16 @@ package com.singtel.network.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.singtel.network.dto.order.BatchOrderItemResult;
+import com.singtel.network.dto.order.BatchOrderRequest;
+import com.singtel.network.dto.order.BatchOrderResponse;
 import com.singtel.network.dto.order.CreateOrderRequest;
 import com.singtel.network.dto.order.OrderResponse;
+import com.singtel.network.dto.order.OrderSubmissionResponse;
 import com.singtel.network.entity.Order;
 import com.singtel.network.exception.GlobalExceptionHandler;
 import com.singtel.network.service.OrderService;
+import com.singtel.network.service.OrderSubmissionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,6 +26,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -40,6 +46,9 @@ class OrderControllerTest {
     @Mock
     private OrderService orderService;
 
+    @Mock
+    private OrderSubmissionService orderSubmissionService;
+
     @InjectMocks
     private OrderController orderController;
 
@@ -113,6 +122,91 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.totalCost").value(449.00));
     }
 
+    @Test
+    void createOrders_AllCreated() throws Exception {
+        // Arrange
+        BatchOrderRequest batchRequest = new BatchOrderRequest(List.of(createOrderRequest, createOrderRequest));
+        BatchOrderResponse batchResponse = new BatchOrderResponse(List.of(
+                BatchOrderItemResult.created(0, orderResponse),
+                BatchOrderItemResult.created(1, orderResponse)));
+        when(orderService.createOrders(anyList())).thenReturn(batchResponse);
+
+        // Act & Assert
+        mockMvc.perform(post("/orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batchRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.createdCount").value(2))
+                .andExpect(jsonPath("$.failedCount").value(0))
+                .andExpect(jsonPath("$.results[1].index").value(1))
+                .andExpect(jsonPath("$.results[1].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[1].order.orderNumber").value("ORD-000001"));
+    }
+
+    @Test
+    void createOrderSubmission_ReturnsAcceptedWithStatusLocation() throws Exception {
+        // Arrange
+        UUID submissionId = UUID.randomUUID();
+        when(orderSubmissionService.submit(any(CreateOrderRequest.class))).thenReturn(new OrderSubmissionResponse(
+                submissionId, OrderSubmissionResponse.SubmissionStatus.RECEIVED, LocalDateTime.now()));
+
+        // Act & Assert
+        mockMvc.perform(post("/orders/submissions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createOrderRequest)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/orders/submissions/" + submissionId))
+                .andExpect(jsonPath("$.id").value(submissionId.toString()))
+                .andExpect(jsonPath("$.status").value("RECEIVED"));
+    }
+
+    @Test
+    void getOrderSubmission_Completed() throws Exception {
+        // Arrange
+        UUID submissionId = UUID.randomUUID();
+        OrderSubmissionResponse submission = new OrderSubmissionResponse(
+                submissionId, OrderSubmissionResponse.SubmissionStatus.COMPLETED, LocalDateTime.now());
+        submission.setOrderId(orderId);
+        submission.setOrderNumber("ORD-000001");
+        when(orderSubmissionService.getSubmission(submissionId)).thenReturn(submission);
+
+        // Act & Assert
+        mockMvc.perform(get("/orders/submissions/{submissionId}", submissionId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.orderId").value(orderId.toString()))
+                .andExpect(jsonPath("$.orderNumber").value("ORD-000001"));
+    }
+
+    @Test
+    void createOrders_PartialFailure() throws Exception {
+        // Arrange
+        BatchOrderRequest batchRequest = new BatchOrderRequest(List.of(createOrderRequest, createOrderRequest));
+        BatchOrderResponse batchResponse = new BatchOrderResponse(List.of(
+                BatchOrderItemResult.created(0, orderResponse),
+                BatchOrderItemResult.failed(1, "Service is not available")));
+        when(orderService.createOrders(anyList())).thenReturn(batchResponse);
+
+        // Act & Assert
+        mockMvc.perform(post("/orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batchRequest)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.createdCount").value(1))
+                .andExpect(jsonPath("$.failedCount").value(1))
+                .andExpect(jsonPath("$.results[1].status").value("FAILED"))
+                .andExpect(jsonPath("$.results[1].error").value("Service is not available"));
+    }
+
+    @Test
+    void createOrders_EmptyBatch() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BatchOrderRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void createOrder_ValidationError() throws Exception {
         // Arrange
@@ -0,0 +1,99 @@
+package com.singtel.network.event;
+
+import com.singtel.network.entity.Company;
+import com.singtel.network.entity.Order;
+import com.singtel.network.entity.Service;
+import com.singtel.network.entity.ServiceInstance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for StatusChangeListener.
+ */
+@ExtendWith(MockitoExtension.class)
+class StatusChangeListenerTest {
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private StatusChangeListener statusChangeListener;
+
+    private Company company;
+
+    @BeforeEach
+    void setUp() {
+        company = new Company();
+        company.setId(UUID.randomUUID());
+    }
+
+    @Test
+    void onWrite_PublishesOrderStatusTransitionsOnly() {
+        // Arrange
+        Order order = new Order(company, null, null, Order.OrderType.NEW_SERVICE, "ORD-2025-000001");
+        order.setId(UUID.randomUUID());
+        statusChangeListener.onLoad(order);
+
+        // Act: an update that leaves the status alone, then an approval
+        order.setNotes("Customer called");
+        statusChangeListener.onWrite(order);
+        order.approve();
+        statusChangeListener.onWrite(order);
+
+        // Assert
+        ArgumentCaptor<StatusChangedEvent> event = ArgumentCaptor.forClass(StatusChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertEquals(company.getId(), event.getValue().getCompanyId());
+        assertEquals(StatusChangedEvent.ResourceType.ORDER, event.getValue().getResourceType());
+        assertEquals("SUBMITTED", event.getValue().getPreviousStatus());
+        assertEquals("APPROVED", event.getValue().getStatus());
+    }
+
+    @Test
+    void onWrite_PublishesServiceInstanceBandwidthChange() {
+        // Arrange
+        Service service = new Service();
+        service.setMinBandwidthMbps(100);
+        service.setMaxBandwidthMbps(1000);
+        service.setIsBandwidthAdjustable(true);
+        ServiceInstance instance = new ServiceInstance(company, service, "Main Office", 500, "1 Marina Bay");
+        instance.setStatus(ServiceInstance.ServiceInstanceStatus.ACTIVE);
+        statusChangeListener.onLoad(instance);
+
+        // Act
+        instance.updateBandwidth(800);
+        statusChangeListener.onWrite(instance);
+        statusChangeListener.onWrite(instance);
+
+        // Assert
+        ArgumentCaptor<StatusChangedEvent> event = ArgumentCaptor.forClass(StatusChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertEquals("ACTIVE", event.getValue().getPreviousStatus());
+        assertEquals("ACTIVE", event.getValue().getStatus());
+        assertEquals(800, event.getValue().getBandwidthMbps());
+    }
+
+    @Test
+    void onWrite_PublishesNewOrder() {
+        // Arrange
+        Order order = new Order(company, null, null, Order.OrderType.NEW_SERVICE, "ORD-2025-000002");
+
+        // Act
+        statusChangeListener.onWrite(order);
+
+        // Assert
+        verify(eventPublisher).publishEvent(any(StatusChangedEvent.class));
+    }
+}
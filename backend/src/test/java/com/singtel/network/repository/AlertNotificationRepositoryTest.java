@@ -0,0 +1,128 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.dto.alert.NotificationOutcome;
+import com.singtel.network.dto.alert.PendingNotification;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for AlertNotificationRepository.
+ */
+@DataJpaTest
+@AutoConfigureEmbeddedDatabase
+@Import(AlertNotificationRepository.class)
+@TestPropertySource(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.default_schema=singtel_app",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=classpath:test-schema.sql"
+})
+class AlertNotificationRepositoryTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AlertNotificationRepository alertNotificationRepository;
+
+    private UUID webhookId;
+
+    @BeforeEach
+    void setUp() {
+        webhookId = insertNotification("WEBHOOK", "https://hooks.company.com/alerts", "PENDING", "-1 minute");
+        insertNotification("WEBHOOK", "https://hooks.company.com/later", "FAILED", "+10 minutes");
+        insertNotification("WEBHOOK", "https://hooks.company.com/sent", "SENT", "-1 minute");
+        insertNotification("EMAIL", "noc@company.com", "PENDING", "-1 minute");
+    }
+
+    @Test
+    void claimDue_ClaimsDueRowsOfRequestedTypesAndLeasesThem() {
+        // Act
+        List<PendingNotification> claimed = alertNotificationRepository.claimDue(List.of("WEBHOOK"), 10, Duration.ofMinutes(2));
+
+        // Assert
+        assertEquals(1, claimed.size());
+        assertEquals(webhookId, claimed.get(0).getId());
+        assertEquals("https://hooks.company.com/alerts", claimed.get(0).getRecipient());
+        assertTrue(alertNotificationRepository.claimDue(List.of("WEBHOOK"), 10, Duration.ofMinutes(2)).isEmpty());
+    }
+
+    @Test
+    void claimDue_RespectsLimit() {
+        insertNotification("WEBHOOK", "https://hooks.company.com/other", "FAILED", "-2 minutes");
+
+        List<PendingNotification> claimed = alertNotificationRepository.claimDue(List.of("WEBHOOK", "EMAIL"), 2, Duration.ofMinutes(2));
+
+        assertEquals(2, claimed.size());
+    }
+
+    @Test
+    void complete_WritesOutcomesInOneBatch() {
+        // Arrange
+        PendingNotification notification = alertNotificationRepository
+                .claimDue(List.of("WEBHOOK"), 10, Duration.ofMinutes(2)).get(0);
+        Instant retryAt = Instant.parse("2030-01-01T00:00:00Z");
+
+        // Act
+        alertNotificationRepository.complete(List.of(NotificationOutcome.retry(notification, retryAt, "POST answered 503")));
+
+        // Assert
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT status, attempts, error_message, sent_at FROM singtel_app.alert_notifications WHERE id = ?", webhookId);
+        assertEquals("FAILED", row.get("status"));
+        assertEquals(1, row.get("attempts"));
+        assertEquals("POST answered 503", row.get("error_message"));
+        assertNull(row.get("sent_at"));
+
+        // Act: the retry succeeds
+        alertNotificationRepository.complete(List.of(NotificationOutcome.sent(
+                new PendingNotification(webhookId, null, null, "WEBHOOK", "", "", "", 1), Instant.now())));
+
+        // Assert
+        row = jdbcTemplate.queryForMap(
+                "SELECT status, attempts, sent_at FROM singtel_app.alert_notifications WHERE id = ?", webhookId);
+        assertEquals("SENT", row.get("status"));
+        assertEquals(2, row.get("attempts"));
+        assertNotNull(row.get("sent_at"));
+    }
+
+    @Test
+    void complete_DeferredKeepsStatusAndAttempts() {
+        // Arrange
+        PendingNotification notification = alertNotificationRepository
+                .claimDue(List.of("WEBHOOK"), 10, Duration.ofMinutes(2)).get(0);
+
+        // Act
+        alertNotificationRepository.complete(List.of(NotificationOutcome.deferred(notification, Instant.now().plusSeconds(5))));
+
+        // Assert
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT status, attempts FROM singtel_app.alert_notifications WHERE id = ?", webhookId);
+        assertEquals("PENDING", row.get("status"));
+        assertEquals(0, row.get("attempts"));
+    }
+
+    private UUID insertNotification(String type, String recipient, String status, String dueIn) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO singtel_app.alert_notifications (id, alert_id, service_instance_id, " +
+                "notification_type, recipient, subject, message, status, next_attempt_at) " +
+                "VALUES (?, ?, ?, ?, ?, '[HIGH] High latency', 'LATENCY 150 > 100', ?, CURRENT_TIMESTAMP + ?::interval)",
+                id, UUID.randomUUID(), UUID.randomUUID(), type, recipient, status, dueIn);
+        return id;
+    }
+}
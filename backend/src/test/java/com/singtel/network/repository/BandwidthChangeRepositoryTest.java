@@ -0,0 +1,185 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.entity.*;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the scheduled change queries of BandwidthChangeRepository.
+ */
+@DataJpaTest
+@AutoConfigureEmbeddedDatabase
+@TestPropertySource(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.default_schema=singtel_app",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=classpath:test-schema.sql"
+})
+class BandwidthChangeRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BandwidthChangeRepository bandwidthChangeRepository;
+
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    private User testUser;
+    private ServiceInstance firstInstance;
+    private ServiceInstance secondInstance;
+
+    @BeforeEach
+    void setUp() {
+        Company company = new Company();
+        company.setName("Test Company");
+        company.setRegistrationNumber("TEST123");
+        company.setEmail("test@company.com");
+        company.setStatus(Company.CompanyStatus.ACTIVE);
+        company = entityManager.persistAndFlush(company);
+
+        testUser = new User();
+        testUser.setCompany(company);
+        testUser.setUsername("testuser");
+        testUser.setEmail("test@example.com");
+        testUser.setPasswordHash("$2a$10$hashedpassword");
+        testUser.setFirstName("Test");
+        testUser.setLastName("User");
+        testUser.setRole(User.UserRole.USER);
+        testUser.setStatus(User.UserStatus.ACTIVE);
+        testUser.setPasswordChangedAt(LocalDateTime.now());
+        testUser = entityManager.persistAndFlush(testUser);
+
+        ServiceCategory category = new ServiceCategory();
+        category.setName("Business Internet");
+        category.setIsActive(true);
+        category = entityManager.persistAndFlush(category);
+
+        Service service = new Service();
+        service.setCategory(category);
+        service.setName("Business Fiber 500M");
+        service.setServiceType("FIBER");
+        service.setBaseBandwidthMbps(500);
+        service.setMinBandwidthMbps(100);
+        service.setMaxBandwidthMbps(1000);
+        service.setBasePriceMonthly(new BigDecimal("299.00"));
+        service.setIsBandwidthAdjustable(true);
+        service.setIsAvailable(true);
+        service = entityManager.persistAndFlush(service);
+
+        firstInstance = instance(company, service, "Office A");
+        secondInstance = instance(company, service, "Office B");
+    }
+
+    @Test
+    void claimDueScheduledChangeIds_ClaimsEarliestDueChangePerInstance() {
+        // Arrange
+        BandwidthChange firstEarlier = change(firstInstance, BandwidthChange.BandwidthChangeStatus.SCHEDULED, now.minusMinutes(10));
+        change(firstInstance, BandwidthChange.BandwidthChangeStatus.SCHEDULED, now.minusMinutes(5));
+        BandwidthChange secondDue = change(secondInstance, BandwidthChange.BandwidthChangeStatus.SCHEDULED, now.minusMinutes(1));
+        change(secondInstance, BandwidthChange.BandwidthChangeStatus.SCHEDULED, now.plusMinutes(10));
+        change(secondInstance, BandwidthChange.BandwidthChangeStatus.APPLIED, now.minusMinutes(30));
+        entityManager.flush();
+
+        // Act
+        List<UUID> claimed = bandwidthChangeRepository.claimDueScheduledChangeIds(now, 10);
+
+        // Assert
+        assertEquals(List.of(firstEarlier.getId(), secondDue.getId()), claimed);
+    }
+
+    @Test
+    void claimDueScheduledChangeIds_LaterChangeQualifiesOnceEarlierOneIsApplied() {
+        // Arrange
+        BandwidthChange earlier = change(firstInstance, BandwidthChange.BandwidthChangeStatus.SCHEDULED, now.minusMinutes(10));
+        BandwidthChange later = change(firstInstance, BandwidthChange.BandwidthChangeStatus.SCHEDULED, now.minusMinutes(5));
+        entityManager.flush();
+        assertEquals(List.of(earlier.getId()), bandwidthChangeRepository.claimDueScheduledChangeIds(now, 10));
+
+        // Act
+        earlier.setStatus(BandwidthChange.BandwidthChangeStatus.APPLIED);
+        entityManager.flush();
+
+        // Assert
+        assertEquals(List.of(later.getId()), bandwidthChangeRepository.claimDueScheduledChangeIds(now, 10));
+    }
+
+    @Test
+    void claimDueScheduledChangeIds_RespectsLimit() {
+        // Arrange
+        BandwidthChange first = change(firstInstance, BandwidthChange.BandwidthChangeStatus.SCHEDULED, now.minusMinutes(3));
+        change(secondInstance, BandwidthChange.BandwidthChangeStatus.SCHEDULED, now.minusMinutes(2));
+        entityManager.flush();
+
+        // Act & Assert
+        assertEquals(List.of(first.getId()), bandwidthChangeRepository.claimDueScheduledChangeIds(now, 1));
+    }
+
+    @Test
+    void findScheduledTimesUntil_ReturnsDistinctTimesInOrder() {
+        // Arrange
+        LocalDateTime boundary = now.plusMinutes(1);
+        change(firstInstance, BandwidthChange.BandwidthChangeStatus.SCHEDULED, boundary);
+        change(secondInstance, BandwidthChange.BandwidthChangeStatus.SCHEDULED, boundary);
+        change(secondInstance, BandwidthChange.BandwidthChangeStatus.SCHEDULED, now.minusMinutes(5));
+        change(firstInstance, BandwidthChange.BandwidthChangeStatus.SCHEDULED, now.plusHours(1));
+        change(firstInstance, BandwidthChange.BandwidthChangeStatus.CANCELLED, now.plusSeconds(30));
+        entityManager.flush();
+
+        // Act
+        List<LocalDateTime> times = bandwidthChangeRepository.findScheduledTimesUntil(now.plusMinutes(2), PageRequest.of(0, 100));
+
+        // Assert
+        assertEquals(List.of(now.minusMinutes(5), boundary), times);
+    }
+
+    @Test
+    void findWithServiceInstanceByIdIn_LoadsInstanceAndService() {
+        // Arrange
+        BandwidthChange change = change(firstInstance, BandwidthChange.BandwidthChangeStatus.SCHEDULED, now);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<BandwidthChange> changes = bandwidthChangeRepository.findWithServiceInstanceByIdIn(List.of(change.getId()));
+
+        // Assert
+        assertEquals(1, changes.size());
+        assertTrue(Hibernate.isInitialized(changes.get(0).getServiceInstance()));
+        assertTrue(Hibernate.isInitialized(changes.get(0).getServiceInstance().getService()));
+    }
+
+    private ServiceInstance instance(Company company, Service service, String name) {
+        ServiceInstance instance = new ServiceInstance();
+        instance.setCompany(company);
+        instance.setService(service);
+        instance.setInstanceName(name);
+        instance.setCurrentBandwidthMbps(500);
+        instance.setInstallationAddress("1 Test Street");
+        instance.setStatus(ServiceInstance.ServiceInstanceStatus.ACTIVE);
+        return entityManager.persistAndFlush(instance);
+    }
+
+    private BandwidthChange change(ServiceInstance instance, BandwidthChange.BandwidthChangeStatus status, LocalDateTime scheduledAt) {
+        BandwidthChange change = new BandwidthChange(instance, testUser, 500, 750);
+        change.setScheduledAt(scheduledAt);
+        change.setStatus(status);
+        return entityManager.persist(change);
+    }
+}
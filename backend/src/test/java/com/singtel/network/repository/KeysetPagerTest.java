@@ -0,0 +1,201 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.dto.common.CursorPage;
+import com.singtel.network.dto.common.KeysetCursor;
+import com.singtel.network.entity.*;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for KeysetPager.
+ */
+@DataJpaTest
+@AutoConfigureEmbeddedDatabase
+@Import(KeysetPager.class)
+@TestPropertySource(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.default_schema=singtel_app",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=classpath:test-schema.sql"
+})
+class KeysetPagerTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private KeysetPager keysetPager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private Company testCompany;
+
+    @BeforeEach
+    void setUp() {
+        testCompany = new Company();
+        testCompany.setName("Test Company");
+        testCompany.setRegistrationNumber("TEST123");
+        testCompany.setEmail("test@company.com");
+        testCompany.setStatus(Company.CompanyStatus.ACTIVE);
+        testCompany = entityManager.persistAndFlush(testCompany);
+
+        User testUser = new User();
+        testUser.setCompany(testCompany);
+        testUser.setUsername("testuser");
+        testUser.setEmail("test@example.com");
+        testUser.setPasswordHash("$2a$10$hashedpassword");
+        testUser.setFirstName("Test");
+        testUser.setLastName("User");
+        testUser.setRole(User.UserRole.USER);
+        testUser.setStatus(User.UserStatus.ACTIVE);
+        testUser.setPasswordChangedAt(LocalDateTime.now());
+        testUser = entityManager.persistAndFlush(testUser);
+
+        ServiceCategory category = new ServiceCategory();
+        category.setName("Business Internet");
+        category.setIsActive(true);
+        category = entityManager.persistAndFlush(category);
+
+        Service testService = new Service();
+        testService.setCategory(category);
+        testService.setName("Business Fiber 500M");
+        testService.setServiceType("FIBER");
+        testService.setBaseBandwidthMbps(500);
+        testService.setBasePriceMonthly(new BigDecimal("299.00"));
+        testService.setSetupFee(new BigDecimal("150.00"));
+        testService.setIsAvailable(true);
+        testService = entityManager.persistAndFlush(testService);
+
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 1; i <= 7; i++) {
+            Order order = new Order();
+            order.setCompany(testCompany);
+            order.setUser(testUser);
+            order.setService(testService);
+            order.setOrderNumber(String.format("ORD-%06d", i));
+            order.setOrderType(Order.OrderType.NEW_SERVICE);
+            order.setRequestedBandwidthMbps(500);
+            order.setInstallationAddress("123 Test Street");
+            order.setContactPerson("Test Person");
+            order.setContactPhone("+65 9123 4567");
+            order.setContactEmail("test@example.com");
+            order.setRequestedDate(LocalDate.now().plusDays(1));
+            order.setStatus(i % 2 == 0 ? Order.OrderStatus.COMPLETED : Order.OrderStatus.SUBMITTED);
+            order.setTotalCost(new BigDecimal("449.00"));
+            ids.add(entityManager.persistAndFlush(order).getId());
+        }
+
+        // Give four orders the same creation time so slices must break ties on id;
+        // created_at is not updatable through the entity, so this goes through native SQL
+        LocalDateTime shared = LocalDateTime.now().minusHours(1).truncatedTo(ChronoUnit.MICROS);
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE singtel_app.orders SET created_at = :createdAt WHERE id IN (:ids)")
+                .setParameter("createdAt", shared)
+                .setParameter("ids", ids.subList(1, 5))
+                .executeUpdate();
+
+        entityManager.clear();
+    }
+
+    @Test
+    void page_WalksAllRowsInKeysetOrderWithoutDuplicates() {
+        // Arrange
+        List<UUID> expected = orderRepository.findAll(
+                Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"))).stream()
+                .map(Order::getId)
+                .toList();
+
+        // Act
+        List<UUID> walked = new ArrayList<>();
+        String cursor = null;
+        int slices = 0;
+        do {
+            CursorPage<Order> page = keysetPager.page(Order.class,
+                    OrderSpecifications.belongsToCompany(testCompany.getId()), cursor, 2);
+            page.getItems().forEach(order -> walked.add(order.getId()));
+            cursor = page.getNextCursor();
+            slices++;
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(expected, walked);
+        assertEquals(4, slices);
+    }
+
+    @Test
+    void page_LastSliceHasNoNextCursor() {
+        // Act
+        CursorPage<Order> page = keysetPager.page(Order.class,
+                OrderSpecifications.belongsToCompany(testCompany.getId()), null, 7);
+
+        // Assert
+        assertEquals(7, page.getSize());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void page_AppliesSpecificationAlongsideCursor() {
+        // Act
+        CursorPage<Order> first = keysetPager.page(Order.class,
+                OrderSpecifications.search(testCompany.getId(), Order.OrderStatus.COMPLETED,
+                                           null, null, null, null, null, null), null, 2);
+        CursorPage<Order> second = keysetPager.page(Order.class,
+                OrderSpecifications.search(testCompany.getId(), Order.OrderStatus.COMPLETED,
+                                           null, null, null, null, null, null), first.getNextCursor(), 2);
+
+        // Assert
+        assertTrue(first.isHasNext());
+        assertEquals(1, second.getSize());
+        assertFalse(second.isHasNext());
+        assertTrue(second.getItems().stream().allMatch(o -> o.getStatus() == Order.OrderStatus.COMPLETED));
+    }
+
+    @Test
+    void page_FetchesRequestedAssociations() {
+        // Act
+        CursorPage<Order> page = keysetPager.page(Order.class,
+                OrderSpecifications.belongsToCompany(testCompany.getId()), null, 3, "service", "user");
+
+        // Assert
+        var unitUtil = entityManager.getEntityManager().getEntityManagerFactory().getPersistenceUnitUtil();
+        assertTrue(page.getItems().stream().allMatch(o -> unitUtil.isLoaded(o, "service")));
+        assertTrue(page.getItems().stream().allMatch(o -> unitUtil.isLoaded(o, "user")));
+    }
+
+    @Test
+    void page_RejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> keysetPager.page(Order.class,
+                OrderSpecifications.belongsToCompany(testCompany.getId()), "not-a-cursor", 5));
+    }
+
+    @Test
+    void cursor_RoundTripsThroughOpaqueToken() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 3, 1, 10, 15, 30, 123456789),
+                                               UUID.randomUUID());
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+        assertEquals(123456000, decoded.getCreatedAt().getNano());
+    }
+}
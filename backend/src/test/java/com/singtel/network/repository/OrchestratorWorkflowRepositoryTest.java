@@ -0,0 +1,250 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.dto.orchestrator.BandwidthChangeWorkflowRequest;
+import com.singtel.network.dto.orchestrator.OrderWorkflowRequest;
+import com.singtel.network.dto.orchestrator.WorkflowAssignment;
+import com.singtel.network.dto.orchestrator.WorkflowSubmissionFailure;
+import com.singtel.network.dto.orchestrator.WorkflowType;
+import com.singtel.network.entity.*;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for OrchestratorWorkflowRepository.
+ */
+@DataJpaTest
+@AutoConfigureEmbeddedDatabase
+@Import(OrchestratorWorkflowRepository.class)
+@TestPropertySource(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.default_schema=singtel_app",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=classpath:test-schema.sql"
+})
+class OrchestratorWorkflowRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OrchestratorWorkflowRepository orchestratorWorkflowRepository;
+
+    private Company company;
+    private User testUser;
+    private Service service;
+    private ServiceInstance instance;
+
+    @BeforeEach
+    void setUp() {
+        company = new Company();
+        company.setName("Test Company");
+        company.setRegistrationNumber("TEST123");
+        company.setEmail("test@company.com");
+        company.setStatus(Company.CompanyStatus.ACTIVE);
+        company = entityManager.persistAndFlush(company);
+
+        testUser = new User();
+        testUser.setCompany(company);
+        testUser.setUsername("testuser");
+        testUser.setEmail("test@example.com");
+        testUser.setPasswordHash("$2a$10$hashedpassword");
+        testUser.setFirstName("Test");
+        testUser.setLastName("User");
+        testUser.setRole(User.UserRole.USER);
+        testUser.setStatus(User.UserStatus.ACTIVE);
+        testUser.setPasswordChangedAt(LocalDateTime.now());
+        testUser = entityManager.persistAndFlush(testUser);
+
+        ServiceCategory category = new ServiceCategory();
+        category.setName("Business Internet");
+        category.setIsActive(true);
+        category = entityManager.persistAndFlush(category);
+
+        service = new Service();
+        service.setCategory(category);
+        service.setName("Business Fiber 500M");
+        service.setServiceType("FIBER");
+        service.setBaseBandwidthMbps(500);
+        service.setMinBandwidthMbps(100);
+        service.setMaxBandwidthMbps(1000);
+        service.setBasePriceMonthly(new BigDecimal("299.00"));
+        service.setIsBandwidthAdjustable(true);
+        service.setIsAvailable(true);
+        service = entityManager.persistAndFlush(service);
+
+        instance = new ServiceInstance();
+        instance.setCompany(company);
+        instance.setService(service);
+        instance.setInstanceName("Office A");
+        instance.setCurrentBandwidthMbps(500);
+        instance.setInstallationAddress("1 Test Street");
+        instance.setStatus(ServiceInstance.ServiceInstanceStatus.ACTIVE);
+        instance = entityManager.persistAndFlush(instance);
+    }
+
+    @Test
+    void findOrdersAwaitingWorkflow_ReturnsOpenOrdersWithoutWorkflow() {
+        // Arrange
+        Order submitted = order("ORD-000001", Order.OrderStatus.SUBMITTED, null);
+        Order approved = order("ORD-000002", Order.OrderStatus.APPROVED, null);
+        order("ORD-000003", Order.OrderStatus.IN_PROGRESS, "WF-3");
+        order("ORD-000004", Order.OrderStatus.COMPLETED, null);
+        entityManager.flush();
+
+        // Act
+        List<OrderWorkflowRequest> orders = orchestratorWorkflowRepository.findOrdersAwaitingWorkflow(10);
+
+        // Assert
+        assertEquals(Set.of(submitted.getId(), approved.getId()),
+                     orders.stream().map(OrderWorkflowRequest::getOrderId).collect(Collectors.toSet()));
+        OrderWorkflowRequest request = orders.stream()
+                .filter(order -> order.getOrderId().equals(submitted.getId())).findFirst().orElseThrow();
+        assertEquals("ORD-000001", request.getOrderNumber());
+        assertEquals("NEW_SERVICE", request.getOrderType());
+        assertEquals(company.getId(), request.getCompanyId());
+        assertEquals(service.getId(), request.getServiceId());
+        assertEquals(500, request.getRequestedBandwidthMbps());
+        assertEquals(submitted.getRequestedDate(), request.getRequestedDate());
+    }
+
+    @Test
+    void findOrdersAwaitingWorkflow_RespectsLimit() {
+        order("ORD-000001", Order.OrderStatus.SUBMITTED, null);
+        order("ORD-000002", Order.OrderStatus.SUBMITTED, null);
+        entityManager.flush();
+
+        assertEquals(1, orchestratorWorkflowRepository.findOrdersAwaitingWorkflow(1).size());
+    }
+
+    @Test
+    void findBandwidthChangesAwaitingWorkflow_ReturnsPendingAndScheduledChanges() {
+        // Arrange
+        BandwidthChange pending = change(BandwidthChange.BandwidthChangeStatus.PENDING, null);
+        BandwidthChange scheduled = change(BandwidthChange.BandwidthChangeStatus.SCHEDULED, null);
+        change(BandwidthChange.BandwidthChangeStatus.SCHEDULED, "WF-9");
+        change(BandwidthChange.BandwidthChangeStatus.APPLIED, null);
+        entityManager.flush();
+
+        // Act
+        List<BandwidthChangeWorkflowRequest> changes = orchestratorWorkflowRepository.findBandwidthChangesAwaitingWorkflow(10);
+
+        // Assert
+        assertEquals(Set.of(pending.getId(), scheduled.getId()),
+                     changes.stream().map(BandwidthChangeWorkflowRequest::getChangeId).collect(Collectors.toSet()));
+        assertTrue(changes.stream().allMatch(change -> instance.getId().equals(change.getServiceInstanceId())
+                                                       && change.getNewBandwidthMbps() == 750));
+    }
+
+    @Test
+    void assign_OnlyFillsMissingWorkflowIds() {
+        // Arrange
+        Order order = order("ORD-000001", Order.OrderStatus.SUBMITTED, null);
+        Order assigned = order("ORD-000002", Order.OrderStatus.SUBMITTED, "WF-OLD");
+        BandwidthChange change = change(BandwidthChange.BandwidthChangeStatus.SCHEDULED, null);
+        entityManager.flush();
+
+        // Act
+        int updated = orchestratorWorkflowRepository.assign(List.of(
+                new WorkflowAssignment(WorkflowType.ORDER, order.getId(), "WF-1"),
+                new WorkflowAssignment(WorkflowType.ORDER, assigned.getId(), "WF-2"),
+                new WorkflowAssignment(WorkflowType.BANDWIDTH_CHANGE, change.getId(), "WF-3"),
+                new WorkflowAssignment(WorkflowType.ORDER, UUID.randomUUID(), "WF-4")));
+        entityManager.clear();
+
+        // Assert
+        assertEquals(2, updated);
+        assertEquals("WF-1", entityManager.find(Order.class, order.getId()).getWorkflowId());
+        assertEquals("WF-OLD", entityManager.find(Order.class, assigned.getId()).getWorkflowId());
+        assertEquals("WF-3", entityManager.find(BandwidthChange.class, change.getId()).getWorkflowId());
+        assertTrue(orchestratorWorkflowRepository.findOrdersAwaitingWorkflow(10).isEmpty());
+    }
+
+    @Test
+    void findAwaitingWorkflow_SkipsAggregatesBackingOffOrParked() {
+        // Arrange
+        Order due = order("ORD-000001", Order.OrderStatus.SUBMITTED, null);
+        Order backingOff = order("ORD-000002", Order.OrderStatus.SUBMITTED, null);
+        Order parked = order("ORD-000003", Order.OrderStatus.SUBMITTED, null);
+        BandwidthChange change = change(BandwidthChange.BandwidthChangeStatus.PENDING, null);
+        entityManager.flush();
+        Instant now = Instant.now();
+        orchestratorWorkflowRepository.recordFailures(List.of(
+                new WorkflowSubmissionFailure(WorkflowType.ORDER, due.getId(), 1, now.minusSeconds(1), false, "timed out"),
+                new WorkflowSubmissionFailure(WorkflowType.ORDER, backingOff.getId(), 2, now.plusSeconds(60), false, "answered 503"),
+                new WorkflowSubmissionFailure(WorkflowType.ORDER, parked.getId(), 1, now, true, "answered 422"),
+                new WorkflowSubmissionFailure(WorkflowType.BANDWIDTH_CHANGE, change.getId(), 1, now.plusSeconds(60), false, "timed out")));
+
+        // Act
+        List<OrderWorkflowRequest> orders = orchestratorWorkflowRepository.findOrdersAwaitingWorkflow(1);
+
+        // Assert: the failed aggregates do not take the only slot
+        assertEquals(List.of(due.getId()), orders.stream().map(OrderWorkflowRequest::getOrderId).toList());
+        assertTrue(orchestratorWorkflowRepository.findBandwidthChangesAwaitingWorkflow(10).isEmpty());
+        assertEquals(Map.of(due.getId(), 1, backingOff.getId(), 2, parked.getId(), 1),
+                     orchestratorWorkflowRepository.findSubmissionAttempts(List.of(due.getId(), backingOff.getId(), parked.getId())));
+    }
+
+    @Test
+    void recordFailures_ReplacesPreviousFailureAndAssignClearsIt() {
+        // Arrange
+        Order order = order("ORD-000001", Order.OrderStatus.SUBMITTED, null);
+        entityManager.flush();
+        orchestratorWorkflowRepository.recordFailures(List.of(
+                new WorkflowSubmissionFailure(WorkflowType.ORDER, order.getId(), 1, Instant.now(), false, "timed out")));
+
+        // Act
+        orchestratorWorkflowRepository.recordFailures(List.of(
+                new WorkflowSubmissionFailure(WorkflowType.ORDER, order.getId(), 2, Instant.now(), false, "timed out")));
+
+        // Assert
+        assertEquals(Map.of(order.getId(), 2), orchestratorWorkflowRepository.findSubmissionAttempts(List.of(order.getId())));
+        orchestratorWorkflowRepository.assign(List.of(new WorkflowAssignment(WorkflowType.ORDER, order.getId(), "WF-1")));
+        assertTrue(orchestratorWorkflowRepository.findSubmissionAttempts(List.of(order.getId())).isEmpty());
+    }
+
+    private Order order(String orderNumber, Order.OrderStatus status, String workflowId) {
+        Order order = new Order();
+        order.setCompany(company);
+        order.setUser(testUser);
+        order.setService(service);
+        order.setOrderNumber(orderNumber);
+        order.setOrderType(Order.OrderType.NEW_SERVICE);
+        order.setRequestedBandwidthMbps(500);
+        order.setInstallationAddress("123 Test Street");
+        order.setContactPerson("Test Person");
+        order.setContactPhone("+65 9123 4567");
+        order.setContactEmail("test@example.com");
+        order.setRequestedDate(LocalDate.now().plusDays(1));
+        order.setStatus(status);
+        order.setTotalCost(new BigDecimal("449.00"));
+        order.setWorkflowId(workflowId);
+        return entityManager.persist(order);
+    }
+
+    private BandwidthChange change(BandwidthChange.BandwidthChangeStatus status, String workflowId) {
+        BandwidthChange change = new BandwidthChange(instance, testUser, 500, 750);
+        change.setScheduledAt(LocalDateTime.now().plusHours(1));
+        change.setStatus(status);
+        change.setWorkflowId(workflowId);
+        return entityManager.persist(change);
+    }
+}
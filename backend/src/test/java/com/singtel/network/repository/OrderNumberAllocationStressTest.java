@@ -0,0 +1,171 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.entity.*;
+import com.singtel.network.service.OrderNumberAllocator;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Concurrent order creation against Postgres using sequence-backed order numbers.
+ * Runs outside the test transaction so each worker thread commits its own orders.
+ */
+@DataJpaTest
+@AutoConfigureEmbeddedDatabase
+@Import(OrderNumberAllocator.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.default_schema=singtel_app",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=classpath:test-schema.sql"
+})
+class OrderNumberAllocationStressTest {
+
+    private static final int THREADS = 8;
+    private static final int ORDERS_PER_THREAD = 250;
+
+    @Autowired
+    private OrderNumberAllocator orderNumberAllocator;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ServiceCategoryRepository serviceCategoryRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Company testCompany;
+    private User testUser;
+    private Service testService;
+
+    @BeforeEach
+    void setUp() {
+        testCompany = new Company();
+        testCompany.setName("Stress Test Company");
+        testCompany.setRegistrationNumber("STRESS123");
+        testCompany.setEmail("stress@company.com");
+        testCompany.setStatus(Company.CompanyStatus.ACTIVE);
+        testCompany = companyRepository.save(testCompany);
+
+        testUser = new User();
+        testUser.setCompany(testCompany);
+        testUser.setUsername("stressuser");
+        testUser.setEmail("stress@example.com");
+        testUser.setPasswordHash("$2a$10$hashedpassword");
+        testUser.setFirstName("Stress");
+        testUser.setLastName("User");
+        testUser.setRole(User.UserRole.USER);
+        testUser.setStatus(User.UserStatus.ACTIVE);
+        testUser.setPasswordChangedAt(LocalDateTime.now());
+        testUser = userRepository.save(testUser);
+
+        ServiceCategory category = new ServiceCategory();
+        category.setName("Business Internet");
+        category.setIsActive(true);
+        category = serviceCategoryRepository.save(category);
+
+        testService = new Service();
+        testService.setCategory(category);
+        testService.setName("Business Fiber 500M");
+        testService.setServiceType("FIBER");
+        testService.setBaseBandwidthMbps(500);
+        testService.setBasePriceMonthly(new BigDecimal("299.00"));
+        testService.setSetupFee(new BigDecimal("150.00"));
+        testService.setIsAvailable(true);
+        testService = serviceRepository.save(testService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAllInBatch();
+        serviceRepository.deleteAllInBatch();
+        serviceCategoryRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        companyRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void createOrdersInParallel_AllOrderNumbersUnique() throws Exception {
+        // Arrange
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Callable<Void>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            workers.add(() -> {
+                for (int i = 0; i < ORDERS_PER_THREAD; i++) {
+                    transactionTemplate.executeWithoutResult(status -> orderRepository.save(newOrder()));
+                }
+                return null;
+            });
+        }
+
+        // Act
+        try {
+            for (Future<Void> future : executor.invokeAll(workers)) {
+                future.get(); // rethrows a unique constraint violation from any worker
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        int total = THREADS * ORDERS_PER_THREAD;
+        List<Order> orders = orderRepository.findAll();
+        assertEquals(total, orders.size());
+        assertEquals(total, orders.stream().map(Order::getOrderNumber).distinct().count());
+        String yearPrefix = "ORD-" + LocalDate.now().getYear() + "-";
+        assertTrue(orders.stream().allMatch(o -> o.getOrderNumber().startsWith(yearPrefix)));
+    }
+
+    private Order newOrder() {
+        Order order = new Order();
+        order.setCompany(testCompany);
+        order.setUser(testUser);
+        order.setService(testService);
+        order.setOrderNumber(orderNumberAllocator.nextOrderNumber());
+        order.setOrderType(Order.OrderType.NEW_SERVICE);
+        order.setRequestedBandwidthMbps(500);
+        order.setInstallationAddress("123 Test Street");
+        order.setContactPerson("Test Person");
+        order.setContactPhone("+65 9123 4567");
+        order.setContactEmail("test@example.com");
+        order.setRequestedDate(LocalDate.now().plusDays(1));
+        order.setStatus(Order.OrderStatus.SUBMITTED);
+        order.setTotalCost(new BigDecimal("449.00"));
+        return order;
+    }
+}
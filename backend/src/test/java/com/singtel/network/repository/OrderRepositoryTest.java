@@ -1,7 +1,9 @@
 package com.singtel.network.repository;
 
+import com.singtel.network.dto.order.OrderResponse;
 import com.singtel.network.entity.*;
 import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import jakarta.persistence.PersistenceUnitUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +12,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.TestPropertySource;
 
 import java.math.BigDecimal;
@@ -30,7 +33,8 @@ import static org.junit.jupiter.api.Assertions.*;
     "spring.jpa.hibernate.ddl-auto=create-drop",
     "spring.jpa.properties.hibernate.default_schema=singtel_app",
     "spring.sql.init.mode=always",
-    "spring.sql.init.schema-locations=classpath:test-schema.sql"
+    "spring.sql.init.schema-locations=classpath:test-schema.sql",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.singtel.network.repository.SqlStatementRecorder"
 })
 class OrderRepositoryTest {
 
@@ -395,13 +399,15 @@ class OrderRepositoryTest {
     }
 
     @Test
-    void findNextOrderSequence_Success() {
+    void reserveOrderNumberBlock_AdvancesByBlockSize() {
         // Act
-        Integer nextSequence = orderRepository.findNextOrderSequence();
+        Long blockSize = orderRepository.findOrderNumberBlockSize();
+        Long first = orderRepository.reserveOrderNumberBlock();
+        Long second = orderRepository.reserveOrderNumberBlock();
 
         // Assert
-        assertNotNull(nextSequence);
-        assertEquals(3, nextSequence); // Should be 3 since we have ORD-000001 and ORD-000002
+        assertEquals(50L, blockSize);
+        assertEquals(first + blockSize, second);
     }
 
     @Test
@@ -422,6 +428,51 @@ class OrderRepositoryTest {
         assertEquals(Order.OrderType.NEW_SERVICE, order.getOrderType());
     }
 
+    @Test
+    void searchOrders_AllCriteria_AppliesEveryFilter() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        LocalDate today = LocalDate.now();
+
+        // Act
+        Page<Order> matching = orderRepository.searchOrders(testCompany.getId(), Order.OrderStatus.COMPLETED,
+                Order.OrderType.MODIFY_SERVICE, testService.getId(), today, today,
+                new BigDecimal("100.00"), new BigDecimal("200.00"), pageable);
+        Page<Order> wrongType = orderRepository.searchOrders(testCompany.getId(), null,
+                Order.OrderType.TERMINATE_SERVICE, null, null, null, null, null, pageable);
+        Page<Order> costTooHigh = orderRepository.searchOrders(testCompany.getId(), null,
+                null, null, null, null, new BigDecimal("500.00"), null, pageable);
+        Page<Order> createdLater = orderRepository.searchOrders(testCompany.getId(), null,
+                null, null, today.plusDays(1), null, null, null, pageable);
+
+        // Assert
+        assertEquals(1, matching.getTotalElements());
+        assertEquals("ORD-000002", matching.getContent().get(0).getOrderNumber());
+        assertEquals(0, wrongType.getTotalElements());
+        assertEquals(0, costTooHigh.getTotalElements());
+        assertEquals(0, createdLater.getTotalElements());
+    }
+
+    @Test
+    void searchOrders_FetchesAssociationsWithPage() {
+        // Arrange
+        entityManager.clear();
+
+        // Act
+        Page<Order> orderPage = orderRepository.searchOrders(testCompany.getId(), null, null, null,
+                null, null, null, null, PageRequest.of(0, 1, Sort.by("orderNumber")));
+
+        // Assert
+        assertEquals(2, orderPage.getTotalElements());
+        Order order = orderPage.getContent().get(0);
+        assertEquals("ORD-000001", order.getOrderNumber());
+        PersistenceUnitUtil util = entityManager.getEntityManager().getEntityManagerFactory().getPersistenceUnitUtil();
+        assertTrue(util.isLoaded(order, "service"));
+        assertTrue(util.isLoaded(order.getService(), "name"));
+        assertTrue(util.isLoaded(order.getUser(), "username"));
+        assertTrue(util.isLoaded(order.getCompany(), "name"));
+    }
+
     @Test
     void findRecentOrdersByCompany_Success() {
         // Arrange
@@ -438,4 +489,117 @@ class OrderRepositoryTest {
         assertTrue(recentOrders.stream().anyMatch(o -> o.getOrderNumber().equals("ORD-000001")));
         assertTrue(recentOrders.stream().anyMatch(o -> o.getOrderNumber().equals("ORD-000002")));
     }
+
+    @Test
+    void findByCompanyIdWithPagination_LimitsInDatabase() {
+        // Arrange
+        SqlStatementRecorder.clear();
+
+        // Act
+        Page<Order> orderPage = orderRepository.findByCompanyId(testCompany.getId(), PageRequest.of(1, 1));
+
+        // Assert
+        assertEquals(1, orderPage.getContent().size());
+        assertEquals(2, orderPage.getTotalElements());
+        assertTrue(util().isLoaded(orderPage.getContent().get(0), "service"));
+        assertPagedInDatabase();
+    }
+
+    @Test
+    void findByCompanyIdWithPagination_NewestFirstByDefault() {
+        // Arrange
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE singtel_app.orders SET created_at = :createdAt WHERE id = :id")
+                .setParameter("createdAt", LocalDateTime.now().plusMinutes(5))
+                .setParameter("id", testOrder2.getId())
+                .executeUpdate();
+        entityManager.clear();
+
+        // Act
+        Page<Order> orderPage = orderRepository.findByCompanyId(testCompany.getId(), PageRequest.of(0, 2));
+
+        // Assert
+        assertEquals("ORD-000002", orderPage.getContent().get(0).getOrderNumber());
+        assertEquals("ORD-000001", orderPage.getContent().get(1).getOrderNumber());
+    }
+
+    @Test
+    void findRecentOrdersByCompany_LimitsInDatabase() {
+        // Arrange
+        SqlStatementRecorder.clear();
+
+        // Act
+        List<Order> recentOrders = orderRepository.findRecentOrdersByCompany(testCompany.getId(), PageRequest.of(0, 1));
+
+        // Assert
+        assertEquals(1, recentOrders.size());
+        assertTrue(util().isLoaded(recentOrders.get(0), "user"));
+        assertPagedInDatabase();
+    }
+
+    @Test
+    void searchOrders_LimitsInDatabase() {
+        // Arrange
+        SqlStatementRecorder.clear();
+
+        // Act
+        Page<Order> orderPage = orderRepository.searchOrders(testCompany.getId(), null, PageRequest.of(0, 1));
+
+        // Assert
+        assertEquals(1, orderPage.getContent().size());
+        assertPagedInDatabase();
+    }
+
+    @Test
+    void findOrderResponsesByCompanyId_ProjectsListColumns() {
+        // Act
+        List<OrderResponse> orders = orderRepository.findOrderResponsesByCompanyId(testCompany.getId());
+
+        // Assert
+        assertEquals(2, orders.size());
+        OrderResponse first = orders.stream()
+                .filter(o -> o.getOrderNumber().equals("ORD-000001"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(testOrder1.getId(), first.getId());
+        assertEquals(new BigDecimal("449.00"), first.getTotalCost());
+        assertEquals("Business Fiber 500M", first.getService().getName());
+        assertEquals("Test User", first.getUser().getFullName());
+        assertEquals("Test Company", first.getCompany().getName());
+        assertNull(first.getServiceInstance());
+    }
+
+    @Test
+    void findRecentOrderResponsesByCompany_LimitsInDatabase() {
+        // Arrange
+        SqlStatementRecorder.clear();
+
+        // Act
+        List<OrderResponse> orders = orderRepository.findRecentOrderResponsesByCompany(testCompany.getId(), PageRequest.of(0, 1));
+
+        // Assert
+        assertEquals(1, orders.size());
+        assertEquals(1, SqlStatementRecorder.statements().size());
+        assertPagedInDatabase();
+    }
+
+    private PersistenceUnitUtil util() {
+        return entityManager.getEntityManager().getEntityManagerFactory().getPersistenceUnitUtil();
+    }
+
+    /**
+     * Every statement reading order rows must either be limited in SQL, be a count, or load an explicit id list
+     */
+    private void assertPagedInDatabase() {
+        List<String> orderSelects = SqlStatementRecorder.statements().stream()
+                .map(sql -> sql.toLowerCase().replaceAll("\\s+", " "))
+                .filter(sql -> sql.startsWith("select") && sql.contains("orders"))
+                .toList();
+
+        assertTrue(orderSelects.stream().anyMatch(sql -> sql.contains(" limit ") || sql.contains(" fetch first ")),
+                () -> "Expected a LIMIT in " + orderSelects);
+        assertTrue(orderSelects.stream().allMatch(sql -> sql.contains(" limit ") || sql.contains(" fetch first ")
+                        || sql.contains("count(") || sql.matches(".* in ?\\(.*")),
+                () -> "Unbounded order query in " + orderSelects);
+    }
 }
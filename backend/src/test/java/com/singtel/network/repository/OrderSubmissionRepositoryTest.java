@@ -0,0 +1,121 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.dto.order.OrderSubmissionResponse;
+import com.singtel.network.dto.order.PendingOrderSubmission;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for OrderSubmissionRepository.
+ */
+@DataJpaTest
+@AutoConfigureEmbeddedDatabase
+@Import(OrderSubmissionRepository.class)
+@TestPropertySource(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.default_schema=singtel_app",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=classpath:test-schema.sql"
+})
+class OrderSubmissionRepositoryTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(2);
+
+    @Autowired
+    private OrderSubmissionRepository orderSubmissionRepository;
+
+    private final UUID companyId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+    private final UUID submissionId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        orderSubmissionRepository.insert(submissionId, companyId, userId, "{\"requestedBandwidthMbps\": 500}", Duration.ZERO);
+    }
+
+    @Test
+    void claim_SucceedsOnceWhileLeased() {
+        // Act
+        Optional<PendingOrderSubmission> claimed = orderSubmissionRepository.claim(submissionId, LEASE);
+
+        // Assert
+        assertTrue(claimed.isPresent());
+        assertEquals(userId, claimed.get().getUserId());
+        assertEquals(1, claimed.get().getAttempts());
+        assertTrue(claimed.get().getRequest().contains("\"requestedBandwidthMbps\": 500"));
+        assertTrue(orderSubmissionRepository.claim(submissionId, LEASE).isEmpty());
+        assertTrue(orderSubmissionRepository.findDueIds(10).isEmpty());
+    }
+
+    @Test
+    void complete_IsFencedByTheLatestClaim() {
+        // Arrange: the first worker's lease runs out and a second worker claims the submission
+        PendingOrderSubmission first = orderSubmissionRepository.claim(submissionId, Duration.ZERO).orElseThrow();
+        PendingOrderSubmission second = orderSubmissionRepository.claim(submissionId, LEASE).orElseThrow();
+
+        // Act & Assert
+        assertFalse(orderSubmissionRepository.complete(first, null));
+        assertTrue(orderSubmissionRepository.complete(second, null));
+        assertEquals(OrderSubmissionResponse.SubmissionStatus.COMPLETED, find().getStatus());
+        assertNotNull(find().getCompletedAt());
+        assertEquals(0, orderSubmissionRepository.countBacklog());
+    }
+
+    @Test
+    void retry_ReturnsSubmissionToTheSweepAfterBackoff() {
+        // Arrange
+        PendingOrderSubmission claimed = orderSubmissionRepository.claim(submissionId, LEASE).orElseThrow();
+
+        // Act
+        orderSubmissionRepository.retry(claimed, "Connection reset", Duration.ZERO);
+
+        // Assert
+        assertEquals(List.of(submissionId), orderSubmissionRepository.findDueIds(10));
+        OrderSubmissionResponse submission = find();
+        assertEquals(OrderSubmissionResponse.SubmissionStatus.RECEIVED, submission.getStatus());
+        assertEquals("Connection reset", submission.getErrorMessage());
+        assertEquals(2, orderSubmissionRepository.claim(submissionId, LEASE).orElseThrow().getAttempts());
+    }
+
+    @Test
+    void fail_IsTerminal() {
+        // Arrange
+        PendingOrderSubmission claimed = orderSubmissionRepository.claim(submissionId, LEASE).orElseThrow();
+
+        // Act
+        orderSubmissionRepository.fail(claimed, "Service not found");
+
+        // Assert
+        OrderSubmissionResponse submission = find();
+        assertEquals(OrderSubmissionResponse.SubmissionStatus.FAILED, submission.getStatus());
+        assertEquals("Service not found", submission.getErrorMessage());
+        assertTrue(orderSubmissionRepository.claim(submissionId, Duration.ZERO).isEmpty());
+        assertEquals(0, orderSubmissionRepository.countBacklog());
+    }
+
+    @Test
+    void findByIdAndCompanyId_IsScopedToTheCompany() {
+        // Act & Assert
+        assertEquals(OrderSubmissionResponse.SubmissionStatus.RECEIVED, find().getStatus());
+        assertNotNull(find().getSubmittedAt());
+        assertTrue(orderSubmissionRepository.findByIdAndCompanyId(submissionId, UUID.randomUUID()).isEmpty());
+        assertEquals(1, orderSubmissionRepository.countBacklog());
+    }
+
+    private OrderSubmissionResponse find() {
+        return orderSubmissionRepository.findByIdAndCompanyId(submissionId, companyId).orElseThrow();
+    }
+}
@@ -0,0 +1,107 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.dto.outbox.OutboxEvent;
+import com.singtel.network.dto.outbox.OutboxFailure;
+import com.singtel.network.dto.outbox.OutboxMessage;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for OutboxRepository.
+ */
+@DataJpaTest
+@AutoConfigureEmbeddedDatabase
+@Import(OutboxRepository.class)
+@TestPropertySource(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.default_schema=singtel_app",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=classpath:test-schema.sql"
+})
+class OutboxRepositoryTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    private final UUID firstOrder = UUID.randomUUID();
+    private final UUID secondOrder = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.append(List.of(
+                event(firstOrder, "ORDER_CREATED"),
+                event(secondOrder, "ORDER_CREATED"),
+                event(firstOrder, "ORDER_CANCELLED")));
+    }
+
+    @Test
+    void claimDue_ClaimsOldestEventPerAggregateAndLeasesIt() {
+        // Act
+        List<OutboxMessage> claimed = outboxRepository.claimDue(10, LEASE);
+
+        // Assert
+        assertEquals(List.of(firstOrder, secondOrder), claimed.stream().map(OutboxMessage::getAggregateId).toList());
+        assertTrue(claimed.stream().allMatch(message -> "ORDER_CREATED".equals(message.getEventType())));
+        assertEquals("ORDER", claimed.get(0).getAggregateType());
+        assertEquals("{\"status\": \"ORDER_CREATED\"}", claimed.get(0).getPayload());
+        assertEquals(0, claimed.get(0).getAttempts());
+        assertTrue(outboxRepository.claimDue(10, LEASE).isEmpty());
+    }
+
+    @Test
+    void complete_PublishedEventIsDeletedAndReleasesTheNextOne() {
+        // Arrange
+        List<OutboxMessage> claimed = outboxRepository.claimDue(1, LEASE);
+
+        // Act
+        outboxRepository.complete(List.of(claimed.get(0).getId()), List.of());
+
+        // Assert: the second order's event is still due, then the first order's cancellation
+        List<OutboxMessage> next = outboxRepository.claimDue(10, LEASE);
+        assertEquals(List.of("ORDER_CREATED", "ORDER_CANCELLED"), next.stream().map(OutboxMessage::getEventType).toList());
+        assertEquals(List.of(secondOrder, firstOrder), next.stream().map(OutboxMessage::getAggregateId).toList());
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT count(*) FROM singtel_app.outbox", Integer.class));
+    }
+
+    @Test
+    void complete_FailedEventIsRescheduledAndHoldsBackItsAggregate() {
+        // Arrange
+        OutboxMessage first = outboxRepository.claimDue(1, LEASE).get(0);
+
+        // Act
+        outboxRepository.complete(List.of(), List.of(
+                new OutboxFailure(first.getId(), 1, Instant.now().plus(Duration.ofHours(1)), "answered 503")));
+
+        // Assert
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT attempts, last_error FROM singtel_app.outbox WHERE id = ?", first.getId());
+        assertEquals(1, row.get("attempts"));
+        assertEquals("answered 503", row.get("last_error"));
+        assertEquals(List.of(secondOrder),
+                     outboxRepository.claimDue(10, LEASE).stream().map(OutboxMessage::getAggregateId).toList());
+    }
+
+    private static OutboxEvent event(UUID orderId, String eventType) {
+        return new OutboxEvent(OutboxEvent.ORDER, orderId, eventType, "{\"status\":\"" + eventType + "\"}");
+    }
+}
@@ -0,0 +1,118 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.dto.alert.AlertRule;
+import com.singtel.network.dto.alert.AlertTrigger;
+import com.singtel.network.entity.ServiceMetric;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for ServiceAlertRepository.
+ */
+@DataJpaTest
+@AutoConfigureEmbeddedDatabase
+@Import(ServiceAlertRepository.class)
+@TestPropertySource(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.default_schema=singtel_app",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=classpath:test-schema.sql"
+})
+class ServiceAlertRepositoryTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T12:00:00Z");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ServiceAlertRepository serviceAlertRepository;
+
+    private UUID serviceInstanceId;
+    private UUID alertId;
+
+    @BeforeEach
+    void setUp() {
+        serviceInstanceId = UUID.randomUUID();
+        alertId = insertAlert("LATENCY", true, "{noc@company.com,ops@company.com}", "{https://hooks.company.com/alerts}");
+    }
+
+    @Test
+    void findEnabledAlerts_SkipsDisabledAlertsAndUnknownMetrics() {
+        // Arrange
+        insertAlert("LATENCY", false, null, null);
+        insertAlert("JITTER", true, null, null);
+
+        // Act
+        List<AlertRule> rules = serviceAlertRepository.findEnabledAlerts();
+
+        // Assert
+        assertEquals(1, rules.size());
+        AlertRule rule = rules.get(0);
+        assertEquals(alertId, rule.getId());
+        assertEquals(ServiceMetric.MetricType.LATENCY, rule.getMetricType());
+        assertEquals(AlertRule.ThresholdOperator.GE, rule.getOperator());
+        assertTrue(rule.matches(100));
+        assertFalse(rule.matches(99.9));
+    }
+
+    @Test
+    void fire_QueuesNotificationPerRecipientAndStampsAlert() {
+        // Act
+        int notifications = serviceAlertRepository.fire(List.of(trigger(NOW)));
+
+        // Assert
+        assertEquals(3, notifications);
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT notification_type, recipient, status, subject FROM singtel_app.alert_notifications " +
+                "WHERE alert_id = ? ORDER BY notification_type, recipient", alertId);
+        assertEquals(List.of("EMAIL", "EMAIL", "WEBHOOK"), rows.stream().map(row -> row.get("notification_type")).toList());
+        assertEquals("https://hooks.company.com/alerts", rows.get(2).get("recipient"));
+        assertTrue(rows.stream().allMatch(row -> "PENDING".equals(row.get("status"))));
+        assertEquals(NOW, jdbcTemplate.queryForObject(
+                "SELECT last_triggered_at FROM singtel_app.service_alerts WHERE id = ?",
+                (rs, rowNum) -> rs.getTimestamp(1).toInstant(), alertId));
+    }
+
+    @Test
+    void fire_SecondTriggerWithinCooldownIsIgnored() {
+        // Arrange
+        serviceAlertRepository.fire(List.of(trigger(NOW)));
+
+        // Act: another node fires 5 minutes later, then again after the 15 minute cooldown
+        int duringCooldown = serviceAlertRepository.fire(List.of(trigger(NOW.plusSeconds(300))));
+        int afterCooldown = serviceAlertRepository.fire(List.of(trigger(NOW.plusSeconds(900))));
+
+        // Assert
+        assertEquals(0, duringCooldown);
+        assertEquals(3, afterCooldown);
+    }
+
+    private UUID insertAlert(String metricType, boolean enabled, String emails, String webhooks) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO singtel_app.service_alerts (id, service_instance_id, alert_name, metric_type, " +
+                "threshold_value, threshold_operator, severity, is_enabled, notification_emails, notification_webhooks, " +
+                "cooldown_minutes) VALUES (?, ?, 'High latency', ?, ?, '>=', 'HIGH', ?, ?::text[], ?::text[], 15)",
+                id, serviceInstanceId, metricType, new BigDecimal("100"), enabled, emails, webhooks);
+        return id;
+    }
+
+    private AlertTrigger trigger(Instant triggeredAt) {
+        return new AlertTrigger(alertId, serviceInstanceId, triggeredAt, "[HIGH] High latency", "LATENCY 150 >= 100");
+    }
+}
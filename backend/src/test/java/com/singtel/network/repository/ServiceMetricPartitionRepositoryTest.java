@@ -0,0 +1,121 @@
+package com.singtel.network.repository;
+
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for ServiceMetricPartitionRepository.
+ * Hibernate creates service_metrics as a plain table, so each test swaps in the partitioned layout of V11.
+ */
+@DataJpaTest
+@AutoConfigureEmbeddedDatabase
+@Import(ServiceMetricPartitionRepository.class)
+@TestPropertySource(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.default_schema=singtel_app",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=classpath:test-schema.sql"
+})
+class ServiceMetricPartitionRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 10);
+
+    @Autowired
+    private ServiceMetricPartitionRepository partitionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DROP TABLE singtel_app.service_metrics CASCADE");
+        jdbcTemplate.execute("CREATE TABLE singtel_app.service_metrics (" +
+                "id UUID NOT NULL DEFAULT gen_random_uuid(), " +
+                "service_instance_id UUID NOT NULL, " +
+                "metric_type VARCHAR(50) NOT NULL, " +
+                "metric_value DECIMAL(15,6) NOT NULL, " +
+                "measured_at TIMESTAMP WITH TIME ZONE NOT NULL, " +
+                "PRIMARY KEY (id, measured_at)) PARTITION BY RANGE (measured_at)");
+    }
+
+    @Test
+    void createDailyPartition_RoutesRowsByUtcDay() {
+        // Arrange
+        partitionRepository.createDailyPartition(DAY);
+        partitionRepository.createDailyPartition(DAY.plusDays(1));
+        partitionRepository.createDailyPartition(DAY); // already exists
+
+        // Act
+        jdbcTemplate.update("INSERT INTO singtel_app.service_metrics (service_instance_id, metric_type, metric_value, measured_at) " +
+                "VALUES (gen_random_uuid(), 'LATENCY', 1, '2026-03-10 23:59:59+00'), " +
+                "(gen_random_uuid(), 'LATENCY', 2, '2026-03-11 00:00:00+00')");
+
+        // Assert
+        assertEquals(List.of("service_metrics_p20260310", "service_metrics_p20260311"),
+                partitionRepository.findPartitionNames());
+        assertEquals(1, countRows("service_metrics_p20260310"));
+        assertEquals(1, countRows("service_metrics_p20260311"));
+    }
+
+    @Test
+    void rangeQueryPrunesToMatchingPartition() {
+        // Arrange
+        partitionRepository.createDailyPartition(DAY);
+        partitionRepository.createDailyPartition(DAY.plusDays(1));
+
+        // Act
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT * FROM singtel_app.service_metrics " +
+                "WHERE measured_at >= '2026-03-11 01:00:00+00' AND measured_at < '2026-03-11 02:00:00+00'",
+                String.class));
+
+        // Assert
+        assertTrue(plan.contains("service_metrics_p20260311"));
+        assertFalse(plan.contains("service_metrics_p20260310"));
+    }
+
+    @Test
+    void detachAndDropPartition_RemoveItFromParent() {
+        // Arrange
+        partitionRepository.createDailyPartition(DAY);
+        partitionRepository.createDailyPartition(DAY.plusDays(1));
+
+        // Act
+        partitionRepository.detachPartition("service_metrics_p20260310");
+        partitionRepository.dropPartition("service_metrics_p20260311");
+
+        // Assert
+        assertTrue(partitionRepository.findPartitionNames().isEmpty());
+        assertEquals(0, countRows("service_metrics_p20260310"));
+    }
+
+    @Test
+    void detachPartition_RejectsForeignTableName() {
+        assertThrows(IllegalArgumentException.class,
+                () -> partitionRepository.detachPartition("orders; DROP TABLE users"));
+    }
+
+    @Test
+    void partitionDay_ParsesDailyNamesOnly() {
+        assertEquals(DAY, ServiceMetricPartitionRepository.partitionDay("service_metrics_p20260310"));
+        assertNull(ServiceMetricPartitionRepository.partitionDay("service_metrics_p2026031"));
+        assertNull(ServiceMetricPartitionRepository.partitionDay("service_metrics_p20261340"));
+        assertNull(ServiceMetricPartitionRepository.partitionDay("orders"));
+    }
+
+    private int countRows(String partition) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM singtel_app." + partition, Integer.class);
+    }
+}
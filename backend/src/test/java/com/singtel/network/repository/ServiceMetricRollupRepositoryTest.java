@@ -0,0 +1,208 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.dto.metric.MetricResolution;
+import com.singtel.network.dto.metric.MetricRollupPoint;
+import com.singtel.network.dto.metric.MetricSample;
+import com.singtel.network.entity.*;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for ServiceMetricRollupRepository.
+ */
+@DataJpaTest
+@AutoConfigureEmbeddedDatabase
+@Import({ServiceMetricRollupRepository.class, ServiceMetricWriter.class})
+@TestPropertySource(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.default_schema=singtel_app",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=classpath:test-schema.sql"
+})
+class ServiceMetricRollupRepositoryTest {
+
+    private static final Instant HOUR_START = Instant.parse("2026-03-10T08:00:00Z");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ServiceMetricRollupRepository rollupRepository;
+
+    @Autowired
+    private ServiceMetricWriter serviceMetricWriter;
+
+    private ServiceInstance testServiceInstance;
+
+    @BeforeEach
+    void setUp() {
+        Company testCompany = new Company();
+        testCompany.setName("Test Company");
+        testCompany.setRegistrationNumber("TEST123");
+        testCompany.setEmail("test@company.com");
+        testCompany.setStatus(Company.CompanyStatus.ACTIVE);
+        testCompany = entityManager.persistAndFlush(testCompany);
+
+        ServiceCategory category = new ServiceCategory();
+        category.setName("Business Internet");
+        category.setIsActive(true);
+        category = entityManager.persistAndFlush(category);
+
+        Service testService = new Service();
+        testService.setCategory(category);
+        testService.setName("Business Fiber 500M");
+        testService.setServiceType("FIBER");
+        testService.setBaseBandwidthMbps(500);
+        testService.setBasePriceMonthly(new BigDecimal("299.00"));
+        testService.setSetupFee(new BigDecimal("150.00"));
+        testService.setIsAvailable(true);
+        testService = entityManager.persistAndFlush(testService);
+
+        testServiceInstance = new ServiceInstance();
+        testServiceInstance.setCompany(testCompany);
+        testServiceInstance.setService(testService);
+        testServiceInstance.setInstanceName("Test Instance");
+        testServiceInstance.setCurrentBandwidthMbps(500);
+        testServiceInstance.setInstallationAddress("123 Test Street");
+        testServiceInstance.setStatus(ServiceInstance.ServiceInstanceStatus.ACTIVE);
+        testServiceInstance = entityManager.persistAndFlush(testServiceInstance);
+
+        // Minute 0 holds latencies 1..20 ms, minute 1 holds 100 ms, minute 2 is empty
+        List<MetricSample> samples = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            samples.add(sample(HOUR_START.plusSeconds(i), i));
+        }
+        samples.add(sample(HOUR_START.plusSeconds(90), 100));
+        serviceMetricWriter.insertAll(samples, 50);
+    }
+
+    @Test
+    void rollup_ComputesMinuteAggregatesAndWatermark() {
+        // Act
+        int buckets = rollupRepository.rollup(MetricResolution.MINUTE, HOUR_START, HOUR_START.plusSeconds(180));
+
+        // Assert
+        assertEquals(2, buckets);
+        assertEquals(HOUR_START.plusSeconds(180), rollupRepository.findWatermark(MetricResolution.MINUTE).orElseThrow());
+
+        List<MetricRollupPoint> points = findPoints(MetricResolution.MINUTE);
+        assertEquals(2, points.size());
+
+        MetricRollupPoint first = points.get(0);
+        assertEquals(LocalDateTime.ofInstant(HOUR_START, ZoneId.systemDefault()), first.getBucketStart());
+        assertEquals(20, first.getSampleCount());
+        assertEquals(0, new BigDecimal("1").compareTo(first.getMinValue()));
+        assertEquals(0, new BigDecimal("20").compareTo(first.getMaxValue()));
+        assertEquals(0, new BigDecimal("10.5").compareTo(first.getAvgValue()));
+        assertEquals(0, new BigDecimal("19.05").compareTo(first.getP95Value()));
+
+        assertEquals(1, points.get(1).getSampleCount());
+    }
+
+    @Test
+    void rollup_HourBucketCoversAllMinutes() {
+        // Act
+        rollupRepository.rollup(MetricResolution.HOUR, HOUR_START, HOUR_START.plusSeconds(3600));
+
+        // Assert
+        List<MetricRollupPoint> points = findPoints(MetricResolution.HOUR);
+        assertEquals(1, points.size());
+        assertEquals(21, points.get(0).getSampleCount());
+        assertEquals(0, new BigDecimal("100").compareTo(points.get(0).getMaxValue()));
+        assertTrue(rollupRepository.findWatermark(MetricResolution.DAY).isEmpty());
+    }
+
+    @Test
+    void rollup_RerunningWindowUpdatesBucketsInPlace() {
+        // Arrange
+        rollupRepository.rollup(MetricResolution.MINUTE, HOUR_START, HOUR_START.plusSeconds(60));
+        serviceMetricWriter.insertAll(List.of(sample(HOUR_START.plusSeconds(30), 500)), 50);
+
+        // Act
+        rollupRepository.rollup(MetricResolution.MINUTE, HOUR_START, HOUR_START.plusSeconds(60));
+
+        // Assert
+        List<MetricRollupPoint> points = findPoints(MetricResolution.MINUTE);
+        assertEquals(1, points.size());
+        assertEquals(21, points.get(0).getSampleCount());
+        assertEquals(0, new BigDecimal("500").compareTo(points.get(0).getMaxValue()));
+    }
+
+    @Test
+    void deleteBucketsBefore_RemovesOnlyOlderBuckets() {
+        // Arrange
+        rollupRepository.rollup(MetricResolution.MINUTE, HOUR_START, HOUR_START.plusSeconds(180));
+
+        // Act
+        int deleted = rollupRepository.deleteBucketsBefore(MetricResolution.MINUTE, HOUR_START.plusSeconds(60));
+
+        // Assert
+        assertEquals(1, deleted);
+        assertEquals(1, findPoints(MetricResolution.MINUTE).size());
+    }
+
+    @Test
+    void rerollDirtyHours_AddsLateSamplesToClosedBuckets() {
+        // Arrange
+        for (MetricResolution resolution : MetricResolution.values()) {
+            Instant to = resolution.truncate(HOUR_START.plusSeconds(86_400));
+            rollupRepository.rollup(resolution, resolution.truncate(HOUR_START), to);
+        }
+        serviceMetricWriter.insertAll(List.of(sample(HOUR_START.plusSeconds(30), 500)), 50);
+        rollupRepository.markDirtyHours(Map.of(testServiceInstance.getId(), Set.of(HOUR_START)));
+
+        // Act
+        int hours = rollupRepository.rerollDirtyHours(10);
+
+        // Assert
+        assertEquals(1, hours);
+        for (MetricResolution resolution : MetricResolution.values()) {
+            MetricRollupPoint first = findPoints(resolution).get(0);
+            assertEquals(resolution == MetricResolution.MINUTE ? 21 : 22, first.getSampleCount(), resolution.getCode());
+            assertEquals(0, new BigDecimal("500").compareTo(first.getMaxValue()), resolution.getCode());
+        }
+        assertEquals(0, rollupRepository.rerollDirtyHours(10));
+    }
+
+    @Test
+    void rerollDirtyHours_LeavesBucketsPastTheWatermarkAlone() {
+        // Arrange
+        rollupRepository.rollup(MetricResolution.MINUTE, HOUR_START, HOUR_START.plusSeconds(60));
+        rollupRepository.markDirtyHours(Map.of(testServiceInstance.getId(), Set.of(HOUR_START)));
+
+        // Act
+        rollupRepository.rerollDirtyHours(10);
+
+        // Assert
+        assertEquals(1, findPoints(MetricResolution.MINUTE).size());
+        assertTrue(findPoints(MetricResolution.HOUR).isEmpty());
+    }
+
+    private List<MetricRollupPoint> findPoints(MetricResolution resolution) {
+        return rollupRepository.findPoints(resolution, testServiceInstance.getId(), ServiceMetric.MetricType.LATENCY,
+                HOUR_START.minusSeconds(86_400), HOUR_START.plusSeconds(86_400));
+    }
+
+    private MetricSample sample(Instant measuredAt, int value) {
+        return new MetricSample(testServiceInstance.getId(), ServiceMetric.MetricType.LATENCY, BigDecimal.valueOf(value),
+                "MS", LocalDateTime.ofInstant(measuredAt, ZoneId.systemDefault()), "probe-1");
+    }
+}
@@ -0,0 +1,122 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.dto.metric.MetricSample;
+import com.singtel.network.entity.*;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for ServiceMetricWriter.
+ */
+@DataJpaTest
+@AutoConfigureEmbeddedDatabase
+@Import(ServiceMetricWriter.class)
+@TestPropertySource(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.default_schema=singtel_app",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=classpath:test-schema.sql"
+})
+class ServiceMetricWriterTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ServiceMetricWriter serviceMetricWriter;
+
+    @Autowired
+    private ServiceMetricRepository serviceMetricRepository;
+
+    private ServiceInstance testServiceInstance;
+
+    @BeforeEach
+    void setUp() {
+        Company testCompany = new Company();
+        testCompany.setName("Test Company");
+        testCompany.setRegistrationNumber("TEST123");
+        testCompany.setEmail("test@company.com");
+        testCompany.setStatus(Company.CompanyStatus.ACTIVE);
+        testCompany = entityManager.persistAndFlush(testCompany);
+
+        ServiceCategory category = new ServiceCategory();
+        category.setName("Business Internet");
+        category.setIsActive(true);
+        category = entityManager.persistAndFlush(category);
+
+        Service testService = new Service();
+        testService.setCategory(category);
+        testService.setName("Business Fiber 500M");
+        testService.setServiceType("FIBER");
+        testService.setBaseBandwidthMbps(500);
+        testService.setBasePriceMonthly(new BigDecimal("299.00"));
+        testService.setSetupFee(new BigDecimal("150.00"));
+        testService.setIsAvailable(true);
+        testService = entityManager.persistAndFlush(testService);
+
+        testServiceInstance = new ServiceInstance();
+        testServiceInstance.setCompany(testCompany);
+        testServiceInstance.setService(testService);
+        testServiceInstance.setInstanceName("Test Instance");
+        testServiceInstance.setCurrentBandwidthMbps(500);
+        testServiceInstance.setInstallationAddress("123 Test Street");
+        testServiceInstance.setStatus(ServiceInstance.ServiceInstanceStatus.ACTIVE);
+        testServiceInstance = entityManager.persistAndFlush(testServiceInstance);
+    }
+
+    @Test
+    void insertAll_WritesEverySampleAcrossBatches() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).minusMinutes(30);
+        List<MetricSample> samples = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            samples.add(new MetricSample(testServiceInstance.getId(), ServiceMetric.MetricType.LATENCY,
+                    new BigDecimal("12.500000"), "MS", start.plusSeconds(i), "probe-1"));
+        }
+
+        // Act
+        int written = serviceMetricWriter.insertAll(samples, 10);
+
+        // Assert
+        assertEquals(25, written);
+        assertEquals(25, serviceMetricRepository.countByServiceInstanceId(testServiceInstance.getId()));
+
+        entityManager.clear();
+        ServiceMetric first = serviceMetricRepository.findAll().stream()
+                .filter(metric -> metric.getMeasuredAt().equals(start))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(ServiceMetric.MetricType.LATENCY, first.getMetricType());
+        assertEquals(0, new BigDecimal("12.5").compareTo(first.getMetricValue()));
+        assertEquals("MS", first.getMetricUnit());
+        assertEquals("probe-1", first.getSourceSystem());
+        assertNotNull(first.getCreatedAt());
+    }
+
+    @Test
+    void insertAll_UnknownServiceInstanceFails() {
+        // Arrange
+        List<MetricSample> samples = List.of(new MetricSample(UUID.randomUUID(), ServiceMetric.MetricType.UPTIME,
+                BigDecimal.ONE, null, LocalDateTime.now(), null));
+
+        // Act & Assert
+        assertThrows(DataAccessException.class, () -> serviceMetricWriter.insertAll(samples, 10));
+    }
+}
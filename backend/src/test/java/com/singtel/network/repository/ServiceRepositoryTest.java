@@ -1,5 +1,7 @@
 package com.singtel.network.repository;
 
+import com.singtel.network.dto.service.ServiceCategoryResponse;
+import com.singtel.network.dto.service.ServiceSummaryResponse;
 import com.singtel.network.entity.Service;
 import com.singtel.network.entity.ServiceCategory;
 import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
@@ -11,6 +13,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.TestPropertySource;
 
 import java.math.BigDecimal;
@@ -38,6 +41,9 @@ class ServiceRepositoryTest {
     @Autowired
     private ServiceRepository serviceRepository;
 
+    @Autowired
+    private ServiceCategoryRepository serviceCategoryRepository;
+
     private ServiceCategory testCategory;
     private Service testService1;
     private Service testService2;
@@ -269,6 +275,33 @@ class ServiceRepositoryTest {
         assertTrue(service.isBandwidthAdjustable());
     }
 
+    @Test
+    void searchServices_OnlySomeCriteria_IgnoresMissingOnes() {
+        // Act
+        Page<Service> servicePage = serviceRepository.searchServices(
+                null, null, new BigDecimal("100.00"), null, null, null, null, PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(2, servicePage.getTotalElements());
+        assertEquals("Business Fiber 500M", servicePage.getContent().get(0).getName());
+        assertEquals("Business VPN Premium", servicePage.getContent().get(1).getName());
+    }
+
+    @Test
+    void searchServices_SortedAndPaged_PushesDownSortAndCount() {
+        // Act
+        Page<Service> servicePage = serviceRepository.searchServices(
+                testCategory.getId(), null, null, null, null, null, null,
+                PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "setupFee")));
+
+        // Assert
+        assertEquals(2, servicePage.getTotalElements());
+        assertEquals(2, servicePage.getTotalPages());
+        assertEquals(1, servicePage.getContent().size());
+        assertEquals("Business Fiber 500M", servicePage.getContent().get(0).getName());
+        assertEquals("Business Internet", servicePage.getContent().get(0).getCategory().getName());
+    }
+
     @Test
     void findDistinctServiceTypes_Success() {
         // Act
@@ -359,4 +392,29 @@ class ServiceRepositoryTest {
         assertTrue(servicesWithoutSetupFee.get(0).getSetupFee() == null || 
                   servicesWithoutSetupFee.get(0).getSetupFee().equals(BigDecimal.ZERO));
     }
+
+    @Test
+    void findAvailableServiceSummaries_SelectsColumnsOnly() {
+        // Act
+        List<ServiceSummaryResponse> summaries = serviceRepository.findAvailableServiceSummaries();
+
+        // Assert
+        assertEquals(2, summaries.size());
+        assertEquals("Business Fiber 500M", summaries.get(0).getName());
+        assertEquals(testCategory.getId(), summaries.get(0).getCategoryId());
+        assertEquals("Business Internet", summaries.get(0).getCategoryName());
+        assertEquals(testService1.getBasePriceMonthly(), summaries.get(0).getBasePriceMonthly());
+    }
+
+    @Test
+    void findActiveCategorySummaries_CountsServicesWithoutLoadingThem() {
+        // Act
+        List<ServiceCategoryResponse> summaries = serviceCategoryRepository.findActiveCategorySummaries();
+
+        // Assert
+        assertEquals(1, summaries.size());
+        assertEquals(testCategory.getId(), summaries.get(0).getId());
+        assertEquals(2, summaries.get(0).getServiceCount());
+        assertNull(summaries.get(0).getServices());
+    }
 }
@@ -0,0 +1,200 @@
+package com.singtel.network.repository;
+
+import com.singtel.network.dto.metric.SlaPeriod;
+import com.singtel.network.entity.*;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for ServiceSlaRepository.
+ */
+@DataJpaTest
+@AutoConfigureEmbeddedDatabase
+@Import(ServiceSlaRepository.class)
+@TestPropertySource(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.default_schema=singtel_app",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=classpath:test-schema.sql"
+})
+class ServiceSlaRepositoryTest {
+
+    private static final LocalDate MARCH = LocalDate.of(2026, 3, 1);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ServiceSlaRepository slaRepository;
+
+    private ServiceInstance testServiceInstance;
+
+    @BeforeEach
+    void setUp() {
+        Company testCompany = new Company();
+        testCompany.setName("Test Company");
+        testCompany.setRegistrationNumber("TEST123");
+        testCompany.setEmail("test@company.com");
+        testCompany.setStatus(Company.CompanyStatus.ACTIVE);
+        testCompany = entityManager.persistAndFlush(testCompany);
+
+        ServiceCategory category = new ServiceCategory();
+        category.setName("Business Internet");
+        category.setIsActive(true);
+        category = entityManager.persistAndFlush(category);
+
+        Service testService = new Service();
+        testService.setCategory(category);
+        testService.setName("Business Fiber 500M");
+        testService.setServiceType("FIBER");
+        testService.setBaseBandwidthMbps(500);
+        testService.setBasePriceMonthly(new BigDecimal("299.00"));
+        testService.setSetupFee(new BigDecimal("150.00"));
+        testService.setIsAvailable(true);
+        testService.setFeatures(Map.of("sla_uptime", "99.5%"));
+        testService = entityManager.persistAndFlush(testService);
+
+        testServiceInstance = new ServiceInstance();
+        testServiceInstance.setCompany(testCompany);
+        testServiceInstance.setService(testService);
+        testServiceInstance.setInstanceName("Test Instance");
+        testServiceInstance.setCurrentBandwidthMbps(500);
+        testServiceInstance.setInstallationAddress("123 Test Street");
+        testServiceInstance.setStatus(ServiceInstance.ServiceInstanceStatus.ACTIVE);
+        testServiceInstance = entityManager.persistAndFlush(testServiceInstance);
+
+        // Latency averages 4 ms over 10 samples and 8 ms over 30 samples, so 7 ms weighted
+        insertDailyRollup("LATENCY", "2026-03-02T00:00:00Z", 10, "4", "6");
+        insertDailyRollup("LATENCY", "2026-03-03T00:00:00Z", 30, "8", "12");
+        insertDailyRollup("UPTIME", "2026-03-02T00:00:00Z", 10, "100", "100");
+        insertDailyRollup("BANDWIDTH_UTILIZATION", "2026-03-02T00:00:00Z", 10, "50", "90");
+
+        // March minus 2 h maintenance is 2,671,200 s; a 26,712 s outage leaves 99.00 % availability
+        insertEvent("MAINTENANCE", "INFO", "2026-03-05T01:00:00Z", "2026-03-05T03:00:00Z");
+        insertEvent("INCIDENT", "HIGH", "2026-03-10T00:00:00Z", "2026-03-10T07:25:12Z");
+        insertEvent("INCIDENT", "LOW", "2026-03-12T00:00:00Z", "2026-03-12T01:00:00Z");
+    }
+
+    @Test
+    void calculate_AggregatesRollupsAndEvents() {
+        // Act
+        int rows = slaRepository.calculate(List.of(new SlaPeriod(testServiceInstance.getId(), MARCH)));
+
+        // Assert
+        assertEquals(1, rows);
+        Map<String, Object> sla = jdbcTemplate.queryForMap(
+                "SELECT * FROM singtel_app.service_sla_metrics WHERE service_instance_id = ?", testServiceInstance.getId());
+        assertEquals(LocalDate.of(2026, 3, 31), ((Date) sla.get("period_end")).toLocalDate());
+        assertDecimal("100.00", sla.get("uptime_percentage"));
+        assertDecimal("99.00", sla.get("availability_percentage"));
+        assertDecimal("7.000", sla.get("average_latency_ms"));
+        assertNull(sla.get("packet_loss_percentage"));
+        assertDecimal("50.00", sla.get("bandwidth_utilization_avg"));
+        assertDecimal("90.00", sla.get("bandwidth_utilization_peak"));
+        assertEquals(2, sla.get("incidents_count"));
+        assertDecimal("2.00", sla.get("maintenance_hours"));
+        assertDecimal("99.50", sla.get("sla_compliance_score"));
+    }
+
+    @Test
+    void calculate_RerunUpdatesRowInPlace() {
+        // Arrange
+        List<SlaPeriod> periods = List.of(new SlaPeriod(testServiceInstance.getId(), MARCH));
+        slaRepository.calculate(periods);
+        insertEvent("INCIDENT", "CRITICAL", "2026-03-20T00:00:00Z", "2026-03-20T01:00:00Z");
+
+        // Act
+        slaRepository.calculate(periods);
+
+        // Assert
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM singtel_app.service_sla_metrics", Integer.class));
+        assertEquals(3, jdbcTemplate.queryForObject(
+                "SELECT incidents_count FROM singtel_app.service_sla_metrics", Integer.class));
+    }
+
+    @Test
+    void findChangedPeriods_OnlyPeriodsWithNewerInputs() {
+        SlaPeriod march = new SlaPeriod(testServiceInstance.getId(), MARCH);
+        assertEquals(List.of(march), slaRepository.findChangedPeriods(Instant.EPOCH));
+
+        // Calculated in the same transaction, so the row is as new as its inputs
+        slaRepository.calculate(List.of(march));
+        assertTrue(slaRepository.findChangedPeriods(Instant.EPOCH).isEmpty());
+
+        // A daily bucket rewritten after the calculation makes the period stale again
+        jdbcTemplate.update("UPDATE singtel_app.service_metric_rollup_1d SET updated_at = CURRENT_TIMESTAMP + INTERVAL '1 minute' " +
+                "WHERE metric_type = 'LATENCY' AND bucket_start = ?", Timestamp.from(Instant.parse("2026-03-03T00:00:00Z")));
+        assertEquals(List.of(march), slaRepository.findChangedPeriods(Instant.EPOCH));
+    }
+
+    @Test
+    void findChangedPeriods_IgnoresInputsBeforeSince() {
+        assertTrue(slaRepository.findChangedPeriods(Instant.now().plusSeconds(3600)).isEmpty());
+    }
+
+    @Test
+    void findChangedPeriods_OpenIncidentAlwaysChanged() {
+        // Arrange
+        insertEvent("INCIDENT", "CRITICAL", "2026-03-25T00:00:00Z", null);
+        slaRepository.calculate(List.of(new SlaPeriod(testServiceInstance.getId(), MARCH)));
+        // Later runs happen in later transactions
+        jdbcTemplate.update("UPDATE singtel_app.service_sla_metrics SET calculated_at = CURRENT_TIMESTAMP - INTERVAL '1 minute'");
+
+        // Act
+        List<SlaPeriod> changed = slaRepository.findChangedPeriods(Instant.now().plusSeconds(3600));
+
+        // Assert
+        assertTrue(changed.contains(new SlaPeriod(testServiceInstance.getId(), MARCH)));
+    }
+
+    @Test
+    void saveWatermark_RoundTrips() {
+        Instant changedUntil = Instant.parse("2026-03-10T12:00:00Z");
+
+        slaRepository.saveWatermark(changedUntil);
+        slaRepository.saveWatermark(changedUntil.plusSeconds(300));
+
+        assertEquals(changedUntil.plusSeconds(300), slaRepository.findWatermark().orElseThrow());
+    }
+
+    private void insertDailyRollup(String metricType, String bucketStart, int count, String avg, String max) {
+        jdbcTemplate.update("INSERT INTO singtel_app.service_metric_rollup_1d (service_instance_id, metric_type, " +
+                "bucket_start, sample_count, min_value, max_value, avg_value, p95_value) VALUES (?, ?, ?, ?, 0, ?, ?, ?)",
+                testServiceInstance.getId(), metricType, Timestamp.from(Instant.parse(bucketStart)), count,
+                new BigDecimal(max), new BigDecimal(avg), new BigDecimal(max));
+    }
+
+    private void insertEvent(String eventType, String severity, String startedAt, String resolvedAt) {
+        jdbcTemplate.update("INSERT INTO singtel_app.service_status_events (service_instance_id, event_type, severity, " +
+                "title, started_at, resolved_at) VALUES (?, ?, ?, ?, ?, ?)",
+                testServiceInstance.getId(), eventType, severity, eventType + " " + startedAt,
+                Timestamp.from(Instant.parse(startedAt)),
+                resolvedAt == null ? null : Timestamp.from(Instant.parse(resolvedAt)));
+    }
+
+    private static void assertDecimal(String expected, Object actual) {
+        assertEquals(0, new BigDecimal(expected).compareTo((BigDecimal) actual), () -> expected + " != " + actual);
+    }
+}
@@ -0,0 +1,30 @@
+package com.singtel.network.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Hibernate statement inspector that records the SQL sent to the database.
+ * Register with hibernate.session_factory.statement_inspector to assert on generated SQL.
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    public static List<String> statements() {
+        return new ArrayList<>(STATEMENTS);
+    }
+}
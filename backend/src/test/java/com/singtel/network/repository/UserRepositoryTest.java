@@ -2,6 +2,7 @@ package com.singtel.network.repository;
 
 import com.singtel.network.entity.Company;
 import com.singtel.network.entity.User;
+import com.singtel.network.event.UserChangedEvent;
 import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +13,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -24,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 @DataJpaTest
 @AutoConfigureEmbeddedDatabase
+@RecordApplicationEvents
 @TestPropertySource(properties = {
     "spring.jpa.hibernate.ddl-auto=create-drop",
     "spring.jpa.properties.hibernate.default_schema=singtel_app",
@@ -41,6 +45,9 @@ class UserRepositoryTest {
     @Autowired
     private CompanyRepository companyRepository;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     private Company testCompany;
     private User testUser1;
     private User testUser2;
@@ -330,6 +337,9 @@ class UserRepositoryTest {
 
     @Test
     void updateUserStatus_Success() {
+        // Arrange
+        int tokenVersion = testUser1.getTokenVersion();
+
         // Act
         userRepository.updateUserStatus(testUser1.getId(), User.UserStatus.SUSPENDED);
         entityManager.flush();
@@ -339,6 +349,11 @@ class UserRepositoryTest {
         Optional<User> updatedUser = userRepository.findById(testUser1.getId());
         assertTrue(updatedUser.isPresent());
         assertEquals(User.UserStatus.SUSPENDED, updatedUser.get().getStatus());
+        assertEquals(tokenVersion + 1, updatedUser.get().getTokenVersion());
+        // The bulk update bypasses entity listeners, so the cache eviction event is published explicitly
+        assertEquals(1, applicationEvents.stream(UserChangedEvent.class)
+                .filter(event -> event.getUserId().equals(testUser1.getId()))
+                .count());
     }
 
     @Test
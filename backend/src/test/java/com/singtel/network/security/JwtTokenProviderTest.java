@@ -0,0 +1,127 @@
+package com.singtel.network.security;
+
+import com.singtel.network.entity.Company;
+import com.singtel.network.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JwtTokenProvider.
+ */
+class JwtTokenProviderTest {
+
+    private static final String SECRET =
+            "test-secret-key-for-hs512-signing-that-is-long-enough-to-satisfy-the-minimum-key-length-requirement";
+
+    private JwtTokenProvider tokenProvider;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 3600000, 86400000, 100);
+
+        Company company = new Company();
+        company.setId(UUID.randomUUID());
+        company.setName("Test Company");
+        company.setStatus(Company.CompanyStatus.ACTIVE);
+
+        testUser = new User();
+        testUser.setId(UUID.randomUUID());
+        testUser.setUsername("testuser");
+        testUser.setRole(User.UserRole.ADMIN);
+        testUser.setStatus(User.UserStatus.ACTIVE);
+        testUser.setTokenVersion(3);
+        testUser.setCompany(company);
+    }
+
+    @Test
+    void generateTokenFromUser_RoundTripsIdentityClaims() {
+        // Act
+        String token = tokenProvider.generateTokenFromUser(testUser);
+        Optional<User> principal = tokenProvider.getUserFromToken(token);
+
+        // Assert
+        assertTrue(tokenProvider.validateToken(token));
+        assertTrue(principal.isPresent());
+        assertEquals(testUser.getId(), principal.get().getId());
+        assertEquals("testuser", principal.get().getUsername());
+        assertEquals(User.UserRole.ADMIN, principal.get().getRole());
+        assertEquals(User.UserStatus.ACTIVE, principal.get().getStatus());
+        assertEquals(3, principal.get().getTokenVersion());
+        assertEquals(testUser.getCompany().getId(), principal.get().getCompany().getId());
+        assertEquals(Company.CompanyStatus.ACTIVE, principal.get().getCompany().getStatus());
+    }
+
+    @Test
+    void getUserFromToken_UsernameOnlyToken_ReturnsEmpty() {
+        // Act
+        String token = tokenProvider.generateTokenFromUsername("testuser");
+
+        // Assert
+        assertEquals("testuser", tokenProvider.getUsernameFromToken(token));
+        assertTrue(tokenProvider.getUserFromToken(token).isEmpty());
+    }
+
+    @Test
+    void parseAndValidate_SameToken_ReturnsCachedClaims() {
+        // Arrange
+        String token = tokenProvider.generateTokenFromUser(testUser);
+
+        // Act
+        Optional<JwtClaims> first = tokenProvider.parseAndValidate(token);
+        Optional<JwtClaims> second = tokenProvider.parseAndValidate(token);
+
+        // Assert
+        assertTrue(first.isPresent());
+        assertSame(first.get(), second.get());
+        assertFalse(first.get().isRefreshToken());
+    }
+
+    @Test
+    void parseAndValidate_RefreshToken_IsRefreshToken() {
+        // Act
+        Optional<JwtClaims> claims = tokenProvider.parseAndValidate(tokenProvider.generateRefreshToken("testuser"));
+
+        // Assert
+        assertTrue(claims.isPresent());
+        assertTrue(claims.get().isRefreshToken());
+        assertFalse(claims.get().hasIdentity());
+    }
+
+    @Test
+    void parseAndValidate_TamperedToken_ReturnsEmpty() {
+        // Arrange
+        String token = tokenProvider.generateTokenFromUser(testUser);
+        String tampered = token.substring(0, token.length() - 4) + "AAAA";
+
+        // Act & Assert
+        assertTrue(tokenProvider.parseAndValidate(tampered).isEmpty());
+        assertFalse(tokenProvider.validateToken(tampered));
+        assertTrue(tokenProvider.parseAndValidate(null).isEmpty());
+    }
+
+    @Test
+    void parseAndValidate_ExpiredToken_ReturnsEmpty() {
+        // Arrange
+        JwtTokenProvider expiringProvider = new JwtTokenProvider(SECRET, -1000, -1000, 100);
+        String token = expiringProvider.generateTokenFromUser(testUser);
+
+        // Act & Assert
+        assertTrue(expiringProvider.parseAndValidate(token).isEmpty());
+        assertEquals(0, expiringProvider.getRemainingValidityTime(token));
+    }
+
+    @Test
+    void revokeTokens_IncrementsTokenVersion() {
+        // Act
+        testUser.revokeTokens();
+
+        // Assert
+        assertEquals(4, testUser.getTokenVersion());
+    }
+}
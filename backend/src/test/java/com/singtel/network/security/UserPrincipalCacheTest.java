@@ -0,0 +1,154 @@
+package com.singtel.network.security;
+
+import com.singtel.network.config.AppCacheProperties;
+import com.singtel.network.entity.Company;
+import com.singtel.network.entity.User;
+import com.singtel.network.event.CompanyChangedEvent;
+import com.singtel.network.event.UserChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for UserPrincipalCache.
+ */
+class UserPrincipalCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserPrincipalCache principalCache;
+    private User testUser;
+    private Company testCompany;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new UserPrincipalCache(new AppCacheProperties(), meterRegistry);
+
+        testCompany = new Company();
+        testCompany.setId(UUID.randomUUID());
+
+        testUser = new User();
+        testUser.setId(UUID.randomUUID());
+        testUser.setUsername("testuser");
+        testUser.setEmail("test@example.com");
+        testUser.setCompany(testCompany);
+    }
+
+    @Test
+    void getByLogin_AfterPut_ReturnsCachedUser() {
+        // Act
+        principalCache.putByLogin("testuser", testUser, principalCache.generation());
+        principalCache.putById(testUser, principalCache.generation());
+
+        // Assert
+        assertEquals(testUser.getId(), principalCache.getByLogin("testuser").getId());
+        assertEquals(testCompany.getId(), principalCache.getById(testUser.getId()).getCompany().getId());
+        assertNull(principalCache.getByLogin("test@example.com"));
+    }
+
+    @Test
+    void getByLogin_ReturnsPrivateCopyWithoutPasswordHash() {
+        // Arrange
+        testUser.setPasswordHash("hash");
+        testUser.setStatus(User.UserStatus.ACTIVE);
+        testUser.setTokenVersion(3);
+        principalCache.putByLogin("testuser", testUser, principalCache.generation());
+
+        // Act: a request changes its principal, and the loaded entity changes after the put
+        User first = principalCache.getByLogin("testuser");
+        first.setStatus(User.UserStatus.INACTIVE);
+        testUser.setTokenVersion(4);
+
+        // Assert
+        User second = principalCache.getByLogin("testuser");
+        assertNotSame(first, second);
+        assertNotSame(testUser, second);
+        assertEquals(User.UserStatus.ACTIVE, second.getStatus());
+        assertEquals(3, second.getTokenVersion());
+        assertNull(second.getPassword());
+    }
+
+    @Test
+    void putByLogin_LoadThatRacedWithEvictionIsNotCached() {
+        // Arrange: the user is loaded, then changed and evicted before the load is cached
+        long generation = principalCache.generation();
+        principalCache.onUserChanged(new UserChangedEvent(testUser.getId()));
+
+        // Act
+        principalCache.putByLogin("testuser", testUser, generation);
+        principalCache.putById(testUser, generation);
+
+        // Assert
+        assertNull(principalCache.getByLogin("testuser"));
+        assertNull(principalCache.getById(testUser.getId()));
+    }
+
+    @Test
+    void putByLogin_LoadThatRacedWithCompanyEvictionIsNotCached() {
+        // Arrange
+        long generation = principalCache.generation();
+        principalCache.onCompanyChanged(new CompanyChangedEvent(testCompany.getId()));
+
+        // Act
+        principalCache.putByLogin("testuser", testUser, generation);
+
+        // Assert
+        assertNull(principalCache.getByLogin("testuser"));
+    }
+
+    @Test
+    void onUserChanged_EvictsAllEntriesOfUser() {
+        // Arrange
+        principalCache.putByLogin("testuser", testUser, principalCache.generation());
+        principalCache.putByLogin("test@example.com", testUser, principalCache.generation());
+        principalCache.putById(testUser, principalCache.generation());
+
+        // Act
+        principalCache.onUserChanged(new UserChangedEvent(testUser.getId()));
+
+        // Assert
+        assertNull(principalCache.getByLogin("testuser"));
+        assertNull(principalCache.getByLogin("test@example.com"));
+        assertNull(principalCache.getById(testUser.getId()));
+    }
+
+    @Test
+    void onCompanyChanged_EvictsOnlyUsersOfCompany() {
+        // Arrange
+        Company otherCompany = new Company();
+        otherCompany.setId(UUID.randomUUID());
+        User otherUser = new User();
+        otherUser.setId(UUID.randomUUID());
+        otherUser.setCompany(otherCompany);
+
+        principalCache.putByLogin("testuser", testUser, principalCache.generation());
+        principalCache.putByLogin("otheruser", otherUser, principalCache.generation());
+
+        // Act
+        principalCache.onCompanyChanged(new CompanyChangedEvent(testCompany.getId()));
+
+        // Assert
+        assertNull(principalCache.getByLogin("testuser"));
+        assertEquals(otherUser.getId(), principalCache.getByLogin("otheruser").getId());
+    }
+
+    @Test
+    void metrics_RecordHitsAndMisses() {
+        // Arrange
+        principalCache.putByLogin("testuser", testUser, principalCache.generation());
+
+        // Act
+        principalCache.getByLogin("testuser");
+        principalCache.getByLogin("missing");
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", UserPrincipalCache.CACHE_NAME).tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", UserPrincipalCache.CACHE_NAME).tag("result", "miss").functionCounter().count());
+    }
+}
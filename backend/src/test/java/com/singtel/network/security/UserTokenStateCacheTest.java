@@ -0,0 +1,81 @@
+package com.singtel.network.security;
+
+import com.singtel.network.config.AppCacheProperties;
+import com.singtel.network.dto.auth.UserTokenState;
+import com.singtel.network.entity.Company;
+import com.singtel.network.entity.User;
+import com.singtel.network.event.UserChangedEvent;
+import com.singtel.network.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserTokenStateCache.
+ */
+class UserTokenStateCacheTest {
+
+    private UserRepository userRepository;
+    private UserTokenStateCache tokenStateCache;
+    private User principal;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        tokenStateCache = new UserTokenStateCache(userRepository, new AppCacheProperties(), new SimpleMeterRegistry());
+
+        principal = new User();
+        principal.setId(UUID.randomUUID());
+        principal.setTokenVersion(3);
+    }
+
+    @Test
+    void isCurrent_LoadsStateOnceAndCachesIt() {
+        // Arrange
+        when(userRepository.findTokenStateById(principal.getId())).thenReturn(Optional.of(activeState(3)));
+
+        // Act & Assert
+        assertTrue(tokenStateCache.isCurrent(principal));
+        assertTrue(tokenStateCache.isCurrent(principal));
+        verify(userRepository, times(1)).findTokenStateById(principal.getId());
+    }
+
+    @Test
+    void onUserChanged_ReloadsRevokedState() {
+        // Arrange
+        when(userRepository.findTokenStateById(principal.getId()))
+                .thenReturn(Optional.of(activeState(3)))
+                .thenReturn(Optional.of(activeState(4)));
+        assertTrue(tokenStateCache.isCurrent(principal));
+
+        // Act
+        tokenStateCache.onUserChanged(new UserChangedEvent(principal.getId()));
+
+        // Assert
+        assertFalse(tokenStateCache.isCurrent(principal));
+    }
+
+    @Test
+    void isCurrent_DoesNotCacheStateLoadedConcurrentlyWithEviction() {
+        // Arrange: the user is revoked while their old state is being loaded
+        when(userRepository.findTokenStateById(principal.getId())).thenAnswer(invocation -> {
+            tokenStateCache.evict(principal.getId());
+            return Optional.of(activeState(3));
+        }).thenReturn(Optional.of(activeState(4)));
+
+        // Act & Assert: the racing request still sees its own load, the next one reloads
+        assertTrue(tokenStateCache.isCurrent(principal));
+        assertFalse(tokenStateCache.isCurrent(principal));
+        verify(userRepository, times(2)).findTokenStateById(principal.getId());
+    }
+
+    private static UserTokenState activeState(int tokenVersion) {
+        return new UserTokenState(tokenVersion, User.UserStatus.ACTIVE, Company.CompanyStatus.ACTIVE);
+    }
+}
@@ -0,0 +1,194 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.MetricsProperties;
+import com.singtel.network.dto.alert.AlertRule;
+import com.singtel.network.dto.alert.AlertTrigger;
+import com.singtel.network.dto.metric.MetricSample;
+import com.singtel.network.entity.ServiceMetric;
+import com.singtel.network.repository.ServiceAlertRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AlertEvaluator.
+ */
+@ExtendWith(MockitoExtension.class)
+class AlertEvaluatorTest {
+
+    @Mock
+    private ServiceAlertRepository serviceAlertRepository;
+
+    @Mock
+    private AlertNotificationWriter alertNotificationWriter;
+
+    @Spy
+    private MetricsProperties metricsProperties = new MetricsProperties();
+
+    @InjectMocks
+    private AlertEvaluator alertEvaluator;
+
+    private UUID serviceInstanceId;
+    private UUID alertId;
+
+    @BeforeEach
+    void setUp() {
+        serviceInstanceId = UUID.randomUUID();
+        alertId = UUID.randomUUID();
+    }
+
+    @Test
+    void evaluate_FiresOncePerCooldown() {
+        // Arrange
+        when(serviceAlertRepository.findEnabledAlerts()).thenReturn(List.of(latencyAbove("100", null)));
+        when(alertNotificationWriter.enqueue(any())).thenReturn(true);
+        alertEvaluator.refresh();
+
+        // Act
+        int fired = alertEvaluator.evaluate(List.of(
+                sample(ServiceMetric.MetricType.LATENCY, "150"),
+                sample(ServiceMetric.MetricType.LATENCY, "180")));
+
+        // Assert
+        assertEquals(1, fired);
+        ArgumentCaptor<AlertTrigger> trigger = ArgumentCaptor.forClass(AlertTrigger.class);
+        verify(alertNotificationWriter).enqueue(trigger.capture());
+        assertEquals(alertId, trigger.getValue().getAlertId());
+        assertEquals("[HIGH] High latency", trigger.getValue().getSubject());
+        assertTrue(trigger.getValue().getMessage().startsWith("LATENCY 150 > 100 on service instance"));
+    }
+
+    @Test
+    void evaluate_IgnoresSamplesBelowThresholdOrOnOtherMetrics() {
+        // Arrange
+        when(serviceAlertRepository.findEnabledAlerts()).thenReturn(List.of(latencyAbove("100", null)));
+        alertEvaluator.refresh();
+
+        // Act
+        int fired = alertEvaluator.evaluate(List.of(
+                sample(ServiceMetric.MetricType.LATENCY, "100"),
+                sample(ServiceMetric.MetricType.PACKET_LOSS, "500"),
+                new MetricSample(UUID.randomUUID(), ServiceMetric.MetricType.LATENCY, new BigDecimal("900"),
+                        "MS", LocalDateTime.now(), "probe-1")));
+
+        // Assert
+        assertEquals(0, fired);
+        verifyNoInteractions(alertNotificationWriter);
+    }
+
+    @Test
+    void evaluate_RespectsLastTriggeredAtFromDatabase() {
+        // Arrange
+        when(serviceAlertRepository.findEnabledAlerts())
+                .thenReturn(List.of(latencyAbove("100", Instant.now().minusSeconds(60))));
+        alertEvaluator.refresh();
+
+        // Act & Assert
+        assertEquals(0, alertEvaluator.evaluate(List.of(sample(ServiceMetric.MetricType.LATENCY, "150"))));
+    }
+
+    @Test
+    void refresh_KeepsTriggerTimesRecordedByThisNode() {
+        // Arrange: the reload still sees the alert as never triggered
+        when(serviceAlertRepository.findEnabledAlerts())
+                .thenReturn(List.of(latencyAbove("100", null)))
+                .thenReturn(List.of(latencyAbove("100", null)));
+        when(alertNotificationWriter.enqueue(any())).thenReturn(true);
+        alertEvaluator.refresh();
+        assertEquals(1, alertEvaluator.evaluate(List.of(sample(ServiceMetric.MetricType.LATENCY, "150"))));
+
+        // Act
+        alertEvaluator.refresh();
+
+        // Assert
+        assertEquals(0, alertEvaluator.evaluate(List.of(sample(ServiceMetric.MetricType.LATENCY, "150"))));
+    }
+
+    @Test
+    void evaluate_RejectedTriggerDoesNotStartCooldown() {
+        // Arrange
+        when(serviceAlertRepository.findEnabledAlerts()).thenReturn(List.of(latencyAbove("100", null)));
+        when(alertNotificationWriter.enqueue(any())).thenReturn(false).thenReturn(true);
+        alertEvaluator.refresh();
+
+        // Act
+        int rejected = alertEvaluator.evaluate(List.of(sample(ServiceMetric.MetricType.LATENCY, "150")));
+        int fired = alertEvaluator.evaluate(List.of(sample(ServiceMetric.MetricType.LATENCY, "160")));
+
+        // Assert
+        assertEquals(0, rejected);
+        assertEquals(1, fired);
+        verify(alertNotificationWriter, times(2)).enqueue(any());
+    }
+
+    @Test
+    void evaluate_TriggerReleasedAfterReloadCanFireAgain() {
+        // Arrange
+        when(serviceAlertRepository.findEnabledAlerts())
+                .thenReturn(List.of(latencyAbove("100", null)))
+                .thenReturn(List.of(latencyAbove("100", null)));
+        ArgumentCaptor<AlertTrigger> trigger = ArgumentCaptor.forClass(AlertTrigger.class);
+        when(alertNotificationWriter.enqueue(trigger.capture())).thenReturn(true);
+        alertEvaluator.refresh();
+        alertEvaluator.evaluate(List.of(sample(ServiceMetric.MetricType.LATENCY, "150")));
+        alertEvaluator.refresh();
+
+        // Act: the writer drops the trigger queued before the reload
+        trigger.getAllValues().get(0).release();
+
+        // Assert
+        assertEquals(1, alertEvaluator.evaluate(List.of(sample(ServiceMetric.MetricType.LATENCY, "150"))));
+    }
+
+    @Test
+    void refresh_FailureKeepsPreviousIndex() {
+        // Arrange
+        when(serviceAlertRepository.findEnabledAlerts())
+                .thenReturn(List.of(latencyAbove("100", null)))
+                .thenThrow(new QueryTimeoutException("timeout"));
+        alertEvaluator.refresh();
+
+        // Act
+        alertEvaluator.refresh();
+
+        // Assert
+        assertEquals(1, alertEvaluator.getAlertCount());
+    }
+
+    @Test
+    void thresholdOperator_ParsesAndComparesEverySymbol() {
+        assertTrue(AlertRule.ThresholdOperator.fromSymbol(">").test(2, 1));
+        assertTrue(AlertRule.ThresholdOperator.fromSymbol(">=").test(1, 1));
+        assertTrue(AlertRule.ThresholdOperator.fromSymbol("<").test(0, 1));
+        assertTrue(AlertRule.ThresholdOperator.fromSymbol("<=").test(1, 1));
+        assertTrue(AlertRule.ThresholdOperator.fromSymbol("=").test(1, 1));
+        assertFalse(AlertRule.ThresholdOperator.fromSymbol("=").test(1.5, 1));
+        assertThrows(IllegalArgumentException.class, () -> AlertRule.ThresholdOperator.fromSymbol("!="));
+    }
+
+    private AlertRule latencyAbove(String threshold, Instant lastTriggeredAt) {
+        return new AlertRule(alertId, serviceInstanceId, "High latency", ServiceMetric.MetricType.LATENCY,
+                new BigDecimal(threshold), AlertRule.ThresholdOperator.GT, "HIGH", Duration.ofMinutes(15), lastTriggeredAt);
+    }
+
+    private MetricSample sample(ServiceMetric.MetricType metricType, String value) {
+        return new MetricSample(serviceInstanceId, metricType, new BigDecimal(value), "MS", LocalDateTime.now(), "probe-1");
+    }
+}
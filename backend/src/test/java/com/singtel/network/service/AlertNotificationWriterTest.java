@@ -0,0 +1,123 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.MetricsProperties;
+import com.singtel.network.dto.alert.AlertRule;
+import com.singtel.network.dto.alert.AlertTrigger;
+import com.singtel.network.entity.ServiceMetric;
+import com.singtel.network.repository.ServiceAlertRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AlertNotificationWriter.
+ */
+@ExtendWith(MockitoExtension.class)
+class AlertNotificationWriterTest {
+
+    @Mock
+    private ServiceAlertRepository serviceAlertRepository;
+
+    @Spy
+    private MetricsProperties metricsProperties = new MetricsProperties();
+
+    @InjectMocks
+    private AlertNotificationWriter alertNotificationWriter;
+
+    @BeforeEach
+    void setUp() {
+        metricsProperties.getAlerts().setQueueCapacity(5);
+        metricsProperties.getAlerts().setBatchSize(2);
+        alertNotificationWriter.init();
+    }
+
+    @Test
+    void writePending_WritesQueuedTriggersInBatches() {
+        // Arrange
+        List<Integer> batchSizes = new ArrayList<>();
+        when(serviceAlertRepository.fire(anyList())).thenAnswer(invocation -> {
+            int size = invocation.<List<AlertTrigger>>getArgument(0).size();
+            batchSizes.add(size);
+            return size * 2;
+        });
+        for (int i = 0; i < 5; i++) {
+            alertNotificationWriter.enqueue(trigger());
+        }
+
+        // Act
+        alertNotificationWriter.writePending();
+
+        // Assert
+        assertEquals(List.of(2, 2, 1), batchSizes);
+        assertEquals(10, alertNotificationWriter.getQueuedNotifications());
+        assertEquals(0, alertNotificationWriter.getPendingTriggers());
+    }
+
+    @Test
+    void enqueue_FullQueueDropsWithoutBlocking() {
+        for (int i = 0; i < 5; i++) {
+            assertTrue(alertNotificationWriter.enqueue(trigger()));
+        }
+
+        assertFalse(alertNotificationWriter.enqueue(trigger()));
+        assertEquals(1, alertNotificationWriter.getDroppedTriggers());
+        verifyNoInteractions(serviceAlertRepository);
+    }
+
+    @Test
+    void writePending_FailedBatchIsCountedAsDropped() {
+        // Arrange
+        when(serviceAlertRepository.fire(anyList()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(1);
+        for (int i = 0; i < 3; i++) {
+            alertNotificationWriter.enqueue(trigger());
+        }
+
+        // Act
+        alertNotificationWriter.writePending();
+
+        // Assert
+        assertEquals(2, alertNotificationWriter.getDroppedTriggers());
+        assertEquals(1, alertNotificationWriter.getQueuedNotifications());
+    }
+
+    @Test
+    void writePending_FailedBatchReleasesItsTriggers() {
+        // Arrange
+        AlertRule rule = new AlertRule(UUID.randomUUID(), UUID.randomUUID(), "High latency",
+                ServiceMetric.MetricType.LATENCY, new BigDecimal("100"), AlertRule.ThresholdOperator.GT, "HIGH",
+                Duration.ofMinutes(15), null);
+        long now = System.currentTimeMillis();
+        long previous = rule.claimTrigger(now);
+        alertNotificationWriter.enqueue(new AlertTrigger(rule.getId(), rule.getServiceInstanceId(),
+                Instant.ofEpochMilli(now), "[HIGH] High latency", "LATENCY 150 > 100", rule, previous));
+        when(serviceAlertRepository.fire(anyList())).thenThrow(new QueryTimeoutException("timeout"));
+
+        // Act
+        alertNotificationWriter.writePending();
+
+        // Assert
+        assertNotEquals(AlertRule.COOLING_DOWN, rule.claimTrigger(now + 1));
+    }
+
+    private AlertTrigger trigger() {
+        return new AlertTrigger(UUID.randomUUID(), UUID.randomUUID(), Instant.now(), "[HIGH] High latency", "LATENCY 150 > 100");
+    }
+}
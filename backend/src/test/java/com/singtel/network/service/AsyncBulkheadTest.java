@@ -0,0 +1,64 @@
+package com.singtel.network.service;
+
+import com.singtel.network.exception.OrchestratorException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AsyncBulkhead.
+ */
+class AsyncBulkheadTest {
+
+    // Runs handed-over calls inline so the test controls completion order
+    private final AsyncBulkhead bulkhead = new AsyncBulkhead("orders", 1, 1, Runnable::run);
+
+    @Test
+    void execute_QueuedCallStartsWhenTheRunningOneCompletes() {
+        // Arrange
+        CompletableFuture<String> first = new CompletableFuture<>();
+        CompletableFuture<String> second = new CompletableFuture<>();
+
+        // Act
+        CompletableFuture<String> firstResult = bulkhead.execute(() -> first);
+        CompletableFuture<String> secondResult = bulkhead.execute(() -> second);
+
+        // Assert
+        assertEquals(1, bulkhead.getActive());
+        assertEquals(1, bulkhead.getQueued());
+
+        first.complete("a");
+        assertEquals("a", firstResult.join());
+        assertEquals(1, bulkhead.getActive());
+        assertEquals(0, bulkhead.getQueued());
+
+        second.complete("b");
+        assertEquals("b", secondResult.join());
+        assertEquals(0, bulkhead.getActive());
+    }
+
+    @Test
+    void execute_RejectsWhenRunningAndQueueAreFull() {
+        bulkhead.execute(CompletableFuture::new);
+        bulkhead.execute(CompletableFuture::new);
+
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> bulkhead.execute(() -> CompletableFuture.completedFuture("c")).join());
+
+        assertTrue(assertInstanceOf(OrchestratorException.class, exception.getCause()).isRejected());
+    }
+
+    @Test
+    void execute_FailedCallReleasesItsSlot() {
+        CompletableFuture<String> failed = bulkhead.execute(() -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertThrows(CompletionException.class, failed::join);
+        assertEquals(0, bulkhead.getActive());
+        assertEquals("d", bulkhead.execute(() -> CompletableFuture.completedFuture("d")).join());
+    }
+}
@@ -6,7 +6,11 @@ import com.singtel.network.dto.user.UserProfileResponse;
 import com.singtel.network.entity.Company;
 import com.singtel.network.entity.User;
 import com.singtel.network.repository.UserRepository;
+import com.singtel.network.security.JwtClaims;
 import com.singtel.network.security.JwtTokenProvider;
+import com.singtel.network.security.UserPrincipalCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -44,6 +48,9 @@ class AuthServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserPrincipalCache principalCache;
+
     @Mock
     private Authentication authentication;
 
@@ -95,7 +102,6 @@ class AuthServiceTest {
         when(tokenProvider.generateToken(authentication)).thenReturn("access-token");
         when(tokenProvider.generateRefreshToken(testUser.getUsername())).thenReturn("refresh-token");
         when(tokenProvider.getRemainingValidityTime("access-token")).thenReturn(3600000L);
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
 
         // Act
         JwtAuthenticationResponse response = authService.authenticateUser(loginRequest);
@@ -112,7 +118,8 @@ class AuthServiceTest {
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(tokenProvider).generateToken(authentication);
         verify(tokenProvider).generateRefreshToken(testUser.getUsername());
-        verify(userRepository).save(testUser);
+        verify(userRepository).updateLastLoginTime(eq(testUser.getId()), any(LocalDateTime.class));
+        verify(userRepository, never()).save(any(User.class));
     }
 
     @Test
@@ -136,11 +143,9 @@ class AuthServiceTest {
     void refreshToken_Success() {
         // Arrange
         String refreshToken = "valid-refresh-token";
-        when(tokenProvider.validateToken(refreshToken)).thenReturn(true);
-        when(tokenProvider.isRefreshToken(refreshToken)).thenReturn(true);
-        when(tokenProvider.getUsernameFromToken(refreshToken)).thenReturn(testUser.getUsername());
+        when(tokenProvider.parseAndValidate(refreshToken)).thenReturn(Optional.of(refreshClaims(testUser.getUsername())));
         when(userRepository.findByUsername(testUser.getUsername())).thenReturn(Optional.of(testUser));
-        when(tokenProvider.generateTokenFromUsername(testUser.getUsername())).thenReturn("new-access-token");
+        when(tokenProvider.generateTokenFromUser(testUser)).thenReturn("new-access-token");
         when(tokenProvider.generateRefreshToken(testUser.getUsername())).thenReturn("new-refresh-token");
         when(tokenProvider.getRemainingValidityTime("new-access-token")).thenReturn(3600000L);
 
@@ -156,9 +161,7 @@ class AuthServiceTest {
         assertNotNull(response.getUser());
         assertEquals(testUser.getUsername(), response.getUser().getUsername());
 
-        verify(tokenProvider).validateToken(refreshToken);
-        verify(tokenProvider).isRefreshToken(refreshToken);
-        verify(tokenProvider).getUsernameFromToken(refreshToken);
+        verify(tokenProvider).parseAndValidate(refreshToken);
         verify(userRepository).findByUsername(testUser.getUsername());
     }
 
@@ -166,7 +169,7 @@ class AuthServiceTest {
     void refreshToken_InvalidToken() {
         // Arrange
         String invalidToken = "invalid-token";
-        when(tokenProvider.validateToken(invalidToken)).thenReturn(false);
+        when(tokenProvider.parseAndValidate(invalidToken)).thenReturn(Optional.empty());
 
         // Act & Assert
         BadCredentialsException exception = assertThrows(BadCredentialsException.class, () -> {
@@ -174,7 +177,7 @@ class AuthServiceTest {
         });
 
         assertEquals("Invalid refresh token", exception.getMessage());
-        verify(tokenProvider).validateToken(invalidToken);
+        verify(tokenProvider).parseAndValidate(invalidToken);
         verifyNoMoreInteractions(tokenProvider);
         verifyNoInteractions(userRepository);
     }
@@ -183,8 +186,8 @@ class AuthServiceTest {
     void refreshToken_NotRefreshToken() {
         // Arrange
         String accessToken = "access-token";
-        when(tokenProvider.validateToken(accessToken)).thenReturn(true);
-        when(tokenProvider.isRefreshToken(accessToken)).thenReturn(false);
+        when(tokenProvider.parseAndValidate(accessToken))
+            .thenReturn(Optional.of(JwtClaims.from(Jwts.claims().setSubject(testUser.getUsername()))));
 
         // Act & Assert
         BadCredentialsException exception = assertThrows(BadCredentialsException.class, () -> {
@@ -192,8 +195,7 @@ class AuthServiceTest {
         });
 
         assertEquals("Invalid refresh token", exception.getMessage());
-        verify(tokenProvider).validateToken(accessToken);
-        verify(tokenProvider).isRefreshToken(accessToken);
+        verify(tokenProvider).parseAndValidate(accessToken);
         verifyNoInteractions(userRepository);
     }
 
@@ -201,9 +203,7 @@ class AuthServiceTest {
     void refreshToken_UserNotFound() {
         // Arrange
         String refreshToken = "valid-refresh-token";
-        when(tokenProvider.validateToken(refreshToken)).thenReturn(true);
-        when(tokenProvider.isRefreshToken(refreshToken)).thenReturn(true);
-        when(tokenProvider.getUsernameFromToken(refreshToken)).thenReturn("nonexistent");
+        when(tokenProvider.parseAndValidate(refreshToken)).thenReturn(Optional.of(refreshClaims("nonexistent")));
         when(userRepository.findByUsername("nonexistent")).thenReturn(Optional.empty());
 
         // Act & Assert
@@ -220,9 +220,7 @@ class AuthServiceTest {
         // Arrange
         testUser.setStatus(User.UserStatus.INACTIVE);
         String refreshToken = "valid-refresh-token";
-        when(tokenProvider.validateToken(refreshToken)).thenReturn(true);
-        when(tokenProvider.isRefreshToken(refreshToken)).thenReturn(true);
-        when(tokenProvider.getUsernameFromToken(refreshToken)).thenReturn(testUser.getUsername());
+        when(tokenProvider.parseAndValidate(refreshToken)).thenReturn(Optional.of(refreshClaims(testUser.getUsername())));
         when(userRepository.findByUsername(testUser.getUsername())).thenReturn(Optional.of(testUser));
 
         // Act & Assert
@@ -241,6 +239,7 @@ class AuthServiceTest {
         when(securityContext.getAuthentication()).thenReturn(authentication);
         when(authentication.isAuthenticated()).thenReturn(true);
         when(authentication.getPrincipal()).thenReturn(testUser);
+        when(userRepository.findByIdWithCompany(testUser.getId())).thenReturn(Optional.of(testUser));
 
         // Act
         UserProfileResponse response = authService.getCurrentUser();
@@ -282,6 +281,13 @@ class AuthServiceTest {
 
         // Assert
         verify(securityContext).getAuthentication();
+        verify(principalCache).evictUser(testUser.getId());
         // SecurityContextHolder.clearContext() is called internally
     }
+
+    private JwtClaims refreshClaims(String username) {
+        Claims claims = Jwts.claims().setSubject(username);
+        claims.put("type", "refresh");
+        return JwtClaims.from(claims);
+    }
 }
@@ -0,0 +1,120 @@
+package com.singtel.network.service;
+
+import com.singtel.network.entity.BandwidthChange;
+import com.singtel.network.entity.Service;
+import com.singtel.network.entity.ServiceInstance;
+import com.singtel.network.repository.BandwidthChangeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BandwidthChangeApplier.
+ */
+@ExtendWith(MockitoExtension.class)
+class BandwidthChangeApplierTest {
+
+    @Mock
+    private BandwidthChangeRepository bandwidthChangeRepository;
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
+    @InjectMocks
+    private BandwidthChangeApplier bandwidthChangeApplier;
+
+    private Service service;
+
+    @BeforeEach
+    void setUp() {
+        service = new Service();
+        service.setBaseBandwidthMbps(500);
+        service.setMinBandwidthMbps(100);
+        service.setMaxBandwidthMbps(1000);
+        service.setBasePriceMonthly(new BigDecimal("299.00"));
+        service.setPricePerMbps(new BigDecimal("0.50"));
+        service.setIsBandwidthAdjustable(true);
+    }
+
+    @Test
+    void applyDue_AppliesChangesThroughServiceInstance() {
+        // Arrange
+        ServiceInstance instance = instance(ServiceInstance.ServiceInstanceStatus.ACTIVE);
+        BandwidthChange change = change(instance, 750);
+        when(bandwidthChangeRepository.claimDueScheduledChangeIds(any(), eq(50))).thenReturn(List.of(change.getId()));
+        when(bandwidthChangeRepository.findWithServiceInstanceByIdIn(List.of(change.getId()))).thenReturn(List.of(change));
+
+        // Act
+        int claimed = bandwidthChangeApplier.applyDue(LocalDateTime.now(), 50);
+
+        // Assert
+        assertEquals(1, claimed);
+        assertEquals(BandwidthChange.BandwidthChangeStatus.APPLIED, change.getStatus());
+        assertNotNull(change.getAppliedAt());
+        assertEquals(750, instance.getCurrentBandwidthMbps());
+        assertEquals(0, new BigDecimal("424.00").compareTo(instance.getMonthlyCost()));
+        verify(outboxWriter).bandwidthChangesChanged(List.of(change));
+    }
+
+    @Test
+    void applyDue_FailsChangesTheInstanceCannotTake() {
+        // Arrange
+        ServiceInstance suspended = instance(ServiceInstance.ServiceInstanceStatus.SUSPENDED);
+        ServiceInstance active = instance(ServiceInstance.ServiceInstanceStatus.ACTIVE);
+        BandwidthChange toSuspended = change(suspended, 750);
+        BandwidthChange overMaximum = change(active, 2000);
+        List<UUID> ids = List.of(toSuspended.getId(), overMaximum.getId());
+        when(bandwidthChangeRepository.claimDueScheduledChangeIds(any(), anyInt())).thenReturn(ids);
+        when(bandwidthChangeRepository.findWithServiceInstanceByIdIn(ids)).thenReturn(List.of(toSuspended, overMaximum));
+
+        // Act
+        int claimed = bandwidthChangeApplier.applyDue(LocalDateTime.now(), 50);
+
+        // Assert
+        assertEquals(2, claimed);
+        assertEquals(BandwidthChange.BandwidthChangeStatus.FAILED, toSuspended.getStatus());
+        assertEquals(BandwidthChange.BandwidthChangeStatus.FAILED, overMaximum.getStatus());
+        assertEquals(500, suspended.getCurrentBandwidthMbps());
+        assertEquals(500, active.getCurrentBandwidthMbps());
+    }
+
+    @Test
+    void applyDue_NothingDue_DoesNotLoadChanges() {
+        // Arrange
+        when(bandwidthChangeRepository.claimDueScheduledChangeIds(any(), anyInt())).thenReturn(List.of());
+
+        // Act & Assert
+        assertEquals(0, bandwidthChangeApplier.applyDue(LocalDateTime.now(), 50));
+        verify(bandwidthChangeRepository, never()).findWithServiceInstanceByIdIn(any());
+    }
+
+    private ServiceInstance instance(ServiceInstance.ServiceInstanceStatus status) {
+        ServiceInstance instance = new ServiceInstance();
+        instance.setId(UUID.randomUUID());
+        instance.setService(service);
+        instance.setCurrentBandwidthMbps(500);
+        instance.setStatus(status);
+        return instance;
+    }
+
+    private BandwidthChange change(ServiceInstance instance, int newBandwidthMbps) {
+        BandwidthChange change = new BandwidthChange(instance, null, instance.getCurrentBandwidthMbps(), newBandwidthMbps);
+        change.setId(UUID.randomUUID());
+        change.schedule(LocalDateTime.now().minusMinutes(1));
+        return change;
+    }
+}
@@ -0,0 +1,96 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.BandwidthChangeProperties;
+import com.singtel.network.repository.BandwidthChangeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BandwidthChangeExecutor.
+ */
+@ExtendWith(MockitoExtension.class)
+class BandwidthChangeExecutorTest {
+
+    @Mock
+    private BandwidthChangeRepository bandwidthChangeRepository;
+
+    @Mock
+    private BandwidthChangeApplier bandwidthChangeApplier;
+
+    @Spy
+    private BandwidthChangeProperties bandwidthChangeProperties = new BandwidthChangeProperties();
+
+    @InjectMocks
+    private BandwidthChangeExecutor bandwidthChangeExecutor;
+
+    @Test
+    void refresh_CoalescesChangesDueInTheSameSecond() {
+        // Arrange: a burst on one minute boundary, plus an overdue change
+        LocalDateTime boundary = LocalDateTime.now().plusMinutes(1).truncatedTo(ChronoUnit.MINUTES);
+        when(bandwidthChangeRepository.findScheduledTimesUntil(any(), any())).thenReturn(List.of(
+                LocalDateTime.now().minusMinutes(5),
+                boundary,
+                boundary.plusNanos(250_000_000),
+                boundary.plusSeconds(1)));
+
+        // Act
+        bandwidthChangeExecutor.refresh();
+
+        // Assert: now, the boundary and the second after it
+        assertEquals(3, bandwidthChangeExecutor.getQueuedWakeups());
+    }
+
+    @Test
+    void refresh_DoesNotQueueTheSameSecondTwice() {
+        // Arrange
+        LocalDateTime dueAt = LocalDateTime.now().plusSeconds(90);
+        when(bandwidthChangeRepository.findScheduledTimesUntil(any(), any())).thenReturn(List.of(dueAt));
+
+        // Act
+        bandwidthChangeExecutor.refresh();
+        bandwidthChangeExecutor.refresh();
+
+        // Assert
+        assertEquals(1, bandwidthChangeExecutor.getQueuedWakeups());
+    }
+
+    @Test
+    void refresh_DatabaseFailure_IsLoggedAndSkipped() {
+        // Arrange
+        when(bandwidthChangeRepository.findScheduledTimesUntil(any(), any()))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> bandwidthChangeExecutor.refresh());
+        assertEquals(0, bandwidthChangeExecutor.getQueuedWakeups());
+    }
+
+    @Test
+    void applyDue_ClaimsBatchesUntilNothingIsLeft() {
+        // Arrange
+        bandwidthChangeProperties.setBatchSize(50);
+        when(bandwidthChangeApplier.applyDue(any(), eq(50))).thenReturn(50, 50, 12, 0);
+
+        // Act
+        int claimed = bandwidthChangeExecutor.applyDue();
+
+        // Assert
+        assertEquals(112, claimed);
+        assertEquals(112, bandwidthChangeExecutor.getClaimedChanges());
+        verify(bandwidthChangeApplier, times(4)).applyDue(any(), eq(50));
+    }
+}
@@ -0,0 +1,106 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.AppCacheProperties;
+import com.singtel.network.config.CacheConfig;
+import com.singtel.network.dto.service.ServiceSummaryResponse;
+import com.singtel.network.entity.Service;
+import com.singtel.network.event.CatalogChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CatalogCacheService.
+ */
+@ExtendWith(MockitoExtension.class)
+class CatalogCacheServiceTest {
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.CATALOG_CACHES.toArray(String[]::new));
+
+    @Mock
+    private ServiceCatalogService serviceCatalogService;
+
+    @Mock
+    private CatalogSearchIndex catalogSearchIndex;
+
+    @Spy
+    private AppCacheProperties cacheProperties = new AppCacheProperties();
+
+    @InjectMocks
+    private CatalogCacheService catalogCacheService;
+
+    private ServiceSummaryResponse serviceSummary;
+
+    @BeforeEach
+    void setUp() {
+        Service service = new Service();
+        service.setId(UUID.randomUUID());
+        service.setName("Test Service");
+        serviceSummary = new ServiceSummaryResponse(service);
+    }
+
+    @Test
+    void warmOnStartup_LoadsAllCatalogViews() {
+        // Arrange
+        when(serviceCatalogService.getAllAvailableServices()).thenReturn(List.of(serviceSummary));
+
+        // Act
+        catalogCacheService.warmOnStartup();
+
+        // Assert
+        verify(serviceCatalogService).getAllActiveCategories();
+        verify(serviceCatalogService).getServiceTypes();
+        verify(serviceCatalogService).getServiceById(serviceSummary.getId());
+        verify(catalogSearchIndex).rebuild();
+    }
+
+    @Test
+    void warmOnStartup_Disabled_DoesNothing() {
+        // Arrange
+        cacheProperties.setWarmCatalogOnStartup(false);
+
+        // Act
+        catalogCacheService.warmOnStartup();
+
+        // Assert
+        verifyNoInteractions(serviceCatalogService);
+    }
+
+    @Test
+    void warm_RepositoryFailure_DoesNotPropagate() {
+        // Arrange
+        when(serviceCatalogService.getAllActiveCategories()).thenThrow(new IllegalStateException("database down"));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> catalogCacheService.warm());
+    }
+
+    @Test
+    void onCatalogChanged_ClearsAllCatalogCaches() {
+        // Arrange
+        cacheManager.getCache(CacheConfig.CATALOG_SERVICES).put("key", List.of(serviceSummary));
+        cacheManager.getCache(CacheConfig.CATALOG_SERVICE_DETAILS).put(serviceSummary.getId(), serviceSummary);
+
+        // Act
+        catalogCacheService.onCatalogChanged(new CatalogChangedEvent(Service.class, serviceSummary.getId()));
+
+        // Assert
+        for (String name : CacheConfig.CATALOG_CACHES) {
+            assertNull(cacheManager.getCache(name).get("key"));
+        }
+        assertNull(cacheManager.getCache(CacheConfig.CATALOG_SERVICE_DETAILS).get(serviceSummary.getId()));
+    }
+}
@@ -0,0 +1,146 @@
+package com.singtel.network.service;
+
+import com.singtel.network.dto.service.ServiceSummaryResponse;
+import com.singtel.network.entity.Service;
+import com.singtel.network.entity.ServiceCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CatalogSnapshot.
+ */
+class CatalogSnapshotTest {
+
+    private ServiceCategory internet;
+    private ServiceCategory vpn;
+    private CatalogSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        internet = category("Business Internet");
+        vpn = category("VPN");
+
+        snapshot = CatalogSnapshot.build(List.of(
+                service("Fiber 100M", internet, "FIBER", "99.00", 100, true),
+                service("Fiber 500M", internet, "FIBER", "299.00", 500, true),
+                service("Fiber 1G", internet, "FIBER", "499.00", 1000, false),
+                service("Broadband 50M", internet, "BROADBAND", "49.00", 50, false),
+                service("MPLS 200M", vpn, "MPLS", "599.00", 200, true)));
+    }
+
+    @Test
+    void search_NoCriteria_ReturnsAllInNameOrder() {
+        // Act
+        Page<ServiceSummaryResponse> result = search(null, null, null, null, null, null, null, PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(5, result.getTotalElements());
+        assertEquals(List.of("Broadband 50M", "Fiber 100M", "Fiber 1G", "Fiber 500M", "MPLS 200M"), names(result));
+    }
+
+    @Test
+    void search_CombinedCriteria_IntersectsIndexes() {
+        // Act
+        Page<ServiceSummaryResponse> result = search(internet.getId(), "FIBER",
+                new BigDecimal("99.00"), new BigDecimal("400.00"), null, null, true, PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(List.of("Fiber 100M", "Fiber 500M"), names(result));
+    }
+
+    @Test
+    void search_BandwidthRangeAndNotAdjustable_ReturnsMatches() {
+        // Act
+        Page<ServiceSummaryResponse> result = search(null, null, null, null, 50, 1000, false, PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(List.of("Broadband 50M", "Fiber 1G"), names(result));
+    }
+
+    @Test
+    void search_UnknownCategory_ReturnsEmptyPage() {
+        // Act
+        Page<ServiceSummaryResponse> result = search(UUID.randomUUID(), null, null, null, null, null, null, PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(0, result.getTotalElements());
+        assertTrue(result.getContent().isEmpty());
+    }
+
+    @Test
+    void search_SortedByPriceDescending_SlicesRequestedPage() {
+        // Act
+        Page<ServiceSummaryResponse> result = search(null, null, null, null, null, null, null,
+                PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "basePriceMonthly")));
+
+        // Assert
+        assertEquals(5, result.getTotalElements());
+        assertEquals(3, result.getTotalPages());
+        assertEquals(List.of("Fiber 500M", "Fiber 100M"), names(result));
+    }
+
+    @Test
+    void search_SortedByPrice_PlacesUnpricedServicesLikePostgres() {
+        // Arrange
+        Service quoted = service("Dark Fiber", internet, "FIBER", "0", 10000, false);
+        quoted.setBasePriceMonthly(null);
+        snapshot = CatalogSnapshot.build(List.of(
+                service("Fiber 100M", internet, "FIBER", "99.00", 100, true),
+                quoted,
+                service("Broadband 50M", internet, "BROADBAND", "49.00", 50, false)));
+
+        // Act
+        Page<ServiceSummaryResponse> ascending = search(null, null, null, null, null, null, null,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "basePriceMonthly")));
+        Page<ServiceSummaryResponse> descending = search(null, null, null, null, null, null, null,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "basePriceMonthly")));
+        Page<ServiceSummaryResponse> lastPage = search(null, null, null, null, null, null, null,
+                PageRequest.of(1, 2, Sort.by(Sort.Direction.ASC, "basePriceMonthly")));
+
+        // Assert: nulls last ascending and first descending, and every counted match is reachable
+        assertEquals(List.of("Broadband 50M", "Fiber 100M", "Dark Fiber"), names(ascending));
+        assertEquals(List.of("Dark Fiber", "Fiber 100M", "Broadband 50M"), names(descending));
+        assertEquals(3, lastPage.getTotalElements());
+        assertEquals(List.of("Dark Fiber"), names(lastPage));
+    }
+
+    private Page<ServiceSummaryResponse> search(UUID categoryId, String serviceType, BigDecimal minPrice,
+                                                BigDecimal maxPrice, Integer minBandwidth, Integer maxBandwidth,
+                                                Boolean adjustable, PageRequest pageable) {
+        return snapshot.search(categoryId, serviceType, minPrice, maxPrice, minBandwidth, maxBandwidth, adjustable, pageable);
+    }
+
+    private List<String> names(Page<ServiceSummaryResponse> page) {
+        return page.getContent().stream().map(ServiceSummaryResponse::getName).toList();
+    }
+
+    private ServiceCategory category(String name) {
+        ServiceCategory category = new ServiceCategory();
+        category.setId(UUID.randomUUID());
+        category.setName(name);
+        return category;
+    }
+
+    private Service service(String name, ServiceCategory category, String type, String price,
+                            int bandwidth, boolean adjustable) {
+        Service service = new Service();
+        service.setId(UUID.randomUUID());
+        service.setName(name);
+        service.setCategory(category);
+        service.setServiceType(type);
+        service.setBasePriceMonthly(new BigDecimal(price));
+        service.setBaseBandwidthMbps(bandwidth);
+        service.setIsBandwidthAdjustable(adjustable);
+        service.setIsAvailable(true);
+        return service;
+    }
+}
@@ -0,0 +1,104 @@
+package com.singtel.network.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CircuitBreaker.
+ */
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        // Opens at 50% failures over the last 10 calls once 4 calls are recorded
+        circuitBreaker = new CircuitBreaker("orders", 10, 4, 50, Duration.ofSeconds(30), 2, clock::get);
+    }
+
+    @Test
+    void onFailure_OpensAtFailureRateOnceMinimumCallsAreRecorded() {
+        record(true, false, false);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+        record(false);
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    void onFailure_OldOutcomesLeaveTheWindow() {
+        record(true, true, true, true, true, true, true, true, true, true);
+        record(false, false, false, false);
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+        record(false);
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void tryAcquirePermission_AllowsLimitedTrialCallsAfterOpenDuration() {
+        openCircuit();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void onSuccess_ClosesAfterAllTrialCallsSucceed() {
+        openCircuit();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.tryAcquirePermission();
+
+        circuitBreaker.onSuccess();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        circuitBreaker.onSuccess();
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    void onFailure_TrialFailureReopens() {
+        openCircuit();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        circuitBreaker.tryAcquirePermission();
+
+        circuitBreaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        clock.addAndGet(Duration.ofSeconds(29).toNanos());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+    }
+
+    private void openCircuit() {
+        record(false, false, false, false);
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    /**
+     * Record outcomes, true for success
+     */
+    private void record(boolean... successes) {
+        for (boolean success : successes) {
+            if (success) {
+                circuitBreaker.onSuccess();
+            } else {
+                circuitBreaker.onFailure();
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.singtel.network.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DestinationRateLimiter.
+ */
+class DestinationRateLimiterTest {
+
+    @Test
+    void tryAcquire_AllowsBurstThenRefillsAtRate() {
+        // 60 per minute is one token per second
+        DestinationRateLimiter limiter = new DestinationRateLimiter(60, 2);
+        long start = 0;
+
+        assertEquals(0, limiter.tryAcquire("hooks.company.com", start));
+        assertEquals(0, limiter.tryAcquire("hooks.company.com", start));
+        long wait = limiter.tryAcquire("hooks.company.com", start);
+        assertEquals(TimeUnit.SECONDS.toNanos(1), wait, TimeUnit.MILLISECONDS.toNanos(1));
+
+        assertEquals(0, limiter.tryAcquire("hooks.company.com", start + TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    @Test
+    void tryAcquire_DestinationsAreIndependent() {
+        DestinationRateLimiter limiter = new DestinationRateLimiter(60, 1);
+
+        assertEquals(0, limiter.tryAcquire("a.example.com", 0));
+        assertTrue(limiter.tryAcquire("a.example.com", 0) > 0);
+        assertEquals(0, limiter.tryAcquire("b.example.com", 0));
+    }
+}
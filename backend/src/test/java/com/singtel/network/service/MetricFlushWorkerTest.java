@@ -0,0 +1,114 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.MetricsProperties;
+import com.singtel.network.dto.metric.MetricSample;
+import com.singtel.network.entity.ServiceMetric;
+import com.singtel.network.repository.ServiceMetricWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for MetricFlushWorker.
+ */
+@ExtendWith(MockitoExtension.class)
+class MetricFlushWorkerTest {
+
+    @Spy
+    private MetricSampleBuffer metricSampleBuffer = new MetricSampleBuffer(100);
+
+    @Mock
+    private ServiceMetricWriter serviceMetricWriter;
+
+    @Mock
+    private AlertEvaluator alertEvaluator;
+
+    @Mock
+    private MetricRollupService metricRollupService;
+
+    @Spy
+    private MetricsProperties metricsProperties = new MetricsProperties();
+
+    @InjectMocks
+    private MetricFlushWorker metricFlushWorker;
+
+    @BeforeEach
+    void setUp() {
+        metricsProperties.getIngest().setBatchSize(10);
+    }
+
+    @Test
+    void flush_WritesPendingSamplesInBatches() {
+        // Arrange
+        metricSampleBuffer.offerAll(samples(25));
+        List<Integer> batchSizes = new ArrayList<>();
+        when(serviceMetricWriter.insertAll(anyList(), eq(10))).thenAnswer(invocation -> {
+            int size = invocation.<List<MetricSample>>getArgument(0).size();
+            batchSizes.add(size);
+            return size;
+        });
+
+        // Act
+        metricFlushWorker.flush();
+
+        // Assert
+        assertEquals(List.of(10, 10, 5), batchSizes);
+        assertEquals(25, metricFlushWorker.getWrittenSamples());
+        assertEquals(0, metricSampleBuffer.size());
+        verify(alertEvaluator, times(3)).evaluate(anyList());
+    }
+
+    @Test
+    void flush_FailedBatchIsDroppedAndLaterBatchesStillWritten() {
+        // Arrange
+        metricSampleBuffer.offerAll(samples(15));
+        when(serviceMetricWriter.insertAll(anyList(), anyInt()))
+                .thenThrow(new DataIntegrityViolationException("fk violation"))
+                .thenReturn(5);
+
+        // Act
+        metricFlushWorker.flush();
+
+        // Assert
+        assertEquals(10, metricFlushWorker.getDroppedSamples());
+        assertEquals(5, metricFlushWorker.getWrittenSamples());
+        assertEquals(0, metricSampleBuffer.size());
+        // Only the stored batch is checked for alerts
+        verify(alertEvaluator, times(1)).evaluate(anyList());
+    }
+
+    @Test
+    void flush_EmptyBufferDoesNothing() {
+        // Act
+        metricFlushWorker.flush();
+
+        // Assert
+        verifyNoInteractions(serviceMetricWriter, alertEvaluator);
+    }
+
+    private List<MetricSample> samples(int count) {
+        UUID serviceInstanceId = UUID.randomUUID();
+        List<MetricSample> samples = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            samples.add(new MetricSample(serviceInstanceId, ServiceMetric.MetricType.PACKET_LOSS,
+                    BigDecimal.ZERO, "PERCENT", LocalDateTime.now(), "probe-1"));
+        }
+        return samples;
+    }
+}
@@ -0,0 +1,132 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.MetricsProperties;
+import com.singtel.network.dto.metric.MetricBatchRequest;
+import com.singtel.network.dto.metric.MetricIngestResponse;
+import com.singtel.network.dto.metric.MetricSampleRequest;
+import com.singtel.network.entity.ServiceMetric;
+import com.singtel.network.repository.ServiceInstanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for MetricIngestionService.
+ */
+@ExtendWith(MockitoExtension.class)
+class MetricIngestionServiceTest {
+
+    @Spy
+    private MetricSampleBuffer metricSampleBuffer = new MetricSampleBuffer(10);
+
+    @Mock
+    private ServiceInstanceRepository serviceInstanceRepository;
+
+    @Spy
+    private MetricsProperties metricsProperties = new MetricsProperties();
+
+    @InjectMocks
+    private MetricIngestionService metricIngestionService;
+
+    private UUID serviceInstanceId;
+
+    @BeforeEach
+    void setUp() {
+        serviceInstanceId = UUID.randomUUID();
+    }
+
+    @Test
+    void ingest_BuffersSamplesForKnownInstances() {
+        // Arrange
+        when(serviceInstanceRepository.findExistingIds(anyCollection())).thenReturn(List.of(serviceInstanceId));
+
+        // Act
+        MetricIngestResponse response = metricIngestionService.ingest(batch(serviceInstanceId, 4));
+
+        // Assert
+        assertTrue(response.isAccepted());
+        assertEquals(4, response.getSampleCount());
+        assertEquals(4, response.getBufferedSamples());
+        assertEquals(10, response.getBufferCapacity());
+        assertEquals(4, metricSampleBuffer.size());
+        verify(serviceInstanceRepository).findExistingIds(anyCollection());
+    }
+
+    @Test
+    void ingest_UnknownInstanceRejectsBatch() {
+        // Arrange
+        UUID unknownId = UUID.randomUUID();
+        when(serviceInstanceRepository.findExistingIds(anyCollection())).thenReturn(List.of());
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> metricIngestionService.ingest(batch(unknownId, 2)));
+
+        assertEquals("Service instance not found: " + unknownId, exception.getMessage());
+        assertEquals(0, metricSampleBuffer.size());
+    }
+
+    @Test
+    void ingest_FullBufferRejectsWithoutQueryingDatabase() {
+        // Arrange
+        when(serviceInstanceRepository.findExistingIds(anyCollection())).thenReturn(List.of(serviceInstanceId));
+        metricIngestionService.ingest(batch(serviceInstanceId, 8));
+
+        // Act
+        MetricIngestResponse response = metricIngestionService.ingest(batch(serviceInstanceId, 3));
+
+        // Assert
+        assertFalse(response.isAccepted());
+        assertEquals(3, response.getSampleCount());
+        assertEquals(8, response.getBufferedSamples());
+        verify(serviceInstanceRepository, times(1)).findExistingIds(anyCollection());
+    }
+
+    @Test
+    void ingest_SampleOlderThanRetentionRejected() {
+        // Arrange
+        MetricBatchRequest request = batch(serviceInstanceId, 2);
+        request.getSamples().get(1).setMeasuredAt(LocalDateTime.now().minusDays(91));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> metricIngestionService.ingest(request));
+        verifyNoInteractions(serviceInstanceRepository);
+        assertEquals(0, metricSampleBuffer.size());
+    }
+
+    @Test
+    void ingest_SampleFromTheFutureRejected() {
+        // Arrange
+        MetricBatchRequest request = batch(serviceInstanceId, 1);
+        request.getSamples().get(0).setMeasuredAt(LocalDateTime.now().plusDays(2));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> metricIngestionService.ingest(request));
+        assertEquals(0, metricSampleBuffer.size());
+    }
+
+    private MetricBatchRequest batch(UUID instanceId, int count) {
+        List<MetricSampleRequest> samples = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            MetricSampleRequest sample = new MetricSampleRequest(instanceId, ServiceMetric.MetricType.LATENCY,
+                    new BigDecimal("4.2"), LocalDateTime.now().minusSeconds(i));
+            sample.setMetricUnit("MS");
+            samples.add(sample);
+        }
+        return new MetricBatchRequest(samples);
+    }
+}
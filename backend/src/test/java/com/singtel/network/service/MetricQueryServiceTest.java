@@ -0,0 +1,179 @@
+package com.singtel.network.service;
+
+import com.singtel.network.dto.metric.MetricReading;
+import com.singtel.network.dto.metric.MetricResolution;
+import com.singtel.network.dto.metric.MetricRollupSeriesResponse;
+import com.singtel.network.dto.metric.MetricSeriesPoint;
+import com.singtel.network.entity.Company;
+import com.singtel.network.entity.ServiceInstance;
+import com.singtel.network.entity.ServiceMetric;
+import com.singtel.network.entity.User;
+import com.singtel.network.repository.ServiceInstanceRepository;
+import com.singtel.network.repository.ServiceMetricRepository;
+import com.singtel.network.repository.ServiceMetricRollupRepository;
+import com.singtel.network.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for MetricQueryService.
+ */
+@ExtendWith(MockitoExtension.class)
+class MetricQueryServiceTest {
+
+    @Mock
+    private ServiceMetricRollupRepository rollupRepository;
+
+    @Mock
+    private ServiceMetricRepository serviceMetricRepository;
+
+    @Mock
+    private ServiceInstanceRepository serviceInstanceRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private MetricQueryService metricQueryService;
+
+    private Company testCompany;
+    private ServiceInstance testServiceInstance;
+    private LocalDateTime from;
+
+    @BeforeEach
+    void setUp() {
+        testCompany = new Company();
+        testCompany.setId(UUID.randomUUID());
+
+        User testUser = new User();
+        testUser.setId(UUID.randomUUID());
+        testUser.setCompany(testCompany);
+        // Install a fresh context rather than mutating whatever an earlier test left on this thread
+        SecurityContextHolder.setContext(new SecurityContextImpl(
+                new UsernamePasswordAuthenticationToken(testUser, null, List.of())));
+
+        testServiceInstance = new ServiceInstance();
+        testServiceInstance.setId(UUID.randomUUID());
+        testServiceInstance.setCompany(testCompany);
+
+        from = LocalDateTime.of(2026, 3, 1, 0, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getRollupSeries_PicksFinestResolutionWithinBudget() {
+        // Arrange
+        when(serviceInstanceRepository.findById(testServiceInstance.getId())).thenReturn(Optional.of(testServiceInstance));
+        when(rollupRepository.findPoints(any(), any(), any(), any(), any())).thenReturn(List.of());
+        when(rollupRepository.findWatermark(MetricResolution.HOUR)).thenReturn(Optional.of(Instant.now()));
+
+        // Act: 30 days is 43200 minutes but 720 hours
+        MetricRollupSeriesResponse series = metricQueryService.getRollupSeries(testServiceInstance.getId(),
+                ServiceMetric.MetricType.LATENCY, from, from.plusDays(30), 1000);
+
+        // Assert
+        assertEquals(MetricResolution.HOUR, series.getResolution());
+        assertNotNull(series.getRolledUpUntil());
+        verify(rollupRepository).findPoints(eq(MetricResolution.HOUR), eq(testServiceInstance.getId()),
+                eq(ServiceMetric.MetricType.LATENCY), any(), any());
+    }
+
+    @Test
+    void getRollupSeries_OtherCompanyInstanceRejected() {
+        // Arrange
+        Company otherCompany = new Company();
+        otherCompany.setId(UUID.randomUUID());
+        testServiceInstance.setCompany(otherCompany);
+        when(serviceInstanceRepository.findById(testServiceInstance.getId())).thenReturn(Optional.of(testServiceInstance));
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> metricQueryService.getRollupSeries(testServiceInstance.getId(),
+                        ServiceMetric.MetricType.LATENCY, from, from.plusHours(1), 100));
+
+        assertEquals("Service instance does not belong to your company", exception.getMessage());
+        verifyNoInteractions(rollupRepository);
+    }
+
+    @Test
+    void getRollupSeries_InvalidRangeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> metricQueryService.getRollupSeries(
+                testServiceInstance.getId(), ServiceMetric.MetricType.LATENCY, from, from, 100));
+        assertThrows(IllegalArgumentException.class, () -> metricQueryService.getRollupSeries(
+                testServiceInstance.getId(), ServiceMetric.MetricType.LATENCY, from, from.plusHours(1), 0));
+        verifyNoInteractions(serviceInstanceRepository, rollupRepository);
+    }
+
+    @Test
+    void streamSeries_DownsamplesAndClosesStream() {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<MetricReading> readings = Stream.of(
+                new MetricReading(from, new BigDecimal("1")),
+                new MetricReading(from.plusSeconds(30), new BigDecimal("3")),
+                new MetricReading(from.plusMinutes(45), new BigDecimal("8"))).onClose(() -> closed.set(true));
+        when(serviceMetricRepository.streamReadings(testServiceInstance.getId(), ServiceMetric.MetricType.LATENCY,
+                from, from.plusHours(1))).thenReturn(readings);
+        List<MetricSeriesPoint> points = new ArrayList<>();
+
+        // Act
+        int count = metricQueryService.streamSeries(testServiceInstance.getId(), ServiceMetric.MetricType.LATENCY,
+                from, from.plusHours(1), 2, points::add);
+
+        // Assert
+        assertEquals(2, count);
+        assertEquals(2.0, points.get(0).getAvg());
+        assertEquals(8.0, points.get(1).getAvg());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void checkSeriesAccess_OtherCompanyInstanceRejected() {
+        // Arrange
+        Company otherCompany = new Company();
+        otherCompany.setId(UUID.randomUUID());
+        testServiceInstance.setCompany(otherCompany);
+        when(serviceInstanceRepository.findById(testServiceInstance.getId())).thenReturn(Optional.of(testServiceInstance));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> metricQueryService.checkSeriesAccess(
+                testServiceInstance.getId(), from, from.plusHours(1), 100));
+        verifyNoInteractions(serviceMetricRepository);
+    }
+
+    @Test
+    void forRange_FallsBackToDailyWhenNothingFits() {
+        assertEquals(MetricResolution.MINUTE, MetricResolution.forRange(Duration.ofHours(2), 120));
+        assertEquals(MetricResolution.HOUR, MetricResolution.forRange(Duration.ofHours(2).plusSeconds(1), 120));
+        assertEquals(MetricResolution.DAY, MetricResolution.forRange(Duration.ofDays(90), 500));
+        assertEquals(MetricResolution.DAY, MetricResolution.forRange(Duration.ofDays(900), 10));
+    }
+}
@@ -0,0 +1,177 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.MetricsProperties;
+import com.singtel.network.dto.metric.MetricResolution;
+import com.singtel.network.dto.metric.MetricSample;
+import com.singtel.network.entity.ServiceMetric;
+import com.singtel.network.repository.ServiceMetricRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for MetricRollupService.
+ */
+@ExtendWith(MockitoExtension.class)
+class MetricRollupServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T12:34:56Z");
+
+    @Mock
+    private ServiceMetricRollupRepository rollupRepository;
+
+    @Spy
+    private MetricsProperties metricsProperties = new MetricsProperties();
+
+    @InjectMocks
+    private MetricRollupService metricRollupService;
+
+    @Test
+    void catchUp_AggregatesOnlyClosedBucketsPastLateness() {
+        // Arrange
+        Instant watermark = Instant.parse("2026-03-10T12:20:00Z");
+        when(rollupRepository.findWatermark(MetricResolution.MINUTE)).thenReturn(Optional.of(watermark));
+        when(rollupRepository.rollup(any(), any(), any())).thenReturn(4);
+
+        // Act
+        int buckets = metricRollupService.catchUp(MetricResolution.MINUTE, NOW);
+
+        // Assert
+        assertEquals(4, buckets);
+        verify(rollupRepository).rollup(MetricResolution.MINUTE, watermark, Instant.parse("2026-03-10T12:32:00Z"));
+    }
+
+    @Test
+    void catchUp_UpToDateWatermarkDoesNothing() {
+        // Arrange
+        when(rollupRepository.findWatermark(MetricResolution.HOUR))
+                .thenReturn(Optional.of(Instant.parse("2026-03-10T12:00:00Z")));
+
+        // Act
+        metricRollupService.catchUp(MetricResolution.HOUR, NOW);
+
+        // Assert
+        verify(rollupRepository, never()).rollup(any(), any(), any());
+    }
+
+    @Test
+    void catchUp_BacklogIsProcessedOneDayPerTransaction() {
+        // Arrange
+        when(rollupRepository.findWatermark(MetricResolution.HOUR))
+                .thenReturn(Optional.of(Instant.parse("2026-03-08T06:00:00Z")));
+
+        // Act
+        metricRollupService.catchUp(MetricResolution.HOUR, NOW);
+
+        // Assert
+        verify(rollupRepository).rollup(MetricResolution.HOUR,
+                Instant.parse("2026-03-08T06:00:00Z"), Instant.parse("2026-03-09T06:00:00Z"));
+        verify(rollupRepository).rollup(MetricResolution.HOUR,
+                Instant.parse("2026-03-09T06:00:00Z"), Instant.parse("2026-03-10T06:00:00Z"));
+        verify(rollupRepository).rollup(MetricResolution.HOUR,
+                Instant.parse("2026-03-10T06:00:00Z"), Instant.parse("2026-03-10T12:00:00Z"));
+        verify(rollupRepository, times(3)).rollup(any(), any(), any());
+    }
+
+    @Test
+    void catchUp_WithoutWatermarkStartsAtRawRetention() {
+        // Arrange
+        metricsProperties.getPartitions().setRetentionDays(2);
+        when(rollupRepository.findWatermark(MetricResolution.DAY)).thenReturn(Optional.empty());
+
+        // Act
+        metricRollupService.catchUp(MetricResolution.DAY, NOW);
+
+        // Assert
+        verify(rollupRepository).rollup(MetricResolution.DAY,
+                Instant.parse("2026-03-08T00:00:00Z"), Instant.parse("2026-03-09T00:00:00Z"));
+        verify(rollupRepository).rollup(MetricResolution.DAY,
+                Instant.parse("2026-03-09T00:00:00Z"), Instant.parse("2026-03-10T00:00:00Z"));
+        verify(rollupRepository, times(2)).rollup(any(), any(), any());
+    }
+
+    @Test
+    void catchUp_LongBacklogIsSpreadOverRuns() {
+        // Arrange
+        when(rollupRepository.findWatermark(MetricResolution.MINUTE))
+                .thenReturn(Optional.of(NOW.minus(Duration.ofDays(MetricRollupService.MAX_CHUNKS_PER_RUN + 10))));
+
+        // Act
+        metricRollupService.catchUp(MetricResolution.MINUTE, NOW);
+
+        // Assert
+        verify(rollupRepository, times(MetricRollupService.MAX_CHUNKS_PER_RUN)).rollup(any(), any(), any());
+    }
+
+    @Test
+    void rollupAll_DisabledDoesNothing() {
+        // Arrange
+        metricsProperties.getRollup().setEnabled(false);
+
+        // Act
+        metricRollupService.rollupAll();
+
+        // Assert
+        verifyNoInteractions(rollupRepository);
+    }
+
+    @Test
+    void recordLateSamples_MarksOnlyHoursPastAllowedLateness() {
+        // Arrange
+        UUID instanceId = UUID.randomUUID();
+        List<MetricSample> samples = List.of(
+                sample(instanceId, Instant.parse("2026-03-10T09:15:00Z")),
+                sample(instanceId, Instant.parse("2026-03-10T09:45:00Z")),
+                sample(instanceId, Instant.parse("2026-03-10T12:33:30Z")));
+
+        // Act
+        metricRollupService.recordLateSamples(samples, NOW);
+
+        // Assert
+        verify(rollupRepository).markDirtyHours(Map.of(instanceId, Set.of(Instant.parse("2026-03-10T09:00:00Z"))));
+    }
+
+    @Test
+    void recordLateSamples_OnTimeBatchMarksNothing() {
+        // Act
+        metricRollupService.recordLateSamples(List.of(sample(UUID.randomUUID(), NOW.minusSeconds(10))), NOW);
+
+        // Assert
+        verifyNoInteractions(rollupRepository);
+    }
+
+    @Test
+    void rollupAll_ReaggregatesDirtyHoursAfterCatchingUp() {
+        // Arrange
+        when(rollupRepository.findWatermark(any())).thenReturn(Optional.of(Instant.now().plus(Duration.ofDays(1))));
+
+        // Act
+        metricRollupService.rollupAll();
+
+        // Assert
+        verify(rollupRepository).rerollDirtyHours(MetricRollupService.MAX_DIRTY_HOURS_PER_RUN);
+    }
+
+    private MetricSample sample(UUID serviceInstanceId, Instant measuredAt) {
+        return new MetricSample(serviceInstanceId, ServiceMetric.MetricType.LATENCY, BigDecimal.ONE, "MS",
+                LocalDateTime.ofInstant(measuredAt, ZoneId.systemDefault()), "probe-1");
+    }
+}
@@ -0,0 +1,87 @@
+package com.singtel.network.service;
+
+import com.singtel.network.dto.metric.MetricSample;
+import com.singtel.network.entity.ServiceMetric;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MetricSampleBuffer.
+ */
+class MetricSampleBufferTest {
+
+    private final UUID serviceInstanceId = UUID.randomUUID();
+
+    @Test
+    void offerAll_RejectsBatchThatDoesNotFitWithoutPartialWrite() {
+        // Arrange
+        MetricSampleBuffer buffer = new MetricSampleBuffer(5);
+        assertTrue(buffer.offerAll(samples(3)));
+
+        // Act
+        boolean accepted = buffer.offerAll(samples(3));
+
+        // Assert
+        assertFalse(accepted);
+        assertEquals(3, buffer.size());
+        assertEquals(2, buffer.remainingCapacity());
+        assertEquals(3, buffer.getRejectedSamples());
+    }
+
+    @Test
+    void drainTo_ReturnsOldestFirstAcrossWrapAround() {
+        // Arrange
+        MetricSampleBuffer buffer = new MetricSampleBuffer(4);
+        List<MetricSample> first = samples(3);
+        List<MetricSample> second = samples(3);
+        buffer.offerAll(first);
+        buffer.drainTo(new ArrayList<>(), 2);
+        buffer.offerAll(second);
+
+        // Act
+        List<MetricSample> drained = new ArrayList<>();
+        int count = buffer.drainTo(drained, 10);
+
+        // Assert
+        assertEquals(4, count);
+        assertSame(first.get(2), drained.get(0));
+        assertEquals(second, drained.subList(1, 4));
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void drainTo_StopsAtMax() {
+        // Arrange
+        MetricSampleBuffer buffer = new MetricSampleBuffer(10);
+        buffer.offerAll(samples(6));
+
+        // Act
+        List<MetricSample> drained = new ArrayList<>();
+        int count = buffer.drainTo(drained, 4);
+
+        // Assert
+        assertEquals(4, count);
+        assertEquals(2, buffer.size());
+    }
+
+    @Test
+    void constructor_RejectsEmptyCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new MetricSampleBuffer(0));
+    }
+
+    private List<MetricSample> samples(int count) {
+        List<MetricSample> samples = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            samples.add(new MetricSample(serviceInstanceId, ServiceMetric.MetricType.BANDWIDTH_UTILIZATION,
+                    BigDecimal.valueOf(i), "PERCENT", LocalDateTime.now(), "probe-1"));
+        }
+        return samples;
+    }
+}
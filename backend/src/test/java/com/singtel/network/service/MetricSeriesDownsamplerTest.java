@@ -0,0 +1,96 @@
+package com.singtel.network.service;
+
+import com.singtel.network.dto.metric.MetricReading;
+import com.singtel.network.dto.metric.MetricSeriesPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MetricSeriesDownsampler.
+ */
+class MetricSeriesDownsamplerTest {
+
+    private LocalDateTime from;
+    private List<MetricSeriesPoint> points;
+
+    @BeforeEach
+    void setUp() {
+        from = LocalDateTime.of(2026, 3, 1, 0, 0);
+        points = new ArrayList<>();
+    }
+
+    @Test
+    void accept_AveragesEachBucket() {
+        // Arrange: one hour in 4 buckets of 15 minutes
+        MetricSeriesDownsampler downsampler = new MetricSeriesDownsampler(from, from.plusHours(1), 4, points::add);
+
+        // Act
+        downsampler.accept(reading(from, "10"));
+        downsampler.accept(reading(from.plusMinutes(10), "20"));
+        downsampler.accept(reading(from.plusMinutes(50), "7"));
+        int emitted = downsampler.finish();
+
+        // Assert
+        assertEquals(2, emitted);
+        assertEquals(2, points.size());
+        MetricSeriesPoint first = points.get(0);
+        assertEquals(from.plusMinutes(5), first.getTime());
+        assertEquals(15.0, first.getAvg());
+        assertEquals(10.0, first.getMin());
+        assertEquals(20.0, first.getMax());
+        assertEquals(2, first.getCount());
+        assertEquals(from.plusMinutes(50), points.get(1).getTime());
+        assertEquals(7.0, points.get(1).getAvg());
+    }
+
+    @Test
+    void accept_NeverEmitsMoreThanMaxPoints() {
+        // Arrange: one reading per second for a day
+        MetricSeriesDownsampler downsampler = new MetricSeriesDownsampler(from, from.plusDays(1), 500, points::add);
+
+        // Act
+        for (int second = 0; second < 86_400; second++) {
+            downsampler.accept(reading(from.plusSeconds(second), "1"));
+        }
+        int emitted = downsampler.finish();
+
+        // Assert
+        assertEquals(500, emitted);
+        assertEquals(86_400, points.stream().mapToLong(MetricSeriesPoint::getCount).sum());
+    }
+
+    @Test
+    void accept_SparseReadingsKeepExactTimes() {
+        // Arrange
+        MetricSeriesDownsampler downsampler = new MetricSeriesDownsampler(from, from.plusDays(1), 500, points::add);
+        LocalDateTime measuredAt = from.plusHours(7).plusSeconds(13);
+
+        // Act
+        downsampler.accept(reading(measuredAt, "42.5"));
+        downsampler.finish();
+
+        // Assert
+        assertEquals(1, points.size());
+        assertEquals(measuredAt, points.get(0).getTime());
+        assertEquals(42.5, points.get(0).getAvg());
+    }
+
+    @Test
+    void finish_NoReadingsEmitsNothing() {
+        MetricSeriesDownsampler downsampler = new MetricSeriesDownsampler(from, from.plusHours(1), 10, points::add);
+
+        assertEquals(0, downsampler.finish());
+        assertTrue(points.isEmpty());
+    }
+
+    private MetricReading reading(LocalDateTime measuredAt, String value) {
+        return new MetricReading(measuredAt, new BigDecimal(value));
+    }
+}
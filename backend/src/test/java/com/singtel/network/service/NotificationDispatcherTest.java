@@ -0,0 +1,158 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.NotificationProperties;
+import com.singtel.network.dto.alert.NotificationOutcome;
+import com.singtel.network.dto.alert.PendingNotification;
+import com.singtel.network.exception.NotificationDeliveryException;
+import com.singtel.network.repository.AlertNotificationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for NotificationDispatcher.
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatcherTest {
+
+    @Mock
+    private AlertNotificationRepository alertNotificationRepository;
+
+    @Mock
+    private NotificationSender webhookSender;
+
+    @Spy
+    private List<NotificationSender> notificationSenders = new ArrayList<>();
+
+    @Spy
+    private NotificationProperties notificationProperties = new NotificationProperties();
+
+    @InjectMocks
+    private NotificationDispatcher notificationDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        when(webhookSender.getNotificationType()).thenReturn("WEBHOOK");
+        when(webhookSender.isEnabled()).thenReturn(true);
+        lenient().when(webhookSender.destinationKey(any())).thenAnswer(invocation ->
+                invocation.<PendingNotification>getArgument(0).getRecipient());
+        notificationSenders.add(webhookSender);
+        notificationProperties.setMaxAttempts(3);
+        notificationProperties.setBurst(2);
+        notificationDispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        notificationDispatcher.stop();
+    }
+
+    @Test
+    void dispatchBatch_RecordsSentRetryAndDeadLetterOutcomes() throws Exception {
+        // Arrange
+        PendingNotification ok = notification("https://a.example.com", 0);
+        PendingNotification flaky = notification("https://b.example.com", 0);
+        PendingNotification exhausted = notification("https://c.example.com", 2);
+        PendingNotification rejected = notification("https://d.example.com", 0);
+        when(alertNotificationRepository.claimDue(any(), anyInt(), any())).thenReturn(List.of(ok, flaky, exhausted, rejected));
+        // Every recipient is stubbed: under strict stubs an unstubbed send(ok) would fail as an argument mismatch
+        doNothing().when(webhookSender).send(ok);
+        doThrow(new NotificationDeliveryException("answered 503", true)).when(webhookSender).send(flaky);
+        doThrow(new NotificationDeliveryException("answered 503", true)).when(webhookSender).send(exhausted);
+        doThrow(new NotificationDeliveryException("answered 404", false)).when(webhookSender).send(rejected);
+
+        // Act
+        int claimed = notificationDispatcher.dispatchBatch();
+
+        // Assert
+        assertEquals(4, claimed);
+        Map<UUID, NotificationOutcome> outcomes = completedOutcomes();
+        assertEquals(NotificationOutcome.SENT, outcomes.get(ok.getId()).getStatus());
+        assertEquals(NotificationOutcome.FAILED, outcomes.get(flaky.getId()).getStatus());
+        assertEquals(1, outcomes.get(flaky.getId()).getAttempts());
+        assertTrue(outcomes.get(flaky.getId()).getNextAttemptAt().isAfter(Instant.now()));
+        assertEquals(NotificationOutcome.DEAD_LETTER, outcomes.get(exhausted.getId()).getStatus());
+        assertEquals(NotificationOutcome.DEAD_LETTER, outcomes.get(rejected.getId()).getStatus());
+    }
+
+    @Test
+    void dispatchBatch_DefersSendsOverDestinationRateLimit() throws Exception {
+        // Arrange: burst of 2 per destination
+        List<PendingNotification> claimed = List.of(
+                notification("https://a.example.com", 0),
+                notification("https://a.example.com", 0),
+                notification("https://a.example.com", 0));
+        when(alertNotificationRepository.claimDue(any(), anyInt(), any())).thenReturn(claimed);
+
+        // Act
+        notificationDispatcher.dispatchBatch();
+
+        // Assert
+        verify(webhookSender, times(2)).send(any());
+        NotificationOutcome deferred = completedOutcomes().get(claimed.get(2).getId());
+        assertNull(deferred.getStatus());
+        assertEquals(0, deferred.getAttempts());
+    }
+
+    @Test
+    void dispatchDue_ClaimsOnlyConfiguredTypesAndStopsWhenDrained() {
+        // Arrange
+        when(alertNotificationRepository.claimDue(any(), anyInt(), any())).thenReturn(List.of());
+
+        // Act
+        notificationDispatcher.dispatchDue();
+
+        // Assert
+        verify(alertNotificationRepository, times(1)).claimDue(eq(Set.of("WEBHOOK")), eq(100), any());
+        verify(alertNotificationRepository, never()).complete(any());
+    }
+
+    @Test
+    void backoff_DoublesUpToMaximumWithJitter() {
+        notificationProperties.setInitialBackoff(Duration.ofSeconds(30));
+        notificationProperties.setMaxBackoff(Duration.ofMinutes(5));
+
+        assertBetween(Duration.ofSeconds(15), Duration.ofSeconds(30), notificationDispatcher.backoff(0));
+        assertBetween(Duration.ofSeconds(15), Duration.ofSeconds(30), notificationDispatcher.backoff(1));
+        assertBetween(Duration.ofSeconds(60), Duration.ofSeconds(120), notificationDispatcher.backoff(3));
+        assertBetween(Duration.ofSeconds(150), Duration.ofMinutes(5), notificationDispatcher.backoff(10));
+    }
+
+    private Map<UUID, NotificationOutcome> completedOutcomes() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationOutcome>> captor = ArgumentCaptor.forClass(List.class);
+        verify(alertNotificationRepository).complete(captor.capture());
+        return captor.getValue().stream().collect(Collectors.toMap(NotificationOutcome::getId, Function.identity()));
+    }
+
+    private PendingNotification notification(String url, int attempts) {
+        return new PendingNotification(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "WEBHOOK", url,
+                "[HIGH] High latency", "LATENCY 150 > 100", attempts);
+    }
+
+    private static void assertBetween(Duration min, Duration max, Duration actual) {
+        assertTrue(actual.compareTo(min) >= 0 && actual.compareTo(max) <= 0, () -> actual + " not in [" + min + ", " + max + "]");
+    }
+}
@@ -0,0 +1,193 @@
+package com.singtel.network.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.singtel.network.config.OrchestratorProperties;
+import com.singtel.network.dto.orchestrator.OrderWorkflowRequest;
+import com.singtel.network.dto.orchestrator.WorkflowType;
+import com.singtel.network.exception.OrchestratorException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for OrchestratorClient against a local stub orchestrator.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrchestratorClientTest {
+
+    @Spy
+    private OrchestratorProperties orchestratorProperties = new OrchestratorProperties();
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @InjectMocks
+    private OrchestratorClient orchestratorClient;
+
+    private StubOrchestratorServer orchestrator;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        orchestrator = StubOrchestratorServer.start();
+        orchestratorProperties.setBaseUrl(orchestrator.getBaseUrl());
+        orchestratorProperties.setTimeout(Duration.ofSeconds(2));
+        orchestratorProperties.setInitialBackoff(Duration.ofMillis(10));
+        orchestratorProperties.setMaxBackoff(Duration.ofMillis(50));
+        orchestratorProperties.getBulkheads().put("orders", 2);
+        orchestratorProperties.setBulkheadQueue(1);
+        orchestratorProperties.getCircuitBreaker().setWindowSize(10);
+        orchestratorProperties.getCircuitBreaker().setMinimumCalls(4);
+        orchestratorClient.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orchestratorClient.stop();
+        orchestrator.close();
+    }
+
+    @Test
+    void startWorkflow_ReturnsWorkflowIdAndSendsIdempotencyKey() throws IOException {
+        // Arrange
+        UUID orderId = UUID.randomUUID();
+
+        // Act
+        String workflowId = orchestratorClient.startWorkflow(WorkflowType.ORDER, orderId, order(orderId)).join();
+
+        // Assert
+        assertEquals("WF-" + orderId, workflowId);
+        assertEquals(List.of(orderId.toString()), orchestrator.getIdempotencyKeys());
+        JsonNode body = objectMapper.readTree(orchestrator.getLastBody());
+        assertEquals(orderId.toString(), body.get("orderId").asText());
+        assertEquals("ORD-2026-000001", body.get("orderNumber").asText());
+    }
+
+    @Test
+    void startWorkflow_RetriesServerErrorsWithTheSameIdempotencyKey() {
+        // Arrange
+        UUID orderId = UUID.randomUUID();
+        orchestrator.failNext(2, 503);
+
+        // Act
+        String workflowId = orchestratorClient.startWorkflow(WorkflowType.ORDER, orderId, order(orderId)).join();
+
+        // Assert
+        assertEquals("WF-" + orderId, workflowId);
+        assertEquals(3, orchestrator.getRequestCount());
+        assertEquals(List.of(orderId.toString(), orderId.toString(), orderId.toString()), orchestrator.getIdempotencyKeys());
+    }
+
+    @Test
+    void startWorkflow_GivesUpAfterRetryAttempts() {
+        // Arrange
+        UUID orderId = UUID.randomUUID();
+        orchestrator.failNext(10, 502);
+
+        // Act
+        OrchestratorException failure = failure(orchestratorClient.startWorkflow(WorkflowType.ORDER, orderId, order(orderId)));
+
+        // Assert: the first attempt and three retries
+        assertTrue(failure.isRetryable());
+        assertEquals(4, orchestrator.getRequestCount());
+    }
+
+    @Test
+    void startWorkflow_ClientErrorIsNotRetried() {
+        // Arrange
+        UUID orderId = UUID.randomUUID();
+        orchestrator.failNext(1, 422);
+
+        // Act
+        OrchestratorException failure = failure(orchestratorClient.startWorkflow(WorkflowType.ORDER, orderId, order(orderId)));
+
+        // Assert
+        assertFalse(failure.isRetryable());
+        assertEquals(1, orchestrator.getRequestCount());
+        assertEquals(CircuitBreaker.State.CLOSED, orchestratorClient.getCircuitState(WorkflowType.ORDER));
+    }
+
+    @Test
+    void startWorkflow_TimeoutIsRetryable() {
+        // Arrange
+        orchestratorProperties.setTimeout(Duration.ofMillis(100));
+        orchestratorProperties.setRetryAttempts(0);
+        orchestrator.setLatency(Duration.ofMillis(500));
+        UUID orderId = UUID.randomUUID();
+
+        // Act
+        OrchestratorException failure = failure(orchestratorClient.startWorkflow(WorkflowType.ORDER, orderId, order(orderId)));
+
+        // Assert
+        assertTrue(failure.isRetryable());
+        assertFalse(failure.isRejected());
+    }
+
+    @Test
+    void startWorkflow_OpenCircuitRejectsWithoutCallingTheEndpoint() {
+        // Arrange
+        orchestratorProperties.setRetryAttempts(0);
+        orchestrator.failNext(4, 500);
+        for (int i = 0; i < 4; i++) {
+            UUID orderId = UUID.randomUUID();
+            failure(orchestratorClient.startWorkflow(WorkflowType.ORDER, orderId, order(orderId)));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, orchestratorClient.getCircuitState(WorkflowType.ORDER));
+
+        // Act
+        UUID orderId = UUID.randomUUID();
+        OrchestratorException failure = failure(orchestratorClient.startWorkflow(WorkflowType.ORDER, orderId, order(orderId)));
+
+        // Assert
+        assertTrue(failure.isRejected());
+        assertEquals(4, orchestrator.getRequestCount());
+        assertEquals(CircuitBreaker.State.CLOSED, orchestratorClient.getCircuitState(WorkflowType.BANDWIDTH_CHANGE));
+    }
+
+    @Test
+    void startWorkflow_BulkheadQueuesThenRejectsCallsOverItsLimit() {
+        // Arrange: two in flight and one queued
+        orchestrator.setLatency(Duration.ofMillis(200));
+        List<CompletableFuture<String>> calls = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            UUID orderId = UUID.randomUUID();
+            calls.add(orchestratorClient.startWorkflow(WorkflowType.ORDER, orderId, order(orderId)));
+        }
+
+        // Assert
+        assertTrue(failure(calls.get(3)).isRejected());
+        for (CompletableFuture<String> call : calls.subList(0, 3)) {
+            assertTrue(call.join().startsWith("WF-"));
+        }
+        assertEquals(3, orchestrator.getRequestCount());
+        assertEquals(2, orchestrator.getMaxConcurrentRequests());
+        assertEquals(0, orchestratorClient.getInFlight(WorkflowType.ORDER));
+    }
+
+    private static OrchestratorException failure(CompletableFuture<String> call) {
+        CompletionException exception = assertThrows(CompletionException.class, call::join);
+        return assertInstanceOf(OrchestratorException.class, exception.getCause());
+    }
+
+    private static OrderWorkflowRequest order(UUID orderId) {
+        return new OrderWorkflowRequest(orderId, "ORD-2026-000001", "NEW_SERVICE", UUID.randomUUID(), UUID.randomUUID(),
+                null, 500, LocalDate.of(2026, 11, 1));
+    }
+}
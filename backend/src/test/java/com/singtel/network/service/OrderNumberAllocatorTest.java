@@ -0,0 +1,167 @@
+package com.singtel.network.service;
+
+import com.singtel.network.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OrderNumberAllocator.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderNumberAllocatorTest {
+
+    private static final long BLOCK_SIZE = 50;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @InjectMocks
+    private OrderNumberAllocator orderNumberAllocator;
+
+    /** Stands in for order_number_seq: START WITH 1 INCREMENT BY 50 */
+    private final AtomicLong sequence = new AtomicLong(1 - BLOCK_SIZE);
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(orderRepository.findOrderNumberBlockSize()).thenReturn(BLOCK_SIZE);
+        lenient().when(orderRepository.reserveOrderNumberBlock())
+                .thenAnswer(invocation -> sequence.addAndGet(BLOCK_SIZE));
+        lenient().when(orderRepository.reserveOrderNumberBlocks(anyInt())).thenAnswer(invocation -> {
+            List<Long> blocks = new ArrayList<>();
+            for (int i = 0; i < (int) invocation.getArgument(0); i++) {
+                blocks.add(sequence.addAndGet(BLOCK_SIZE));
+            }
+            return blocks;
+        });
+    }
+
+    @Test
+    void nextOrderNumber_UsesCurrentYearAndPaddedSequence() {
+        // Act
+        String orderNumber = orderNumberAllocator.nextOrderNumber();
+
+        // Assert
+        assertEquals("ORD-" + LocalDate.now().getYear() + "-000001", orderNumber);
+    }
+
+    @Test
+    void nextValue_ReservesOneBlockPerBlockSizeAllocations() {
+        // Act
+        for (int i = 1; i <= 120; i++) {
+            assertEquals(i, orderNumberAllocator.nextValue());
+        }
+
+        // Assert
+        verify(orderRepository, times(3)).reserveOrderNumberBlock();
+        verify(orderRepository, times(1)).findOrderNumberBlockSize();
+    }
+
+    @Test
+    void nextValue_SkipsNumbersReservedByAnotherNode() {
+        // Arrange
+        orderNumberAllocator.nextValue();
+        sequence.addAndGet(BLOCK_SIZE); // another node reserves 51..100
+
+        // Act
+        for (int i = 2; i <= 50; i++) {
+            orderNumberAllocator.nextValue();
+        }
+        long firstOfNextBlock = orderNumberAllocator.nextValue();
+
+        // Assert
+        assertEquals(101, firstOfNextBlock);
+    }
+
+    @Test
+    void nextValues_DrainsCurrentBlockThenReservesBlocksInOneCall() {
+        // Arrange
+        for (int i = 1; i <= 10; i++) {
+            orderNumberAllocator.nextValue();
+        }
+
+        // Act
+        List<Long> values = orderNumberAllocator.nextValues(130);
+
+        // Assert
+        assertEquals(130, values.size());
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(11 + i, values.get(i));
+        }
+        assertEquals(141, orderNumberAllocator.nextValue());
+        verify(orderRepository, times(1)).reserveOrderNumberBlock();
+        verify(orderRepository, times(1)).reserveOrderNumberBlocks(2);
+    }
+
+    @Test
+    void nextOrderNumbers_FormatsEachValue() {
+        // Act
+        List<String> orderNumbers = orderNumberAllocator.nextOrderNumbers(2);
+
+        // Assert
+        int year = LocalDate.now().getYear();
+        assertEquals(List.of("ORD-" + year + "-000001", "ORD-" + year + "-000002"), orderNumbers);
+    }
+
+    @Test
+    void nextValue_MissingSequenceFailsFast() {
+        // Arrange
+        when(orderRepository.findOrderNumberBlockSize()).thenReturn(null);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> orderNumberAllocator.nextValue());
+    }
+
+    @Test
+    void nextValue_ConcurrentAllocationsAreUniqueAndContiguous() throws Exception {
+        // Arrange
+        int threads = 16;
+        int perThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Callable<List<Long>>> tasks = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            tasks.add(() -> {
+                List<Long> values = new ArrayList<>(perThread);
+                for (int i = 0; i < perThread; i++) {
+                    values.add(orderNumberAllocator.nextValue());
+                }
+                return values;
+            });
+        }
+
+        // Act
+        Set<Long> allocated = new HashSet<>();
+        try {
+            for (Future<List<Long>> future : executor.invokeAll(tasks)) {
+                allocated.addAll(future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        int total = threads * perThread;
+        assertEquals(total, allocated.size());
+        assertEquals(1L, allocated.stream().mapToLong(Long::longValue).min().orElseThrow());
+        assertEquals(total, allocated.stream().mapToLong(Long::longValue).max().orElseThrow());
+        verify(orderRepository, times(total / (int) BLOCK_SIZE)).reserveOrderNumberBlock();
+    }
+}
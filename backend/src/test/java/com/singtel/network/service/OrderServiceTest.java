@@ -1,9 +1,13 @@
 package com.singtel.network.service;
 
+import com.singtel.network.dto.order.BatchOrderItemResult;
+import com.singtel.network.dto.order.BatchOrderResponse;
 import com.singtel.network.dto.order.CreateOrderRequest;
 import com.singtel.network.dto.order.OrderResponse;
+import com.singtel.network.dto.order.PendingOrderSubmission;
 import com.singtel.network.entity.*;
 import com.singtel.network.repository.*;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,6 +28,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 /**
@@ -47,6 +52,18 @@ class OrderServiceTest {
     @Mock
     private ServiceCatalogService serviceCatalogService;
 
+    @Mock
+    private OrderNumberAllocator orderNumberAllocator;
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
+    @Mock
+    private OrderSubmissionRepository orderSubmissionRepository;
+
+    @Mock
+    private Validator validator;
+
     @Mock
     private SecurityContext securityContext;
 
@@ -141,7 +158,7 @@ class OrderServiceTest {
             when(authentication.getPrincipal()).thenReturn(testUser);
 
             when(serviceRepository.findById(testService.getId())).thenReturn(Optional.of(testService));
-            when(orderRepository.findNextOrderSequence()).thenReturn(1);
+            when(orderNumberAllocator.nextOrderNumber()).thenReturn("ORD-2025-000001");
             when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
 
             // Act
@@ -156,8 +173,110 @@ class OrderServiceTest {
             assertEquals(testOrder.getTotalCost(), result.getTotalCost());
 
             verify(serviceRepository).findById(testService.getId());
-            verify(orderRepository).findNextOrderSequence();
+            verify(orderNumberAllocator).nextOrderNumber();
             verify(orderRepository).save(any(Order.class));
+            verify(outboxWriter).orderCreated(testOrder);
+        }
+    }
+
+    @Test
+    void createSubmittedOrder_CreatesOrderAndCompletesSubmission() {
+        // Arrange
+        PendingOrderSubmission submission = new PendingOrderSubmission(UUID.randomUUID(), testUser.getId(), "{}", 1);
+        when(serviceRepository.findById(testService.getId())).thenReturn(Optional.of(testService));
+        when(orderNumberAllocator.nextOrderNumber()).thenReturn("ORD-2025-000001");
+        when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
+        when(orderSubmissionRepository.complete(submission, testOrder.getId())).thenReturn(true);
+
+        // Act
+        OrderResponse result = orderService.createSubmittedOrder(submission, testUser, createOrderRequest);
+
+        // Assert
+        assertEquals(testOrder.getOrderNumber(), result.getOrderNumber());
+        verify(outboxWriter).orderCreated(testOrder);
+        verify(orderSubmissionRepository).complete(submission, testOrder.getId());
+    }
+
+    @Test
+    void createSubmittedOrder_LostClaim_Throws() {
+        // Arrange: the lease expired and another worker re-claimed the submission
+        PendingOrderSubmission submission = new PendingOrderSubmission(UUID.randomUUID(), testUser.getId(), "{}", 1);
+        when(serviceRepository.findById(testService.getId())).thenReturn(Optional.of(testService));
+        when(orderNumberAllocator.nextOrderNumber()).thenReturn("ORD-2025-000001");
+        when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
+        when(orderSubmissionRepository.complete(submission, testOrder.getId())).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> orderService.createSubmittedOrder(submission, testUser, createOrderRequest));
+    }
+
+    @Test
+    void createOrders_MixedBatch_SavesValidItemsInOneBatch() {
+        // Arrange
+        try (MockedStatic<SecurityContextHolder> mockedSecurityContextHolder = mockStatic(SecurityContextHolder.class)) {
+            mockedSecurityContextHolder.when(SecurityContextHolder::getContext).thenReturn(securityContext);
+            when(securityContext.getAuthentication()).thenReturn(authentication);
+            when(authentication.getPrincipal()).thenReturn(testUser);
+
+            CreateOrderRequest unknownServiceRequest = new CreateOrderRequest();
+            unknownServiceRequest.setServiceId(UUID.randomUUID());
+            unknownServiceRequest.setOrderType(Order.OrderType.NEW_SERVICE);
+            unknownServiceRequest.setRequestedBandwidthMbps(500);
+
+            when(serviceRepository.findAllById(any())).thenReturn(List.of(testService));
+            when(orderNumberAllocator.nextOrderNumbers(2)).thenReturn(List.of("ORD-2025-000001", "ORD-2025-000002"));
+            when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            BatchOrderResponse result = orderService.createOrders(
+                    List.of(createOrderRequest, unknownServiceRequest, createOrderRequest));
+
+            // Assert
+            assertEquals(3, result.getResults().size());
+            assertEquals(2, result.getCreatedCount());
+            assertEquals(1, result.getFailedCount());
+            assertTrue(result.hasFailures());
+
+            BatchOrderItemResult first = result.getResults().get(0);
+            BatchOrderItemResult second = result.getResults().get(1);
+            BatchOrderItemResult third = result.getResults().get(2);
+            assertTrue(first.isCreated());
+            assertEquals("ORD-2025-000001", first.getOrder().getOrderNumber());
+            assertFalse(second.isCreated());
+            assertEquals(1, second.getIndex());
+            assertEquals("Service not found with ID: " + unknownServiceRequest.getServiceId(), second.getError());
+            assertTrue(third.isCreated());
+            assertEquals("ORD-2025-000002", third.getOrder().getOrderNumber());
+
+            verify(serviceRepository).findAllById(any());
+            verify(serviceRepository, never()).findById(any());
+            verify(orderNumberAllocator).nextOrderNumbers(2);
+            verify(orderRepository).saveAll(anyList());
+            verify(orderRepository).flush();
+            verify(orderRepository, never()).save(any(Order.class));
+            verify(outboxWriter).ordersCreated(argThat(orders -> orders.size() == 2));
+        }
+    }
+
+    @Test
+    void createOrders_AllInvalid_SkipsInsert() {
+        // Arrange
+        try (MockedStatic<SecurityContextHolder> mockedSecurityContextHolder = mockStatic(SecurityContextHolder.class)) {
+            mockedSecurityContextHolder.when(SecurityContextHolder::getContext).thenReturn(securityContext);
+            when(securityContext.getAuthentication()).thenReturn(authentication);
+            when(authentication.getPrincipal()).thenReturn(testUser);
+
+            when(serviceRepository.findAllById(any())).thenReturn(List.of());
+
+            // Act
+            BatchOrderResponse result = orderService.createOrders(List.of(createOrderRequest));
+
+            // Assert
+            assertEquals(0, result.getCreatedCount());
+            assertEquals(1, result.getFailedCount());
+            verifyNoInteractions(orderNumberAllocator);
+            verify(orderRepository, never()).saveAll(anyList());
         }
     }
 
@@ -240,7 +359,7 @@ class OrderServiceTest {
 
             when(serviceRepository.findById(testService.getId())).thenReturn(Optional.of(testService));
             when(serviceInstanceRepository.findById(testServiceInstance.getId())).thenReturn(Optional.of(testServiceInstance));
-            when(orderRepository.findNextOrderSequence()).thenReturn(1);
+            when(orderNumberAllocator.nextOrderNumber()).thenReturn("ORD-2025-000001");
             when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
 
             // Act
@@ -334,7 +453,8 @@ class OrderServiceTest {
             when(securityContext.getAuthentication()).thenReturn(authentication);
             when(authentication.getPrincipal()).thenReturn(testUser);
 
-            when(orderRepository.findByCompanyId(testCompany.getId())).thenReturn(orders);
+            when(orderRepository.findOrderResponsesByCompanyId(testCompany.getId()))
+                    .thenReturn(orders.stream().map(OrderResponse::new).toList());
 
             // Act
             List<OrderResponse> result = orderService.getOrdersByCompany();
@@ -346,7 +466,8 @@ class OrderServiceTest {
             assertEquals(testOrder.getId(), response.getId());
             assertEquals(testOrder.getOrderNumber(), response.getOrderNumber());
 
-            verify(orderRepository).findByCompanyId(testCompany.getId());
+            verify(orderRepository).findOrderResponsesByCompanyId(testCompany.getId());
+            verify(orderRepository, never()).findByCompanyId(testCompany.getId());
         }
     }
 
@@ -371,6 +492,7 @@ class OrderServiceTest {
 
             verify(orderRepository).findById(testOrder.getId());
             verify(orderRepository).save(testOrder);
+            verify(outboxWriter).orderStatusChanged(testOrder);
         }
     }
 
@@ -393,6 +515,7 @@ class OrderServiceTest {
             assertEquals("Order cannot be cancelled in current status: COMPLETED", exception.getMessage());
             verify(orderRepository).findById(testOrder.getId());
             verify(orderRepository, never()).save(any(Order.class));
+            verify(outboxWriter, never()).orderStatusChanged(any(Order.class));
         }
     }
 
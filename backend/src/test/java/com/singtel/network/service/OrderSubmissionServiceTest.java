@@ -0,0 +1,186 @@
+package com.singtel.network.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.singtel.network.config.OrderIntakeProperties;
+import com.singtel.network.dto.order.CreateOrderRequest;
+import com.singtel.network.dto.order.OrderResponse;
+import com.singtel.network.dto.order.PendingOrderSubmission;
+import com.singtel.network.entity.Company;
+import com.singtel.network.entity.Order;
+import com.singtel.network.entity.User;
+import com.singtel.network.repository.OrderSubmissionRepository;
+import com.singtel.network.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OrderSubmissionService.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderSubmissionServiceTest {
+
+    @Mock
+    private OrderSubmissionRepository orderSubmissionRepository;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Spy
+    private OrderIntakeProperties orderIntakeProperties = new OrderIntakeProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private OrderSubmissionService orderSubmissionService;
+
+    private User user;
+    private String request;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        orderSubmissionService.start();
+
+        Company company = new Company();
+        company.setId(UUID.randomUUID());
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setCompany(company);
+
+        CreateOrderRequest createOrderRequest = new CreateOrderRequest();
+        createOrderRequest.setServiceId(UUID.randomUUID());
+        createOrderRequest.setOrderType(Order.OrderType.NEW_SERVICE);
+        createOrderRequest.setRequestedBandwidthMbps(500);
+        createOrderRequest.setRequestedDate(LocalDate.now().plusDays(1));
+        request = objectMapper.writeValueAsString(createOrderRequest);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        orderSubmissionService.stop();
+    }
+
+    @Test
+    void process_CreatesOrderForClaimedSubmission() {
+        // Arrange
+        PendingOrderSubmission submission = pending(1);
+        when(orderSubmissionRepository.claim(eq(submission.getId()), any(Duration.class))).thenReturn(Optional.of(submission));
+        when(userRepository.findByIdWithCompany(user.getId())).thenReturn(Optional.of(user));
+        when(orderService.createSubmittedOrder(eq(submission), eq(user), any(CreateOrderRequest.class))).thenReturn(new OrderResponse());
+
+        // Act
+        orderSubmissionService.process(submission.getId());
+
+        // Assert
+        verify(orderService).createSubmittedOrder(eq(submission), eq(user),
+                argThat(created -> created.getRequestedBandwidthMbps() == 500));
+        assertEquals(1, meterRegistry.counter("orders.intake.submissions", "outcome", "completed").count());
+        verify(orderSubmissionRepository, never()).fail(any(), any());
+    }
+
+    @Test
+    void process_SkipsSubmissionClaimedElsewhere() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(orderSubmissionRepository.claim(eq(id), any(Duration.class))).thenReturn(Optional.empty());
+
+        // Act
+        orderSubmissionService.process(id);
+
+        // Assert
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    void process_InvalidRequestFailsImmediately() {
+        // Arrange
+        PendingOrderSubmission submission = pending(1);
+        when(orderSubmissionRepository.claim(eq(submission.getId()), any(Duration.class))).thenReturn(Optional.of(submission));
+        when(userRepository.findByIdWithCompany(user.getId())).thenReturn(Optional.of(user));
+        when(orderService.createSubmittedOrder(any(), any(), any()))
+                .thenThrow(new IllegalArgumentException("Service is not available"));
+
+        // Act
+        orderSubmissionService.process(submission.getId());
+
+        // Assert
+        verify(orderSubmissionRepository).fail(submission, "Service is not available");
+        verify(orderSubmissionRepository, never()).retry(any(), any(), any());
+    }
+
+    @Test
+    void process_TransientErrorIsRetriedWithBackoffUntilMaxAttempts() {
+        // Arrange
+        PendingOrderSubmission first = pending(1);
+        PendingOrderSubmission last = pending(orderIntakeProperties.getMaxAttempts());
+        when(orderSubmissionRepository.claim(any(UUID.class), any(Duration.class)))
+                .thenReturn(Optional.of(first))
+                .thenReturn(Optional.of(last));
+        when(userRepository.findByIdWithCompany(user.getId())).thenReturn(Optional.of(user));
+        when(orderService.createSubmittedOrder(any(), any(), any())).thenThrow(new RuntimeException("Connection reset"));
+
+        // Act
+        orderSubmissionService.process(first.getId());
+        orderSubmissionService.process(last.getId());
+
+        // Assert
+        ArgumentCaptor<Duration> backoff = ArgumentCaptor.forClass(Duration.class);
+        verify(orderSubmissionRepository).retry(eq(first), eq("Connection reset"), backoff.capture());
+        assertTrue(backoff.getValue().compareTo(orderIntakeProperties.getRetryBackoff().dividedBy(2)) >= 0);
+        assertTrue(backoff.getValue().compareTo(orderIntakeProperties.getRetryBackoff()) <= 0);
+        verify(orderSubmissionRepository).fail(last, "Connection reset");
+    }
+
+    @Test
+    void sweep_QueuesDueSubmissionsAndRefreshesBacklog() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(orderSubmissionRepository.countBacklog()).thenReturn(3L);
+        when(orderSubmissionRepository.findDueIds(anyInt())).thenReturn(List.of(id));
+        when(orderSubmissionRepository.claim(eq(id), any(Duration.class))).thenReturn(Optional.empty());
+
+        // Act
+        orderSubmissionService.sweep();
+        orderSubmissionService.stop();
+
+        // Assert
+        verify(orderSubmissionRepository, timeout(1000)).claim(eq(id), any(Duration.class));
+        assertEquals(3, meterRegistry.get("orders.intake.backlog").gauge().value());
+        assertEquals(0, orderSubmissionService.getQueueDepth());
+    }
+
+    private PendingOrderSubmission pending(int attempts) {
+        return new PendingOrderSubmission(UUID.randomUUID(), user.getId(), request, attempts);
+    }
+}
@@ -0,0 +1,131 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.OutboxProperties;
+import com.singtel.network.dto.outbox.OutboxFailure;
+import com.singtel.network.dto.outbox.OutboxMessage;
+import com.singtel.network.exception.OutboxPublishException;
+import com.singtel.network.repository.OutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OutboxRelay.
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private OutboxSink logSink;
+
+    @Spy
+    private List<OutboxSink> outboxSinks = new ArrayList<>();
+
+    @Spy
+    private OutboxProperties outboxProperties = new OutboxProperties();
+
+    @InjectMocks
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        when(logSink.getName()).thenReturn("log");
+        outboxSinks.add(logSink);
+        outboxRelay.start();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void relayBatch_DeletesPublishedAndReschedulesFailedEvents() throws Exception {
+        // Arrange
+        OutboxMessage ok = message(1, 0);
+        OutboxMessage failing = message(2, 3);
+        when(outboxRepository.claimDue(100, Duration.ofMinutes(1))).thenReturn(List.of(ok, failing));
+        doNothing().when(logSink).publish(ok);
+        doThrow(new OutboxPublishException("answered 503")).when(logSink).publish(failing);
+
+        // Act
+        Instant before = Instant.now();
+        int claimed = outboxRelay.relayBatch();
+
+        // Assert
+        assertEquals(2, claimed);
+        ArgumentCaptor<List<OutboxFailure>> failures = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).complete(eq(List.of(1L)), failures.capture());
+        OutboxFailure failure = failures.getValue().get(0);
+        assertEquals(2, failure.getId());
+        assertEquals(4, failure.getAttempts());
+        assertEquals("answered 503", failure.getError());
+        assertTrue(failure.getNextAttemptAt().isAfter(before));
+        assertEquals(1, outboxRelay.getPublishedEvents());
+        assertEquals(1, outboxRelay.getFailedAttempts());
+    }
+
+    @Test
+    void relayPending_ContinuesUntilNothingIsDue() throws Exception {
+        // Arrange: publishing the first event makes the aggregate's next one claimable
+        when(outboxRepository.claimDue(anyInt(), any()))
+                .thenReturn(List.of(message(1, 0)))
+                .thenReturn(List.of(message(2, 0)))
+                .thenReturn(List.of());
+
+        // Act
+        outboxRelay.relayPending();
+
+        // Assert
+        verify(outboxRepository, times(3)).claimDue(anyInt(), any());
+        verify(logSink, times(2)).publish(any());
+        assertEquals(2, outboxRelay.getPublishedEvents());
+    }
+
+    @Test
+    void relayPending_Disabled_DoesNothing() {
+        outboxProperties.setEnabled(false);
+
+        outboxRelay.relayPending();
+
+        verifyNoInteractions(outboxRepository);
+    }
+
+    @Test
+    void start_UnknownSinkFails() {
+        outboxProperties.setSink("kafka");
+
+        assertThrows(IllegalStateException.class, () -> outboxRelay.start());
+    }
+
+    @Test
+    void backoff_DoublesUpToTheMaximum() {
+        outboxProperties.setInitialBackoff(Duration.ofSeconds(2));
+        outboxProperties.setMaxBackoff(Duration.ofSeconds(10));
+
+        Duration third = outboxRelay.backoff(3);
+        assertTrue(third.toMillis() >= 4_000 && third.toMillis() <= 8_000);
+        Duration capped = outboxRelay.backoff(10);
+        assertTrue(capped.toMillis() >= 5_000 && capped.toMillis() <= 10_000);
+    }
+
+    private static OutboxMessage message(long id, int attempts) {
+        return new OutboxMessage(id, "ORDER", UUID.randomUUID(), "ORDER_CREATED", "{}", Instant.now(), attempts);
+    }
+}
@@ -0,0 +1,120 @@
+package com.singtel.network.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.singtel.network.dto.outbox.OutboxEvent;
+import com.singtel.network.entity.*;
+import com.singtel.network.repository.OutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OutboxWriter.
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxWriterTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @InjectMocks
+    private OutboxWriter outboxWriter;
+
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        Company company = new Company();
+        company.setId(UUID.randomUUID());
+        Service service = new Service();
+        service.setId(UUID.randomUUID());
+
+        order = new Order();
+        order.setId(UUID.randomUUID());
+        order.setCompany(company);
+        order.setService(service);
+        order.setOrderNumber("ORD-2026-000001");
+        order.setOrderType(Order.OrderType.NEW_SERVICE);
+        order.setRequestedBandwidthMbps(500);
+        order.setRequestedDate(LocalDate.of(2026, 11, 1));
+        order.setStatus(Order.OrderStatus.SUBMITTED);
+        order.setTotalCost(new BigDecimal("449.00"));
+    }
+
+    @Test
+    void orderCreated_AppendsOrderEventWithPayload() throws Exception {
+        // Act
+        outboxWriter.orderCreated(order);
+
+        // Assert
+        OutboxEvent event = appended().get(0);
+        assertEquals(OutboxEvent.ORDER, event.getAggregateType());
+        assertEquals(order.getId(), event.getAggregateId());
+        assertEquals("ORDER_CREATED", event.getEventType());
+        JsonNode payload = objectMapper.readTree(event.getPayload());
+        assertEquals("ORD-2026-000001", payload.get("orderNumber").asText());
+        assertEquals(order.getCompany().getId().toString(), payload.get("companyId").asText());
+        assertEquals("SUBMITTED", payload.get("status").asText());
+        assertEquals("2026-11-01", payload.get("requestedDate").asText());
+    }
+
+    @Test
+    void orderStatusChanged_NamesTheEventAfterTheStatus() {
+        // Arrange
+        order.cancel();
+
+        // Act
+        outboxWriter.orderStatusChanged(order);
+
+        // Assert
+        assertEquals("ORDER_CANCELLED", appended().get(0).getEventType());
+    }
+
+    @Test
+    void bandwidthChangesChanged_AppendsOneEventPerChange() {
+        // Arrange
+        ServiceInstance instance = new ServiceInstance();
+        instance.setId(UUID.randomUUID());
+        BandwidthChange applied = new BandwidthChange(instance, null, 500, 750);
+        applied.setId(UUID.randomUUID());
+        applied.apply();
+        BandwidthChange failed = new BandwidthChange(instance, null, 500, 2000);
+        failed.setId(UUID.randomUUID());
+        failed.fail();
+
+        // Act
+        outboxWriter.bandwidthChangesChanged(List.of(applied, failed));
+
+        // Assert
+        List<OutboxEvent> events = appended();
+        assertEquals(List.of("BANDWIDTH_CHANGE_APPLIED", "BANDWIDTH_CHANGE_FAILED"),
+                     events.stream().map(OutboxEvent::getEventType).toList());
+        assertEquals(List.of(applied.getId(), failed.getId()), events.stream().map(OutboxEvent::getAggregateId).toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<OutboxEvent> appended() {
+        ArgumentCaptor<List<OutboxEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).append(captor.capture());
+        return captor.getValue();
+    }
+}
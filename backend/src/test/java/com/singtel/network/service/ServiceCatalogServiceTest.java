@@ -17,8 +17,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -40,6 +42,9 @@ class ServiceCatalogServiceTest {
     @Mock
     private ServiceCategoryRepository serviceCategoryRepository;
 
+    @Mock
+    private CatalogSearchIndex catalogSearchIndex;
+
     @InjectMocks
     private ServiceCatalogService serviceCatalogService;
 
@@ -83,8 +88,12 @@ class ServiceCatalogServiceTest {
     @Test
     void getAllActiveCategories_Success() {
         // Arrange
-        List<ServiceCategory> categories = Arrays.asList(testCategory);
-        when(serviceCategoryRepository.findActiveCategories()).thenReturn(categories);
+        ServiceCategoryResponse categorySummary = new ServiceCategoryResponse(testCategory.getId(), testCategory.getName(),
+                testCategory.getDescription(), testCategory.getDisplayOrder(), testCategory.getIsActive(), 1L, null, null);
+        ServiceSummaryResponse serviceSummary = new ServiceSummaryResponse(testService);
+        serviceSummary.setCategoryId(testCategory.getId());
+        when(serviceCategoryRepository.findActiveCategorySummaries()).thenReturn(new ArrayList<>(List.of(categorySummary)));
+        when(serviceRepository.findAvailableServiceSummaries()).thenReturn(List.of(serviceSummary));
 
         // Act
         List<ServiceCategoryResponse> result = serviceCatalogService.getAllActiveCategories();
@@ -98,16 +107,20 @@ class ServiceCatalogServiceTest {
         assertEquals(testCategory.getDescription(), response.getDescription());
         assertEquals(testCategory.getDisplayOrder(), response.getDisplayOrder());
         assertEquals(testCategory.getIsActive(), response.getIsActive());
+        assertEquals(1, response.getServiceCount());
+        assertEquals(1, response.getServices().size());
+        assertEquals(testService.getId(), response.getServices().get(0).getId());
 
-        verify(serviceCategoryRepository).findActiveCategories();
+        verify(serviceCategoryRepository).findActiveCategorySummaries();
+        verify(serviceCategoryRepository, never()).findActiveCategories();
     }
 
     @Test
     void getAllActiveCategoriesWithPagination_Success() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        Page<ServiceCategory> categoryPage = new PageImpl<>(Arrays.asList(testCategory));
-        when(serviceCategoryRepository.findActiveCategories(pageable)).thenReturn(categoryPage);
+        Page<ServiceCategoryResponse> categoryPage = new PageImpl<>(Arrays.asList(new ServiceCategoryResponse(testCategory, false)));
+        when(serviceCategoryRepository.findActiveCategorySummaries(pageable)).thenReturn(categoryPage);
 
         // Act
         Page<ServiceCategoryResponse> result = serviceCatalogService.getAllActiveCategories(pageable);
@@ -120,7 +133,7 @@ class ServiceCatalogServiceTest {
         assertEquals(testCategory.getId(), response.getId());
         assertEquals(testCategory.getName(), response.getName());
 
-        verify(serviceCategoryRepository).findActiveCategories(pageable);
+        verify(serviceCategoryRepository).findActiveCategorySummaries(pageable);
     }
 
     @Test
@@ -157,8 +170,8 @@ class ServiceCatalogServiceTest {
     @Test
     void getAllAvailableServices_Success() {
         // Arrange
-        List<Service> services = Arrays.asList(testService);
-        when(serviceRepository.findAvailableServices()).thenReturn(services);
+        List<ServiceSummaryResponse> services = Arrays.asList(new ServiceSummaryResponse(testService));
+        when(serviceRepository.findAvailableServiceSummaries()).thenReturn(services);
 
         // Act
         List<ServiceSummaryResponse> result = serviceCatalogService.getAllAvailableServices();
@@ -173,7 +186,7 @@ class ServiceCatalogServiceTest {
         assertEquals(testService.getBaseBandwidthMbps(), response.getBaseBandwidthMbps());
         assertEquals(testService.getBasePriceMonthly(), response.getBasePriceMonthly());
 
-        verify(serviceRepository).findAvailableServices();
+        verify(serviceRepository).findAvailableServiceSummaries();
     }
 
     @Test
@@ -307,6 +320,38 @@ class ServiceCatalogServiceTest {
         verify(serviceRepository).findByPriceRange(minPrice, maxPrice);
     }
 
+    @Test
+    void searchServices_UsesCatalogSnapshot() {
+        // Arrange
+        when(catalogSearchIndex.getSnapshot()).thenReturn(CatalogSnapshot.build(List.of(testService)));
+
+        // Act
+        Page<ServiceSummaryResponse> result = serviceCatalogService.searchServices(categoryId, "FIBER",
+                new BigDecimal("200.00"), new BigDecimal("400.00"), null, null, true, PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(1, result.getTotalElements());
+        assertEquals(serviceId, result.getContent().get(0).getId());
+        verifyNoInteractions(serviceRepository);
+    }
+
+    @Test
+    void searchServices_SortNotIndexed_QueriesDatabase() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("setupFee"));
+        when(serviceRepository.searchServices(null, "FIBER", null, null, null, null, null, pageable))
+                .thenReturn(new PageImpl<>(List.of(testService), pageable, 1));
+
+        // Act
+        Page<ServiceSummaryResponse> result = serviceCatalogService.searchServices(null, "FIBER",
+                null, null, null, null, null, pageable);
+
+        // Assert
+        assertEquals(1, result.getTotalElements());
+        assertEquals(serviceId, result.getContent().get(0).getId());
+        verifyNoInteractions(catalogSearchIndex);
+    }
+
     @Test
     void calculateServiceCost_Success() {
         // Arrange
@@ -0,0 +1,108 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.MetricsProperties;
+import com.singtel.network.repository.ServiceMetricPartitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ServiceMetricPartitionManager.
+ */
+@ExtendWith(MockitoExtension.class)
+class ServiceMetricPartitionManagerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    @Mock
+    private ServiceMetricPartitionRepository partitionRepository;
+
+    @Spy
+    private MetricsProperties metricsProperties = new MetricsProperties();
+
+    @InjectMocks
+    private ServiceMetricPartitionManager partitionManager;
+
+    @BeforeEach
+    void setUp() {
+        metricsProperties.getPartitions().setRetentionDays(3);
+        metricsProperties.getPartitions().setLookaheadDays(2);
+    }
+
+    @Test
+    void maintain_CreatesOnlyMissingPartitionsInWindow() {
+        // Arrange
+        when(partitionRepository.findPartitionNames()).thenReturn(List.of(
+                ServiceMetricPartitionRepository.partitionName(TODAY.minusDays(3)),
+                ServiceMetricPartitionRepository.partitionName(TODAY.minusDays(2)),
+                ServiceMetricPartitionRepository.partitionName(TODAY)));
+
+        // Act
+        partitionManager.maintain(TODAY);
+
+        // Assert
+        verify(partitionRepository).createDailyPartition(TODAY.minusDays(1));
+        verify(partitionRepository).createDailyPartition(TODAY.plusDays(1));
+        verify(partitionRepository).createDailyPartition(TODAY.plusDays(2));
+        verify(partitionRepository, times(3)).createDailyPartition(any());
+        verify(partitionRepository, never()).dropPartition(any());
+    }
+
+    @Test
+    void maintain_DropsPartitionsPastRetention() {
+        // Arrange
+        List<String> names = new ArrayList<>();
+        for (int i = -5; i <= 2; i++) {
+            names.add(ServiceMetricPartitionRepository.partitionName(TODAY.plusDays(i)));
+        }
+        names.add("service_metrics_archive");
+        when(partitionRepository.findPartitionNames()).thenReturn(names);
+
+        // Act
+        partitionManager.maintain(TODAY);
+
+        // Assert
+        verify(partitionRepository).dropPartition("service_metrics_p20260305");
+        verify(partitionRepository).dropPartition("service_metrics_p20260306");
+        verify(partitionRepository, times(2)).dropPartition(any());
+        verify(partitionRepository, never()).createDailyPartition(any());
+        verify(partitionRepository, never()).detachPartition(any());
+    }
+
+    @Test
+    void maintain_DetachesWhenConfigured() {
+        // Arrange
+        metricsProperties.getPartitions().setRetentionAction(MetricsProperties.RetentionAction.DETACH);
+        when(partitionRepository.findPartitionNames()).thenReturn(List.of("service_metrics_p20260101"));
+
+        // Act
+        partitionManager.maintain(TODAY);
+
+        // Assert
+        verify(partitionRepository).detachPartition("service_metrics_p20260101");
+        verify(partitionRepository, never()).dropPartition(any());
+    }
+
+    @Test
+    void maintainPartitions_DisabledDoesNothing() {
+        // Arrange
+        metricsProperties.getPartitions().setEnabled(false);
+
+        // Act
+        partitionManager.maintainPartitions();
+
+        // Assert
+        verifyNoInteractions(partitionRepository);
+    }
+}
@@ -0,0 +1,113 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.MetricsProperties;
+import com.singtel.network.dto.metric.SlaPeriod;
+import com.singtel.network.repository.ServiceSlaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SlaCalculationService.
+ */
+@ExtendWith(MockitoExtension.class)
+class SlaCalculationServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T12:00:00Z");
+
+    @Mock
+    private ServiceSlaRepository slaRepository;
+
+    @Spy
+    private MetricsProperties metricsProperties = new MetricsProperties();
+
+    @InjectMocks
+    private SlaCalculationService slaCalculationService;
+
+    @BeforeEach
+    void setUp() {
+        metricsProperties.getSla().setChunkSize(2);
+        metricsProperties.getSla().setChangeOverlap(Duration.ofMinutes(5));
+        slaCalculationService.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        slaCalculationService.stop();
+    }
+
+    @Test
+    void calculateChanged_ProcessesChangedPeriodsInChunks() {
+        // Arrange
+        when(slaRepository.findWatermark()).thenReturn(Optional.of(NOW.minusSeconds(300)));
+        when(slaRepository.findChangedPeriods(NOW.minusSeconds(600))).thenReturn(periods(5));
+        when(slaRepository.calculate(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        // Act
+        int written = slaCalculationService.calculateChanged(NOW);
+
+        // Assert
+        assertEquals(5, written);
+        verify(slaRepository, times(3)).calculate(anyList());
+        verify(slaRepository).saveWatermark(NOW);
+    }
+
+    @Test
+    void calculateChanged_FirstRunScansAllInputs() {
+        // Arrange
+        when(slaRepository.findWatermark()).thenReturn(Optional.empty());
+        when(slaRepository.findChangedPeriods(Instant.EPOCH)).thenReturn(List.of());
+
+        // Act
+        int written = slaCalculationService.calculateChanged(NOW);
+
+        // Assert
+        assertEquals(0, written);
+        verify(slaRepository, never()).calculate(anyList());
+        verify(slaRepository).saveWatermark(NOW);
+    }
+
+    @Test
+    void calculateChanged_FailedChunkKeepsWatermark() {
+        // Arrange
+        List<SlaPeriod> changed = periods(4);
+        when(slaRepository.findWatermark()).thenReturn(Optional.empty());
+        when(slaRepository.findChangedPeriods(any())).thenReturn(changed);
+        when(slaRepository.calculate(changed.subList(0, 2))).thenReturn(2);
+        when(slaRepository.calculate(changed.subList(2, 4))).thenThrow(new QueryTimeoutException("timeout"));
+
+        // Act
+        int written = slaCalculationService.calculateChanged(NOW);
+
+        // Assert: the good chunk is kept, the failed one is found again next run
+        assertEquals(2, written);
+        verify(slaRepository, never()).saveWatermark(any());
+    }
+
+    private List<SlaPeriod> periods(int count) {
+        List<SlaPeriod> periods = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            periods.add(new SlaPeriod(UUID.randomUUID(), LocalDate.of(2026, 3, 1)));
+        }
+        return periods;
+    }
+}
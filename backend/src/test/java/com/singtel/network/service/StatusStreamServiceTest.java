@@ -0,0 +1,211 @@
+package com.singtel.network.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.singtel.network.config.StatusStreamProperties;
+import com.singtel.network.event.StatusChangedEvent;
+import com.singtel.network.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StatusStreamService.
+ */
+@ExtendWith(MockitoExtension.class)
+class StatusStreamServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Spy
+    private StatusStreamProperties statusStreamProperties = new StatusStreamProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private StatusStreamService statusStreamService;
+
+    private final UUID companyId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        statusStreamService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statusStreamService.stop();
+    }
+
+    @Test
+    void onStatusChanged_DeliversToStreamsOfTheCompanyOnly() throws Exception {
+        // Arrange: the subscriber expects the connected comment, then the event
+        RecordingEmitter subscribed = new RecordingEmitter(2);
+        RecordingEmitter otherCompany = new RecordingEmitter(1);
+        statusStreamService.subscribe(companyId, subscribed);
+        statusStreamService.subscribe(UUID.randomUUID(), otherCompany);
+        otherCompany.awaitSends();
+
+        // Act
+        statusStreamService.onStatusChanged(orderApproved());
+
+        // Assert
+        subscribed.awaitSends();
+        String written = subscribed.sent.get(1).stream()
+                .map(item -> item.getData().toString())
+                .reduce("", String::concat);
+        assertTrue(written.contains("event:ORDER"));
+        assertTrue(written.contains("\"reference\":\"ORD-2025-000001\""));
+        assertTrue(written.contains("\"previousStatus\":\"SUBMITTED\""));
+        assertFalse(written.contains("companyId"));
+        Thread.sleep(200);
+        assertEquals(1, otherCompany.sent.size());
+    }
+
+    @Test
+    void onStatusChanged_EvictsStreamWhoseBufferIsFull() throws Exception {
+        // Arrange: the client stops reading while the connected comment is being written
+        statusStreamProperties.setBufferSize(2);
+        RecordingEmitter emitter = new RecordingEmitter(1);
+        emitter.stall = new CountDownLatch(1);
+        statusStreamService.subscribe(companyId, emitter);
+        emitter.awaitSends();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            statusStreamService.onStatusChanged(orderApproved());
+        }
+
+        // Assert: publishing did not wait, and the stream is completed once the writer is released
+        assertEquals(0, statusStreamService.getSubscriberCount());
+        assertEquals(1, meterRegistry.counter("status.stream.evictions").count());
+        emitter.stall.countDown();
+        assertTrue(emitter.completed.await(1, TimeUnit.SECONDS));
+        assertEquals(1, emitter.sent.size());
+    }
+
+    @Test
+    void evictStalled_EvictsBlockedStreamAndKeepsOthersFlowing() throws Exception {
+        // Arrange: the only writer blocks on a client that stopped reading
+        statusStreamService.stop();
+        statusStreamProperties.setWriterThreads(1);
+        statusStreamProperties.setWriteTimeout(Duration.ofMillis(50));
+        statusStreamService.start();
+        RecordingEmitter stalled = new RecordingEmitter(1);
+        stalled.stall = new CountDownLatch(1);
+        statusStreamService.subscribe(companyId, stalled);
+        stalled.awaitSends();
+        RecordingEmitter healthy = new RecordingEmitter(1);
+        statusStreamService.subscribe(UUID.randomUUID(), healthy);
+        Thread.sleep(100);
+
+        // Act
+        statusStreamService.evictStalled();
+
+        // Assert: a replacement writer serves the other stream while the stalled write is pending
+        healthy.awaitSends();
+        assertEquals(1, statusStreamService.getSubscriberCount());
+        assertEquals(1, meterRegistry.counter("status.stream.evictions").count());
+        stalled.stall.countDown();
+        assertTrue(stalled.completed.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void drain_RemovesStreamOfDisconnectedClient() throws Exception {
+        // Arrange
+        RecordingEmitter emitter = new RecordingEmitter(1);
+        emitter.failure = new IOException("Broken pipe");
+
+        // Act
+        statusStreamService.subscribe(companyId, emitter);
+
+        // Assert
+        emitter.awaitSends();
+        awaitSubscriberCount(0);
+        statusStreamService.onStatusChanged(orderApproved());
+        Thread.sleep(200);
+        assertEquals(1, emitter.sent.size());
+    }
+
+    private StatusChangedEvent orderApproved() {
+        return new StatusChangedEvent(companyId, StatusChangedEvent.ResourceType.ORDER, UUID.randomUUID(),
+                "ORD-2025-000001", "SUBMITTED", "APPROVED", 500, LocalDateTime.now());
+    }
+
+    private void awaitSubscriberCount(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (statusStreamService.getSubscriberCount() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, statusStreamService.getSubscriberCount());
+    }
+
+    /**
+     * Records what the service writes. A Mockito mock is not used because timeout-verifying the
+     * synchronized ResponseBodyEmitter.send holds the emitter's monitor and blocks the writer thread.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        final List<Set<DataWithMediaType>> sent = new CopyOnWriteArrayList<>();
+        final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch expectedSends;
+        volatile CountDownLatch stall;
+        volatile IOException failure;
+
+        RecordingEmitter(int expectedSends) {
+            this.expectedSends = new CountDownLatch(expectedSends);
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            sent.add(items);
+            expectedSends.countDown();
+            if (stall != null) {
+                try {
+                    stall.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        void awaitSends() throws InterruptedException {
+            assertTrue(expectedSends.await(1, TimeUnit.SECONDS), "expected sends were not written");
+        }
+    }
+}
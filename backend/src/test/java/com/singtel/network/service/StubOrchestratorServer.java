@@ -0,0 +1,112 @@
+package com.singtel.network.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local stand-in for the Service Orchestrator, for tests and benchmarks. POSTs to /workflows/*
+ * answer 201 with workflowId "WF-" + Idempotency-Key after an optional latency, so repeated
+ * starts of one aggregate return the same workflow. Failures can be scripted per request.
+ */
+public class StubOrchestratorServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private final ConcurrentLinkedQueue<Integer> scriptedStatuses = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<String> idempotencyKeys = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+    private volatile Duration latency = Duration.ZERO;
+    private volatile byte[] lastBody;
+
+    private StubOrchestratorServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.createContext("/workflows/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public static StubOrchestratorServer start() throws IOException {
+        return new StubOrchestratorServer();
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Answer the next count requests with status instead of starting a workflow
+     */
+    public void failNext(int count, int status) {
+        for (int i = 0; i < count; i++) {
+            scriptedStatuses.add(status);
+        }
+    }
+
+    public void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    public int getRequestCount() {
+        return requests.get();
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrent.get();
+    }
+
+    public List<String> getIdempotencyKeys() {
+        return List.copyOf(idempotencyKeys);
+    }
+
+    public byte[] getLastBody() {
+        return lastBody;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+        try {
+            lastBody = exchange.getRequestBody().readAllBytes();
+            String key = exchange.getRequestHeaders().getFirst("Idempotency-Key");
+            idempotencyKeys.add(String.valueOf(key));
+            if (!latency.isZero()) {
+                Thread.sleep(latency.toMillis());
+            }
+
+            Integer status = scriptedStatuses.poll();
+            if (status != null) {
+                exchange.sendResponseHeaders(status, -1);
+                return;
+            }
+            byte[] body = ("{\"workflowId\":\"WF-" + key + "\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(201, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            concurrent.decrementAndGet();
+            exchange.close();
+        }
+    }
+}
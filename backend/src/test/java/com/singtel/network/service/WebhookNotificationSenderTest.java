@@ -0,0 +1,134 @@
+package com.singtel.network.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.singtel.network.config.NotificationProperties;
+import com.singtel.network.dto.alert.PendingNotification;
+import com.singtel.network.exception.NotificationDeliveryException;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for WebhookNotificationSender against a local stub HTTP server.
+ */
+@ExtendWith(MockitoExtension.class)
+class WebhookNotificationSenderTest {
+
+    @Spy
+    private NotificationProperties notificationProperties = new NotificationProperties();
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private WebhookNotificationSender webhookNotificationSender;
+
+    private HttpServer server;
+    private final AtomicReference<byte[]> receivedBody = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> {
+            receivedBody.set(exchange.getRequestBody().readAllBytes());
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.createContext("/unavailable", exchange -> {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        server.createContext("/gone", exchange -> {
+            exchange.sendResponseHeaders(410, -1);
+            exchange.close();
+        });
+        server.start();
+
+        notificationProperties.setRequestTimeout(Duration.ofSeconds(2));
+        webhookNotificationSender.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void send_PostsNotificationAsJson() throws Exception {
+        // Arrange
+        PendingNotification notification = notification(url("/ok"));
+
+        // Act
+        webhookNotificationSender.send(notification);
+
+        // Assert
+        JsonNode body = objectMapper.readTree(receivedBody.get());
+        assertEquals(notification.getId().toString(), body.get("notificationId").asText());
+        assertEquals("[HIGH] High latency", body.get("subject").asText());
+        assertEquals("LATENCY 150 > 100", body.get("message").asText());
+    }
+
+    @Test
+    void send_ServerErrorIsRetryable() {
+        NotificationDeliveryException exception = assertThrows(NotificationDeliveryException.class,
+                () -> webhookNotificationSender.send(notification(url("/unavailable"))));
+
+        assertTrue(exception.isRetryable());
+    }
+
+    @Test
+    void send_ClientErrorIsNotRetryable() {
+        NotificationDeliveryException exception = assertThrows(NotificationDeliveryException.class,
+                () -> webhookNotificationSender.send(notification(url("/gone"))));
+
+        assertFalse(exception.isRetryable());
+    }
+
+    @Test
+    void send_ConnectionRefusedIsRetryable() {
+        String closedPort = url("/ok");
+        server.stop(0);
+
+        NotificationDeliveryException exception = assertThrows(NotificationDeliveryException.class,
+                () -> webhookNotificationSender.send(notification(closedPort)));
+
+        assertTrue(exception.isRetryable());
+    }
+
+    @Test
+    void send_NonHttpUrlIsNotRetryable() {
+        NotificationDeliveryException exception = assertThrows(NotificationDeliveryException.class,
+                () -> webhookNotificationSender.send(notification("file:///etc/passwd")));
+
+        assertFalse(exception.isRetryable());
+    }
+
+    @Test
+    void destinationKey_IsTheHost() {
+        assertEquals("hooks.company.com",
+                webhookNotificationSender.destinationKey(notification("https://Hooks.Company.com/a/b")));
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    private PendingNotification notification(String url) {
+        return new PendingNotification(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "WEBHOOK", url,
+                "[HIGH] High latency", "LATENCY 150 > 100", 0);
+    }
+}
@@ -0,0 +1,183 @@
+package com.singtel.network.service;
+
+import com.singtel.network.config.OrchestratorProperties;
+import com.singtel.network.dto.orchestrator.BandwidthChangeWorkflowRequest;
+import com.singtel.network.dto.orchestrator.OrderWorkflowRequest;
+import com.singtel.network.dto.orchestrator.WorkflowAssignment;
+import com.singtel.network.dto.orchestrator.WorkflowSubmissionFailure;
+import com.singtel.network.dto.orchestrator.WorkflowType;
+import com.singtel.network.exception.OrchestratorException;
+import com.singtel.network.repository.OrchestratorWorkflowRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WorkflowSubmissionService.
+ */
+@ExtendWith(MockitoExtension.class)
+class WorkflowSubmissionServiceTest {
+
+    @Mock
+    private OrchestratorWorkflowRepository orchestratorWorkflowRepository;
+
+    @Mock
+    private OrchestratorClient orchestratorClient;
+
+    @Mock
+    private WorkflowIdWriter workflowIdWriter;
+
+    @Spy
+    private OrchestratorProperties orchestratorProperties = new OrchestratorProperties();
+
+    @InjectMocks
+    private WorkflowSubmissionService workflowSubmissionService;
+
+    @Test
+    void submitPending_StartsWorkflowsAndQueuesTheirIds() {
+        // Arrange
+        orchestratorProperties.setEnabled(true);
+        OrderWorkflowRequest order = new OrderWorkflowRequest(UUID.randomUUID(), "ORD-2026-000001", "NEW_SERVICE",
+                UUID.randomUUID(), UUID.randomUUID(), null, 500, null);
+        BandwidthChangeWorkflowRequest change = new BandwidthChangeWorkflowRequest(UUID.randomUUID(), UUID.randomUUID(),
+                500, 750, LocalDateTime.now());
+        when(orchestratorWorkflowRepository.findOrdersAwaitingWorkflow(200)).thenReturn(List.of(order));
+        when(orchestratorWorkflowRepository.findBandwidthChangesAwaitingWorkflow(200)).thenReturn(List.of(change));
+        when(orchestratorClient.startWorkflow(WorkflowType.ORDER, order.getOrderId(), order))
+                .thenReturn(CompletableFuture.completedFuture("WF-1"));
+        when(orchestratorClient.startWorkflow(WorkflowType.BANDWIDTH_CHANGE, change.getChangeId(), change))
+                .thenReturn(CompletableFuture.completedFuture("WF-2"));
+
+        // Act
+        workflowSubmissionService.submitPending();
+
+        // Assert
+        ArgumentCaptor<WorkflowAssignment> captor = ArgumentCaptor.forClass(WorkflowAssignment.class);
+        verify(workflowIdWriter, times(2)).enqueue(captor.capture());
+        assertEquals(order.getOrderId(), captor.getAllValues().get(0).getAggregateId());
+        assertEquals("WF-1", captor.getAllValues().get(0).getWorkflowId());
+        assertEquals(WorkflowType.BANDWIDTH_CHANGE, captor.getAllValues().get(1).getType());
+        assertEquals("WF-2", captor.getAllValues().get(1).getWorkflowId());
+        assertEquals(2, workflowSubmissionService.getStartedWorkflows());
+        assertEquals(0, workflowSubmissionService.getInFlight());
+    }
+
+    @Test
+    void submitPending_Disabled_DoesNothing() {
+        workflowSubmissionService.submitPending();
+
+        verifyNoInteractions(orchestratorWorkflowRepository, orchestratorClient);
+    }
+
+    @Test
+    void submit_SkipsAggregatesInFlightOrAwaitingWriteBack() {
+        // Arrange
+        UUID inFlight = UUID.randomUUID();
+        UUID awaitingWriteBack = UUID.randomUUID();
+        when(orchestratorClient.startWorkflow(eq(WorkflowType.ORDER), eq(inFlight), any())).thenReturn(new CompletableFuture<>());
+        when(workflowIdWriter.isPending(inFlight)).thenReturn(false);
+        when(workflowIdWriter.isPending(awaitingWriteBack)).thenReturn(true);
+
+        // Act & Assert
+        assertTrue(workflowSubmissionService.submit(WorkflowType.ORDER, inFlight, "order", 0));
+        assertFalse(workflowSubmissionService.submit(WorkflowType.ORDER, inFlight, "order", 0));
+        assertFalse(workflowSubmissionService.submit(WorkflowType.ORDER, awaitingWriteBack, "order", 0));
+        verify(orchestratorClient, times(1)).startWorkflow(any(), any(), any());
+    }
+
+    @Test
+    void submit_FailureIsCountedAndReleasesTheAggregate() {
+        // Arrange
+        UUID orderId = UUID.randomUUID();
+        when(orchestratorClient.startWorkflow(any(), eq(orderId), any()))
+                .thenReturn(CompletableFuture.failedFuture(OrchestratorException.rejected("Circuit for orders is open")));
+
+        // Act
+        workflowSubmissionService.submit(WorkflowType.ORDER, orderId, "order", 0);
+
+        // Assert
+        verify(workflowIdWriter, never()).enqueue(any());
+        assertEquals(1, workflowSubmissionService.getFailedSubmissions());
+        assertEquals(0, workflowSubmissionService.getInFlight());
+    }
+
+    @Test
+    void submit_RetryableFailureBacksOffPerAggregate() {
+        // Arrange
+        UUID orderId = UUID.randomUUID();
+        when(orchestratorClient.startWorkflow(any(), eq(orderId), any()))
+                .thenReturn(CompletableFuture.failedFuture(new OrchestratorException("answered 503", true)));
+        Instant before = Instant.now();
+
+        // Act
+        workflowSubmissionService.submit(WorkflowType.ORDER, orderId, "order", 2);
+
+        // Assert: the third failure waits between half and all of 30s * 2^2
+        ArgumentCaptor<WorkflowSubmissionFailure> captor = ArgumentCaptor.forClass(WorkflowSubmissionFailure.class);
+        verify(workflowIdWriter).enqueueFailure(captor.capture());
+        WorkflowSubmissionFailure failure = captor.getValue();
+        assertEquals(orderId, failure.getAggregateId());
+        assertEquals(3, failure.getAttempts());
+        assertFalse(failure.isParked());
+        assertEquals("answered 503", failure.getError());
+        assertFalse(failure.getNextAttemptAt().isBefore(before.plus(Duration.ofMinutes(1))));
+        assertFalse(failure.getNextAttemptAt().isAfter(Instant.now().plus(Duration.ofMinutes(2))));
+    }
+
+    @Test
+    void submit_NonRetryableFailureIsParked() {
+        // Arrange
+        UUID changeId = UUID.randomUUID();
+        when(orchestratorClient.startWorkflow(any(), eq(changeId), any()))
+                .thenReturn(CompletableFuture.failedFuture(new OrchestratorException("answered 422", false)));
+
+        // Act
+        workflowSubmissionService.submit(WorkflowType.BANDWIDTH_CHANGE, changeId, "change", 0);
+
+        // Assert
+        ArgumentCaptor<WorkflowSubmissionFailure> captor = ArgumentCaptor.forClass(WorkflowSubmissionFailure.class);
+        verify(workflowIdWriter).enqueueFailure(captor.capture());
+        assertTrue(captor.getValue().isParked());
+        assertEquals(WorkflowType.BANDWIDTH_CHANGE, captor.getValue().getType());
+        assertEquals(1, captor.getValue().getAttempts());
+    }
+
+    @Test
+    void submitPending_PassesRecordedAttemptsToTheSubmission() {
+        // Arrange
+        orchestratorProperties.setEnabled(true);
+        OrderWorkflowRequest order = new OrderWorkflowRequest(UUID.randomUUID(), "ORD-2026-000001", "NEW_SERVICE",
+                UUID.randomUUID(), UUID.randomUUID(), null, 500, null);
+        when(orchestratorWorkflowRepository.findOrdersAwaitingWorkflow(200)).thenReturn(List.of(order));
+        when(orchestratorWorkflowRepository.findBandwidthChangesAwaitingWorkflow(200)).thenReturn(List.of());
+        when(orchestratorWorkflowRepository.findSubmissionAttempts(List.of(order.getOrderId())))
+                .thenReturn(Map.of(order.getOrderId(), 4));
+        when(orchestratorClient.startWorkflow(WorkflowType.ORDER, order.getOrderId(), order))
+                .thenReturn(CompletableFuture.failedFuture(new OrchestratorException("timed out", true)));
+
+        // Act
+        workflowSubmissionService.submitPending();
+
+        // Assert
+        ArgumentCaptor<WorkflowSubmissionFailure> captor = ArgumentCaptor.forClass(WorkflowSubmissionFailure.class);
+        verify(workflowIdWriter).enqueueFailure(captor.capture());
+        assertEquals(5, captor.getValue().getAttempts());
+    }
+}
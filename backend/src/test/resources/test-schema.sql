@@ -7,3 +7,177 @@ CREATE SCHEMA IF NOT EXISTS singtel_app;
 
 -- Set the search path to include the singtel_app schema
 SET search_path TO singtel_app, public;
+
+-- Sequence backing order number allocation (mirrors V10__Add_order_number_sequence.sql)
+CREATE SEQUENCE IF NOT EXISTS singtel_app.order_number_seq START WITH 1 INCREMENT BY 50;
+
+-- Rollup tables are not mapped entities, so Hibernate does not create them (mirrors V12__Add_service_metric_rollups.sql)
+CREATE TABLE IF NOT EXISTS singtel_app.service_metric_rollup_1m (
+    service_instance_id UUID NOT NULL,
+    metric_type VARCHAR(50) NOT NULL,
+    bucket_start TIMESTAMP WITH TIME ZONE NOT NULL,
+    sample_count INTEGER NOT NULL,
+    min_value DECIMAL(15,6) NOT NULL,
+    max_value DECIMAL(15,6) NOT NULL,
+    avg_value DECIMAL(15,6) NOT NULL,
+    p95_value DECIMAL(15,6) NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (service_instance_id, metric_type, bucket_start)
+);
+
+CREATE TABLE IF NOT EXISTS singtel_app.service_metric_rollup_1h (
+    service_instance_id UUID NOT NULL,
+    metric_type VARCHAR(50) NOT NULL,
+    bucket_start TIMESTAMP WITH TIME ZONE NOT NULL,
+    sample_count INTEGER NOT NULL,
+    min_value DECIMAL(15,6) NOT NULL,
+    max_value DECIMAL(15,6) NOT NULL,
+    avg_value DECIMAL(15,6) NOT NULL,
+    p95_value DECIMAL(15,6) NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (service_instance_id, metric_type, bucket_start)
+);
+
+CREATE TABLE IF NOT EXISTS singtel_app.service_metric_rollup_1d (
+    service_instance_id UUID NOT NULL,
+    metric_type VARCHAR(50) NOT NULL,
+    bucket_start TIMESTAMP WITH TIME ZONE NOT NULL,
+    sample_count INTEGER NOT NULL,
+    min_value DECIMAL(15,6) NOT NULL,
+    max_value DECIMAL(15,6) NOT NULL,
+    avg_value DECIMAL(15,6) NOT NULL,
+    p95_value DECIMAL(15,6) NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (service_instance_id, metric_type, bucket_start)
+);
+
+CREATE TABLE IF NOT EXISTS singtel_app.service_metric_rollup_watermarks (
+    resolution VARCHAR(10) PRIMARY KEY,
+    rolled_up_until TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Mirrors V19__Add_metric_rollup_dirty_hours.sql
+CREATE TABLE IF NOT EXISTS singtel_app.service_metric_rollup_dirty_hours (
+    service_instance_id UUID NOT NULL,
+    hour_start TIMESTAMP WITH TIME ZONE NOT NULL,
+    marked_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (service_instance_id, hour_start)
+);
+
+-- SLA inputs and results are not mapped entities either (mirrors V2__Add_monitoring_tables.sql and V13__Add_sla_calculation.sql)
+CREATE TABLE IF NOT EXISTS singtel_app.service_status_events (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    service_instance_id UUID NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    previous_status VARCHAR(50),
+    new_status VARCHAR(50),
+    severity VARCHAR(20) DEFAULT 'INFO',
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    started_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    resolved_at TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS singtel_app.service_sla_metrics (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    service_instance_id UUID NOT NULL,
+    period_start DATE NOT NULL,
+    period_end DATE NOT NULL,
+    uptime_percentage DECIMAL(5,2),
+    availability_percentage DECIMAL(5,2),
+    average_latency_ms DECIMAL(10,3),
+    packet_loss_percentage DECIMAL(5,4),
+    bandwidth_utilization_avg DECIMAL(5,2),
+    bandwidth_utilization_peak DECIMAL(5,2),
+    incidents_count INTEGER DEFAULT 0,
+    maintenance_hours DECIMAL(6,2) DEFAULT 0,
+    sla_compliance_score DECIMAL(5,2),
+    calculated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_service_sla_metrics_instance_period
+    ON singtel_app.service_sla_metrics(service_instance_id, period_start);
+
+CREATE TABLE IF NOT EXISTS singtel_app.service_sla_watermarks (
+    name VARCHAR(50) PRIMARY KEY,
+    changed_until TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Alert definitions and the notification log (mirrors V2__Add_monitoring_tables.sql and V14__Add_notification_dispatch.sql)
+CREATE TABLE IF NOT EXISTS singtel_app.service_alerts (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    service_instance_id UUID NOT NULL,
+    alert_name VARCHAR(255) NOT NULL,
+    metric_type VARCHAR(50) NOT NULL,
+    threshold_value DECIMAL(15,6) NOT NULL,
+    threshold_operator VARCHAR(10) NOT NULL CHECK (threshold_operator IN ('>', '<', '>=', '<=', '=')),
+    severity VARCHAR(20) DEFAULT 'MEDIUM',
+    is_enabled BOOLEAN DEFAULT true,
+    notification_emails TEXT[],
+    notification_webhooks TEXT[],
+    cooldown_minutes INTEGER DEFAULT 15,
+    last_triggered_at TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS singtel_app.alert_notifications (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    alert_id UUID NOT NULL,
+    service_instance_id UUID NOT NULL,
+    notification_type VARCHAR(50) NOT NULL,
+    recipient VARCHAR(255) NOT NULL,
+    subject VARCHAR(255),
+    message TEXT,
+    status VARCHAR(50) DEFAULT 'PENDING',
+    sent_at TIMESTAMP WITH TIME ZONE,
+    delivered_at TIMESTAMP WITH TIME ZONE,
+    error_message TEXT,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Outbox is written with JDBC (mirrors V17__Create_outbox.sql)
+CREATE TABLE IF NOT EXISTS singtel_app.outbox (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error TEXT
+);
+
+-- Order intake records are written with JDBC (mirrors V18__Create_order_submissions.sql)
+CREATE TABLE IF NOT EXISTS singtel_app.order_submissions (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    company_id UUID NOT NULL,
+    user_id UUID NOT NULL,
+    request JSONB NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'RECEIVED',
+    order_id UUID,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    error_message TEXT,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP WITH TIME ZONE
+);
+
+-- Failed workflow submissions are written with JDBC (mirrors V20__Create_workflow_submissions.sql)
+CREATE TABLE IF NOT EXISTS singtel_app.workflow_submissions (
+    aggregate_id UUID PRIMARY KEY,
+    aggregate_type VARCHAR(30) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    last_error TEXT,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);